@@ -11,14 +11,44 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_NODE_PATH_SIZE_ENV = "MESH_CACHE_NODE_PATH_SIZE";
+
+	public static final String MESH_CACHE_NAVIGATION_SIZE_ENV = "MESH_CACHE_NAVIGATION_SIZE";
+
+	public static final String MESH_CACHE_ANONYMOUS_RESPONSE_SIZE_ENV = "MESH_CACHE_ANONYMOUS_RESPONSE_SIZE";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_NODE_PATH_CACHE_SIZE = 50_000;
+
+	private static final long DEFAULT_NAVIGATION_CACHE_SIZE = 10_000;
+
+	private static final long DEFAULT_ANONYMOUS_RESPONSE_CACHE_SIZE = 1_000;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the node path cache which stores the rendered paths and the ancestors of nodes. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_NODE_PATH_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_NODE_PATH_SIZE_ENV, description = "Override the node path cache size.")
+	private long nodePathCacheSize = DEFAULT_NODE_PATH_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the navigation cache which stores the etags of navigation responses. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_NAVIGATION_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_NAVIGATION_SIZE_ENV, description = "Override the navigation cache size.")
+	private long navigationCacheSize = DEFAULT_NAVIGATION_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the anonymous response cache which stores the rendered node and webroot responses for the anonymous user. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_ANONYMOUS_RESPONSE_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_ANONYMOUS_RESPONSE_SIZE_ENV, description = "Override the anonymous response cache size.")
+	private long anonymousResponseCacheSize = DEFAULT_ANONYMOUS_RESPONSE_CACHE_SIZE;
+
 	public CacheConfig() {
 
 	}
@@ -32,6 +62,33 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getNodePathCacheSize() {
+		return nodePathCacheSize;
+	}
+
+	public CacheConfig setNodePathCacheSize(long nodePathCacheSize) {
+		this.nodePathCacheSize = nodePathCacheSize;
+		return this;
+	}
+
+	public long getNavigationCacheSize() {
+		return navigationCacheSize;
+	}
+
+	public CacheConfig setNavigationCacheSize(long navigationCacheSize) {
+		this.navigationCacheSize = navigationCacheSize;
+		return this;
+	}
+
+	public long getAnonymousResponseCacheSize() {
+		return anonymousResponseCacheSize;
+	}
+
+	public CacheConfig setAnonymousResponseCacheSize(long anonymousResponseCacheSize) {
+		this.anonymousResponseCacheSize = anonymousResponseCacheSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
@@ -11,14 +11,44 @@ public class ContentConfig implements Option {
 
 	public static final String MESH_CONTENT_AUTO_PURGE_ENV = "MESH_CONTENT_AUTO_PURGE";
 
+	public static final String MESH_CONTENT_MIGRATION_WORKERS_ENV = "MESH_CONTENT_MIGRATION_WORKERS";
+
+	public static final String MESH_CONTENT_MIGRATION_BATCH_SIZE_ENV = "MESH_CONTENT_MIGRATION_BATCH_SIZE";
+
+	public static final String MESH_CONTENT_MAX_CONCURRENT_JOBS_ENV = "MESH_CONTENT_MAX_CONCURRENT_JOBS";
+
 	private static final boolean DEFAULT_AUTO_PURGE = true;
 
+	public static final int DEFAULT_MIGRATION_WORKERS = 1;
+
+	public static final int DEFAULT_MIGRATION_BATCH_SIZE = 50;
+
+	public static final int DEFAULT_MAX_CONCURRENT_JOBS = 1;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Flag which controls the global setting for the auto purge mechanism. The setting can be overriden by the schema 'autoPurge' flag. Default: "
 		+ DEFAULT_AUTO_PURGE)
 	@EnvironmentVariable(name = MESH_CONTENT_AUTO_PURGE_ENV, description = "Override the content versioning flag")
 	private boolean autoPurge = DEFAULT_AUTO_PURGE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Number of worker threads which are used to migrate the contents of a schema or to purge the versions of a project in parallel. The contents will be split into disjoint partitions of nodes. Default: "
+		+ DEFAULT_MIGRATION_WORKERS)
+	@EnvironmentVariable(name = MESH_CONTENT_MIGRATION_WORKERS_ENV, description = "Override the number of schema migration workers.")
+	private int migrationWorkers = DEFAULT_MIGRATION_WORKERS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Number of contents which will be migrated within a single transaction during a schema migration. Default: "
+		+ DEFAULT_MIGRATION_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_CONTENT_MIGRATION_BATCH_SIZE_ENV, description = "Override the schema migration batch size.")
+	private int migrationBatchSize = DEFAULT_MIGRATION_BATCH_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum number of jobs (e.g. migrations, version purges) which will be executed concurrently. Jobs which modify the same project, branch or schema will never run concurrently. Default: "
+		+ DEFAULT_MAX_CONCURRENT_JOBS)
+	@EnvironmentVariable(name = MESH_CONTENT_MAX_CONCURRENT_JOBS_ENV, description = "Override the maximum number of concurrent jobs.")
+	private int maxConcurrentJobs = DEFAULT_MAX_CONCURRENT_JOBS;
+
 	public ContentConfig() {
 
 	}
@@ -31,7 +61,43 @@ public class ContentConfig implements Option {
 		this.autoPurge = autoPurge;
 	}
 
+	public int getMigrationWorkers() {
+		return migrationWorkers;
+	}
+
+	public ContentConfig setMigrationWorkers(int migrationWorkers) {
+		this.migrationWorkers = migrationWorkers;
+		return this;
+	}
+
+	public int getMigrationBatchSize() {
+		return migrationBatchSize;
+	}
+
+	public ContentConfig setMigrationBatchSize(int migrationBatchSize) {
+		this.migrationBatchSize = migrationBatchSize;
+		return this;
+	}
+
+	public int getMaxConcurrentJobs() {
+		return maxConcurrentJobs;
+	}
+
+	public ContentConfig setMaxConcurrentJobs(int maxConcurrentJobs) {
+		this.maxConcurrentJobs = maxConcurrentJobs;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
+		if (getMigrationWorkers() < 1) {
+			throw new IllegalArgumentException("The content migrationWorkers option must be at least 1.");
+		}
+		if (getMigrationBatchSize() < 1) {
+			throw new IllegalArgumentException("The content migrationBatchSize option must be at least 1.");
+		}
+		if (getMaxConcurrentJobs() < 1) {
+			throw new IllegalArgumentException("The content maxConcurrentJobs option must be at least 1.");
+		}
 	}
 }
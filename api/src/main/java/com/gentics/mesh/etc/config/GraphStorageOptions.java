@@ -23,6 +23,12 @@ public class GraphStorageOptions implements Option {
 	public static final boolean DEFAULT_SYNC_WRITES = true;
 	public static final int DEFAULT_TX_RETRY_DELAY = 10;
 	public static final int DEFAULT_TX_RETRY_LIMIT = 10;
+	public static final int DEFAULT_TX_RETRY_MAX_DELAY = 1000;
+	public static final double DEFAULT_TX_RETRY_BUDGET = 0.2;
+	public static final int DEFAULT_TX_WRITE_QUEUE_STRIPES = 64;
+	public static final int DEFAULT_TX_POOL_SIZE = 100;
+	public static final int DEFAULT_READ_TX_POOL_SIZE = 100;
+	public static final int DEFAULT_TX_WORKER_POOL_SIZE = 20;
 
 	public static final String MESH_GRAPH_DB_DIRECTORY_ENV = "MESH_GRAPH_DB_DIRECTORY";
 	public static final String MESH_GRAPH_BACKUP_DIRECTORY_ENV = "MESH_GRAPH_BACKUP_DIRECTORY";
@@ -31,6 +37,12 @@ public class GraphStorageOptions implements Option {
 	public static final String MESH_GRAPH_SYNC_WRITES_ENV = "MESH_GRAPH_SYNC_WRITES";
 	public static final String MESH_GRAPH_TX_RETRY_DELAY_ENV = "MESH_GRAPH_TX_RETRY_DELAY";
 	public static final String MESH_GRAPH_TX_RETRY_LIMIT_ENV = "MESH_GRAPH_TX_RETRY_LIMIT";
+	public static final String MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV = "MESH_GRAPH_TX_RETRY_MAX_DELAY";
+	public static final String MESH_GRAPH_TX_RETRY_BUDGET_ENV = "MESH_GRAPH_TX_RETRY_BUDGET";
+	public static final String MESH_GRAPH_TX_WRITE_QUEUE_STRIPES_ENV = "MESH_GRAPH_TX_WRITE_QUEUE_STRIPES";
+	public static final String MESH_GRAPH_TX_POOL_SIZE_ENV = "MESH_GRAPH_TX_POOL_SIZE";
+	public static final String MESH_GRAPH_READ_TX_POOL_SIZE_ENV = "MESH_GRAPH_READ_TX_POOL_SIZE";
+	public static final String MESH_GRAPH_TX_WORKER_POOL_SIZE_ENV = "MESH_GRAPH_TX_WORKER_POOL_SIZE";
 
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Path to the graph database data directory.")
@@ -58,7 +70,7 @@ public class GraphStorageOptions implements Option {
 	private boolean synchronizeWrites = DEFAULT_SYNC_WRITES;
 
 	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_DELAY + "ms")
-	@JsonPropertyDescription("The delay in milliseconds when a transaction has to be retried.")
+	@JsonPropertyDescription("The base delay in milliseconds when a transaction has to be retried. The delay grows exponentially with each retry.")
 	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_DELAY_ENV, description = "Override the transaction retry delay. Default: "
 		+ DEFAULT_TX_RETRY_DELAY)
 	private int txRetryDelay = DEFAULT_TX_RETRY_DELAY;
@@ -69,6 +81,42 @@ public class GraphStorageOptions implements Option {
 		+ DEFAULT_TX_RETRY_LIMIT)
 	private int txRetryLimit = DEFAULT_TX_RETRY_LIMIT;
 
+	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_MAX_DELAY + "ms")
+	@JsonPropertyDescription("The maximum delay in milliseconds before a transaction is retried. The retry delay grows exponentially up to this limit and is randomized.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV, description = "Override the maximum transaction retry delay. Default: "
+		+ DEFAULT_TX_RETRY_MAX_DELAY)
+	private int txRetryMaxDelay = DEFAULT_TX_RETRY_MAX_DELAY;
+
+	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_BUDGET + "")
+	@JsonPropertyDescription("The ratio of transaction retries to transactions which may be executed. Conflicting transactions will not be retried once the budget is exhausted. Set this to 0 to disable the budget.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_BUDGET_ENV, description = "Override the transaction retry budget. Default: "
+		+ DEFAULT_TX_RETRY_BUDGET)
+	private double txRetryBudget = DEFAULT_TX_RETRY_BUDGET;
+
+	@JsonProperty(defaultValue = DEFAULT_TX_WRITE_QUEUE_STRIPES + "")
+	@JsonPropertyDescription("The amount of stripes of the write queue which serializes writes to known hot elements (e.g. the creation of tags within a tag family). Set this to 0 to disable the write queue.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_WRITE_QUEUE_STRIPES_ENV, description = "Override the amount of write queue stripes. Default: "
+		+ DEFAULT_TX_WRITE_QUEUE_STRIPES)
+	private int txWriteQueueStripes = DEFAULT_TX_WRITE_QUEUE_STRIPES;
+
+	@JsonProperty(defaultValue = DEFAULT_TX_POOL_SIZE + "")
+	@JsonPropertyDescription("The maximum amount of pooled database connections which are used for read-write transactions.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_POOL_SIZE_ENV, description = "Override the transaction pool size. Default: "
+		+ DEFAULT_TX_POOL_SIZE)
+	private int txPoolSize = DEFAULT_TX_POOL_SIZE;
+
+	@JsonProperty(defaultValue = DEFAULT_READ_TX_POOL_SIZE + "")
+	@JsonPropertyDescription("The maximum amount of pooled database connections which are used for read-only transactions. Read-only transactions are not committed and never retried.")
+	@EnvironmentVariable(name = MESH_GRAPH_READ_TX_POOL_SIZE_ENV, description = "Override the read-only transaction pool size. Default: "
+		+ DEFAULT_READ_TX_POOL_SIZE)
+	private int readTxPoolSize = DEFAULT_READ_TX_POOL_SIZE;
+
+	@JsonProperty(defaultValue = DEFAULT_TX_WORKER_POOL_SIZE + "")
+	@JsonPropertyDescription("The amount of worker threads which execute asynchronous transactions.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_WORKER_POOL_SIZE_ENV, description = "Override the transaction worker pool size. Default: "
+		+ DEFAULT_TX_WORKER_POOL_SIZE)
+	private int txWorkerPoolSize = DEFAULT_TX_WORKER_POOL_SIZE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Additional set of graph database parameters.")
 	private Map<String, String> parameters = new HashMap<>();
@@ -217,7 +265,107 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public int getTxRetryMaxDelay() {
+		return txRetryMaxDelay;
+	}
+
+	/**
+	 * Set the maximum delay before a transaction is retried.
+	 *
+	 * @param txRetryMaxDelay
+	 *            The delay in milliseconds
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setTxRetryMaxDelay(int txRetryMaxDelay) {
+		this.txRetryMaxDelay = txRetryMaxDelay;
+		return this;
+	}
+
+	public double getTxRetryBudget() {
+		return txRetryBudget;
+	}
+
+	/**
+	 * Set the ratio of retries to transactions which may be executed.
+	 *
+	 * @param txRetryBudget
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setTxRetryBudget(double txRetryBudget) {
+		this.txRetryBudget = txRetryBudget;
+		return this;
+	}
+
+	public int getTxWriteQueueStripes() {
+		return txWriteQueueStripes;
+	}
+
+	/**
+	 * Set the amount of stripes of the write queue.
+	 *
+	 * @param txWriteQueueStripes
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setTxWriteQueueStripes(int txWriteQueueStripes) {
+		this.txWriteQueueStripes = txWriteQueueStripes;
+		return this;
+	}
+
+	public int getTxPoolSize() {
+		return txPoolSize;
+	}
+
+	/**
+	 * Set the maximum size of the connection pool for read-write transactions.
+	 *
+	 * @param txPoolSize
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setTxPoolSize(int txPoolSize) {
+		this.txPoolSize = txPoolSize;
+		return this;
+	}
+
+	public int getReadTxPoolSize() {
+		return readTxPoolSize;
+	}
+
+	/**
+	 * Set the maximum size of the connection pool for read-only transactions.
+	 *
+	 * @param readTxPoolSize
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setReadTxPoolSize(int readTxPoolSize) {
+		this.readTxPoolSize = readTxPoolSize;
+		return this;
+	}
+
+	public int getTxWorkerPoolSize() {
+		return txWorkerPoolSize;
+	}
+
+	/**
+	 * Set the amount of worker threads which execute asynchronous transactions.
+	 *
+	 * @param txWorkerPoolSize
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setTxWorkerPoolSize(int txWorkerPoolSize) {
+		this.txWorkerPoolSize = txWorkerPoolSize;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
+		if (getTxPoolSize() < 1) {
+			throw new IllegalArgumentException("The transaction pool size must be at least 1.");
+		}
+		if (getReadTxPoolSize() < 1) {
+			throw new IllegalArgumentException("The read-only transaction pool size must be at least 1.");
+		}
+		if (getTxWorkerPoolSize() < 1) {
+			throw new IllegalArgumentException("The transaction worker pool size must be at least 1.");
+		}
 		if (getStartServer() && getDirectory() == null) {
 			throw new NullPointerException(
 				"You have not specified a data directory and enabled the graph server. It is not possible to run Gentics Mesh in memory mode and start the graph server.");
@@ -18,11 +18,15 @@ public class ImageManipulatorOptions implements Option {
 	public static final String MESH_IMAGE_MAX_HEIGHT_ENV = "MESH_IMAGE_MAX_HEIGHT";
 	public static final String MESH_IMAGE_JPEG_QUALITY_ENV = "MESH_IMAGE_JPEG_QUALITY";
 	public static final String MESH_IMAGE_RESAMPLE_FILTER_ENV = "MESH_IMAGE_RESAMPLE_FILTER";
+	public static final String MESH_IMAGE_FORMAT_NEGOTIATION_ENV = "MESH_IMAGE_FORMAT_NEGOTIATION";
+	public static final String MESH_IMAGE_MAX_VARIANTS_ENV = "MESH_IMAGE_MAX_VARIANTS";
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
 	public static final float DEFAULT_JPEG_QUALITY = 0.95f;
 	// This is the default filter in ImageMagick
 	public static final ResampleFilter DEFAULT_RESAMPLE_FILTER = ResampleFilter.LANCZOS;
+	public static final boolean DEFAULT_FORMAT_NEGOTIATION = true;
+	public static final int DEFAULT_MAX_VARIANTS = 20;
 
 	private String imageCacheDirectory = "data" + File.separator + "binaryImageCache";
 
@@ -49,6 +53,18 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_RESAMPLE_FILTER_ENV, description = "Override the sample filter for image resize operations.")
 	private ResampleFilter resampleFilter = DEFAULT_RESAMPLE_FILTER;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("If enabled, resized images will be written in a modern image format (e.g. WebP) when the client accepts it and an image writer plugin for the format is installed. Default: "
+		+ DEFAULT_FORMAT_NEGOTIATION)
+	@EnvironmentVariable(name = MESH_IMAGE_FORMAT_NEGOTIATION_ENV, description = "Override the image format negotiation flag.")
+	private boolean formatNegotiation = DEFAULT_FORMAT_NEGOTIATION;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum amount of image variants which can be created with a single request. All variants are held in memory while they are rendered. Default: "
+		+ DEFAULT_MAX_VARIANTS)
+	@EnvironmentVariable(name = MESH_IMAGE_MAX_VARIANTS_ENV, description = "Override the max amount of image variants per request.")
+	private int maxVariants = DEFAULT_MAX_VARIANTS;
+
 	/**
 	 * Return the binary image cache directory.
 	 * 
@@ -129,4 +145,44 @@ public class ImageManipulatorOptions implements Option {
 	public void setResampleFilter(ResampleFilter resampleFilter) {
 		this.resampleFilter = resampleFilter;
 	}
+
+	/**
+	 * Check whether the image output format should be negotiated using the accept header of the request.
+	 * 
+	 * @return
+	 */
+	public boolean isFormatNegotiation() {
+		return formatNegotiation;
+	}
+
+	/**
+	 * Set the image format negotiation flag.
+	 * 
+	 * @param formatNegotiation
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setFormatNegotiation(boolean formatNegotiation) {
+		this.formatNegotiation = formatNegotiation;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of image variants which can be created with a single request.
+	 * 
+	 * @return
+	 */
+	public int getMaxVariants() {
+		return maxVariants;
+	}
+
+	/**
+	 * Set the maximum amount of image variants which can be created with a single request.
+	 * 
+	 * @param maxVariants
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setMaxVariants(int maxVariants) {
+		this.maxVariants = maxVariants;
+		return this;
+	}
 }
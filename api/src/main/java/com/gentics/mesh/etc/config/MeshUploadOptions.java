@@ -17,12 +17,22 @@ public class MeshUploadOptions implements Option {
 	public static final String DEFAULT_TEMP_DIR = "data" + File.separator + "tmp" + File.separator + "file-uploads";;
 	public static final int DEFAULT_DOCUMENT_PARSER_LIMIT = 40_000;
 	public static final boolean DEFAULT_UPLOAD_PARSER_FLAG = true;
+	public static final int DEFAULT_DOCUMENT_PARSER_WORKERS = 2;
+	public static final int DEFAULT_DOCUMENT_PARSER_QUEUE_SIZE = 100;
+	public static final long DEFAULT_DOCUMENT_PARSER_TIMEOUT = 60_000;
+	public static final long DEFAULT_DOCUMENT_PARSER_FILE_SIZE_LIMIT = 1024 * 1024 * 100; // 100 MiB
+	public static final boolean DEFAULT_DOCUMENT_PARSER_ASYNC_FLAG = false;
 
 	public static final String MESH_BINARY_DIR_ENV = "MESH_BINARY_DIR";
 	public static final String MESH_BINARY_UPLOAD_TEMP_DIR_ENV = "MESH_BINARY_UPLOAD_TEMP_DIR";
 	public static final String MESH_BINARY_UPLOAD_LIMIT_ENV = "MESH_BINARY_UPLOAD_LIMIT";
 	public static final String MESH_BINARY_DOCUMENT_PARSER_LIMIT_ENV = "MESH_BINARY_DOCUMENT_PARSER_LIMIT";
 	public static final String MESH_BINARY_DOCUMENT_PARSER_ENV = "MESH_BINARY_DOCUMENT_PARSER";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_WORKERS_ENV = "MESH_BINARY_DOCUMENT_PARSER_WORKERS";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_QUEUE_SIZE_ENV = "MESH_BINARY_DOCUMENT_PARSER_QUEUE_SIZE";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_TIMEOUT_ENV = "MESH_BINARY_DOCUMENT_PARSER_TIMEOUT";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_FILE_SIZE_LIMIT_ENV = "MESH_BINARY_DOCUMENT_PARSER_FILE_SIZE_LIMIT";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_ASYNC_ENV = "MESH_BINARY_DOCUMENT_PARSER_ASYNC";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The upload size limit in bytes. Default: " + DEFAULT_FILEUPLOAD_MB_LIMIT)
@@ -50,6 +60,35 @@ public class MeshUploadOptions implements Option {
 	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_ENV, description = "Override the document parser enabled flag.")
 	private boolean parser = DEFAULT_UPLOAD_PARSER_FLAG;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which are used to parse uploads. Default: " + DEFAULT_DOCUMENT_PARSER_WORKERS)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_WORKERS_ENV, description = "Override the document parser worker count.")
+	private int parserWorkers = DEFAULT_DOCUMENT_PARSER_WORKERS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of uploads which may wait for the document parser. Further uploads will be parsed later by a binary parse job. Default: "
+		+ DEFAULT_DOCUMENT_PARSER_QUEUE_SIZE)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_QUEUE_SIZE_ENV, description = "Override the document parser queue size.")
+	private int parserQueueSize = DEFAULT_DOCUMENT_PARSER_QUEUE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Timeout in milliseconds for parsing a single upload. The parser will be interrupted once the timeout has been reached. Default: "
+		+ DEFAULT_DOCUMENT_PARSER_TIMEOUT)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_TIMEOUT_ENV, description = "Override the document parser timeout.")
+	private long parserTimeout = DEFAULT_DOCUMENT_PARSER_TIMEOUT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Uploads which exceed this size in bytes will not be parsed, since the parser may need to load large parts of the document into memory. Default: "
+		+ DEFAULT_DOCUMENT_PARSER_FILE_SIZE_LIMIT)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_FILE_SIZE_LIMIT_ENV, description = "Override the document parser file size limit.")
+	private long parserFileSizeLimit = DEFAULT_DOCUMENT_PARSER_FILE_SIZE_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("If true, the upload request will not wait for the text extraction of documents. The extracted information will be added to the field once the parser has finished. Default: "
+		+ DEFAULT_DOCUMENT_PARSER_ASYNC_FLAG)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_ASYNC_ENV, description = "Override the document parser async flag.")
+	private boolean parserAsync = DEFAULT_DOCUMENT_PARSER_ASYNC_FLAG;
+
 	/**
 	 * Return the upload limit in bytes.
 	 * 
@@ -153,4 +192,106 @@ public class MeshUploadOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the amount of threads which are used to parse uploads.
+	 * 
+	 * @return
+	 */
+	public int getParserWorkers() {
+		return parserWorkers;
+	}
+
+	/**
+	 * Set the amount of threads which are used to parse uploads.
+	 * 
+	 * @param parserWorkers
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserWorkers(int parserWorkers) {
+		this.parserWorkers = parserWorkers;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of uploads which may wait for the document parser.
+	 * 
+	 * @return
+	 */
+	public int getParserQueueSize() {
+		return parserQueueSize;
+	}
+
+	/**
+	 * Set the maximum amount of uploads which may wait for the document parser.
+	 * 
+	 * @param parserQueueSize
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserQueueSize(int parserQueueSize) {
+		this.parserQueueSize = parserQueueSize;
+		return this;
+	}
+
+	/**
+	 * Return the parser timeout for a single upload.
+	 * 
+	 * @return Timeout in milliseconds
+	 */
+	public long getParserTimeout() {
+		return parserTimeout;
+	}
+
+	/**
+	 * Set the parser timeout for a single upload.
+	 * 
+	 * @param parserTimeout
+	 *            Timeout in milliseconds
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserTimeout(long parserTimeout) {
+		this.parserTimeout = parserTimeout;
+		return this;
+	}
+
+	/**
+	 * Return the size limit for uploads which will be parsed.
+	 * 
+	 * @return Limit in bytes
+	 */
+	public long getParserFileSizeLimit() {
+		return parserFileSizeLimit;
+	}
+
+	/**
+	 * Set the size limit for uploads which will be parsed.
+	 * 
+	 * @param parserFileSizeLimit
+	 *            Limit in bytes
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserFileSizeLimit(long parserFileSizeLimit) {
+		this.parserFileSizeLimit = parserFileSizeLimit;
+		return this;
+	}
+
+	/**
+	 * Check whether uploads should be parsed after the upload request has been handled.
+	 * 
+	 * @return
+	 */
+	public boolean isParserAsync() {
+		return parserAsync;
+	}
+
+	/**
+	 * Set the async flag of the document parser.
+	 * 
+	 * @param parserAsync
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserAsync(boolean parserAsync) {
+		this.parserAsync = parserAsync;
+		return this;
+	}
+
 }
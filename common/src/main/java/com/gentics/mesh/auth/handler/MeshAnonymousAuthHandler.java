@@ -30,6 +30,11 @@ public class MeshAnonymousAuthHandler extends AuthHandlerImpl implements MeshAut
 
 	public static final String ANONYMOUS_USERNAME = "anonymous";
 
+	/**
+	 * Key of the routing context data entry which marks requests that were authenticated as the anonymous user.
+	 */
+	public static final String ANONYMOUS_CONTEXT_KEY = "mesh-anonymous";
+
 	private static final Logger log = LoggerFactory.getLogger(MeshAnonymousAuthHandler.class);
 	private Database db;
 	private BootstrapInitializer boot;
@@ -91,6 +96,7 @@ public class MeshAnonymousAuthHandler extends AuthHandlerImpl implements MeshAut
 				return;
 			} else {
 				rc.setUser(anonymousUser);
+				rc.put(ANONYMOUS_CONTEXT_KEY, true);
 			}
 			rc.next();
 		} else {
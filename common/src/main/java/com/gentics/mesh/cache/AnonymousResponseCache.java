@@ -0,0 +1,47 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.context.InternalActionContext;
+
+/**
+ * Cache for the rendered responses of read requests which were authenticated as the anonymous user. All anonymous requests share the same user and thus
+ * get the same response. Cached responses can be sent without a graph transaction. The cache is cleared whenever content, permissions or schemas change.
+ */
+public interface AnonymousResponseCache extends MeshCache<String, CachedResponse> {
+
+	/**
+	 * Create the key for the request. The key contains the given parts, the API version and the query parameters of the request.
+	 *
+	 * @param ac
+	 * @param parts
+	 *            Parts which identify the requested element
+	 * @return Key or null if the response of the request must not be cached
+	 */
+	String createKey(InternalActionContext ac, String... parts);
+
+	/**
+	 * Return the current generation of the cache. The generation changes whenever the cache is cleared. It needs to be determined before the response
+	 * which should be stored is rendered.
+	 *
+	 * @return
+	 */
+	long generation();
+
+	/**
+	 * Return the cached response.
+	 *
+	 * @param key
+	 * @return Cached response or null if the response is not cached
+	 */
+	CachedResponse getResponse(String key);
+
+	/**
+	 * Store the response. The response will not be stored if the cache has been cleared since the given generation.
+	 *
+	 * @param generation
+	 *            Generation of the cache before the response was rendered
+	 * @param key
+	 * @param response
+	 */
+	void storeResponse(long generation, String key, CachedResponse response);
+
+}
@@ -1,5 +1,7 @@
 package com.gentics.mesh.cache;
 
+import io.vertx.core.json.JsonObject;
+
 /**
  * The cache registry is used to manage all caches at a single location.
  */
@@ -17,4 +19,15 @@ public interface CacheRegistry {
 	 */
 	void clear();
 
+	/**
+	 * Let all registered caches handle the event which is being dispatched by the local instance. This invalidates the local entries synchronously with
+	 * the commit, before the event is received via the event bus.
+	 * 
+	 * @param address
+	 *            Address of the event
+	 * @param body
+	 *            Payload of the event
+	 */
+	void onDispatch(String address, JsonObject body);
+
 }
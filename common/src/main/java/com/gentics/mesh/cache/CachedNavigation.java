@@ -0,0 +1,45 @@
+package com.gentics.mesh.cache;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Entry of the {@link NavigationCache}. The entry contains the etag of a navigation and the uuids of all nodes which affect the etag.
+ */
+public class CachedNavigation {
+
+	private final String branchUuid;
+
+	private final Set<String> nodeUuids;
+
+	private final String etag;
+
+	/**
+	 * Create a new entry.
+	 *
+	 * @param branchUuid
+	 *            Branch of the navigation
+	 * @param nodeUuids
+	 *            Uuids of the nodes of the navigation, their children and the ancestors of the navigation root
+	 * @param etag
+	 *            Etag of the navigation
+	 */
+	public CachedNavigation(String branchUuid, Set<String> nodeUuids, String etag) {
+		this.branchUuid = branchUuid;
+		this.nodeUuids = Collections.unmodifiableSet(nodeUuids);
+		this.etag = etag;
+	}
+
+	public String getBranchUuid() {
+		return branchUuid;
+	}
+
+	public Set<String> getNodeUuids() {
+		return nodeUuids;
+	}
+
+	public String getEtag() {
+		return etag;
+	}
+
+}
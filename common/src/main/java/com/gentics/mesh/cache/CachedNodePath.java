@@ -0,0 +1,54 @@
+package com.gentics.mesh.cache;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Entry of the {@link NodePathCache}. The entry contains the ancestors of a node and optionally the rendered path of the node.
+ */
+public class CachedNodePath {
+
+	private final String branchUuid;
+
+	private final List<String> ancestorUuids;
+
+	private final List<Object> ancestorIds;
+
+	private final String path;
+
+	/**
+	 * Create a new entry.
+	 *
+	 * @param branchUuid
+	 *            Branch in which the ancestors have been resolved
+	 * @param ancestorUuids
+	 *            Uuids of the node and its ancestors. The uuid of the root node comes first.
+	 * @param ancestorIds
+	 *            Graph element ids of the node and its ancestors in the same order as the uuids
+	 * @param path
+	 *            Rendered path or null if the entry only stores the ancestors
+	 */
+	public CachedNodePath(String branchUuid, List<String> ancestorUuids, List<Object> ancestorIds, String path) {
+		this.branchUuid = branchUuid;
+		this.ancestorUuids = Collections.unmodifiableList(ancestorUuids);
+		this.ancestorIds = Collections.unmodifiableList(ancestorIds);
+		this.path = path;
+	}
+
+	public String getBranchUuid() {
+		return branchUuid;
+	}
+
+	public List<String> getAncestorUuids() {
+		return ancestorUuids;
+	}
+
+	public List<Object> getAncestorIds() {
+		return ancestorIds;
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.gentics.mesh.cache;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Entry of the {@link AnonymousResponseCache}. The entry contains the serialized response body along with the etag and the additional headers of the
+ * response.
+ */
+public class CachedResponse {
+
+	private final String etag;
+
+	private final String body;
+
+	private final Map<String, String> headers;
+
+	/**
+	 * Create a new entry.
+	 *
+	 * @param etag
+	 *            Weak etag of the response or null if no etag was generated
+	 * @param body
+	 *            Serialized JSON body
+	 * @param headers
+	 *            Additional headers which need to be set when the response is sent
+	 */
+	public CachedResponse(String etag, String body, Map<String, String> headers) {
+		this.etag = etag;
+		this.body = body;
+		this.headers = Collections.unmodifiableMap(headers);
+	}
+
+	public String getEtag() {
+		return etag;
+	}
+
+	public String getBody() {
+		return body;
+	}
+
+	public Map<String, String> getHeaders() {
+		return headers;
+	}
+
+}
@@ -1,11 +1,14 @@
 package com.gentics.mesh.cache;
 
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import javax.annotation.Nonnull;
 
 import com.gentics.mesh.cache.impl.EventAwareCacheImpl;
 
+import io.vertx.core.json.JsonObject;
+
 /**
  * An event aware cache is a cache which will be invalidated when an event gets received.
  * 
@@ -26,6 +29,34 @@ public interface EventAwareCache<K, V> {
 	 */
 	void invalidate(K key);
 
+	/**
+	 * Invalidate all cache entries which match the predicate.
+	 * 
+	 * @param predicate
+	 */
+	void invalidate(BiPredicate<? super K, ? super V> predicate);
+
+	/**
+	 * Invalidate the entries which have been indexed with the given index key and which match the predicate. Only the indexed entries will be checked. The
+	 * cache must have been created with an index function.
+	 *
+	 * @param indexKey
+	 * @param predicate
+	 */
+	void invalidateIndexed(Object indexKey, BiPredicate<? super K, ? super V> predicate);
+
+	/**
+	 * Handle the event synchronously when it gets dispatched by the local instance. The cache will be invalidated in the same way as if the event had
+	 * been received via the event bus. Events which the cache has not been registered for will be ignored. Caches with an event filter only handle
+	 * received events.
+	 *
+	 * @param address
+	 *            Address of the event
+	 * @param body
+	 *            Payload of the event
+	 */
+	void onDispatch(String address, JsonObject body);
+
 	/**
 	 * Add the given entry to the cache.
 	 * 
@@ -68,4 +99,25 @@ public interface EventAwareCache<K, V> {
 	 */
 	long size();
 
+	/**
+	 * Action which invalidates the cache for an event.
+	 *
+	 * @param <K>
+	 * @param <V>
+	 */
+	@FunctionalInterface
+	interface EventAction<K, V> {
+
+		/**
+		 * Handle the event.
+		 *
+		 * @param address
+		 *            Address of the event
+		 * @param body
+		 *            Payload of the event
+		 * @param cache
+		 */
+		void handle(String address, JsonObject body, EventAwareCache<K, V> cache);
+	}
+
 }
@@ -0,0 +1,37 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Cache for the etags of navigation responses. Computing the etag of a navigation requires a traversal of the whole navigation tree. The cached etag is
+ * kept until one of the nodes it depends on gets changed, which allows not modified responses to be returned without traversing the tree.
+ */
+public interface NavigationCache extends MeshCache<String, CachedNavigation> {
+
+	/**
+	 * Return the current generation of the cache. The generation changes whenever entries are invalidated. It needs to be determined before the etag which
+	 * should be stored is computed.
+	 *
+	 * @return
+	 */
+	long generation();
+
+	/**
+	 * Return the cached navigation etag.
+	 *
+	 * @param key
+	 *            Key which identifies the navigation request
+	 * @return Cached entry or null if the etag is not cached
+	 */
+	CachedNavigation getNavigation(String key);
+
+	/**
+	 * Store the navigation etag. The entry will not be stored if the cache has been invalidated since the given generation.
+	 *
+	 * @param generation
+	 *            Generation of the cache before the etag was computed
+	 * @param key
+	 *            Key which identifies the navigation request
+	 * @param navigation
+	 */
+	void storeNavigation(long generation, String key, CachedNavigation navigation);
+
+}
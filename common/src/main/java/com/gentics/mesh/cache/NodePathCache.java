@@ -0,0 +1,61 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.core.rest.common.ContainerType;
+
+/**
+ * Cache for the rendered paths and the ancestors of nodes. Entries are shared across requests and will be invalidated for the whole subtree of a node
+ * which has been changed. Entries must only be read and stored within transactions which don't contain uncommitted changes.
+ */
+public interface NodePathCache extends MeshCache<String, CachedNodePath> {
+
+	/**
+	 * Return the current generation of the cache. The generation changes whenever entries are invalidated. It needs to be determined before the value which
+	 * should be stored is loaded.
+	 *
+	 * @return
+	 */
+	long generation();
+
+	/**
+	 * Return the cached path of the node.
+	 *
+	 * @param nodeUuid
+	 * @param branchUuid
+	 * @param type
+	 * @param languageTags
+	 * @return Cached entry or null if the path is not cached
+	 */
+	CachedNodePath getPath(String nodeUuid, String branchUuid, ContainerType type, String... languageTags);
+
+	/**
+	 * Store the path of the node. The entry will not be stored if the cache has been invalidated since the given generation.
+	 *
+	 * @param generation
+	 *            Generation of the cache before the path was loaded
+	 * @param nodeUuid
+	 * @param type
+	 * @param languageTags
+	 * @param path
+	 */
+	void storePath(long generation, String nodeUuid, ContainerType type, String[] languageTags, CachedNodePath path);
+
+	/**
+	 * Return the cached ancestors of the node.
+	 *
+	 * @param nodeUuid
+	 * @param branchUuid
+	 * @return Cached entry or null if the ancestors are not cached
+	 */
+	CachedNodePath getAncestors(String nodeUuid, String branchUuid);
+
+	/**
+	 * Store the ancestors of the node. The entry will not be stored if the cache has been invalidated since the given generation.
+	 *
+	 * @param generation
+	 *            Generation of the cache before the ancestors were loaded
+	 * @param nodeUuid
+	 * @param ancestors
+	 */
+	void storeAncestors(long generation, String nodeUuid, CachedNodePath ancestors);
+
+}
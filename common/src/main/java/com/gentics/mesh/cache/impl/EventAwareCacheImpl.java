@@ -2,19 +2,29 @@ package com.gentics.mesh.cache.impl;
 
 import java.time.Duration;
 import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.EventAwareCache.EventAction;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.metric.CachingMetric;
 import com.gentics.mesh.metric.MetricsService;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheWriter;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 
 import io.micrometer.core.instrument.Counter;
 import io.reactivex.Observable;
@@ -39,7 +49,17 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 
 	private final Predicate<Message<JsonObject>> filter;
 
-	private BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext;
+	private EventAction<K, V> onNext;
+
+	private final Set<String> addresses;
+
+	private final Function<? super V, ? extends Collection<?>> indexer;
+
+	/**
+	 * Reverse index from the index keys to the keys of the entries. The index is maintained by the {@link IndexWriter} within the atomic operation which
+	 * changes the entry.
+	 */
+	private final ConcurrentMap<Object, Set<K>> index = new ConcurrentHashMap<>();
 
 	private boolean disabled = false;
 
@@ -49,7 +69,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 	private final Counter hitCounter;
 
 	public EventAwareCacheImpl(String name, long maxSize, Duration expireAfter, Vertx vertx, MeshOptions options, MetricsService metricsService, Predicate<Message<JsonObject>> filter,
-							   BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext,
+							   EventAction<K, V> onNext, Function<? super V, ? extends Collection<?>> indexer,
 							   MeshEvent... events) {
 		this.vertx = vertx;
 		this.options = options;
@@ -57,9 +77,15 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		if (expireAfter != null) {
 			cacheBuilder = cacheBuilder.expireAfterWrite(expireAfter.getSeconds(), TimeUnit.SECONDS);
 		}
-		this.cache = cacheBuilder.build();
+		this.indexer = indexer;
+		if (indexer == null) {
+			this.cache = cacheBuilder.build();
+		} else {
+			this.cache = cacheBuilder.<K, V>writer(new IndexWriter()).build();
+		}
 		this.filter = filter;
 		this.onNext = onNext;
+		this.addresses = Stream.of(events).map(event -> event.address).collect(Collectors.toSet());
 		registerEventHandlers(events);
 		invalidateKeyCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.CLEAR_SINGLE, name));
 		invalidateAllCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.CLEAR_ALL, name));
@@ -77,19 +103,32 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			o = o.filter(filter);
 		}
 
-		o.subscribe(event -> {
-			// Use a default implementation which will invalidate the whole cache on every event
-			if (onNext == null) {
-				invalidate();
-			} else {
-				onNext.accept(event, this);
-			}
-		}, error -> {
+		o.subscribe(event -> handleEvent(event.address(), event.body()), error -> {
 			log.error("Error while handling event in cache. Disabling cache.", error);
 			disable();
 		});
 	}
 
+	private void handleEvent(String address, JsonObject body) {
+		// Use a default implementation which will invalidate the whole cache on every event
+		if (onNext == null) {
+			invalidate();
+		} else {
+			onNext.handle(address, body, this);
+		}
+	}
+
+	@Override
+	public void onDispatch(String address, JsonObject body) {
+		if (filter != null || !addresses.contains(address)) {
+			return;
+		}
+		if (log.isTraceEnabled()) {
+			log.trace("Handling dispatched event from {" + address + "}");
+		}
+		handleEvent(address, body);
+	}
+
 	@Override
 	public void disable() {
 		disabled = true;
@@ -128,6 +167,40 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		cache.invalidate(key);
 	}
 
+	@Override
+	public void invalidate(BiPredicate<? super K, ? super V> predicate) {
+		if (log.isTraceEnabled()) {
+			log.trace("Invalidating matching entries");
+		}
+		boolean removed = cache.asMap().entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+		if (removed && options.getMonitoringOptions().isEnabled()) {
+			invalidateKeyCounter.increment();
+		}
+	}
+
+	@Override
+	public void invalidateIndexed(Object indexKey, BiPredicate<? super K, ? super V> predicate) {
+		Objects.requireNonNull(indexer, "The cache has no index");
+		if (log.isTraceEnabled()) {
+			log.trace("Invalidating matching entries of index key {" + indexKey + "}");
+		}
+		Set<K> keys = index.get(indexKey);
+		if (keys == null) {
+			return;
+		}
+		boolean removed = false;
+		for (K key : new ArrayList<>(keys)) {
+			V value = cache.asMap().get(key);
+			if (value != null && predicate.test(key, value)) {
+				cache.invalidate(key);
+				removed = true;
+			}
+		}
+		if (removed && options.getMonitoringOptions().isEnabled()) {
+			invalidateKeyCounter.increment();
+		}
+	}
+
 	@Override
 	public void put(K key, V value) {
 		if (disabled) {
@@ -159,11 +232,23 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		if (disabled) {
 			return mappingFunction.apply(key);
 		}
+		Function<? super K, ? extends V> loader = mappingFunction;
+		if (indexer != null) {
+			// Computed entries are not passed to the writer
+			loader = k -> {
+				V value = mappingFunction.apply(k);
+				if (value != null) {
+					addToIndex(k, value);
+				}
+				return value;
+			};
+		}
 		if (options.getMonitoringOptions().isEnabled()) {
 			AtomicBoolean wasCached = new AtomicBoolean(true);
+			Function<? super K, ? extends V> countingLoader = loader;
 			V value = cache.get(key, k -> {
 				wasCached.set(false);
-				return mappingFunction.apply(k);
+				return countingLoader.apply(k);
 			});
 			if (wasCached.get()) {
 				hitCounter.increment();
@@ -172,7 +257,51 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			}
 			return value;
 		} else {
-			return cache.get(key, mappingFunction);
+			return cache.get(key, loader);
+		}
+	}
+
+	private void addToIndex(K key, V value) {
+		for (Object indexKey : indexer.apply(value)) {
+			index.compute(indexKey, (k, keys) -> {
+				if (keys == null) {
+					keys = ConcurrentHashMap.newKeySet();
+				}
+				keys.add(key);
+				return keys;
+			});
+		}
+	}
+
+	private void removeFromIndex(K key, V value) {
+		for (Object indexKey : indexer.apply(value)) {
+			index.computeIfPresent(indexKey, (k, keys) -> {
+				keys.remove(key);
+				return keys.isEmpty() ? null : keys;
+			});
+		}
+	}
+
+	/**
+	 * Writer which keeps the index in sync with the entries of the cache. The writer is invoked while the entry is locked.
+	 */
+	private class IndexWriter implements CacheWriter<K, V> {
+
+		@Override
+		public void write(K key, V value) {
+			// The old value is still visible since the writer is invoked before the entry is replaced
+			V oldValue = cache.asMap().get(key);
+			if (oldValue != null) {
+				removeFromIndex(key, oldValue);
+			}
+			addToIndex(key, value);
+		}
+
+		@Override
+		public void delete(K key, V value, RemovalCause cause) {
+			if (value != null) {
+				removeFromIndex(key, value);
+			}
 		}
 	}
 
@@ -181,8 +310,9 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 
 		private long maxSize = 1000;
 		private Predicate<Message<JsonObject>> filter = null;
-		private BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext = null;
+		private EventAction<K, V> onNext = null;
 		private MeshEvent[] events = null;
+		private Function<? super V, ? extends Collection<?>> indexer = null;
 		private Vertx vertx;
 		private Duration expireAfter;
 		private String name;
@@ -193,7 +323,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			Objects.requireNonNull(events, "No events for the cache have been set");
 			Objects.requireNonNull(vertx, "No Vert.x instance has been set");
 			Objects.requireNonNull(name, "No name has been set");
-			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, vertx, options, metricsService, filter, onNext, events);
+			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, vertx, options, metricsService, filter, onNext, indexer, events);
 			if (disabled) {
 				c.disable();
 			}
@@ -227,11 +357,23 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		 * 
 		 * @return Fluent API
 		 */
-		public Builder<K, V> action(BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext) {
+		public Builder<K, V> action(EventAction<K, V> onNext) {
 			this.onNext = onNext;
 			return this;
 		}
 
+		/**
+		 * Index the entries by the keys which are returned by the indexer. The index is used by
+		 * {@link EventAwareCache#invalidateIndexed(Object, BiPredicate)}.
+		 *
+		 * @param indexer
+		 * @return Fluent API
+		 */
+		public Builder<K, V> index(Function<? super V, ? extends Collection<?>> indexer) {
+			this.indexer = indexer;
+			return this;
+		}
+
 		/**
 		 * Disable the created cache.
 		 * 
@@ -63,4 +63,13 @@ public interface BulkActionContext {
 	 */
 	void add(Completable action);
 
+	/**
+	 * Add an action which will be invoked in the background once the context has been processed with force, which commits the last changes of the bulk
+	 * action. The action needs to open its own transactions. Contexts which don't commit by themselves invoke the action directly within the transaction
+	 * of the caller.
+	 * 
+	 * @param action
+	 */
+	void afterCommit(Runnable action);
+
 }
@@ -1,8 +1,11 @@
 package com.gentics.mesh.context;
 
+import com.gentics.mesh.auth.handler.MeshAnonymousAuthHandler;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.TransformableElement;
+import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.handler.VersionHandler;
@@ -84,6 +87,18 @@ public interface InternalActionContext extends ActionContext, ParameterProviderC
 	 */
 	void send(HttpResponseStatus status);
 
+	/**
+	 * Transform the page and send it as a list response with status code 200. Implementations may stream the elements to the client while they are
+	 * transformed. The method must thus be invoked within the transaction which loaded the page.
+	 *
+	 * @param page
+	 * @param level
+	 *            Level of transformation
+	 */
+	default void sendPage(TransformablePage<? extends TransformableElement<? extends RestModel>> page, int level) {
+		send(page.transformToRest(this, level).blockingGet(), HttpResponseStatus.OK);
+	}
+
 	/**
 	 * Return the set of fileuploads that are accessible through the context.
 	 * 
@@ -167,4 +182,14 @@ public interface InternalActionContext extends ActionContext, ParameterProviderC
 	default int getApiVersion() {
 		return get(VersionHandler.API_VERSION_CONTEXT_KEY);
 	}
+
+	/**
+	 * Check whether the request was authenticated as the anonymous user.
+	 *
+	 * @return
+	 */
+	default boolean isAnonymous() {
+		Boolean anonymous = get(MeshAnonymousAuthHandler.ANONYMOUS_CONTEXT_KEY);
+		return anonymous != null && anonymous;
+	}
 }
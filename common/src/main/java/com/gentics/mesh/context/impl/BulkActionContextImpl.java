@@ -10,6 +10,7 @@ import javax.inject.Provider;
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.graphdb.spi.Database;
 
 import io.reactivex.Completable;
 import io.vertx.core.logging.Logger;
@@ -30,11 +31,14 @@ public class BulkActionContextImpl implements BulkActionContext {
 	private final AtomicLong elementCounter = new AtomicLong(0);
 
 	private List<Completable> asyncActions = new ArrayList<>();
+	private List<Runnable> postCommitActions = new ArrayList<>();
 	private EventQueueBatch batch;
+	private final Database db;
 
 	@Inject
-	public BulkActionContextImpl(Provider<EventQueueBatch> provider) {
+	public BulkActionContextImpl(Provider<EventQueueBatch> provider, Database db) {
 		this.batch = provider.get();
+		this.db = db;
 	}
 
 	@Override
@@ -52,16 +56,41 @@ public class BulkActionContextImpl implements BulkActionContext {
 		if (elementCounter.incrementAndGet() >= DEFAULT_BATCH_SIZE || force) {
 			log.info("Processing transaction batch {" + batchCounter.get() + "}. I counted {" + elementCounter.get() + "} elements.");
 			Tx.getActive().getGraph().commit();
-			Completable.merge(asyncActions).subscribe(() -> {
+			// The actions are only invoked once. Later batches must not invoke them again.
+			List<Completable> actions = asyncActions;
+			asyncActions = new ArrayList<>();
+			Completable.merge(actions).subscribe(() -> {
 				log.trace("Async action processed");
 			});
 			batch().dispatch();
+			// Intermediate batches are followed by further changes of the same action which could conflict with the post commit actions
+			if (force) {
+				startPostCommitActions();
+			}
 			// Reset the counter back to zero
 			elementCounter.set(0);
 			batchCounter.incrementAndGet();
 		}
 	}
 
+	/**
+	 * Start the actions which wait for the commit. The actions are invoked on the transaction worker pool and don't delay the caller.
+	 */
+	private void startPostCommitActions() {
+		List<Runnable> actions = postCommitActions;
+		postCommitActions = new ArrayList<>();
+		for (Runnable action : actions) {
+			db.<Void>executeBlocking(bh -> {
+				action.run();
+				bh.complete();
+			}, rh -> {
+				if (rh.failed()) {
+					log.error("Error while invoking action after commit", rh.cause());
+				}
+			});
+		}
+	}
+
 	@Override
 	public EventQueueBatch batch() {
 		return batch;
@@ -72,4 +101,9 @@ public class BulkActionContextImpl implements BulkActionContext {
 		asyncActions.add(action);
 	}
 
+	@Override
+	public void afterCommit(Runnable action) {
+		postCommitActions.add(action);
+	}
+
 }
@@ -0,0 +1,118 @@
+package com.gentics.mesh.context.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Output stream which writes the data in chunks to the HTTP response. Data will be buffered until the chunk size has been reached. The response will only
+ * be switched to chunked transfer once the first chunk has been written. Smaller responses are thus sent at once when the stream gets closed. The stream
+ * blocks while the write queue of the response is full and must thus not be used on the event loop.
+ */
+class ChunkedResponseOutputStream extends OutputStream {
+
+	private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+	private final HttpServerResponse response;
+
+	private final int chunkSize;
+
+	private Buffer buffer;
+
+	private boolean committed = false;
+
+	private boolean closed = false;
+
+	/**
+	 * Create a new stream.
+	 *
+	 * @param response
+	 *            Response to write to. The status code and headers must have been set
+	 * @param chunkSize
+	 *            Size of the chunks which are written to the response
+	 */
+	ChunkedResponseOutputStream(HttpServerResponse response, int chunkSize) {
+		this.response = response;
+		this.chunkSize = chunkSize;
+		this.buffer = Buffer.buffer(chunkSize);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		buffer.appendByte((byte) b);
+		if (buffer.length() >= chunkSize) {
+			writeChunk();
+		}
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		buffer.appendBytes(b, off, len);
+		if (buffer.length() >= chunkSize) {
+			writeChunk();
+		}
+	}
+
+	/**
+	 * Check whether data has already been written to the response. The status and headers of the response can't be changed anymore in this case.
+	 *
+	 * @return
+	 */
+	public boolean isCommitted() {
+		return committed;
+	}
+
+	private void writeChunk() throws IOException {
+		if (response.closed()) {
+			throw new IOException("The connection has been closed by the client");
+		}
+		if (!committed) {
+			response.setChunked(true);
+			committed = true;
+		}
+		awaitDrain();
+		response.write(buffer);
+		buffer = Buffer.buffer(chunkSize);
+	}
+
+	/**
+	 * Wait until the write queue of the response is no longer full.
+	 *
+	 * @throws IOException
+	 */
+	private void awaitDrain() throws IOException {
+		if (!response.writeQueueFull()) {
+			return;
+		}
+		CountDownLatch latch = new CountDownLatch(1);
+		response.drainHandler(v -> latch.countDown());
+		// The queue may have been drained before the handler was registered
+		if (!response.writeQueueFull()) {
+			return;
+		}
+		try {
+			if (!latch.await(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				throw new IOException("Timeout while waiting for the client to read the response");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for the client to read the response", e);
+		}
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		if (!response.closed()) {
+			response.end(buffer);
+		}
+	}
+
+}
@@ -34,4 +34,10 @@ public class DummyBulkActionContext implements BulkActionContext {
 	public void add(Completable action) {
 	}
 
+	@Override
+	public void afterCommit(Runnable action) {
+		// There is no commit to wait for
+		action.run();
+	}
+
 }
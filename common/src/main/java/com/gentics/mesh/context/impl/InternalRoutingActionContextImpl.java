@@ -1,11 +1,17 @@
 package com.gentics.mesh.context.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
 import com.gentics.mesh.context.AbstractInternalActionContext;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.TransformableElement;
+import com.gentics.mesh.core.data.page.TransformablePage;
+import com.gentics.mesh.core.rest.common.ListResponse;
+import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.http.MeshHeaders;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.router.ProjectsRouter;
 import com.gentics.mesh.util.ETag;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -19,13 +25,17 @@ import io.vertx.ext.web.FileUpload;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.Session;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpHeaders.CACHE_CONTROL;
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 
@@ -46,6 +56,11 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 
 	public static final String LOCALE_MAP_DATA_KEY = "locale";
 
+	/**
+	 * Size of the chunks in which streamed list responses are written.
+	 */
+	private static final int PAGE_CHUNK_SIZE = 64 * 1024;
+
 	/**
 	 * Create a new routing context based vertx action context.
 	 * 
@@ -92,6 +107,44 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 		rc.response().setStatusCode(status.code()).end();
 	}
 
+	@Override
+	public void sendPage(TransformablePage<? extends TransformableElement<? extends RestModel>> page, int level) {
+		HttpServerResponse response = rc.response();
+		response.putHeader(CONTENT_TYPE, APPLICATION_JSON_UTF8);
+		if (!response.headers().contains(CACHE_CONTROL)) {
+			response.putHeader(CACHE_CONTROL, "no-cache");
+		}
+		response.setStatusCode(OK.code());
+
+		// The elements are written one by one so that only a single transformed element needs to be kept in memory
+		ChunkedResponseOutputStream out = new ChunkedResponseOutputStream(response, PAGE_CHUNK_SIZE);
+		try {
+			JsonGenerator generator = JsonUtil.getMapper().getFactory().createGenerator(out);
+			generator.useDefaultPrettyPrinter();
+			generator.writeStartObject();
+			generator.writeArrayFieldStart("data");
+			for (TransformableElement<? extends RestModel> element : page.getWrappedList()) {
+				generator.writeObject(element.transformToRestSync(this, level));
+			}
+			generator.writeEndArray();
+			ListResponse<RestModel> listResponse = new ListResponse<>();
+			page.setPaging(listResponse);
+			generator.writeObjectField("_metainfo", listResponse.getMetainfo());
+			generator.writeEndObject();
+			// Closing the generator will also end the response
+			generator.close();
+		} catch (IOException | RuntimeException e) {
+			if (!out.isCommitted()) {
+				// Nothing has been sent yet. The regular error handling can still be used.
+				response.headers().remove(CONTENT_TYPE);
+				throw e instanceof RuntimeException ? (RuntimeException) e : error(INTERNAL_SERVER_ERROR, "Could not generate json from object", e);
+			}
+			// The response is incomplete. Closing the connection is the only way to signal this to the client.
+			log.error("Error while streaming the list response. Closing the connection.", e);
+			response.close();
+		}
+	}
+
 	@Override
 	public void setEtag(String entityTag, boolean isWeak) {
 		rc.response().putHeader(HttpHeaders.ETAG, ETag.prepareHeader(entityTag, isWeak));
@@ -384,6 +384,16 @@ public interface NodeGraphFieldContainer extends GraphFieldContainer, EditorTrac
 	 */
 	String getETag(InternalActionContext ac);
 
+	/**
+	 * Compute the ETag of the container and store it as a property. This needs to be done whenever the fields of the container have been changed.
+	 */
+	void updateETag();
+
+	/**
+	 * Remove the stored ETag. It will be computed on read until the container gets updated again.
+	 */
+	void resetETag();
+
 	/**
 	 * Determine the display field value by checking the schema and the referenced field and store it as a property.
 	 */
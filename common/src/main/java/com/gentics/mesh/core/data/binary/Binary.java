@@ -24,6 +24,8 @@ public interface Binary extends MeshVertex {
 
 	String BINARY_IMAGE_HEIGHT_PROPERTY_KEY = "binaryImageHeight";
 
+	String BINARY_PARSER_STATE_PROPERTY_KEY = "binaryParserState";
+
 	/**
 	 * Return the binary data stream.
 	 * 
@@ -141,6 +143,31 @@ public interface Binary extends MeshVertex {
 		}
 	}
 
+	/**
+	 * Return the state of the content extraction.
+	 * 
+	 * @return State or null if the binary has been parsed or does not need to be parsed
+	 */
+	default BinaryParserState getParserState() {
+		String state = property(BINARY_PARSER_STATE_PROPERTY_KEY);
+		return state == null ? null : BinaryParserState.valueOf(state);
+	}
+
+	/**
+	 * Set the state of the content extraction. You can set this null to indicate that the binary has been parsed.
+	 * 
+	 * @param state
+	 * @return Fluent API
+	 */
+	default Binary setParserState(BinaryParserState state) {
+		if (state == null) {
+			removeProperty(BINARY_PARSER_STATE_PROPERTY_KEY);
+		} else {
+			property(BINARY_PARSER_STATE_PROPERTY_KEY, state.name());
+		}
+		return this;
+	}
+
 	/**
 	 * Find all binary fields which make use of this binary.
 	 * 
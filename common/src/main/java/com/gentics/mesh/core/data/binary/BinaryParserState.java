@@ -0,0 +1,18 @@
+package com.gentics.mesh.core.data.binary;
+
+/**
+ * State of the content extraction of a {@link Binary} which could not be parsed during the upload.
+ */
+public enum BinaryParserState {
+
+	/**
+	 * The parser was not able to accept the binary. The binary will be parsed again by the binary parse job.
+	 */
+	PENDING,
+
+	/**
+	 * The binary exceeded the configured parser limits and will not be parsed.
+	 */
+	SKIPPED
+
+}
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.job;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.CreatorTrackingVertex;
 import com.gentics.mesh.core.data.MeshCoreVertex;
@@ -37,6 +39,8 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 
 	String WARNING_PROPERTY_KEY = "warnings";
 
+	String CHECKPOINT_PROPERTY_KEY = "checkpoint";
+
 	/**
 	 * The max length before detail error messages will be truncated
 	 */
@@ -131,6 +135,15 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 	 */
 	Completable process();
 
+	/**
+	 * Return the lock scope of the job. The scope is a path of the elements which are modified by the job, starting with the broadest element (e.g. project,
+	 * branch, schema). Jobs will not be executed concurrently if the scope of one job is a prefix of the scope of the other job. An empty scope conflicts with
+	 * all other jobs.
+	 * 
+	 * @return Lock scope
+	 */
+	List<String> getLockScope();
+
 	/**
 	 * Mark the job as failed.
 	 * 
@@ -262,6 +275,20 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 	 */
 	void setCompletionCount(long count);
 
+	/**
+	 * Return the id of the last element which has been processed by the job. The checkpoint is used to resume an interrupted job.
+	 * 
+	 * @return Id of the last processed element or null if no checkpoint has been set
+	 */
+	String getCheckpoint();
+
+	/**
+	 * Set the id of the last element which has been processed by the job.
+	 * 
+	 * @param checkpoint
+	 */
+	void setCheckpoint(String checkpoint);
+
 	/**
 	 * Get migration status.
 	 * 
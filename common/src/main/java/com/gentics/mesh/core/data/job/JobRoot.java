@@ -9,8 +9,6 @@ import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 
-import io.reactivex.Completable;
-
 /**
  * Aggregation vertex for jobs.
  */
@@ -77,9 +75,11 @@ public interface JobRoot extends RootVertex<Job> {
 	Job enqueueVersionPurge(User user, Project project);
 
 	/**
-	 * Process all remaining jobs.
+	 * Enqueue a job which parses the binaries that are marked as pending. No job will be enqueued if a queued binary parse job already exists.
+	 * 
+	 * @return Queued job
 	 */
-	Completable process();
+	Job enqueueBinaryParse();
 
 	/**
 	 * Purge all failed jobs from the job root.
@@ -70,6 +70,7 @@ public class GraphRelationships {
 
 		// Jobs
 		type.createType(edgeType(HAS_JOB));
+		type.createType(edgeType(HAS_QUEUED_BINARY_PARSE_JOB));
 		type.createType(edgeType(HAS_FROM_VERSION));
 		type.createType(edgeType(HAS_TO_VERSION));
 
@@ -118,6 +119,7 @@ public class GraphRelationships {
 
 	// Jobs
 	public static final String HAS_JOB = "HAS_JOB";
+	public static final String HAS_QUEUED_BINARY_PARSE_JOB = "HAS_QUEUED_BINARY_PARSE_JOB";
 	public static final String HAS_TO_VERSION = "HAS_TO_VERSION";
 	public static final String HAS_FROM_VERSION = "HAS_FROM_VERSION";
 
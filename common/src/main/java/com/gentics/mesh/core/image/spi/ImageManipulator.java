@@ -2,6 +2,7 @@ package com.gentics.mesh.core.image.spi;
 
 import java.awt.image.BufferedImage;
 import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 import com.gentics.mesh.core.data.binary.Binary;
@@ -21,6 +22,16 @@ public interface ImageManipulator {
 	 */
 	Single<String> handleResize(Binary binary, ImageManipulationParameters parameters);
 
+	/**
+	 * Render multiple variants of the given binary and return the paths to the resized files. The original image will only be decoded once for all
+	 * variants which are not yet cached.
+	 * 
+	 * @param binary
+	 * @param variants
+	 * @return The paths to the resized files in the order of the given variants.
+	 */
+	Single<List<String>> handleResizeVariants(Binary binary, List<ImageManipulationParameters> variants);
+
 	Single<CacheFileInfo> getCacheFilePath(String sha512sum, ImageManipulationParameters parameters);
 
 	/**
@@ -6,7 +6,10 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -36,6 +39,7 @@ public class WebRootLinkReplacer {
 
 	private static final String START_TAG = "{{mesh.link(";
 	private static final String END_TAG = ")}}";
+	private static final String LINK_CACHE_PREFIX = "webrootLink-";
 
 	private static final Logger log = LoggerFactory.getLogger(WebRootLinkReplacer.class);
 
@@ -72,67 +76,98 @@ public class WebRootLinkReplacer {
 		if (isEmpty(content) || type == LinkType.OFF || type == null) {
 			return content;
 		}
+		int pos = content.indexOf(START_TAG);
+		if (pos == -1) {
+			// Nothing to replace
+			return content;
+		}
+		String[] languages = languageTags == null ? null : languageTags.toArray(new String[languageTags.size()]);
 
-		List<String> segments = new ArrayList<>();
-		int pos = 0;
-		int lastPos = 0;
+		// 1. Tokenize the content in a single pass. Text segments are only referenced by their position.
 		int length = content.length();
-
-		// 1. Tokenize the content
-		while (lastPos < length) {
-			pos = content.indexOf(START_TAG, lastPos);
-			if (pos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
-				break;
-			}
+		List<Object> tokens = new ArrayList<>();
+		Map<LinkToken, String> links = new HashMap<>();
+		int lastPos = 0;
+		while (pos != -1) {
 			int endPos = content.indexOf(END_TAG, pos);
 			if (endPos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
 				break;
 			}
-
 			// add intermediate string segment
 			if (lastPos < pos) {
-				segments.add(content.substring(lastPos, pos));
+				tokens.add(new int[] { lastPos, pos });
 			}
 
-			// 2. Parse the link and invoke resolving
-			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
-			String[] linkArguments = link.split(",");
+			// 2. Parse the link
+			String[] linkArguments = parseArguments(content, pos + START_TAG.length(), endPos);
 			if (linkArguments.length == 3) {
 				// Branch in link argument always comes first
 				branch = linkArguments[2].trim();
 			}
+			LinkToken link;
 			if (linkArguments.length == 2) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
-			} else if (languageTags != null) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName,
-					languageTags.toArray(new String[languageTags.size()])));
+				link = new LinkToken(linkArguments[0].trim(), branch, linkArguments[1].trim());
 			} else {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName));
+				link = new LinkToken(linkArguments[0].trim(), branch, languages);
 			}
+			tokens.add(link);
+			links.put(link, null);
 
 			lastPos = endPos + END_TAG.length();
+			pos = content.indexOf(START_TAG, lastPos);
+		}
+		// add last string segment
+		if (lastPos < length) {
+			tokens.add(new int[] { lastPos, length });
 		}
 
-		// 3.: Buildup the new content
-		StringBuilder renderedContent = new StringBuilder(length);
-		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
+		// 3. Resolve every distinct link only once
+		int renderedLength = length;
+		for (Map.Entry<LinkToken, String> entry : links.entrySet()) {
+			LinkToken link = entry.getKey();
+			String rendered = resolve(ac, link.branch, edgeType, link.uuid, type, projectName, link.languageTags);
+			entry.setValue(rendered);
+			renderedLength += rendered.length();
+		}
 
+		// 4. Buildup the new content
+		StringBuilder renderedContent = new StringBuilder(renderedLength);
+		for (Object token : tokens) {
+			if (token instanceof LinkToken) {
+				renderedContent.append(links.get(token));
+			} else {
+				int[] range = (int[]) token;
+				renderedContent.append(content, range[0], range[1]);
+			}
+		}
 		return renderedContent.toString();
 	}
 
+	/**
+	 * Parse the arguments of the link within the given range of the content. Quotes will be stripped away since we only care about the argument values.
+	 * Double quotes may be escaped.
+	 *
+	 * @param content
+	 * @param start
+	 * @param end
+	 * @return Arguments of the link
+	 */
+	private static String[] parseArguments(String content, int start, int end) {
+		StringBuilder link = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			char c = content.charAt(i);
+			if (c == '\\' && i + 1 < end && content.charAt(i + 1) == '"') {
+				i++;
+				continue;
+			}
+			if (c == '\'' || c == '"') {
+				continue;
+			}
+			link.append(c);
+		}
+		return link.toString().split(",");
+	}
+
 	/**
 	 * Resolve the link to the node with uuid (in the given language) into an observable
 	 * 
@@ -154,7 +189,20 @@ public class WebRootLinkReplacer {
 	public String resolve(InternalActionContext ac, String branch, ContainerType edgeType, String uuid, LinkType type, String projectName,
 		String... languageTags) {
 		// Get rid of additional whitespaces
-		uuid = uuid.trim();
+		String nodeUuid = uuid.trim();
+		// Links to the same node are often rendered multiple times within a response. Thus the rendered links are kept in the action context.
+		String cacheKey = LINK_CACHE_PREFIX + nodeUuid + "-" + branch + "-" + edgeType + "-" + type + "-" + projectName + "-" + Arrays.toString(languageTags);
+		// The map must not be modified by computeIfAbsent since rendering the link will also store data in the action context
+		String link = (String) ac.data().get(cacheKey);
+		if (link == null) {
+			link = renderLink(ac, branch, edgeType, nodeUuid, type, projectName, languageTags);
+			ac.data().put(cacheKey, link);
+		}
+		return link;
+	}
+
+	private String renderLink(InternalActionContext ac, String branch, ContainerType edgeType, String uuid, LinkType type, String projectName,
+		String... languageTags) {
 		Node node = boot.meshRoot().getNodeRoot().findByUuid(uuid);
 
 		// check for null
@@ -276,4 +324,36 @@ public class WebRootLinkReplacer {
 		}
 		return String.format("?%s=%s", VersioningParameters.BRANCH_QUERY_PARAM_KEY, branch.getName());
 	}
+
+	/**
+	 * Link which was found in the content.
+	 */
+	private static class LinkToken {
+
+		private final String uuid;
+
+		private final String branch;
+
+		private final String[] languageTags;
+
+		LinkToken(String uuid, String branch, String... languageTags) {
+			this.uuid = uuid;
+			this.branch = branch;
+			this.languageTags = languageTags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof LinkToken)) {
+				return false;
+			}
+			LinkToken other = (LinkToken) obj;
+			return uuid.equals(other.uuid) && Objects.equals(branch, other.branch) && Arrays.equals(languageTags, other.languageTags);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(uuid, branch, Arrays.hashCode(languageTags));
+		}
+	}
 }
@@ -194,7 +194,7 @@ public class HandlerUtilities {
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElement(InternalActionContext ac, String uuid,
 		TxAction1<RootVertex<T>> handler, GraphPermission perm) {
 
-		syncTx(ac, tx -> {
+		readTx(ac, tx -> {
 			RootVertex<T> root = handler.handle();
 			T element = root.loadObjectByUuid(ac, uuid, perm);
 
@@ -219,23 +219,28 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElementList(InternalActionContext ac, TxAction1<RootVertex<T>> handler) {
 
-		rxSyncTx(ac, tx -> {
-			RootVertex<T> root = handler.handle();
+		try {
+			database.readTx(tx -> {
+				RootVertex<T> root = handler.handle();
 
-			PagingParameters pagingInfo = ac.getPagingParameters();
-			TransformablePage<? extends T> page = root.findAll(ac, pagingInfo);
+				PagingParameters pagingInfo = ac.getPagingParameters();
+				TransformablePage<? extends T> page = root.findAll(ac, pagingInfo);
 
-			// Handle etag
-			if (ac.getGenericParameters().getETag()) {
-				String etag = page.getETag(ac);
-				ac.setEtag(etag, true);
-				if (ac.matches(etag, true)) {
-					throw new NotModifiedException();
+				// Handle etag
+				if (ac.getGenericParameters().getETag()) {
+					String etag = page.getETag(ac);
+					ac.setEtag(etag, true);
+					if (ac.matches(etag, true)) {
+						throw new NotModifiedException();
+					}
 				}
-			}
-			return page.transformToRest(ac, 0);
-
-		}, m -> ac.send(m, OK));
+				// The page is written while the elements are transformed so the tx needs to stay open
+				ac.sendPage(page, 0);
+				return null;
+			});
+		} catch (Throwable t) {
+			ac.fail(t);
+		}
 	}
 
 	public <RM> void syncTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
@@ -256,6 +261,40 @@ public class HandlerUtilities {
 		}
 	}
 
+	/**
+	 * Invoke the handler in a tx which is serialized with all other transactions that use the same key and pass the result to the action.
+	 * 
+	 * @param ac
+	 * @param key
+	 *            Key of the hot element which is written by the handler
+	 * @param handler
+	 * @param action
+	 */
+	public <RM> void serializedSyncTx(InternalActionContext ac, String key, TxAction<RM> handler, Consumer<RM> action) {
+		try {
+			RM model = database.serializedTx(key, handler);
+			action.accept(model);
+		} catch (Throwable t) {
+			ac.fail(t);
+		}
+	}
+
+	/**
+	 * Invoke the handler in a read-only tx and pass the result to the action.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 */
+	public <RM> void readTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
+		try {
+			RM model = database.readTx(handler);
+			action.accept(model);
+		} catch (Throwable t) {
+			ac.fail(t);
+		}
+	}
+
 	/**
 	 * Invoke sync action in a tx.
 	 * 
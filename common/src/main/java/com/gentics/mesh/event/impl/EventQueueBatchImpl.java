@@ -2,10 +2,12 @@ package com.gentics.mesh.event.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
 import com.gentics.mesh.ElementType;
+import com.gentics.mesh.cache.CacheRegistry;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.EventCauseAction;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
@@ -35,9 +37,12 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 
 	private final Vertx vertx;
 
+	private final CacheRegistry cacheRegistry;
+
 	@Inject
-	public EventQueueBatchImpl(Vertx vertx) {
+	public EventQueueBatchImpl(Vertx vertx, CacheRegistry cacheRegistry) {
 		this.vertx = vertx;
+		this.cacheRegistry = cacheRegistry;
 	}
 
 	@Override
@@ -68,20 +73,47 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 	@Override
 	public void dispatch() {
 		EventBus eventbus = vertx.eventBus();
-		// TODO buffer event dispatching?
-		getEntries().forEach(entry -> {
+		// Events are transported across the cluster in envelopes. This avoids one cluster message per event.
+		MeshEventEnvelope envelope = vertx.isClustered() ? new MeshEventEnvelope() : null;
+		for (MeshEventModel entry : getEntries()) {
 			entry.setCause(getCause());
 			MeshEvent event = entry.getEvent();
 			if (log.isDebugEnabled()) {
 				log.debug("Created event sent {}", event);
 			}
-			String json = JsonUtil.toJson(entry);
+			JsonObject json = toJsonObject(entry);
 			if (log.isTraceEnabled()) {
-				log.trace("Dispatching event '{}' with payload:\n{}", event, json);
+				log.trace("Dispatching event '{}' with payload:\n{}", event, json.encodePrettily());
+			}
+			// The local cache entries must not outlive the commit
+			cacheRegistry.onDispatch(event.getAddress(), json);
+			if (envelope == null) {
+				eventbus.publish(event.getAddress(), json);
+				continue;
+			}
+			// The events are delivered locally by the origin only. The other instances unpack them from the envelope.
+			eventbus.publish(event.getAddress(), json, MeshEventEnvelope.LOCAL_ONLY);
+			envelope.add(event.getAddress(), json);
+			if (envelope.size() >= MeshEventEnvelope.MAX_SIZE) {
+				eventbus.publish(MeshEventEnvelope.ADDRESS, envelope);
+				envelope = new MeshEventEnvelope();
 			}
-			eventbus.publish(event.getAddress(), new JsonObject(json));
-		});
+		}
+		if (envelope != null && envelope.size() > 0) {
+			eventbus.publish(MeshEventEnvelope.ADDRESS, envelope);
+		}
 		getEntries().clear();
 	}
 
+	/**
+	 * Convert the event model directly into a JSON object. This avoids serializing the model into a string which would need to be parsed again.
+	 *
+	 * @param entry
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private JsonObject toJsonObject(MeshEventModel entry) {
+		return new JsonObject(JsonUtil.getMapper().convertValue(entry, Map.class));
+	}
+
 }
@@ -0,0 +1,185 @@
+package com.gentics.mesh.event.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.gentics.mesh.util.Tuple;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Envelope which transports multiple events across the cluster within a single event bus message. The envelope is published on {@link #ADDRESS}. The
+ * originating instance publishes the events locally by itself. The other instances unpack received envelopes and publish the contained events locally on
+ * their original addresses. Consumers of the events thus don't need to be aware of the envelope.
+ *
+ * Local consumers (registered via {@link EventBus#localConsumer(String)}) would not have received events of other instances without the envelope. The
+ * events which are published by the other instances are therefore marked and local consumers need to skip them via {@link #isRemote(Message)}.
+ *
+ * The wire format of the envelope is encoded only once, regardless of the amount of instances which receive the envelope.
+ */
+public class MeshEventEnvelope {
+
+	private static final Logger log = LoggerFactory.getLogger(MeshEventEnvelope.class);
+
+	public static final String ADDRESS = "mesh.event.envelope";
+
+	/**
+	 * Maximum amount of events per envelope.
+	 */
+	public static final int MAX_SIZE = 1000;
+
+	/**
+	 * Header which marks events that have been unpacked from an envelope of another instance.
+	 */
+	public static final String REMOTE_HEADER = "meshRemoteEvent";
+
+	/**
+	 * Delivery options for the events of the local instance.
+	 */
+	public static final DeliveryOptions LOCAL_ONLY = new DeliveryOptions().setLocalOnly(true);
+
+	private static final DeliveryOptions REMOTE = new DeliveryOptions().setLocalOnly(true).addHeader(REMOTE_HEADER, "true");
+
+	private List<Tuple<String, JsonObject>> events;
+
+	private Buffer encoded;
+
+	/**
+	 * Whether the envelope has been created by the local instance. Local deliveries share the instance, envelopes of other instances are decoded.
+	 */
+	private final boolean local;
+
+	public MeshEventEnvelope() {
+		this.events = new ArrayList<>();
+		this.local = true;
+	}
+
+	private MeshEventEnvelope(Buffer encoded) {
+		this.encoded = encoded;
+		this.local = false;
+	}
+
+	/**
+	 * Add the event to the envelope.
+	 *
+	 * @param address
+	 *            Address of the event
+	 * @param body
+	 *            Event payload
+	 * @return Fluent API
+	 */
+	public MeshEventEnvelope add(String address, JsonObject body) {
+		if (encoded != null) {
+			throw new IllegalStateException("The envelope has already been encoded");
+		}
+		events.add(Tuple.tuple(address, body));
+		return this;
+	}
+
+	/**
+	 * Check whether the envelope has been created by the local instance.
+	 *
+	 * @return
+	 */
+	public boolean isLocal() {
+		return local;
+	}
+
+	/**
+	 * Check whether the event has been unpacked from an envelope of another instance. Local consumers must skip these events.
+	 *
+	 * @param message
+	 * @return
+	 */
+	public static boolean isRemote(Message<?> message) {
+		return message.headers().contains(REMOTE_HEADER);
+	}
+
+	/**
+	 * Return the amount of events in the envelope.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return getEvents().size();
+	}
+
+	/**
+	 * Return the addresses and payloads of the events in the order in which they have been added.
+	 *
+	 * @return
+	 */
+	public synchronized List<Tuple<String, JsonObject>> getEvents() {
+		if (events == null) {
+			JsonArray array = new JsonArray(encoded);
+			List<Tuple<String, JsonObject>> decoded = new ArrayList<>(array.size());
+			for (int i = 0; i < array.size(); i++) {
+				JsonObject entry = array.getJsonObject(i);
+				decoded.add(Tuple.tuple(entry.getString("address"), entry.getJsonObject("body")));
+			}
+			events = decoded;
+		}
+		return Collections.unmodifiableList(events);
+	}
+
+	/**
+	 * Return the encoded form of the envelope. The envelope will only be encoded once.
+	 *
+	 * @return
+	 */
+	public synchronized Buffer encode() {
+		if (encoded == null) {
+			JsonArray array = new JsonArray();
+			for (Tuple<String, JsonObject> event : events) {
+				array.add(new JsonObject().put("address", event.v1()).put("body", event.v2()));
+			}
+			encoded = array.toBuffer();
+		}
+		return encoded;
+	}
+
+	/**
+	 * Create an envelope from the encoded form.
+	 *
+	 * @param encoded
+	 * @return
+	 */
+	public static MeshEventEnvelope decode(Buffer encoded) {
+		return new MeshEventEnvelope(encoded);
+	}
+
+	/**
+	 * Register the codec for envelopes and the handler which unpacks the envelopes of other instances.
+	 *
+	 * @param vertx
+	 * @return Consumer of the envelopes
+	 */
+	public static MessageConsumer<MeshEventEnvelope> register(Vertx vertx) {
+		EventBus eventBus = vertx.eventBus();
+		eventBus.registerDefaultCodec(MeshEventEnvelope.class, new MeshEventEnvelopeCodec());
+		return eventBus.<MeshEventEnvelope>consumer(ADDRESS, message -> {
+			MeshEventEnvelope envelope = message.body();
+			// The events of the own envelopes have already been published locally
+			if (envelope.isLocal()) {
+				return;
+			}
+			if (log.isTraceEnabled()) {
+				log.trace("Unpacking envelope with {" + envelope.size() + "} events");
+			}
+			for (Tuple<String, JsonObject> event : envelope.getEvents()) {
+				eventBus.publish(event.v1(), event.v2(), REMOTE);
+			}
+		});
+	}
+
+}
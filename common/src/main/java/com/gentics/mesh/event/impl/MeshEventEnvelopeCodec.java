@@ -0,0 +1,43 @@
+package com.gentics.mesh.event.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+
+/**
+ * Event bus codec for {@link MeshEventEnvelope}. Envelopes are not modified once they have been published. Thus local deliveries share the envelope
+ * instance.
+ */
+public class MeshEventEnvelopeCodec implements MessageCodec<MeshEventEnvelope, MeshEventEnvelope> {
+
+	public static final String NAME = "mesh-event-envelope";
+
+	@Override
+	public void encodeToWire(Buffer buffer, MeshEventEnvelope envelope) {
+		Buffer encoded = envelope.encode();
+		buffer.appendInt(encoded.length());
+		buffer.appendBuffer(encoded);
+	}
+
+	@Override
+	public MeshEventEnvelope decodeFromWire(int pos, Buffer buffer) {
+		int length = buffer.getInt(pos);
+		pos += 4;
+		return MeshEventEnvelope.decode(buffer.getBuffer(pos, pos + length));
+	}
+
+	@Override
+	public MeshEventEnvelope transform(MeshEventEnvelope envelope) {
+		return envelope;
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public byte systemCodecID() {
+		return -1;
+	}
+
+}
@@ -51,6 +51,8 @@ import com.gentics.mesh.core.rest.node.field.BinaryField;
 import com.gentics.mesh.core.rest.node.field.BinaryFieldTransformRequest;
 import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+import com.gentics.mesh.core.rest.node.field.image.ImageVariantRequest;
+import com.gentics.mesh.core.rest.node.field.image.ImageVariantsRequest;
 import com.gentics.mesh.core.rest.node.field.impl.BinaryFieldImpl;
 import com.gentics.mesh.core.rest.node.field.impl.HtmlFieldImpl;
 import com.gentics.mesh.core.rest.node.field.impl.NumberFieldImpl;
@@ -61,6 +63,7 @@ import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.tag.TagReference;
 import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.handler.VersionHandler;
+import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.util.Tuple;
 
 public class NodeExamples extends AbstractExamples {
@@ -272,6 +275,16 @@ public class NodeExamples extends AbstractExamples {
 		return request;
 	}
 
+	public ImageVariantsRequest getImageVariantsRequest() {
+		ImageVariantsRequest request = new ImageVariantsRequest();
+		request.setLanguage("en");
+		request.addVariant(new ImageVariantRequest().setWidth(1200));
+		request.addVariant(new ImageVariantRequest().setWidth(800));
+		request.addVariant(new ImageVariantRequest().setWidth(400).setFormat("png"));
+		request.addVariant(new ImageVariantRequest().setWidth(200).setHeight(200).setCropMode(CropMode.FOCALPOINT));
+		return request;
+	}
+
 	public NodeUpdateRequest getNodeUpdateRequest() {
 		NodeUpdateRequest nodeUpdate = new NodeUpdateRequest();
 		nodeUpdate.setLanguage("en");
@@ -1,16 +1,31 @@
 package com.gentics.mesh.graphdb.spi;
 
+import static com.gentics.mesh.metric.SimpleMetric.TX_QUEUE_DEPTH;
+import static com.gentics.mesh.metric.SimpleMetric.TX_QUEUE_WAIT;
+
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.commons.io.FileUtils;
 
 import com.gentics.madl.tx.Tx;
+import com.gentics.madl.tx.TxAction;
+import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.ETag;
+import com.google.common.util.concurrent.Striped;
 
 import dagger.Lazy;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -25,10 +40,34 @@ public abstract class AbstractDatabase implements Database {
 	protected String meshVersion;
 	protected String[] basePaths;
 
+	protected final MetricsService metrics;
+
 	private final Lazy<Vertx> vertx;
 
-	public AbstractDatabase(Lazy<Vertx> vertx) {
+	/**
+	 * Amount of transaction handlers which are waiting for a worker of the transaction executor.
+	 */
+	private final AtomicLong txQueueDepth;
+
+	private Timer txQueueWaitTimer;
+
+	private WorkerExecutor txExecutor;
+
+	/**
+	 * Striped locks which serialize the write transactions per key. The locks are created once the database is initialized and are accessed by every
+	 * serialized transaction without locking.
+	 */
+	private volatile Striped<Lock> writeQueue;
+
+	public AbstractDatabase(Lazy<Vertx> vertx, MetricsService metrics) {
 		this.vertx = vertx;
+		this.metrics = metrics;
+		if (metrics != null) {
+			txQueueDepth = metrics.longGauge(TX_QUEUE_DEPTH);
+			txQueueWaitTimer = metrics.timer(TX_QUEUE_WAIT);
+		} else {
+			txQueueDepth = new AtomicLong();
+		}
 	}
 
 	@Override
@@ -51,6 +90,8 @@ public abstract class AbstractDatabase implements Database {
 		this.options = options;
 		this.meshVersion = meshVersion;
 		this.basePaths = basePaths;
+		int stripes = options.getStorageOptions() != null ? options.getStorageOptions().getTxWriteQueueStripes() : 0;
+		this.writeQueue = stripes > 0 ? Striped.lock(stripes) : null;
 	}
 
 	@Override
@@ -90,4 +131,50 @@ public abstract class AbstractDatabase implements Database {
 		return vertx.get();
 	}
 
+	@Override
+	public <T> T serializedTx(String key, TxAction<T> txHandler) {
+		Striped<Lock> queue = writeQueue;
+		// Nested transactions can't be serialized since the outer transaction would still be committed afterwards
+		if (queue == null || Tx.get() != null) {
+			return tx(txHandler);
+		}
+		Lock lock = queue.get(key);
+		lock.lock();
+		try {
+			return tx(txHandler);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public <T> void executeBlocking(Handler<Promise<T>> blockingHandler, Handler<AsyncResult<T>> resultHandler) {
+		long enqueued = System.nanoTime();
+		txQueueDepth.incrementAndGet();
+		getTxExecutor().executeBlocking(promise -> {
+			txQueueDepth.decrementAndGet();
+			if (metrics != null && metrics.isEnabled()) {
+				txQueueWaitTimer.record(System.nanoTime() - enqueued, TimeUnit.NANOSECONDS);
+			}
+			blockingHandler.handle(promise);
+		}, false, resultHandler);
+	}
+
+	/**
+	 * Return the executor which is dedicated to transaction handlers. Transactions thus don't compete with other blocking operations (e.g. file I/O) for
+	 * the shared worker pool.
+	 * 
+	 * @return
+	 */
+	protected synchronized WorkerExecutor getTxExecutor() {
+		if (txExecutor == null) {
+			int size = GraphStorageOptions.DEFAULT_TX_WORKER_POOL_SIZE;
+			if (options != null && options.getStorageOptions() != null) {
+				size = options.getStorageOptions().getTxWorkerPoolSize();
+			}
+			txExecutor = vertx().createSharedWorkerExecutor("txWorker", size);
+		}
+		return txExecutor;
+	}
+
 }
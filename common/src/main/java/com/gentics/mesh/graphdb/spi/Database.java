@@ -5,7 +5,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
@@ -30,6 +29,8 @@ import io.reactivex.Single;
 import io.reactivex.functions.BiFunction;
 import io.reactivex.functions.Function;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -70,6 +71,61 @@ public interface Database extends TxFactory {
 	 */
 	void clear();
 
+	/**
+	 * Execute the handler within the scope of a read-only transaction. Read-only transactions are never committed and never retried. Implementations may
+	 * reject write operations which are executed within the handler. An already active transaction of the current thread will be reused.
+	 * 
+	 * @param txHandler
+	 * @return Result of the handler
+	 */
+	default <T> T readTx(TxAction<T> txHandler) {
+		return tx(txHandler);
+	}
+
+	/**
+	 * Execute the handler within the scope of a read-only transaction.
+	 * 
+	 * @param txHandler
+	 * @return Result of the handler
+	 * @see #readTx(TxAction)
+	 */
+	default <T> T readTx(TxAction1<T> txHandler) {
+		return readTx(tx -> {
+			return txHandler.handle();
+		});
+	}
+
+	/**
+	 * Execute the handler within a transaction. Transactions which use the same key will be executed one after another on this instance. This can be used
+	 * to serialize writes to known hot elements which would otherwise frequently conflict.
+	 * 
+	 * @param key
+	 *            Key of the written element (e.g. the uuid)
+	 * @param txHandler
+	 * @return Result of the handler
+	 */
+	<T> T serializedTx(String key, TxAction<T> txHandler);
+
+	/**
+	 * Execute the blocking handler on the worker pool which is dedicated to transactions.
+	 * 
+	 * @param blockingHandler
+	 * @param resultHandler
+	 */
+	<T> void executeBlocking(Handler<Promise<T>> blockingHandler, Handler<AsyncResult<T>> resultHandler);
+
+	/**
+	 * Capture the current call site. Capturing the stacktrace is expensive. Thus the call site will only be captured if debug logging is enabled.
+	 * 
+	 * @return Exception which contains the stacktrace of the call site or null
+	 */
+	static Exception captureCallSite() {
+		if (log.isDebugEnabled()) {
+			return new Exception("Transaction timeout exception");
+		}
+		return null;
+	}
+
 	/**
 	 * Asynchronously execute the given handler within a transaction and return the completable.
 	 * 
@@ -77,16 +133,11 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default Completable asyncTx(TxAction0 txHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
+		// Capture the call site which we can use to enhance error information in case of timeout or other transaction errors
+		final Exception callSite = captureCallSite();
 
 		return Completable.create(sub -> {
-			vertx().executeBlocking(bc -> {
+			executeBlocking(bc -> {
 				try {
 					tx(txHandler);
 					bc.complete();
@@ -96,7 +147,7 @@ public interface Database extends TxFactory {
 					}
 					bc.fail(e);
 				}
-			}, false, done -> {
+			}, done -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -113,16 +164,11 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction1<Single<T>> trxHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
+		// Capture the call site which we can use to enhance error information in case of timeout or other transaction errors
+		final Exception callSite = captureCallSite();
 
 		return Single.create(sub -> {
-			vertx().executeBlocking(bc -> {
+			executeBlocking(bc -> {
 				try (Tx tx = tx()) {
 					Single<T> result = trxHandler.handle();
 					if (result == null) {
@@ -134,8 +180,12 @@ public interface Database extends TxFactory {
 						} catch (Exception e2) {
 							if (e2 instanceof TimeoutException) {
 								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
+								if (callSite != null) {
+									log.error("Calling transaction stacktrace.", callSite);
+									bc.fail(callSite);
+								} else {
+									bc.fail(e2);
+								}
 							} else {
 								throw e2;
 							}
@@ -147,7 +197,7 @@ public interface Database extends TxFactory {
 					}
 					bc.fail(e);
 				}
-			}, false, (AsyncResult<T> done) -> {
+			}, (AsyncResult<T> done) -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -165,13 +215,23 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Maybe<T> maybeTx(Function<Tx, T> handler) {
-		return new io.vertx.reactivex.core.Vertx(vertx()).<T>rxExecuteBlocking(promise -> {
-			try (Tx tx = tx()) {
-				promise.complete(handler.apply(tx));
-			} catch (Throwable e) {
-				promise.fail(e);
-			}
-		}, false);
+		return Maybe.create(sub -> {
+			this.<T>executeBlocking(promise -> {
+				try (Tx tx = tx()) {
+					promise.complete(handler.apply(tx));
+				} catch (Throwable e) {
+					promise.fail(e);
+				}
+			}, done -> {
+				if (done.failed()) {
+					sub.onError(done.cause());
+				} else if (done.result() == null) {
+					sub.onComplete();
+				} else {
+					sub.onSuccess(done.result());
+				}
+			});
+		});
 	}
 
 	/**
@@ -203,16 +263,11 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction<Single<T>> trxHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
+		// Capture the call site which we can use to enhance error information in case of timeout or other transaction errors
+		final Exception callSite = captureCallSite();
 
 		return Single.create(sub -> {
-			vertx().executeBlocking(bc -> {
+			executeBlocking(bc -> {
 				try (Tx tx = tx()) {
 					Single<T> result = trxHandler.handle(tx);
 					if (result == null) {
@@ -224,8 +279,12 @@ public interface Database extends TxFactory {
 						} catch (Exception e2) {
 							if (e2 instanceof TimeoutException) {
 								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
+								if (callSite != null) {
+									log.error("Calling transaction stacktrace.", callSite);
+									bc.fail(callSite);
+								} else {
+									bc.fail(e2);
+								}
 							} else {
 								throw e2;
 							}
@@ -237,7 +296,7 @@ public interface Database extends TxFactory {
 					}
 					bc.fail(e);
 				}
-			}, false, (AsyncResult<T> done) -> {
+			}, (AsyncResult<T> done) -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -318,6 +377,24 @@ public interface Database extends TxFactory {
 	 */
 	<T extends MeshVertex> Iterator<? extends T> getVerticesForType(Class<T> classOfVertex);
 
+	/**
+	 * Locate the vertices which are connected to the given vertex via outgoing edges of the given label. The vertices are ordered by their id and only
+	 * vertices with an id which is greater than the given id will be returned. The edge label must have been indexed with an out/in index.
+	 * 
+	 * @param outId
+	 *            Id of the vertex from which the edges start (e.g. the node root of a project)
+	 * @param edgeLabel
+	 *            Label of the edges
+	 * @param classOfVertex
+	 *            Type of the connected vertices
+	 * @param lastId
+	 *            Id of the last vertex of the previous window or null to start with the first vertex
+	 * @param limit
+	 *            Maximum amount of vertices to return
+	 * @return
+	 */
+	<T extends MeshVertex> List<? extends T> getVerticesAfter(Object outId, String edgeLabel, Class<T> classOfVertex, Object lastId, int limit);
+
 	/**
 	 * Get the underlying raw transaction.
 	 * 
@@ -354,6 +431,17 @@ public interface Database extends TxFactory {
 	 */
 	void setMassInsertIntent();
 
+	/**
+	 * Tell the graph database that a mass insert will follow within the current transaction. Other transactions are not affected. The intent must be reset
+	 * via {@link #resetTxIntent()} before the transaction is closed.
+	 */
+	void setTxMassInsertIntent();
+
+	/**
+	 * Reset the intent which was set for the current transaction.
+	 */
+	void resetTxIntent();
+
 	/**
 	 * Find the vertex with the given key/value setup. Indices which provide this information will automatically be utilized.
 	 * 
@@ -0,0 +1,73 @@
+package com.gentics.mesh.graphdb.spi;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Budget which limits the amount of transaction retries in relation to the amount of executed transactions. Each transaction deposits a fraction of a
+ * retry into the budget and each retry withdraws a full retry. This way a burst of conflicts can still be retried while a sustained conflict storm
+ * will not multiply the load on the database.
+ */
+public class RetryBudget {
+
+	/**
+	 * The balance is stored in millionths of a retry so that it can be updated atomically without a lock.
+	 */
+	private static final long SCALE = 1_000_000L;
+
+	private final long ratio;
+
+	private final long capacity;
+
+	private final AtomicLong balance;
+
+	/**
+	 * Create a new budget.
+	 * 
+	 * @param ratio
+	 *            Amount of retries which are deposited per transaction. A ratio of 0 or lower disables the budget.
+	 * @param capacity
+	 *            Maximum amount of retries which can be saved up
+	 */
+	public RetryBudget(double ratio, int capacity) {
+		this.ratio = ratio <= 0 ? 0 : Math.max(1, Math.round(ratio * SCALE));
+		this.capacity = capacity * SCALE;
+		this.balance = new AtomicLong(this.capacity);
+	}
+
+	/**
+	 * Deposit the share of a transaction.
+	 */
+	public void deposit() {
+		if (ratio <= 0) {
+			return;
+		}
+		// The budget is usually full. In this case the shared balance is only read.
+		long current = balance.get();
+		while (current < capacity) {
+			if (balance.compareAndSet(current, Math.min(capacity, current + ratio))) {
+				return;
+			}
+			current = balance.get();
+		}
+	}
+
+	/**
+	 * Try to withdraw a retry from the budget.
+	 * 
+	 * @return true if the retry may be executed, false if the budget is exhausted
+	 */
+	public boolean tryWithdraw() {
+		if (ratio <= 0) {
+			return true;
+		}
+		long current = balance.get();
+		while (current >= SCALE) {
+			if (balance.compareAndSet(current, current - SCALE)) {
+				return true;
+			}
+			current = balance.get();
+		}
+		return false;
+	}
+
+}
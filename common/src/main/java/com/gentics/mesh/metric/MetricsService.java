@@ -5,6 +5,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 
 public interface MetricsService {
@@ -27,14 +28,26 @@ public interface MetricsService {
 		return getMetricRegistry().summary(metric.key());
 	}
 
+	default DistributionSummary meter(Metric metric, Iterable<Tag> tags) {
+		return getMetricRegistry().summary(metric.key(), tags);
+	}
+
 	default Timer timer(Metric metric) {
 		return getMetricRegistry().timer(metric.key());
 	}
 
+	default Timer timer(Metric metric, Iterable<Tag> tags) {
+		return getMetricRegistry().timer(metric.key(), tags);
+	}
+
 	default Counter counter(Metric metric) {
 		return getMetricRegistry().counter(metric.key());
 	}
 
+	default Counter counter(Metric metric, Iterable<Tag> tags) {
+		return getMetricRegistry().counter(metric.key(), tags);
+	}
+
 	default AtomicLong longGauge(Metric metric) {
 		return getMetricRegistry().gauge(metric.key(), new AtomicLong(0));
 	}
@@ -9,13 +9,35 @@ public enum SimpleMetric implements Metric {
 
 	NO_TX("notx_created", "Meter which measures the rate of created noTx transactions over time."),
 
+	READ_TX("readtx_created", "Meter which measures the rate of created read-only transactions over time."),
+
 	TX_TIME("tx_time", "Timer which tracks transaction durations."),
 
+	READ_TX_TIME("readtx_time", "Timer which tracks read-only transaction durations."),
+
+	TX_QUEUE_DEPTH("tx_queue_depth", "Amount of transaction handlers which are waiting for a worker of the transaction executor."),
+
+	TX_QUEUE_WAIT("tx_queue_wait", "Timer which tracks how long transaction handlers have been waiting for a worker of the transaction executor."),
+
 	TX_RETRY("tx_retry", "Amount of transaction retries which happen if a conflict has been encountered."),
 
+	TX_CONFLICT("tx_conflict", "Amount of transaction conflicts per call site."),
+
+	TX_RETRIES("tx_retries", "Distribution of the amount of retries per call site for transactions which encountered a conflict."),
+
 	GRAPH_ELEMENT_RELOAD("graph_element_reload", "Meter which tracks the reload operations on used vertices."),
 
-	NODE_MIGRATION_PENDING("node_migration_pending", "Pending contents which need to be processed by the node migration.");
+	NODE_MIGRATION_PENDING("node_migration_pending", "Pending contents which need to be processed by the node migration."),
+
+	BINARY_PARSER_TIME("binary_parser_time", "Timer which tracks the duration of upload parsing per mime type."),
+
+	BINARY_PARSER_TIMEOUT("binary_parser_timeout", "Amount of uploads per mime type for which the parser has been interrupted due to the timeout."),
+
+	BINARY_PARSER_REJECTED("binary_parser_rejected", "Amount of uploads per mime type which have not been parsed since the parser queue was full."),
+
+	JOB_TIME("job_time", "Timer which tracks the duration of jobs per job type."),
+
+	JOB_QUEUE_WAIT("job_queue_wait", "Timer which tracks how long jobs per job type have been waiting in the queue before they were started.");
 
 	private String key;
 
@@ -6,6 +6,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.imageio.ImageIO;
+
 import org.raml.model.ParamType;
 import org.raml.model.parameter.QueryParameter;
 
@@ -60,6 +62,11 @@ public class ImageManipulationParametersImpl extends AbstractParameters implemen
 
 		validateFocalPointParameter();
 
+		String format = getFormat();
+		if (format != null && !ImageIO.getImageWritersByFormatName(format).hasNext()) {
+			throw error(BAD_REQUEST, "image_error_parameter_invalid", FORMAT_QUERY_PARAM_KEY, format);
+		}
+
 	}
 
 	@Override
@@ -136,6 +143,15 @@ public class ImageManipulationParametersImpl extends AbstractParameters implemen
 		resizeParameter.setType(ParamType.STRING);
 		parameters.put(RESIZE_MODE_QUERY_PARAM_KEY, resizeParameter);
 
+		// format
+		QueryParameter formatParameter = new QueryParameter();
+		formatParameter.setDescription(
+			"Set the output format of the image. The format of the original image will be used by default. Formats like webp are only available when an image writer plugin has been installed.");
+		formatParameter.setExample("png");
+		formatParameter.setRequired(false);
+		formatParameter.setType(ParamType.STRING);
+		parameters.put(FORMAT_QUERY_PARAM_KEY, formatParameter);
+
 		return parameters;
 	}
 
@@ -1,12 +1,18 @@
 package com.gentics.mesh.router;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.handler.VersionHandler;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.Router;
@@ -16,6 +22,11 @@ public class APIRouter {
 
 	private static final Logger log = LoggerFactory.getLogger(APIRouter.class);
 
+	/**
+	 * Path of the node import requests (e.g. /api/v2/:project/nodes/import) which are the only requests whose body is read as stream.
+	 */
+	private static final Pattern STREAMED_PATH = Pattern.compile("^/api/v[0-9]+/[^/]+/nodes/import/?$");
+
 	private final ProjectsRouter projectsRouter;
 	private final PluginRouter pluginRouter;
 
@@ -60,6 +71,11 @@ public class APIRouter {
 			// handler will never pass through to the subsequent route handlers.
 			if ("websocket".equalsIgnoreCase(rh.request().getHeader("Upgrade"))) {
 				rh.next();
+			} else if (isStreamed(rh.request())) {
+				// The body of streamed requests is read by the route handler. The request is paused so that no data gets lost until the handler has been
+				// registered.
+				rh.request().pause();
+				rh.next();
 			} else {
 				storage.bodyHandler.handle(rh);
 			}
@@ -69,6 +85,21 @@ public class APIRouter {
 
 	}
 
+	/**
+	 * Check whether the body of the request is read as stream by the route handler instead of being buffered by the body handler. This is only the case for
+	 * newline delimited JSON node import requests.
+	 * 
+	 * @param request
+	 * @return
+	 */
+	private boolean isStreamed(HttpServerRequest request) {
+		if (request.method() != HttpMethod.POST) {
+			return false;
+		}
+		String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+		return contentType != null && contentType.startsWith(APPLICATION_NDJSON) && STREAMED_PATH.matcher(request.path()).matches();
+	}
+
 	/**
 	 * Returns the plugin router which can be used to create routers for plugins.
 	 * 
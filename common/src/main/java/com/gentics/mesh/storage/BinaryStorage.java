@@ -24,6 +24,17 @@ public interface BinaryStorage {
 	 */
 	Completable storeInTemp(String sourceFilePath, String temporaryId);
 
+	/**
+	 * Store a copy of the file in the temporary dir. In contrast to {@link #storeInTemp(String, String)} the source file will not be moved or altered.
+	 * Implementations may avoid copying the data if the storage supports it (e.g. hardlinks). The source file must thus never be modified in place
+	 * afterwards. It may only be replaced or deleted.
+	 * 
+	 * @param sourceFilePath
+	 * @param temporaryId
+	 * @return
+	 */
+	Completable storeCopyInTemp(String sourceFilePath, String temporaryId);
+
 	/**
 	 * Stores the contents of the stream in the temporary location.
 	 * 
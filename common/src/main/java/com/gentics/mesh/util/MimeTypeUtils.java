@@ -1,5 +1,7 @@
 package com.gentics.mesh.util;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import io.vertx.core.http.impl.MimeMapping;
@@ -9,6 +11,14 @@ public class MimeTypeUtils {
 	/** Default MIME type for binary files. */
 	public static final String DEFAULT_BINARY_MIME_TYPE = "application/octet-stream";
 
+	/** MIME types of image formats which are not known by {@link MimeMapping}. */
+	private static final Map<String, String> ADDITIONAL_MIME_TYPES = new HashMap<>();
+
+	static {
+		ADDITIONAL_MIME_TYPES.put("webp", "image/webp");
+		ADDITIONAL_MIME_TYPES.put("avif", "image/avif");
+	}
+
 	/**
 	 * Try to determine the MIME type from the given filename.
 	 *
@@ -20,6 +30,15 @@ public class MimeTypeUtils {
 	 */
 	public static Optional<String> getMimeTypeForFilename(String filename) {
 		return Optional.ofNullable(filename)
-			.map(MimeMapping::getMimeTypeForFilename);
+			.map(name -> {
+				String mimeType = MimeMapping.getMimeTypeForFilename(name);
+				if (mimeType == null) {
+					int idx = name.lastIndexOf('.');
+					if (idx != -1) {
+						mimeType = ADDITIONAL_MIME_TYPES.get(name.substring(idx + 1).toLowerCase());
+					}
+				}
+				return mimeType;
+			});
 	}
 }
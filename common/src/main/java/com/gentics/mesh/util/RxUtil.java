@@ -1,5 +1,7 @@
 package com.gentics.mesh.util;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 import io.reactivex.Completable;
@@ -59,6 +61,42 @@ public final class RxUtil {
 			.doOnCancel(file::close);
 	}
 
+	/**
+	 * Regroup the buffers of the stream into chunks of the given size. Only the last chunk may be smaller. A single empty chunk will be emitted for an
+	 * empty stream. Backpressure of the downstream is passed on to the source stream.
+	 * 
+	 * @param stream
+	 * @param chunkSize
+	 *            Size of the chunks in bytes
+	 * @return
+	 */
+	public static Flowable<Buffer> toChunks(Flowable<Buffer> stream, int chunkSize) {
+		return Flowable.defer(() -> {
+			Buffer[] current = { Buffer.buffer(chunkSize) };
+			boolean[] emitted = { false };
+			return stream.concatMap(buffer -> {
+				List<Buffer> chunks = new ArrayList<>();
+				Buffer chunk = current[0].appendBuffer(buffer);
+				int offset = 0;
+				while (chunk.length() - offset >= chunkSize) {
+					chunks.add(chunk.getBuffer(offset, offset + chunkSize));
+					offset += chunkSize;
+				}
+				if (offset > 0) {
+					current[0] = Buffer.buffer(chunkSize).appendBuffer(chunk.getBuffer(offset, chunk.length()));
+					emitted[0] = true;
+				}
+				return Flowable.fromIterable(chunks);
+			}).concatWith(Flowable.defer(() -> {
+				if (current[0].length() > 0 || !emitted[0]) {
+					return Flowable.just(current[0]);
+				} else {
+					return Flowable.empty();
+				}
+			}));
+		});
+	}
+
 	/**
 	 * Flips a completable. Emits an error when the source has completed, and completes when the source emits an error.
 	 * 
@@ -0,0 +1,63 @@
+package com.gentics.mesh.context.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+public class ChunkedResponseOutputStreamTest {
+
+	@Test
+	public void testSmallResponse() throws IOException {
+		HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+		ChunkedResponseOutputStream out = new ChunkedResponseOutputStream(response, 16);
+		out.write("small".getBytes());
+		assertFalse("The response should not be committed before the chunk size has been reached", out.isCommitted());
+		out.close();
+
+		ArgumentCaptor<Buffer> captor = ArgumentCaptor.forClass(Buffer.class);
+		verify(response).end(captor.capture());
+		verify(response, never()).setChunked(true);
+		assertEquals("small", captor.getValue().toString());
+	}
+
+	@Test
+	public void testChunkedResponse() throws IOException {
+		HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+		ChunkedResponseOutputStream out = new ChunkedResponseOutputStream(response, 4);
+		out.write("12345678".getBytes());
+		out.write("9".getBytes());
+		assertTrue(out.isCommitted());
+		out.close();
+		// Closing the stream a second time must not end the response again
+		out.close();
+
+		verify(response).setChunked(true);
+		verify(response, times(1)).write(any(Buffer.class));
+		ArgumentCaptor<Buffer> captor = ArgumentCaptor.forClass(Buffer.class);
+		verify(response, times(1)).end(captor.capture());
+		assertEquals("9", captor.getValue().toString());
+	}
+
+	@Test(expected = IOException.class)
+	public void testClosedConnection() throws IOException {
+		HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+		when(response.closed()).thenReturn(true);
+		ChunkedResponseOutputStream out = new ChunkedResponseOutputStream(response, 4);
+		out.write("12345678".getBytes());
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.gentics.mesh.event.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.util.Tuple;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+public class MeshEventEnvelopeCodecTest {
+
+	@Test
+	public void testWireRoundtrip() {
+		MeshEventEnvelope envelope = new MeshEventEnvelope();
+		envelope.add("mesh.node.created", new JsonObject().put("uuid", "a"));
+		envelope.add("mesh.node.updated", new JsonObject().put("uuid", "b"));
+		envelope.add("mesh.node.created", new JsonObject().put("uuid", "c"));
+
+		MeshEventEnvelopeCodec codec = new MeshEventEnvelopeCodec();
+		Buffer buffer = Buffer.buffer().appendString("prefix");
+		codec.encodeToWire(buffer, envelope);
+		MeshEventEnvelope decoded = codec.decodeFromWire("prefix".length(), buffer);
+
+		assertTrue("The envelope was created by this instance", envelope.isLocal());
+		assertFalse("Decoded envelopes have been created by another instance", decoded.isLocal());
+		List<Tuple<String, JsonObject>> events = decoded.getEvents();
+		assertEquals(3, events.size());
+		assertEquals("The order of the events must be retained", "mesh.node.updated", events.get(1).v1());
+		assertEquals("c", events.get(2).v2().getString("uuid"));
+	}
+
+	@Test
+	public void testEncodeOnce() {
+		MeshEventEnvelope envelope = new MeshEventEnvelope();
+		envelope.add("mesh.node.created", new JsonObject().put("uuid", "a"));
+		assertSame("The envelope should only be encoded once", envelope.encode(), envelope.encode());
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.gentics.mesh.graphdb.spi;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class RetryBudgetTest {
+
+	@Test
+	public void testBudget() {
+		RetryBudget budget = new RetryBudget(0.5, 2);
+		assertTrue(budget.tryWithdraw());
+		assertTrue(budget.tryWithdraw());
+		assertFalse("The budget should be exhausted", budget.tryWithdraw());
+
+		budget.deposit();
+		assertFalse("Half a retry is not enough", budget.tryWithdraw());
+		budget.deposit();
+		assertTrue(budget.tryWithdraw());
+	}
+
+	@Test
+	public void testCapacity() {
+		RetryBudget budget = new RetryBudget(1, 1);
+		budget.deposit();
+		budget.deposit();
+		assertTrue(budget.tryWithdraw());
+		assertFalse("The balance must not exceed the capacity", budget.tryWithdraw());
+	}
+
+	@Test
+	public void testDisabled() {
+		RetryBudget budget = new RetryBudget(0, 1);
+		for (int i = 0; i < 10; i++) {
+			assertTrue(budget.tryWithdraw());
+		}
+	}
+
+}
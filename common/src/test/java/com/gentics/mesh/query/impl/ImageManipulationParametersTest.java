@@ -162,6 +162,24 @@ public class ImageManipulationParametersTest {
 
 		cacheKey = new ImageManipulationParametersImpl().setWidth(100).setHeight(200).setRect(10, 22, 20, 21).getCacheKey();
 		assertEquals("rect10,22,21,20resizeSMARTrw100rh200fp0.5-0.5", cacheKey);
+
+		cacheKey = new ImageManipulationParametersImpl().setWidth(100).setFormat("PNG").getCacheKey();
+		assertEquals("resizeSMARTrw100fp0.5-0.5formatpng", cacheKey);
+	}
+
+	@Test
+	public void testInvalidFormat() {
+		ImageManipulationParametersImpl request = new ImageManipulationParametersImpl();
+		request.setFormat("png");
+		request.validate();
+
+		request.setFormat("bogus");
+		try {
+			request.validate();
+			fail("The validation should fail since no writer for the format exists");
+		} catch (GenericRestException e) {
+			Assert.assertException(e, BAD_REQUEST, "image_error_parameter_invalid", "format", "bogus");
+		}
 	}
 
 }
@@ -0,0 +1,35 @@
+package com.gentics.mesh.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+
+public class RxUtilTest {
+
+	@Test
+	public void testToChunks() {
+		Flowable<Buffer> stream = Flowable.just(Buffer.buffer("abc"), Buffer.buffer("defgh"), Buffer.buffer("ij"));
+		List<String> chunks = RxUtil.toChunks(stream, 4).map(Buffer::toString).toList().blockingGet();
+		assertThat(chunks).containsExactly("abcd", "efgh", "ij");
+	}
+
+	@Test
+	public void testToChunksExactSize() {
+		Flowable<Buffer> stream = Flowable.just(Buffer.buffer("abcd"), Buffer.buffer("efgh"));
+		List<String> chunks = RxUtil.toChunks(stream, 4).map(Buffer::toString).toList().blockingGet();
+		assertThat(chunks).containsExactly("abcd", "efgh");
+	}
+
+	@Test
+	public void testToChunksEmptyStream() {
+		List<Integer> sizes = RxUtil.toChunks(Flowable.empty(), 4).toList().blockingGet()
+			.stream().map(Buffer::length).collect(Collectors.toList());
+		assertThat(sizes).containsExactly(0);
+	}
+}
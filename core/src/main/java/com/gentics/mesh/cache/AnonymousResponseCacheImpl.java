@@ -0,0 +1,158 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_TAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNTAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_VERSION_PURGE_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * @see AnonymousResponseCache
+ */
+@Singleton
+public class AnonymousResponseCacheImpl extends AbstractMeshCache<String, CachedResponse> implements AnonymousResponseCache {
+
+	private static final Logger log = LoggerFactory.getLogger(AnonymousResponseCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE,
+		NODE_CREATED,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_TAGGED,
+		NODE_UNTAGGED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		NODE_REFERENCE_UPDATED,
+		TAG_UPDATED,
+		TAG_DELETED,
+		TAG_FAMILY_UPDATED,
+		ROLE_PERMISSIONS_CHANGED,
+		ROLE_DELETED,
+		GROUP_ROLE_ASSIGNED,
+		GROUP_ROLE_UNASSIGNED,
+		GROUP_USER_ASSIGNED,
+		GROUP_USER_UNASSIGNED,
+		USER_UPDATED,
+		SCHEMA_UPDATED,
+		SCHEMA_MIGRATION_FINISHED,
+		MICROSCHEMA_UPDATED,
+		MICROSCHEMA_MIGRATION_FINISHED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		BRANCH_MIGRATION_FINISHED,
+		PROJECT_UPDATED,
+		PROJECT_DELETED,
+		PROJECT_VERSION_PURGE_FINISHED };
+
+	private final AtomicLong generation;
+
+	@Inject
+	public AnonymousResponseCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		this(factory, registry, options, new AtomicLong());
+	}
+
+	private AnonymousResponseCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, AtomicLong generation) {
+		super(createCache(factory, options, generation), registry, options.getCacheConfig().getAnonymousResponseCacheSize());
+		this.generation = generation;
+	}
+
+	private static EventAwareCache<String, CachedResponse> createCache(EventAwareCacheFactory factory, MeshOptions options, AtomicLong generation) {
+		return factory.<String, CachedResponse>builder()
+			.events(EVENTS)
+			.action((address, body, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing anonymous responses due to received event from {" + address + "}");
+				}
+				// The generation needs to be changed first. Otherwise a concurrently rendered response could be stored after the invalidation.
+				generation.incrementAndGet();
+				cache.invalidate();
+			})
+			.name("anonymousresponse")
+			.maxSize(options.getCacheConfig().getAnonymousResponseCacheSize())
+			.build();
+	}
+
+	@Override
+	public void clear() {
+		generation.incrementAndGet();
+		super.clear();
+	}
+
+	@Override
+	public String createKey(InternalActionContext ac, String... parts) {
+		if (isDisabled() || !ac.isAnonymous()) {
+			return null;
+		}
+		return String.join("-", parts) + "-" + ac.getApiVersion() + "-" + ac.query();
+	}
+
+	@Override
+	public long generation() {
+		return generation.get();
+	}
+
+	@Override
+	public CachedResponse getResponse(String key) {
+		return get(key);
+	}
+
+	@Override
+	public void storeResponse(long expectedGeneration, String key, CachedResponse response) {
+		if (isDisabled()) {
+			return;
+		}
+		// Concurrent invalidations change the generation. The response may be outdated in this case.
+		if (generation.get() == expectedGeneration) {
+			cache.put(key, response);
+			// Check again since the invalidation may have happened while the response was put
+			if (generation.get() != expectedGeneration) {
+				cache.invalidate(key);
+			}
+		}
+	}
+
+}
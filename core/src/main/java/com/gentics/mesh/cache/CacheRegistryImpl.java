@@ -1,15 +1,18 @@
 package com.gentics.mesh.cache;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import io.vertx.core.json.JsonObject;
+
 @Singleton
 public class CacheRegistryImpl implements CacheRegistry {
 
-	private Set<EventAwareCache<?, ?>> caches = new HashSet<>();
+	// Caches may be registered while events are dispatched
+	private Set<EventAwareCache<?, ?>> caches = ConcurrentHashMap.newKeySet();
 
 	@Inject
 	public CacheRegistryImpl() {
@@ -25,4 +28,11 @@ public class CacheRegistryImpl implements CacheRegistry {
 		caches.forEach(EventAwareCache::invalidate);
 	}
 
+	@Override
+	public void onDispatch(String address, JsonObject body) {
+		for (EventAwareCache<?, ?> cache : caches) {
+			cache.onDispatch(address, body);
+		}
+	}
+
 }
@@ -0,0 +1,152 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_TAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNTAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * @see NavigationCache
+ */
+@Singleton
+public class NavigationCacheImpl extends AbstractMeshCache<String, CachedNavigation> implements NavigationCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NavigationCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE,
+		NODE_CREATED,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_TAGGED,
+		NODE_UNTAGGED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		NODE_REFERENCE_UPDATED,
+		TAG_UPDATED,
+		TAG_DELETED,
+		ROLE_PERMISSIONS_CHANGED,
+		SCHEMA_UPDATED,
+		SCHEMA_MIGRATION_FINISHED,
+		BRANCH_UPDATED,
+		PROJECT_UPDATED };
+
+	private final AtomicLong generation;
+
+	@Inject
+	public NavigationCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		this(factory, registry, options, new AtomicLong());
+	}
+
+	private NavigationCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, AtomicLong generation) {
+		super(createCache(factory, options, generation), registry, options.getCacheConfig().getNavigationCacheSize());
+		this.generation = generation;
+	}
+
+	private static EventAwareCache<String, CachedNavigation> createCache(EventAwareCacheFactory factory, MeshOptions options, AtomicLong generation) {
+		return factory.<String, CachedNavigation>builder()
+			.events(EVENTS)
+			.action((address, body, cache) -> {
+				// The generation needs to be changed first. Otherwise a concurrently computed entry could be stored after the invalidation.
+				generation.incrementAndGet();
+				invalidate(address, body, cache);
+			})
+			.index(CachedNavigation::getNodeUuids)
+			.name("navigation")
+			.maxSize(options.getCacheConfig().getNavigationCacheSize())
+			.build();
+	}
+
+	/**
+	 * Invalidate the entries which are affected by the event.
+	 *
+	 * @param address
+	 * @param body
+	 * @param cache
+	 */
+	private static void invalidate(String address, JsonObject body, EventAwareCache<String, CachedNavigation> cache) {
+		if (body == null || !address.startsWith("mesh.node")) {
+			// Permissions, tags, schemas, branches and projects may affect any navigation
+			cache.invalidate();
+			return;
+		}
+		String nodeUuid = body.getString("uuid");
+		String branchUuid = body.getString("branchUuid");
+		if (nodeUuid == null || NODE_CREATED.address.equals(address) || NODE_MOVED.address.equals(address)) {
+			// The new parent of the node is not part of the event. All navigations of the branch may contain the parent.
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing navigations of branch {" + branchUuid + "} due to received event from {" + address + "}");
+			}
+			cache.invalidate((key, entry) -> branchUuid == null || entry.getBranchUuid().equals(branchUuid));
+			return;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Clearing navigations which contain node {" + nodeUuid + "} due to received event from {" + address + "}");
+		}
+		// The entries are indexed by the uuids of the nodes they depend on
+		cache.invalidateIndexed(nodeUuid, (key, entry) -> branchUuid == null || entry.getBranchUuid().equals(branchUuid));
+	}
+
+	@Override
+	public void clear() {
+		generation.incrementAndGet();
+		super.clear();
+	}
+
+	@Override
+	public long generation() {
+		return generation.get();
+	}
+
+	@Override
+	public CachedNavigation getNavigation(String key) {
+		return get(key);
+	}
+
+	@Override
+	public void storeNavigation(long expectedGeneration, String key, CachedNavigation navigation) {
+		if (isDisabled()) {
+			return;
+		}
+		// Concurrent invalidations change the generation. The entry may be outdated in this case.
+		if (generation.get() == expectedGeneration) {
+			cache.put(key, navigation);
+			// Check again since the invalidation may have happened while the entry was put
+			if (generation.get() != expectedGeneration) {
+				cache.invalidate(key);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,164 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * @see NodePathCache
+ */
+@Singleton
+public class NodePathCacheImpl extends AbstractMeshCache<String, CachedNodePath> implements NodePathCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NodePathCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		BRANCH_UPDATED,
+		SCHEMA_MIGRATION_FINISHED };
+
+	private static final String ANCESTORS_KEY = "ancestors";
+
+	private final AtomicLong generation;
+
+	@Inject
+	public NodePathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		this(factory, registry, options, new AtomicLong());
+	}
+
+	private NodePathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, AtomicLong generation) {
+		super(createCache(factory, options, generation), registry, options.getCacheConfig().getNodePathCacheSize());
+		this.generation = generation;
+	}
+
+	private static EventAwareCache<String, CachedNodePath> createCache(EventAwareCacheFactory factory, MeshOptions options, AtomicLong generation) {
+		return factory.<String, CachedNodePath>builder()
+			.events(EVENTS)
+			.action((address, body, cache) -> {
+				// The generation needs to be changed first. Otherwise a concurrently loaded entry could be stored after the invalidation.
+				generation.incrementAndGet();
+				invalidate(address, body, cache);
+			})
+			.index(CachedNodePath::getAncestorUuids)
+			.name("nodepath")
+			.maxSize(options.getCacheConfig().getNodePathCacheSize())
+			.build();
+	}
+
+	/**
+	 * Invalidate the entries which are affected by the event. A change of a node affects the entries of the node and of all nodes in its subtree.
+	 *
+	 * @param address
+	 * @param body
+	 * @param cache
+	 */
+	private static void invalidate(String address, JsonObject body, EventAwareCache<String, CachedNodePath> cache) {
+		if (body == null || CLEAR_PATH_STORE.address.equals(address) || SCHEMA_MIGRATION_FINISHED.address.equals(address)) {
+			cache.invalidate();
+			return;
+		}
+		if (BRANCH_UPDATED.address.equals(address)) {
+			// The path prefix of the branch may have been changed
+			String branchUuid = body.getString("uuid");
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing node paths of branch {" + branchUuid + "}");
+			}
+			cache.invalidate((key, entry) -> entry.getBranchUuid().equals(branchUuid));
+			return;
+		}
+		String nodeUuid = body.getString("uuid");
+		String branchUuid = body.getString("branchUuid");
+		if (nodeUuid == null) {
+			cache.invalidate();
+			return;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Clearing node paths of subtree {" + nodeUuid + "} due to received event from {" + address + "}");
+		}
+		// The entries are indexed by the uuids of the node and its ancestors. Only the entries of the subtree need to be checked.
+		cache.invalidateIndexed(nodeUuid, (key, entry) -> branchUuid == null || entry.getBranchUuid().equals(branchUuid));
+	}
+
+	@Override
+	public void clear() {
+		generation.incrementAndGet();
+		super.clear();
+	}
+
+	@Override
+	public long generation() {
+		return generation.get();
+	}
+
+	@Override
+	public CachedNodePath getPath(String nodeUuid, String branchUuid, ContainerType type, String... languageTags) {
+		return get(createPathKey(nodeUuid, branchUuid, type, languageTags));
+	}
+
+	@Override
+	public void storePath(long generation, String nodeUuid, ContainerType type, String[] languageTags, CachedNodePath path) {
+		store(generation, createPathKey(nodeUuid, path.getBranchUuid(), type, languageTags), path);
+	}
+
+	@Override
+	public CachedNodePath getAncestors(String nodeUuid, String branchUuid) {
+		return get(createAncestorsKey(nodeUuid, branchUuid));
+	}
+
+	@Override
+	public void storeAncestors(long generation, String nodeUuid, CachedNodePath ancestors) {
+		store(generation, createAncestorsKey(nodeUuid, ancestors.getBranchUuid()), ancestors);
+	}
+
+	private void store(long expectedGeneration, String key, CachedNodePath entry) {
+		if (isDisabled()) {
+			return;
+		}
+		// Concurrent invalidations change the generation. The entry may be outdated in this case.
+		if (generation.get() == expectedGeneration) {
+			cache.put(key, entry);
+			// Check again since the invalidation may have happened while the entry was put
+			if (generation.get() != expectedGeneration) {
+				cache.invalidate(key);
+			}
+		}
+	}
+
+	private String createPathKey(String nodeUuid, String branchUuid, ContainerType type, String... languageTags) {
+		return nodeUuid + "-" + branchUuid + "-" + type.getCode() + "-" + Arrays.toString(languageTags);
+	}
+
+	private String createAncestorsKey(String nodeUuid, String branchUuid) {
+		return nodeUuid + "-" + branchUuid + "-" + ANCESTORS_KEY;
+	}
+
+}
@@ -39,9 +39,9 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 	private static EventAwareCache<String, Boolean> createCache(EventAwareCacheFactory factory) {
 		return factory.<String, Boolean>builder()
 			.events(CLEAR_PERMISSION_STORE)
-			.action((event, cache) -> {
+			.action((address, body, cache) -> {
 				if (log.isDebugEnabled()) {
-					log.debug("Clearing permission store due to received event from {" + event.address() + "}");
+					log.debug("Clearing permission store due to received event from {" + address + "}");
 				}
 				cache.invalidate();
 			})
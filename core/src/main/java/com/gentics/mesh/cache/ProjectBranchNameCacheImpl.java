@@ -25,7 +25,7 @@ public class ProjectBranchNameCacheImpl extends AbstractMeshCache<String, Branch
 	private static EventAwareCache<String, Branch> createCache(EventAwareCacheFactory factory) {
 		return factory.<String, Branch>builder()
 			.events(BRANCH_UPDATED, BRANCH_CREATED, BRANCH_DELETED)
-			.action((event, cache) -> {
+			.action((address, body, cache) -> {
 				cache.invalidate();
 			})
 			.maxSize(CACHE_SIZE)
@@ -24,8 +24,8 @@ public class ProjectNameCacheImpl extends AbstractMeshCache<String, Project> imp
 	private static EventAwareCache<String, Project> createCache(EventAwareCacheFactory factory) {
 		return factory.<String, Project>builder()
 			.events(PROJECT_DELETED, PROJECT_UPDATED)
-			.action((event, cache) -> {
-				String name = event.body().getString("name");
+			.action((address, body, cache) -> {
+				String name = body.getString("name");
 				if (name != null) {
 					cache.invalidate(name);
 				} else {
@@ -53,9 +53,9 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 	private static EventAwareCache<String, Path> createCache(EventAwareCacheFactory factory, CacheConfig config) {
 		return factory.<String, Path>builder()
 			.events(EVENTS)
-			.action((event, cache) -> {
+			.action((address, body, cache) -> {
 				if (log.isDebugEnabled()) {
-					log.debug("Clearing path store due to received event from {" + event.address() + "}");
+					log.debug("Clearing path store due to received event from {" + address + "}");
 				}
 				cache.invalidate();
 			})
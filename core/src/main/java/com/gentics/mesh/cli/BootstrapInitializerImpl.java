@@ -88,6 +88,7 @@ import com.gentics.mesh.etc.config.DebugInfoOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.MonitoringConfig;
+import com.gentics.mesh.event.impl.MeshEventEnvelope;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.plugin.manager.MeshPluginManager;
 import com.gentics.mesh.router.RouterStorageRegistry;
@@ -491,6 +492,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		} else {
 			log.warn("Current environment does not support native transports");
 		}
+		MeshEventEnvelope.register(vertx);
 
 		this.vertx = vertx;
 	}
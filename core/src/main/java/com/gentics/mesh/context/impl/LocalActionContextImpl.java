@@ -199,6 +199,15 @@ public class LocalActionContextImpl<T> extends AbstractInternalActionContext imp
 		});
 	}
 
+	/**
+	 * Set the project that will be used to invoke project scope specific actions.
+	 * 
+	 * @param project
+	 */
+	public void setProject(Project project) {
+		this.project = project;
+	}
+
 	@Override
 	public Set<FileUpload> getFileUploads() {
 		return fileUploads;
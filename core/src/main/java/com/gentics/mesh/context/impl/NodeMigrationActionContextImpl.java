@@ -73,7 +73,7 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 	private Map<String, Object> data;
 
-	private Set<ConflictWarning> conflicts = new HashSet<>();
+	private Set<ConflictWarning> conflicts = Collections.synchronizedSet(new HashSet<>());
 
 	private MultiMap parameters = MultiMap.caseInsensitiveMultiMap();
 
@@ -899,6 +899,26 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 		return status;
 	}
 
+	/**
+	 * Create a copy of the context which shares the migration settings and the encountered conflicts with this context. The parameters of the copy can be
+	 * modified independently which allows the copy to be used by a different migration worker.
+	 *
+	 * @return Copy of the context
+	 */
+	public NodeMigrationActionContextImpl copy() {
+		NodeMigrationActionContextImpl copy = new NodeMigrationActionContextImpl();
+		copy.conflicts = conflicts;
+		copy.body = body;
+		copy.query = query;
+		copy.project = project;
+		copy.branch = branch;
+		copy.cause = cause;
+		copy.fromContainerVersion = fromContainerVersion;
+		copy.toContainerVersion = toContainerVersion;
+		copy.status = status;
+		return copy;
+	}
+
 	@Override
 	public void validate() {
 		Objects.requireNonNull(fromContainerVersion, "The source schema reference is missing in the context.");
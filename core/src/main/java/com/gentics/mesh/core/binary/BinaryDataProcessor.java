@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.binary;
 
+import java.io.InputStream;
+import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
@@ -30,4 +32,29 @@ public interface BinaryDataProcessor {
 	 */
 	Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, String hash);
 
+	/**
+	 * Check whether the processing of the content type should be deferred until the upload has been stored. The result of deferred processors will be
+	 * written to the binary field once the processing has finished.
+	 * 
+	 * @param contentType
+	 * @return
+	 */
+	default boolean isDeferred(String contentType) {
+		return false;
+	}
+
+	/**
+	 * Process already stored binary data and return a consumer for the binary field. This is used for deferred processing.
+	 * 
+	 * @param data
+	 *            Supplier for the binary data stream
+	 * @param size
+	 *            Size of the binary data in bytes
+	 * @param contentType
+	 * @return Modifier for the binary graph field.
+	 */
+	default Maybe<Consumer<BinaryGraphField>> process(Callable<InputStream> data, long size, String contentType) {
+		return Maybe.empty();
+	}
+
 }
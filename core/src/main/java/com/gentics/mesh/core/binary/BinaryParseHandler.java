@@ -0,0 +1,175 @@
+package com.gentics.mesh.core.binary;
+
+import static com.gentics.mesh.core.data.binary.BinaryParserState.PENDING;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.GraphFieldContainer;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.binary.BinaryRoot;
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.storage.BinaryStorage;
+
+import dagger.Lazy;
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Handler which parses the binaries that have been marked as pending because the parser was not able to accept them during the upload. The result of the
+ * processors will be written to all binary fields which reference the binary and the affected contents will be updated in the search index.
+ */
+@Singleton
+public class BinaryParseHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(BinaryParseHandler.class);
+
+	private final Database db;
+
+	private final Lazy<BootstrapInitializer> boot;
+
+	private final BinaryProcessorRegistry binaryProcessorRegistry;
+
+	private final BinaryStorage binaryStorage;
+
+	private final Provider<EventQueueBatch> batchProvider;
+
+	@Inject
+	public BinaryParseHandler(Database db, Lazy<BootstrapInitializer> boot, BinaryProcessorRegistry binaryProcessorRegistry, BinaryStorage binaryStorage,
+		Provider<EventQueueBatch> batchProvider) {
+		this.db = db;
+		this.boot = boot;
+		this.binaryProcessorRegistry = binaryProcessorRegistry;
+		this.binaryStorage = binaryStorage;
+		this.batchProvider = batchProvider;
+	}
+
+	/**
+	 * Parse all binaries which are marked as pending. The binaries are parsed one after another. Binaries which can't be accepted by the parser will be
+	 * marked as pending again and handled by the next job.
+	 *
+	 * @return Number of processed binaries
+	 */
+	public Single<Long> parsePending() {
+		return Single.defer(() -> {
+			List<String> hashes = db.tx(() -> {
+				List<String> list = new ArrayList<>();
+				Iterator<? extends Binary> it = getBinaryRoot().findByParserState(PENDING);
+				while (it.hasNext()) {
+					list.add(it.next().getSHA512Sum());
+				}
+				return list;
+			});
+			log.info("Found {" + hashes.size() + "} binaries which need to be parsed.");
+			return Observable.fromIterable(hashes)
+				.concatMapCompletable(this::parse)
+				.toSingleDefault((long) hashes.size());
+		});
+	}
+
+	private Completable parse(String hash) {
+		return Completable.defer(() -> {
+			PendingBinary pending = db.tx(() -> {
+				Binary binary = getBinaryRoot().findByHash(hash);
+				if (binary == null || binary.getParserState() != PENDING) {
+					return null;
+				}
+				BinaryGraphField field = binary.findFields().nextOrNull();
+				String contentType = field == null ? null : field.getMimeType();
+				return new PendingBinary(binary.getUuid(), binary.getSize(), contentType);
+			});
+			if (pending == null) {
+				return Completable.complete();
+			}
+			if (pending.contentType == null) {
+				return Completable.fromAction(() -> apply(hash, new ArrayList<>()));
+			}
+
+			List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(pending.contentType);
+			return Observable.fromIterable(processors)
+				.concatMapMaybe(p -> p.process(() -> binaryStorage.openBlockingStream(pending.uuid), pending.size, pending.contentType))
+				.toList()
+				.flatMapCompletable(modifiers -> Completable.fromAction(() -> apply(hash, modifiers)));
+		}).doOnError(e -> {
+			log.error("Parsing of binary with hash {" + hash + "} failed", e);
+		}).onErrorComplete();
+	}
+
+	/**
+	 * Clear the pending state of the binary and apply the modifiers to all fields which reference the binary. The modifiers may mark the binary as pending
+	 * again.
+	 *
+	 * @param hash
+	 * @param modifiers
+	 */
+	private void apply(String hash, List<Consumer<BinaryGraphField>> modifiers) {
+		EventQueueBatch batch = batchProvider.get();
+		db.tx(() -> {
+			Binary binary = getBinaryRoot().findByHash(hash);
+			if (binary == null) {
+				return;
+			}
+			binary.setParserState(null);
+			Set<NodeGraphFieldContainer> containers = new LinkedHashSet<>();
+			for (BinaryGraphField field : binary.findFields()) {
+				for (Consumer<BinaryGraphField> modifier : modifiers) {
+					modifier.accept(field);
+				}
+				GraphFieldContainer container = field.outV().nextOrDefault(GraphFieldContainer.class, null);
+				if (container != null) {
+					container.getContents().forEach(containers::add);
+				}
+			}
+			for (NodeGraphFieldContainer container : containers) {
+				for (ContainerType type : Arrays.asList(DRAFT, PUBLISHED)) {
+					for (String branchUuid : container.getBranches(type)) {
+						batch.add(container.onUpdated(branchUuid, type));
+					}
+				}
+			}
+		});
+		batch.dispatch();
+	}
+
+	private BinaryRoot getBinaryRoot() {
+		return boot.get().meshRoot().getBinaryRoot();
+	}
+
+	/**
+	 * Information about a pending binary which is needed to invoke the processors outside of the transaction.
+	 */
+	private static class PendingBinary {
+
+		private final String uuid;
+
+		private final long size;
+
+		private final String contentType;
+
+		PendingBinary(String uuid, long size, String contentType) {
+			this.uuid = uuid;
+			this.size = size;
+			this.contentType = contentType;
+		}
+	}
+
+}
@@ -1,13 +1,24 @@
 package com.gentics.mesh.core.binary.impl;
 
+import static com.gentics.mesh.metric.SimpleMetric.BINARY_PARSER_REJECTED;
+import static com.gentics.mesh.metric.SimpleMetric.BINARY_PARSER_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.BINARY_PARSER_TIMEOUT;
+
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import javax.inject.Inject;
@@ -17,15 +28,22 @@ import org.apache.commons.collections4.map.HashedMap;
 import org.apache.tika.exception.TikaException;
 import org.apache.tika.metadata.Metadata;
 
+import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.binary.AbstractBinaryProcessor;
 import com.gentics.mesh.core.binary.DocumentTikaParser;
+import com.gentics.mesh.core.data.binary.BinaryParserState;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.node.field.binary.Location;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.MeshUploadOptions;
+import com.gentics.mesh.metric.MetricsService;
 
 import dagger.Lazy;
+import io.micrometer.core.instrument.Tags;
 import io.reactivex.Maybe;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.FileUpload;
@@ -44,17 +62,32 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 
 	private final Lazy<Vertx> vertx;
 
+	private final Lazy<BootstrapInitializer> boot;
+
 	private final MeshOptions options;
 
+	private final MetricsService metrics;
+
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private volatile WorkerExecutor workerPool;
+
 	/**
 	 * Default limit for non-document binaries
 	 */
 	private static final int DEFAULT_NON_DOC_TIKA_PARSE_LIMIT = 0;
 
+	/**
+	 * Delay in milliseconds after which the binary parse job will be triggered for uploads which could not be queued.
+	 */
+	private static final long PARSE_JOB_DELAY = 10_000;
+
 	@Inject
-	public TikaBinaryProcessor(Lazy<Vertx> vertx, MeshOptions options) {
+	public TikaBinaryProcessor(Lazy<Vertx> vertx, Lazy<BootstrapInitializer> boot, MeshOptions options, MetricsService metrics) {
 		this.vertx = vertx;
+		this.boot = boot;
 		this.options = options;
+		this.metrics = metrics;
 
 		// document
 		acceptedDocumentTypes.add("text/plain");
@@ -107,42 +140,231 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 		return accepted;
 	}
 
+	/**
+	 * Only the text extraction of documents is deferred. The metadata of other accepted types is parsed without a content limit and is thus available
+	 * right away.
+	 */
+	@Override
+	public boolean isDeferred(String contentType) {
+		return options.getUploadOptions().isParserAsync() && isDocument(contentType);
+	}
+
 	@Override
 	public Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, String hash) {
-		Maybe<Consumer<BinaryGraphField>> result = Maybe.create(sub -> {
-			File uploadFile = new File(upload.uploadedFileName());
-			if (log.isDebugEnabled()) {
-				log.debug("Parsing file {" + uploadFile + "}");
-			}
+		File uploadFile = new File(upload.uploadedFileName());
+		return process(() -> new FileInputStream(uploadFile), upload.size(), upload.contentType());
+	}
 
-			int len = getParserLimit(upload.contentType());
-			if (log.isDebugEnabled()) {
-				log.debug("Using parser limit of {" + len + "}");
-			}
+	/**
+	 * Parse the data using the dedicated parser worker pool. The parser will be interrupted once the configured timeout has been reached. Uploads which
+	 * exceed the file size limit or the timeout will be marked as {@link BinaryParserState#SKIPPED}. Uploads which can't be queued will be marked as
+	 * {@link BinaryParserState#PENDING} and will be parsed again by the binary parse job.
+	 * 
+	 * @param data
+	 * @param size
+	 * @param contentType
+	 * @return
+	 */
+	@Override
+	public Maybe<Consumer<BinaryGraphField>> process(Callable<InputStream> data, long size, String contentType) {
+		MeshUploadOptions uploadOptions = options.getUploadOptions();
+		Tags tags = Tags.of("mime_type", getMimeType(contentType));
 
-			try (FileInputStream ins = new FileInputStream(uploadFile)) {
-				TikaResult pr = parseFile(ins, len);
+		if (size > uploadOptions.getParserFileSizeLimit()) {
+			log.info("Skipping parsing of upload with {" + size + "} bytes since it exceeds the parser file size limit.");
+			return Maybe.just(markAs(BinaryParserState.SKIPPED));
+		}
+
+		return Maybe.defer(() -> {
+			// Tasks are only removed from the queue once their worker has finished. Tasks which exceeded the timeout but whose parser does not react to the
+			// interrupt thus still occupy the queue.
+			if (pending.incrementAndGet() > uploadOptions.getParserQueueSize()) {
+				pending.decrementAndGet();
+				log.warn("Parser queue is full. Deferring parsing of upload with content type {" + contentType + "}");
+				metrics.counter(BINARY_PARSER_REJECTED, tags).increment();
+				scheduleParseJob();
+				return Maybe.just(markPending());
+			}
 
-				Consumer<BinaryGraphField> consumer = field -> {
-					pr.getMetadata().forEach((e, k) -> {
-						field.setMetadata(e, k);
-					});
-					if (pr.getPlainText().isPresent()) {
-						field.setPlainText(pr.getPlainText().get());
+			ParserTask task = new ParserTask();
+			Maybe<TikaResult> result = Maybe.create(sub -> {
+				sub.setCancellable(task::cancel);
+				getWorkerPool().<TikaResult>executeBlocking(bh -> {
+					try {
+						if (!task.start()) {
+							bh.fail(new CancellationException("Parsing has been cancelled before it was started."));
+							return;
+						}
+						int len = getParserLimit(contentType);
+						if (log.isDebugEnabled()) {
+							log.debug("Using parser limit of {" + len + "}");
+						}
+						long start = System.nanoTime();
+						try (InputStream ins = new CancellableInputStream(data.call(), task)) {
+							bh.complete(parseFile(ins, len));
+						} finally {
+							metrics.timer(BINARY_PARSER_TIME, tags).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+						}
+					} catch (Exception e) {
+						bh.fail(e);
+					} finally {
+						task.finish();
+						pending.decrementAndGet();
 					}
-					if (pr.getLoc().isPresent()) {
-						field.setLocation(pr.getLoc());
+				}, false, rh -> {
+					if (rh.failed()) {
+						sub.onError(rh.cause());
+					} else {
+						sub.onSuccess(rh.result());
 					}
-				};
-				sub.onSuccess(consumer);
-			} catch (Exception e) {
-				log.warn("Tika processing of upload failed", e);
-				sub.onError(e);
-			}
+				});
+			});
+
+			return result
+				.timeout(uploadOptions.getParserTimeout(), TimeUnit.MILLISECONDS)
+				.map(this::toConsumer)
+				.onErrorResumeNext(e -> {
+					if (e instanceof TimeoutException) {
+						log.warn("Parsing of upload with content type {" + contentType + "} exceeded the timeout. Interrupting parser.");
+						metrics.counter(BINARY_PARSER_TIMEOUT, tags).increment();
+						return Maybe.just(markAs(BinaryParserState.SKIPPED));
+					} else {
+						log.warn("Tika processing of upload failed", e);
+						return Maybe.empty();
+					}
+				})
+				.observeOn(RxHelper.blockingScheduler(vertx.get(), false));
+		});
+	}
+
+	private Consumer<BinaryGraphField> markAs(BinaryParserState state) {
+		return field -> {
+			field.getBinary().setParserState(state);
+		};
+	}
+
+	/**
+	 * Return a modifier which marks the binary as pending and enqueues the binary parse job. The modifier is applied within the transaction which stores
+	 * the field and thus the job will only be visible once the field has been stored.
+	 */
+	private Consumer<BinaryGraphField> markPending() {
+		return field -> {
+			field.getBinary().setParserState(BinaryParserState.PENDING);
+			boot.get().jobRoot().enqueueBinaryParse();
+		};
+	}
+
+	/**
+	 * Trigger the job worker once the retry delay has passed. The delay ensures that the queue had some time to drain and that the transaction which
+	 * enqueued the job has been committed.
+	 */
+	private void scheduleParseJob() {
+		vertx.get().setTimer(PARSE_JOB_DELAY, id -> {
+			MeshEvent.triggerJobWorker(boot.get().mesh());
 		});
+	}
+
+	private Consumer<BinaryGraphField> toConsumer(TikaResult pr) {
+		return field -> {
+			pr.getMetadata().forEach((e, k) -> {
+				field.setMetadata(e, k);
+			});
+			if (pr.getPlainText().isPresent()) {
+				field.setPlainText(pr.getPlainText().get());
+			}
+			if (pr.getLoc().isPresent()) {
+				field.setLocation(pr.getLoc());
+			}
+		};
+	}
+
+	private WorkerExecutor getWorkerPool() {
+		if (workerPool == null) {
+			synchronized (this) {
+				if (workerPool == null) {
+					int poolSize = options.getUploadOptions().getParserWorkers();
+					workerPool = vertx.get().createSharedWorkerExecutor("tikaParserWorker", poolSize);
+				}
+			}
+		}
+		return workerPool;
+	}
+
+	private static String getMimeType(String contentType) {
+		int idx = contentType.indexOf(';');
+		return idx == -1 ? contentType.trim() : contentType.substring(0, idx).trim();
+	}
+
+	/**
+	 * Stream which fails once the parser task has been cancelled. This stops parsers which don't react to the thread interrupt at the next read.
+	 */
+	private static class CancellableInputStream extends FilterInputStream {
 
-		return result.observeOn(RxHelper.blockingScheduler(vertx.get(), false)).onErrorComplete();
+		private final ParserTask task;
 
+		CancellableInputStream(InputStream in, ParserTask task) {
+			super(in);
+			this.task = task;
+		}
+
+		@Override
+		public int read() throws IOException {
+			checkCancelled();
+			return super.read();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			checkCancelled();
+			return super.read(b, off, len);
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			checkCancelled();
+			return super.skip(n);
+		}
+
+		private void checkCancelled() throws IOException {
+			if (task.isCancelled()) {
+				throw new InterruptedIOException("Parsing has been cancelled.");
+			}
+		}
+	}
+
+	/**
+	 * State of a single parser task. Allows interrupting the parser thread without leaking the interrupt to the next task of the worker thread.
+	 */
+	private static class ParserTask {
+
+		private Thread worker;
+
+		private boolean cancelled = false;
+
+		synchronized boolean start() {
+			if (cancelled) {
+				return false;
+			}
+			worker = Thread.currentThread();
+			return true;
+		}
+
+		synchronized void finish() {
+			worker = null;
+			// Clear a potential interrupt which was triggered by a cancel call
+			Thread.interrupted();
+		}
+
+		synchronized boolean isCancelled() {
+			return cancelled;
+		}
+
+		synchronized void cancel() {
+			cancelled = true;
+			if (worker != null) {
+				worker.interrupt();
+			}
+		}
 	}
 
 	public TikaResult parseFile(InputStream ins, int len) throws TikaException, IOException {
@@ -196,11 +418,14 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 
 	}
 
-	public int getParserLimit(String contentType) {
-		boolean isDocument = acceptedDocumentTypes.stream().anyMatch(type -> {
+	private boolean isDocument(String contentType) {
+		return acceptedDocumentTypes.stream().anyMatch(type -> {
 			return contentType.startsWith(type);
 		});
-		if (isDocument && options.getUploadOptions() != null) {
+	}
+
+	public int getParserLimit(String contentType) {
+		if (isDocument(contentType) && options.getUploadOptions() != null) {
 			return options.getUploadOptions().getParserLimit();
 		} else {
 			return DEFAULT_NON_DOC_TIKA_PARSE_LIMIT;
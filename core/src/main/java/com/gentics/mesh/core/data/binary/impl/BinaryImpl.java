@@ -26,6 +26,8 @@ import io.vertx.core.buffer.Buffer;
  */
 public class BinaryImpl extends MeshVertexImpl implements Binary {
 
+	public static final String PARSER_STATE_INDEX_NAME = "binaryParserStateIndex";
+
 	private static final Base64.Encoder BASE64 = Base64.getEncoder();
 
 	public static void init(TypeHandler type, IndexHandler index) {
@@ -33,6 +35,9 @@ public class BinaryImpl extends MeshVertexImpl implements Binary {
 		index.createIndex(vertexIndex(BinaryImpl.class)
 			.withField(Binary.SHA512SUM_KEY, FieldType.STRING)
 			.unique());
+		index.createIndex(vertexIndex(BinaryImpl.class)
+			.withName(PARSER_STATE_INDEX_NAME)
+			.withField(Binary.BINARY_PARSER_STATE_PROPERTY_KEY, FieldType.STRING));
 	}
 
 	@Override
@@ -9,6 +9,7 @@ import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.binary.BinaryParserState;
 import com.gentics.mesh.core.data.binary.BinaryRoot;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.graphdb.spi.Database;
@@ -63,4 +64,12 @@ public class BinaryRootImpl extends MeshVertexImpl implements BinaryRoot {
 		return null;
 	}
 
+	@Override
+	public Iterator<? extends Binary> findByParserState(BinaryParserState state) {
+		FramedGraph graph = Tx.get().getGraph();
+		Iterator<Vertex> it = database().getVertices(getPersistanceClass(), new String[] { Binary.BINARY_PARSER_STATE_PROPERTY_KEY },
+			new String[] { state.name() });
+		return graph.frameExplicit(it, getPersistanceClass());
+	}
+
 }
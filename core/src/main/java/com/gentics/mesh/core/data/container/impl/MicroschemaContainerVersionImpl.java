@@ -30,7 +30,6 @@ import com.gentics.mesh.core.data.schema.impl.AbstractGraphFieldSchemaContainerV
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.event.MeshElementEventModel;
 import com.gentics.mesh.core.rest.microschema.MicroschemaModel;
-import com.gentics.mesh.core.rest.microschema.impl.MicroschemaModelImpl;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaResponse;
 import com.gentics.mesh.core.rest.schema.MicroschemaReference;
 import com.gentics.mesh.core.rest.schema.impl.MicroschemaReferenceImpl;
@@ -87,18 +86,14 @@ public class MicroschemaContainerVersionImpl extends
 
 	@Override
 	public MicroschemaModel getSchema() {
-		MicroschemaModel microschema = mesh().serverSchemaStorage().getMicroschema(getName(), getVersion());
-		if (microschema == null) {
-			microschema = JsonUtil.readValue(getJson(), MicroschemaModelImpl.class);
-			mesh().serverSchemaStorage().addMicroschema(microschema);
-		}
-		return microschema;
+		return mesh().serverSchemaStorage().getPreparedMicroschema(this).getSchema();
 	}
 
 	@Override
 	public void setSchema(MicroschemaModel microschema) {
 		mesh().serverSchemaStorage().removeMicroschema(microschema.getName(), microschema.getVersion());
 		mesh().serverSchemaStorage().addMicroschema(microschema);
+		mesh().serverSchemaStorage().removePrepared(getUuid());
 		String json = microschema.toJson();
 		setJson(json);
 		property(VERSION_PROPERTY_KEY, microschema.getVersion());
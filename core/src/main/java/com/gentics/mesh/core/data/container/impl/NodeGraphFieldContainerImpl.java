@@ -110,6 +110,8 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	public static final String EDITOR_UUID_PROPERTY_KEY = "editor";
 
+	public static final String ETAG_PROPERTY_KEY = "etag";
+
 	// Cached instance of the parent node.
 	private Node parentNodeRef;
 
@@ -221,6 +223,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 		updateWebrootPathInfo(ac, branchUuid, "node_conflicting_segmentfield_update");
 		updateDisplayFieldValue();
+		updateETag();
 	}
 
 	@Override
@@ -644,6 +647,30 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public String getETag(InternalActionContext ac) {
+		String etag = property(ETAG_PROPERTY_KEY);
+		if (etag == null) {
+			// The etag is not stored for containers which were not updated since the property was introduced or whose references were removed
+			etag = computeETag();
+		}
+		return etag;
+	}
+
+	@Override
+	public void updateETag() {
+		property(ETAG_PROPERTY_KEY, computeETag());
+	}
+
+	@Override
+	public void resetETag() {
+		property(ETAG_PROPERTY_KEY, null);
+	}
+
+	/**
+	 * Compute the etag from the uuid of the container and the uuids of the referenced nodes.
+	 *
+	 * @return
+	 */
+	private String computeETag() {
 		Stream<String> referencedUuids = StreamSupport.stream(getReferencedNodes().spliterator(), false)
 			.map(Node::getUuid);
 
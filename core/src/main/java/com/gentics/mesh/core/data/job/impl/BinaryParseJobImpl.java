@@ -0,0 +1,58 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.core.binary.BinaryParseHandler;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+
+import io.reactivex.Completable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which parses the binaries that could not be parsed during the upload.
+ */
+public class BinaryParseJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(BinaryParseJobImpl.class);
+
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(BinaryParseJobImpl.class, MeshVertexImpl.class);
+	}
+
+	/**
+	 * The job only updates the binary fields of existing contents. Binary parse jobs must not run concurrently.
+	 */
+	@Override
+	public List<String> getLockScope() {
+		return Collections.singletonList("binaryparse");
+	}
+
+	@Override
+	protected Completable processTask() {
+		BinaryParseHandler handler = mesh().binaryParseHandler();
+		return handler.parsePending()
+			.doOnSuccess(count -> {
+				db().tx(() -> {
+					setCompletionCount(count);
+					setStopTimestamp();
+					setStatus(COMPLETED);
+					log.info("Binary parse job {" + getUuid() + "} completed. Parsed {" + count + "} binaries.");
+				});
+			}).ignoreElement().doOnError(error -> {
+				db().tx(() -> {
+					setStopTimestamp();
+					setStatus(FAILED);
+					setError(error);
+					log.error("Binary parse job {" + getUuid() + "} failed.", error);
+				});
+			});
+	}
+
+}
@@ -8,6 +8,9 @@ import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 import static com.gentics.mesh.core.rest.job.JobStatus.STARTING;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.Collections;
+import java.util.List;
+
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.context.BranchMigrationContext;
@@ -95,6 +98,18 @@ public class BranchMigrationJobImpl extends JobImpl {
 		}
 	}
 
+	/**
+	 * The branch migration reads the contents of the previous branch. Thus the whole project is locked.
+	 */
+	@Override
+	public List<String> getLockScope() {
+		Branch branch = getBranch();
+		if (branch == null) {
+			return Collections.emptyList();
+		}
+		return Collections.singletonList(projectScope(branch.getProject()));
+	}
+
 	@Override
 	protected Completable processTask() {
 		BranchMigrationHandler handler = mesh().branchMigrationHandler();
@@ -7,6 +7,9 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TO_
 import static com.gentics.mesh.core.rest.job.JobStatus.STARTING;
 import static com.gentics.mesh.core.rest.job.JobStatus.UNKNOWN;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang.NotImplementedException;
@@ -16,6 +19,7 @@ import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.TypeInfo;
 import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.container.impl.MicroschemaContainerVersionImpl;
 import com.gentics.mesh.core.data.generic.AbstractMeshCoreVertex;
@@ -187,6 +191,16 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		property(COMPLETION_COUNT_PROPERTY_KEY, count);
 	}
 
+	@Override
+	public String getCheckpoint() {
+		return property(CHECKPOINT_PROPERTY_KEY);
+	}
+
+	@Override
+	public void setCheckpoint(String checkpoint) {
+		property(CHECKPOINT_PROPERTY_KEY, checkpoint);
+	}
+
 	@Override
 	public Branch getBranch() {
 		return out(HAS_BRANCH, BranchImpl.class).nextOrNull();
@@ -302,6 +316,7 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		setStopTimestamp(null);
 		setErrorDetail(null);
 		setErrorMessage(null);
+		setCheckpoint(null);
 		setStatus(JobStatus.QUEUED);
 	}
 
@@ -325,6 +340,26 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		});
 	}
 
+	/**
+	 * The default scope of a job is the project and branch of the job.
+	 */
+	@Override
+	public List<String> getLockScope() {
+		Branch branch = getBranch();
+		if (branch == null) {
+			return Collections.emptyList();
+		}
+		return Arrays.asList(projectScope(branch.getProject()), branchScope(branch));
+	}
+
+	protected String projectScope(Project project) {
+		return "project:" + project.getUuid();
+	}
+
+	protected String branchScope(Branch branch) {
+		return "branch:" + branch.getUuid();
+	}
+
 	/**
 	 * Actual implementation of the task which the job executes.
 	 */
@@ -2,18 +2,14 @@ package com.gentics.mesh.core.data.job.impl;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_JOB;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_QUEUED_BINARY_PARSE_JOB;
 import static com.gentics.mesh.core.rest.error.Errors.error;
-import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
-import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 import static com.gentics.mesh.core.rest.job.JobStatus.QUEUED;
-import static com.gentics.mesh.core.rest.job.JobStatus.UNKNOWN;
 import static com.gentics.mesh.madl.index.EdgeIndexDefinition.edgeIndex;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Stack;
 
 import org.apache.commons.lang.NotImplementedException;
@@ -35,7 +31,6 @@ import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.root.impl.AbstractRootVertex;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
-import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.madl.traversal.TraversalResult;
@@ -44,8 +39,6 @@ import com.syncleus.ferma.FramedGraph;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Vertex;
 
-import io.reactivex.Completable;
-
 /**
  * @see JobRoot
  */
@@ -177,6 +170,24 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return enqueueVersionPurge(user, project, null);
 	}
 
+	@Override
+	public Job enqueueBinaryParse() {
+		// The root references the last enqueued job. Thus the queued job can be found without iterating over all jobs.
+		BinaryParseJobImpl queued = out(HAS_QUEUED_BINARY_PARSE_JOB, BinaryParseJobImpl.class).nextOrNull();
+		if (queued != null && queued.getStatus() == QUEUED) {
+			return queued;
+		}
+		BinaryParseJobImpl job = getGraph().addFramedVertex(BinaryParseJobImpl.class);
+		job.setType(JobType.binaryparse);
+		job.setStatus(QUEUED);
+		addItem(job);
+		setSingleLinkOutTo(job, HAS_QUEUED_BINARY_PARSE_JOB);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued binary parse job {" + job.getUuid() + "}");
+		}
+		return job;
+	}
+
 	@Override
 	public MeshVertex resolveToElement(Stack<String> stack) {
 		throw error(BAD_REQUEST, "Jobs are not accessible");
@@ -215,26 +226,6 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return new DynamicTransformablePageImpl<>(ac.getUser(), this, pagingInfo, null, null, false);
 	}
 
-	@Override
-	public Completable process() {
-		List<Completable> actions = new ArrayList<>();
-		Iterable<? extends Job> it = findAll();
-		for (Job job : it) {
-			try {
-				// Don't execute failed or completed jobs again
-				JobStatus jobStatus = job.getStatus();
-				if (job.hasFailed() || (jobStatus == COMPLETED || jobStatus == FAILED || jobStatus == UNKNOWN)) {
-					continue;
-				}
-				actions.add(job.process());
-			} catch (Exception e) {
-				job.markAsFailed(e);
-				log.error("Error while processing job {" + job.getUuid() + "}");
-			}
-		}
-		return Completable.concat(actions);
-	}
-
 	@Override
 	public void purgeFailed() {
 		log.info("Purging failed jobs..");
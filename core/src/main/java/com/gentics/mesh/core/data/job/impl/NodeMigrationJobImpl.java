@@ -8,6 +8,9 @@ import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 import static com.gentics.mesh.core.rest.job.JobStatus.STARTING;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.context.NodeMigrationActionContext;
@@ -125,6 +128,19 @@ public class NodeMigrationJobImpl extends JobImpl {
 		}
 	}
 
+	/**
+	 * Schema migrations only modify the contents of a single schema within the branch. Migrations of other schemas can run concurrently.
+	 */
+	@Override
+	public List<String> getLockScope() {
+		List<String> scope = new ArrayList<>(super.getLockScope());
+		SchemaContainerVersion fromVersion = getFromSchemaVersion();
+		if (fromVersion != null) {
+			scope.add("schema:" + fromVersion.getSchemaContainer().getUuid());
+		}
+		return scope;
+	}
+
 	protected Completable processTask() {
 		NodeMigrationHandler handler = mesh().nodeMigrationHandler();
 
@@ -6,16 +6,22 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 
 import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.impl.ProjectImpl;
 import com.gentics.mesh.core.project.maintenance.ProjectVersionPurgeHandler;
+import com.gentics.mesh.core.project.maintenance.VersionPurgeResult;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.job.ProjectVersionPurgeEventModel;
+import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.util.DateUtils;
 
@@ -29,6 +35,8 @@ public class VersionPurgeJobImpl extends JobImpl {
 
 	private static final String MAX_AGE_PROPERTY = "maxAge";
 
+	private static final String FREED_RECORDS_PROPERTY = "freedRecords";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(VersionPurgeJobImpl.class, MeshVertexImpl.class);
 	}
@@ -55,14 +63,59 @@ public class VersionPurgeJobImpl extends JobImpl {
 		}
 	}
 
+	private void setPurgeResult(VersionPurgeResult previous, VersionPurgeResult result) {
+		setCompletionCount(previous.getPurgedVersions() + result.getPurgedVersions());
+		setProperty(FREED_RECORDS_PROPERTY, previous.getFreedRecords() + result.getFreedRecords());
+	}
+
+	@Override
+	public JobResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
+		JobResponse response = super.transformToRestSync(ac, level, languageTags);
+		Map<String, String> props = response.getProperties();
+		props.put("purgedVersions", String.valueOf(getCompletionCount()));
+		Long freedRecords = getProperty(FREED_RECORDS_PROPERTY);
+		if (freedRecords != null) {
+			props.put("freedRecords", String.valueOf(freedRecords));
+		}
+		return response;
+	}
+
+	/**
+	 * The purge affects the contents of all branches of the project.
+	 */
+	@Override
+	public List<String> getLockScope() {
+		Project project = getProject();
+		if (project == null) {
+			return Collections.emptyList();
+		}
+		return Collections.singletonList(projectScope(project));
+	}
+
 	@Override
 	protected Completable processTask() {
 		ProjectVersionPurgeHandler handler = mesh().projectVersionPurgeHandler();
 		Project project = db().tx(() -> getProject());
 		Optional<ZonedDateTime> maxAge = db().tx(() -> getMaxAge());
-		return handler.purgeVersions(project, maxAge.orElse(null))
-			.doOnComplete(() -> {
+		String checkpoint = db().tx(() -> getCheckpoint());
+		// A resumed purge continues to count where the interrupted purge stopped
+		VersionPurgeResult previous = new VersionPurgeResult();
+		if (checkpoint != null) {
+			db().tx(() -> {
+				Long freedRecords = getProperty(FREED_RECORDS_PROPERTY);
+				previous.add(getCompletionCount(), freedRecords == null ? 0 : freedRecords);
+			});
+		}
+		return handler.purgeVersions(project, maxAge.orElse(null), checkpoint, (lastId, result) -> {
+			// Store the progress so that an interrupted purge can resume after the last processed node
+			db().tx(() -> {
+				setCheckpoint(lastId);
+				setPurgeResult(previous, result);
+			});
+		})
+			.doOnSuccess(result -> {
 				db().tx(() -> {
+					setPurgeResult(previous, result);
 					setStopTimestamp();
 					setStatus(COMPLETED);
 				});
@@ -71,7 +124,7 @@ public class VersionPurgeJobImpl extends JobImpl {
 					createBatch().add(createEvent(PROJECT_VERSION_PURGE_FINISHED, COMPLETED, project.getName(), project.getUuid()))
 						.dispatch();
 				});
-			}).doOnError(error -> {
+			}).ignoreElement().doOnError(error -> {
 				db().tx(() -> {
 					setStopTimestamp();
 					setStatus(FAILED);
@@ -55,11 +55,17 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import javax.inject.Provider;
+
 import org.apache.commons.lang3.NotImplementedException;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
 import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.cache.CachedNavigation;
+import com.gentics.mesh.cache.CachedNodePath;
+import com.gentics.mesh.cache.NavigationCache;
+import com.gentics.mesh.cache.NodePathCache;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -93,6 +99,8 @@ import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.impl.SchemaContainerImpl;
+import com.gentics.mesh.core.data.service.PreparedFieldSchemaContainer;
+import com.gentics.mesh.core.data.service.PreparedFieldSchemaContainer.PreparedField;
 import com.gentics.mesh.core.link.WebRootLinkReplacer;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.ContainerType;
@@ -118,13 +126,16 @@ import com.gentics.mesh.core.rest.node.field.NodeFieldListItem;
 import com.gentics.mesh.core.rest.node.field.list.impl.NodeFieldListItemImpl;
 import com.gentics.mesh.core.rest.node.version.NodeVersionsResponse;
 import com.gentics.mesh.core.rest.node.version.VersionInfo;
+import com.gentics.mesh.core.rest.project.ProjectReference;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.Schema;
+import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.rest.tag.TagReference;
 import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.core.webroot.PathPrefixUtil;
 import com.gentics.mesh.event.Assignment;
 import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.handler.VersionHandler;
 import com.gentics.mesh.json.JsonUtil;
@@ -167,6 +178,11 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	/**
+	 * Amount of referencing contents which will be updated within one transaction once a referenced node has been deleted.
+	 */
+	private static final int REFERENCE_UPDATE_CHUNK_SIZE = 100;
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createType(vertexType(NodeImpl.class, MeshVertexImpl.class));
 		index.createIndex(edgeIndex(HAS_PARENT_NODE));
@@ -234,61 +250,107 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// Thus utilise the action context data map to retrieve already handled paths.
 		String cacheKey = getUuid() + branchUuid + type.getCode() + Arrays.toString(languageTag);
 		return (String) ac.data().computeIfAbsent(cacheKey, key -> {
-
-			List<String> segments = new ArrayList<>();
-			String segment = getPathSegment(branchUuid, type, languageTag);
-			if (segment == null) {
+			if (!isPathCacheUsable()) {
+				CachedNodePath path = renderPath(branchUuid, type, languageTag);
+				return path == null ? null : path.getPath();
+			}
+			NodePathCache pathCache = mesh().nodePathCache();
+			CachedNodePath cached = pathCache.getPath(getUuid(), branchUuid, type, languageTag);
+			if (cached != null) {
+				return cached.getPath();
+			}
+			long generation = pathCache.generation();
+			CachedNodePath path = renderPath(branchUuid, type, languageTag);
+			// Paths which can't be resolved are not cached
+			if (path == null) {
 				return null;
 			}
-			segments.add(segment);
+			pathCache.storePath(generation, getUuid(), type, languageTag, path);
+			return path.getPath();
+		});
 
-			// For the path segments of the container, we add all (additional)
-			// project languages to the list of languages for the fallback.
-			Node current = this;
-			while (current != null) {
-				current = current.getParentNode(branchUuid);
-				if (current == null || current.getParentNode(branchUuid) == null) {
-					break;
-				}
-				// For the path segments of the container, we allow ANY language (of the project)
-				segment = current.getPathSegment(branchUuid, type, true, languageTag);
+	}
 
-				// Abort early if one of the path segments could not be resolved. We
-				// need to return a 404 in those cases.
-				if (segment == null) {
-					return null;
-				}
-				segments.add(segment);
+	/**
+	 * Render the path of the node.
+	 *
+	 * @param branchUuid
+	 * @param type
+	 * @param languageTag
+	 * @return Path and the nodes on which the path depends or null if one of the segments could not be resolved
+	 */
+	private CachedNodePath renderPath(String branchUuid, ContainerType type, String... languageTag) {
+		List<String> segments = new ArrayList<>();
+		List<String> uuids = new ArrayList<>();
+		List<Object> ids = new ArrayList<>();
+		String segment = getPathSegment(branchUuid, type, languageTag);
+		if (segment == null) {
+			return null;
+		}
+		segments.add(segment);
+		uuids.add(getUuid());
+		ids.add(id());
+
+		// For the path segments of the container, we add all (additional)
+		// project languages to the list of languages for the fallback.
+		Node current = this;
+		while (current != null) {
+			current = current.getParentNode(branchUuid);
+			if (current == null || current.getParentNode(branchUuid) == null) {
+				break;
 			}
+			// For the path segments of the container, we allow ANY language (of the project)
+			segment = current.getPathSegment(branchUuid, type, true, languageTag);
 
-			Collections.reverse(segments);
+			// Abort early if one of the path segments could not be resolved. We
+			// need to return a 404 in those cases.
+			if (segment == null) {
+				return null;
+			}
+			segments.add(segment);
+			uuids.add(current.getUuid());
+			ids.add(current.id());
+		}
 
-			// Finally construct the path from all segments
-			StringBuilder builder = new StringBuilder();
+		Collections.reverse(segments);
+		Collections.reverse(uuids);
+		Collections.reverse(ids);
 
-			// Append the prefix first
-			Branch branch = getProject().getBranchRoot().findByUuid(branchUuid);
-			if (branch != null) {
-				String prefix = PathPrefixUtil.sanitize(branch.getPathPrefix());
-				if (!prefix.isEmpty()) {
-					String[] prefixSegments = prefix.split("/");
-					for (String prefixSegment : prefixSegments) {
-						if (prefixSegment.isEmpty()) {
-							continue;
-						}
-						builder.append("/").append(URIUtils.encodeSegment(prefixSegment));
+		// Finally construct the path from all segments
+		StringBuilder builder = new StringBuilder();
+
+		// Append the prefix first
+		Branch branch = getProject().getBranchRoot().findByUuid(branchUuid);
+		if (branch != null) {
+			String prefix = PathPrefixUtil.sanitize(branch.getPathPrefix());
+			if (!prefix.isEmpty()) {
+				String[] prefixSegments = prefix.split("/");
+				for (String prefixSegment : prefixSegments) {
+					if (prefixSegment.isEmpty()) {
+						continue;
 					}
+					builder.append("/").append(URIUtils.encodeSegment(prefixSegment));
 				}
 			}
+		}
 
-			Iterator<String> it = segments.iterator();
-			while (it.hasNext()) {
-				String currentSegment = it.next();
-				builder.append("/").append(URIUtils.encodeSegment(currentSegment));
-			}
-			return builder.toString();
-		});
+		Iterator<String> it = segments.iterator();
+		while (it.hasNext()) {
+			String currentSegment = it.next();
+			builder.append("/").append(URIUtils.encodeSegment(currentSegment));
+		}
+		return new CachedNodePath(branchUuid, uuids, ids, builder.toString());
+	}
 
+	/**
+	 * Check whether the shared node path cache may be used. This is only the case within transactions which don't contain uncommitted changes. Write
+	 * transactions which have not yet changed anything (e.g. webroot and GraphQL requests) may use the cache as well.
+	 *
+	 * @return
+	 */
+	private boolean isPathCacheUsable() {
+		Tx tx = Tx.get();
+		return tx != null && !tx.hasChanges();
 	}
 
 	@Override
@@ -690,7 +752,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	private void setParentNodeInfo(InternalActionContext ac, Branch branch, NodeResponse restNode) {
 		Node parentNode = getParentNode(branch.getUuid());
 		if (parentNode != null) {
-			restNode.setParentNode(parentNode.transformToReference(ac));
+			NodeTransformBatch batch = NodeTransformBatch.get(ac);
+			restNode.setParentNode(batch != null ? batch.getReference(ac, parentNode) : parentNode.transformToReference(ac));
 		} else {
 			// Only the base node of the project has no parent. Therefore this
 			// node must be a container.
@@ -757,7 +820,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			// We should change this behaviour and update the client implementations.
 			// throw error(NOT_FOUND, "object_not_found_for_uuid", getUuid());
 		} else {
-			Schema schema = fieldContainer.getSchemaContainerVersion().getSchema();
+			PreparedFieldSchemaContainer<SchemaModel> preparedSchema = mesh().serverSchemaStorage()
+				.getPreparedSchema(fieldContainer.getSchemaContainerVersion());
+			Schema schema = preparedSchema.getSchema();
 			if (fieldsSet.has("container")) {
 				restNode.setContainer(schema.getContainer());
 			}
@@ -802,11 +867,13 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			if (fieldsSet.has("fields")) {
 				// Iterate over all fields and transform them to rest
 				com.gentics.mesh.core.rest.node.FieldMap fields = new FieldMapImpl();
-				for (FieldSchema fieldEntry : schema.getFields()) {
+				// The field types have already been resolved for the schema version
+				for (PreparedField preparedField : preparedSchema.getFields()) {
+					FieldSchema fieldEntry = preparedField.getFieldSchema();
 					// boolean expandField =
 					// fieldsToExpand.contains(fieldEntry.getName()) ||
 					// ac.getExpandAllFlag();
-					Field restField = fieldContainer.getRestFieldFromGraph(ac, fieldEntry.getName(), fieldEntry, containerLanguageTags, level);
+					Field restField = preparedField.transform(fieldContainer, ac, containerLanguageTags, level, () -> this);
 					if (fieldEntry.isRequired() && restField == null) {
 						// TODO i18n
 						// throw error(BAD_REQUEST, "The field {" +
@@ -871,8 +938,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 * @return
 	 */
 	private void setTagsToRest(InternalActionContext ac, NodeResponse restNode, Branch branch) {
+		NodeTransformBatch batch = NodeTransformBatch.get(ac);
 		List<TagReference> list = getTags(branch).stream()
-			.map(Tag::transformToReference)
+			.map(tag -> batch != null ? batch.getReference(tag) : tag.transformToReference())
 			.collect(Collectors.toList());
 		restNode.setTags(list);
 	}
@@ -928,8 +996,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 * @param restNode
 	 */
 	private void setBreadcrumbToRest(InternalActionContext ac, NodeResponse restNode) {
+		// The nodes of a page share most of their ancestors
+		NodeTransformBatch batch = NodeTransformBatch.get(ac);
 		List<NodeReference> breadcrumbs = getBreadcrumbNodeStream(ac)
-			.map(node -> node.transformToReference(ac))
+			.map(node -> batch != null ? batch.getReference(ac, node) : node.transformToReference(ac))
 			.collect(Collectors.toList());
 		restNode.setBreadcrumb(breadcrumbs);
 	}
@@ -941,6 +1011,30 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private Stream<Node> getBreadcrumbNodeStream(InternalActionContext ac) {
 		String branchUuid = ac.getBranch(getProject()).getUuid();
+		if (isPathCacheUsable()) {
+			NodePathCache pathCache = mesh().nodePathCache();
+			CachedNodePath ancestors = pathCache.getAncestors(getUuid(), branchUuid);
+			if (ancestors != null) {
+				List<Node> breadcrumb = loadNodes(ancestors.getAncestorIds());
+				if (breadcrumb != null) {
+					return breadcrumb.stream();
+				}
+			}
+			long generation = pathCache.generation();
+			Deque<Node> breadcrumb = loadBreadcrumb(branchUuid);
+			List<String> uuids = new ArrayList<>(breadcrumb.size());
+			List<Object> ids = new ArrayList<>(breadcrumb.size());
+			for (Node node : breadcrumb) {
+				uuids.add(node.getUuid());
+				ids.add(node.id());
+			}
+			pathCache.storeAncestors(generation, getUuid(), new CachedNodePath(branchUuid, uuids, ids, null));
+			return breadcrumb.stream();
+		}
+		return loadBreadcrumb(branchUuid).stream();
+	}
+
+	private Deque<Node> loadBreadcrumb(String branchUuid) {
 		Node current = this;
 
 		Deque<Node> breadcrumb = new ArrayDeque<>();
@@ -948,8 +1042,25 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			breadcrumb.addFirst(current);
 			current = current.getParentNode(branchUuid);
 		}
+		return breadcrumb;
+	}
 
-		return breadcrumb.stream();
+	/**
+	 * Load the nodes with the given element ids.
+	 *
+	 * @param ids
+	 * @return Loaded nodes or null if one of the nodes no longer exists
+	 */
+	private List<Node> loadNodes(List<Object> ids) {
+		List<Node> nodes = new ArrayList<>(ids.size());
+		for (Object id : ids) {
+			Node node = getGraph().getFramedVertexExplicit(NodeImpl.class, id);
+			if (node == null) {
+				return null;
+			}
+			nodes.add(node);
+		}
+		return nodes;
 	}
 
 	@Override
@@ -963,9 +1074,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			if (!getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
 				throw error(BAD_REQUEST, "navigation_error_no_container");
 			}
-			String etagKey = buildNavigationEtagKey(ac, this, parameters.getMaxDepth(), 0, ac.getBranch(getProject()).getUuid(), forVersion(ac
-				.getVersioningParameters().getVersion()));
-			String etag = ETag.hash(etagKey);
+			String etag = getNavigationETag(ac, parameters.getMaxDepth());
 			ac.setEtag(etag, true);
 			if (ac.matches(etag, true)) {
 				return Single.error(new NotModifiedException());
@@ -991,6 +1100,39 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		return response;
 	}
 
+	/**
+	 * Return the etag for the requested navigation. The etag will be loaded from the navigation cache if possible since the computation requires a
+	 * traversal of the whole navigation.
+	 *
+	 * @param ac
+	 * @param maxDepth
+	 *            Maximum depth of navigation
+	 * @return
+	 */
+	private String getNavigationETag(InternalActionContext ac, int maxDepth) {
+		String branchUuid = ac.getBranch(getProject()).getUuid();
+		ContainerType type = forVersion(ac.getVersioningParameters().getVersion());
+		NavigationCache cache = mesh().navigationCache();
+		String cacheKey = getUuid() + "-" + branchUuid + "-" + type.getCode() + "-" + ac.getApiVersion() + "-" + ac.getUser().getRolesHash() + "-"
+			+ ac.query();
+		CachedNavigation cached = cache.getNavigation(cacheKey);
+		if (cached != null) {
+			return cached.getEtag();
+		}
+
+		long generation = cache.generation();
+		Set<String> nodeUuids = new HashSet<>();
+		// The breadcrumbs of all nodes contain the ancestors of the navigation root
+		Node parent = getParentNode(branchUuid);
+		while (parent != null) {
+			nodeUuids.add(parent.getUuid());
+			parent = parent.getParentNode(branchUuid);
+		}
+		String etag = ETag.hash(buildNavigationEtagKey(ac, this, maxDepth, 0, branchUuid, type, nodeUuids));
+		cache.storeNavigation(generation, cacheKey, new CachedNavigation(branchUuid, nodeUuids, etag));
+		return etag;
+	}
+
 	/**
 	 * Generate the etag key for the requested navigation.
 	 *
@@ -1004,12 +1146,20 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 * @param branchUuid
 	 *            Branch uuid used to extract selected tree structure
 	 * @param type
+	 * @param nodeUuids
+	 *            Set which collects the uuids of the nodes which affect the etag
 	 * @return
 	 */
-	private String buildNavigationEtagKey(InternalActionContext ac, Node node, int maxDepth, int level, String branchUuid, ContainerType type) {
+	private String buildNavigationEtagKey(InternalActionContext ac, Node node, int maxDepth, int level, String branchUuid, ContainerType type,
+		Set<String> nodeUuids) {
 		NavigationParametersImpl parameters = new NavigationParametersImpl(ac);
 		StringBuilder builder = new StringBuilder();
 		builder.append(node.getETag(ac));
+		nodeUuids.add(node.getUuid());
+		// The etag of the node also contains its children
+		for (Node child : node.getChildren(branchUuid)) {
+			nodeUuids.add(child.getUuid());
+		}
 
 		TraversalResult<? extends Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type);
 
@@ -1020,9 +1170,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 		for (Node child : nodes) {
 			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level + 1, branchUuid, type));
+				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level + 1, branchUuid, type, nodeUuids));
 			} else if (parameters.isIncludeAll()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level, branchUuid, type));
+				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level, branchUuid, type, nodeUuids));
 			}
 		}
 		return builder.toString();
@@ -1450,32 +1600,81 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	}
 
 	/**
-	 * Adds reference update events to the context for all draft and published contents that reference this node.
+	 * Adds reference updates to the context for all draft and published contents that reference this node. The stored ETags of the referencing contents
+	 * will be reset and reference update events will be dispatched since the references are removed along with the node.
+	 *
+	 * Only the ids of the referencing contents are collected within the deleting transaction. The contents are updated in the background once the
+	 * deletion has been committed.
 	 *
 	 * @param bac
 	 */
 	private void addReferenceUpdates(BulkActionContext bac) {
-		Set<String> handledNodeUuids = new HashSet<>();
-
-		getInboundReferences()
+		Set<Object> containerIds = getInboundReferences()
 			.flatMap(NodeGraphField::getReferencingContents)
-			.forEach(nodeContainer -> {
-				for (GraphFieldContainerEdgeImpl edge : nodeContainer.inE(HAS_FIELD_CONTAINER, GraphFieldContainerEdgeImpl.class)) {
-					ContainerType type = edge.getType();
-					// Only handle published or draft contents
-					if (type.equals(DRAFT) || type.equals(PUBLISHED)) {
-						Node node = nodeContainer.getParentNode();
-						String uuid = node.getUuid();
-						String languageTag = nodeContainer.getLanguageTag();
-						String branchUuid = edge.getBranchUuid();
-						String key = uuid + languageTag + branchUuid + type.getCode();
-						if (!handledNodeUuids.contains(key)) {
-							bac.add(onReferenceUpdated(node.getUuid(), node.getSchemaContainer(), branchUuid, type, languageTag));
-							handledNodeUuids.add(key);
+			.map(NodeGraphFieldContainer::id)
+			.collect(Collectors.toSet());
+		if (containerIds.isEmpty()) {
+			return;
+		}
+		Database db = db();
+		Provider<EventQueueBatch> batchProvider = mesh().batchProvider();
+		ProjectReference project = getProject().transformToReference();
+		String uuid = getUuid();
+		bac.afterCommit(() -> updateReferencingContents(db, batchProvider, uuid, project, new ArrayList<>(containerIds)));
+	}
+
+	/**
+	 * Reset the ETags of the contents which referenced the deleted node and dispatch the reference update events. The contents are updated in chunks
+	 * which use their own transactions. Contents which have been deleted in the meantime are skipped.
+	 *
+	 * @param db
+	 * @param batchProvider
+	 * @param deletedUuid
+	 *            Uuid of the deleted node
+	 * @param project
+	 * @param containerIds
+	 *            Ids of the referencing contents
+	 */
+	private static void updateReferencingContents(Database db, Provider<EventQueueBatch> batchProvider, String deletedUuid, ProjectReference project,
+		List<Object> containerIds) {
+		for (int i = 0; i < containerIds.size(); i += REFERENCE_UPDATE_CHUNK_SIZE) {
+			List<Object> chunk = containerIds.subList(i, Math.min(i + REFERENCE_UPDATE_CHUNK_SIZE, containerIds.size()));
+			try {
+				// The transaction will be retried on conflicts with concurrent changes of the contents
+				EventQueueBatch batch = db.tx(tx -> {
+					EventQueueBatch chunkBatch = batchProvider.get();
+					Set<String> handledNodeUuids = new HashSet<>();
+					for (Object containerId : chunk) {
+						NodeGraphFieldContainer nodeContainer = tx.getGraph().getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, containerId);
+						// The content may have been deleted by the same bulk action
+						if (nodeContainer == null) {
+							continue;
+						}
+						nodeContainer.resetETag();
+						for (GraphFieldContainerEdgeImpl edge : nodeContainer.inE(HAS_FIELD_CONTAINER, GraphFieldContainerEdgeImpl.class)) {
+							ContainerType type = edge.getType();
+							// Only handle published or draft contents
+							if (type.equals(DRAFT) || type.equals(PUBLISHED)) {
+								Node node = nodeContainer.getParentNode();
+								String nodeUuid = node.getUuid();
+								String languageTag = nodeContainer.getLanguageTag();
+								String branchUuid = edge.getBranchUuid();
+								String key = nodeUuid + languageTag + branchUuid + type.getCode();
+								if (!handledNodeUuids.contains(key)) {
+									chunkBatch.add(createReferenceUpdatedEvent(project, nodeUuid, node.getSchemaContainer(), branchUuid, type, languageTag));
+									handledNodeUuids.add(key);
+								}
+							}
 						}
 					}
-				}
-			});
+					return chunkBatch;
+				});
+				batch.dispatch();
+			} catch (Exception e) {
+				// The other chunks are still handled
+				log.error("Error while updating the contents {" + chunk + "} which referenced the deleted node {" + deletedUuid + "}", e);
+			}
+		}
 	}
 
 	@Override
@@ -1932,30 +2131,45 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Check the different language versions
 		for (NodeGraphFieldContainer container : getGraphFieldContainers(branchUuid, type)) {
-			Schema schema = container.getSchemaContainerVersion().getSchema();
-			String segmentFieldName = schema.getSegmentField();
-			// First check whether a string field exists for the given name
-			StringGraphField field = container.getString(segmentFieldName);
-			if (field != null) {
-				String fieldValue = field.getString();
-				if (segment.equals(fieldValue)) {
-					return new PathSegment(container, field, container.getLanguageTag(), segment);
-				}
+			PathSegment pathSegment = getSegment(container, segment);
+			if (pathSegment != null) {
+				return pathSegment;
 			}
+		}
+		return null;
+	}
 
-			// No luck yet - lets check whether a binary field matches the
-			// segmentField
-			BinaryGraphField binaryField = container.getBinary(segmentFieldName);
-			if (binaryField == null) {
-				if (log.isDebugEnabled()) {
-					log.debug("The node {" + getUuid() + "} did not contain a string or a binary field for segment field name {" + segmentFieldName
-						+ "}");
-				}
-			} else {
-				String binaryFilename = binaryField.getFileName();
-				if (segment.equals(binaryFilename)) {
-					return new PathSegment(container, binaryField, container.getLanguageTag(), segment);
-				}
+	/**
+	 * Return the path segment of the given container if the segment field of the container matches the segment.
+	 *
+	 * @param container
+	 * @param segment
+	 * @return Path segment or null if the segment field of the container does not match
+	 */
+	private static PathSegment getSegment(NodeGraphFieldContainer container, String segment) {
+		Schema schema = container.getSchemaContainerVersion().getSchema();
+		String segmentFieldName = schema.getSegmentField();
+		// First check whether a string field exists for the given name
+		StringGraphField field = container.getString(segmentFieldName);
+		if (field != null) {
+			String fieldValue = field.getString();
+			if (segment.equals(fieldValue)) {
+				return new PathSegment(container, field, container.getLanguageTag(), segment);
+			}
+		}
+
+		// No luck yet - lets check whether a binary field matches the
+		// segmentField
+		BinaryGraphField binaryField = container.getBinary(segmentFieldName);
+		if (binaryField == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("The container {" + container.getUuid() + "} did not contain a string or a binary field for segment field name {"
+					+ segmentFieldName + "}");
+			}
+		} else {
+			String binaryFilename = binaryField.getFileName();
+			if (segment.equals(binaryFilename)) {
+				return new PathSegment(container, binaryField, container.getLanguageTag(), segment);
 			}
 		}
 		return null;
@@ -1980,7 +2194,16 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		if (edges.hasNext()) {
 			GraphFieldContainerEdge edge = edges.next();
 			Node childNode = edge.getNode();
-			PathSegment pathSegment = childNode.getSegment(branchUuid, type, segment);
+			// The index entry references the container which provides the segment. The other language containers only need to be checked if the
+			// segment field of this container does not match.
+			PathSegment pathSegment = null;
+			NodeGraphFieldContainer container = edge.getNodeContainer();
+			if (container != null) {
+				pathSegment = getSegment(container, segment);
+			}
+			if (pathSegment == null) {
+				pathSegment = childNode.getSegment(branchUuid, type, segment);
+			}
 			if (pathSegment != null) {
 				path.addSegment(pathSegment);
 				return childNode.resolvePath(branchUuid, type, path, pathStack);
@@ -2167,13 +2390,18 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	}
 
 	public NodeMeshEventModel onReferenceUpdated(String uuid, SchemaContainer schema, String branchUuid, ContainerType type, String languageTag) {
+		return createReferenceUpdatedEvent(getProject().transformToReference(), uuid, schema, branchUuid, type, languageTag);
+	}
+
+	private static NodeMeshEventModel createReferenceUpdatedEvent(ProjectReference project, String uuid, SchemaContainer schema, String branchUuid,
+		ContainerType type, String languageTag) {
 		NodeMeshEventModel event = new NodeMeshEventModel();
 		event.setEvent(NODE_REFERENCE_UPDATED);
 		event.setUuid(uuid);
 		event.setLanguageTag(languageTag);
 		event.setType(type);
 		event.setBranchUuid(branchUuid);
-		event.setProject(getProject().transformToReference());
+		event.setProject(project);
 		if (schema != null) {
 			event.setSchema(schema.transformToReference());
 		}
@@ -0,0 +1,76 @@
+package com.gentics.mesh.core.data.node.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.tag.TagReference;
+import com.gentics.mesh.core.rest.user.NodeReference;
+
+/**
+ * Request scoped storage which is used while a page of nodes is transformed. The nodes of a page usually share their parent, their ancestors and many of
+ * their tags. The references to these elements will only be rendered once for the whole page and reused for every element of the page.
+ *
+ * The batch must only be enabled for read requests since the stored references will not reflect changes which are made during the request.
+ */
+public class NodeTransformBatch {
+
+	private static final String DATA_KEY = "nodeTransformBatch";
+
+	private final Map<Object, NodeReference> nodeReferences = new HashMap<>();
+
+	private final Map<Object, TagReference> tagReferences = new HashMap<>();
+
+	/**
+	 * Enable the batch for the given action context.
+	 *
+	 * @param ac
+	 */
+	public static void enable(InternalActionContext ac) {
+		ac.data().put(DATA_KEY, new NodeTransformBatch());
+	}
+
+	/**
+	 * Return the batch of the action context.
+	 *
+	 * @param ac
+	 * @return Batch or null if no batch has been enabled for the context
+	 */
+	public static NodeTransformBatch get(InternalActionContext ac) {
+		return (NodeTransformBatch) ac.data().get(DATA_KEY);
+	}
+
+	/**
+	 * Return the reference of the node. The reference will only be rendered if it has not yet been rendered within the batch.
+	 *
+	 * @param ac
+	 * @param node
+	 * @return
+	 */
+	public NodeReference getReference(InternalActionContext ac, Node node) {
+		NodeReference reference = nodeReferences.get(node.id());
+		if (reference == null) {
+			reference = node.transformToReference(ac);
+			nodeReferences.put(node.id(), reference);
+		}
+		return reference;
+	}
+
+	/**
+	 * Return the reference of the tag. The reference will only be rendered if it has not yet been rendered within the batch.
+	 *
+	 * @param tag
+	 * @return
+	 */
+	public TagReference getReference(Tag tag) {
+		TagReference reference = tagReferences.get(tag.id());
+		if (reference == null) {
+			reference = tag.transformToReference();
+			tagReferences.put(tag.id(), reference);
+		}
+		return reference;
+	}
+
+}
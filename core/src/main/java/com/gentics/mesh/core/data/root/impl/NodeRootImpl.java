@@ -71,7 +71,7 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(NodeRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_NODE).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_NODE).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -38,7 +38,6 @@ import com.gentics.mesh.core.rest.event.MeshElementEventModel;
 import com.gentics.mesh.core.rest.event.branch.BranchSchemaAssignEventModel;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.rest.schema.SchemaReference;
-import com.gentics.mesh.core.rest.schema.impl.SchemaModelImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.etc.config.ContentConfig;
@@ -103,12 +102,7 @@ public class SchemaContainerVersionImpl extends
 
 	@Override
 	public SchemaModel getSchema() {
-		SchemaModel schema = mesh().serverSchemaStorage().getSchema(getName(), getVersion());
-		if (schema == null) {
-			schema = JsonUtil.readValue(getJson(), SchemaModelImpl.class);
-			mesh().serverSchemaStorage().addSchema(schema);
-		}
-		return schema;
+		return mesh().serverSchemaStorage().getPreparedSchema(this).getSchema();
 	}
 
 	@Override
@@ -130,6 +124,7 @@ public class SchemaContainerVersionImpl extends
 	public void setSchema(SchemaModel schema) {
 		mesh().serverSchemaStorage().removeSchema(schema.getName(), schema.getVersion());
 		mesh().serverSchemaStorage().addSchema(schema);
+		mesh().serverSchemaStorage().removePrepared(getUuid());
 		String json = schema.toJson();
 		setJson(json);
 		setProperty(VERSION_PROPERTY_KEY, schema.getVersion());
@@ -0,0 +1,109 @@
+package com.gentics.mesh.core.data.service;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.GraphFieldContainer;
+import com.gentics.mesh.core.data.impl.GraphFieldTypes;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
+
+/**
+ * Parsed schema or microschema of a schema version together with the resolved field types. Entries are created once per version by the
+ * {@link ServerSchemaStorage} so that the fields of a container can be transformed without parsing the schema JSON or resolving the field types again.
+ *
+ * @param <T>
+ *            Type of the schema model
+ */
+public class PreparedFieldSchemaContainer<T extends FieldSchemaContainer> {
+
+	private final T schema;
+
+	private final List<PreparedField> fields;
+
+	/**
+	 * Create a new entry for the given schema model.
+	 *
+	 * @param schema
+	 */
+	public PreparedFieldSchemaContainer(T schema) {
+		this.schema = schema;
+		List<PreparedField> fields = new ArrayList<>(schema.getFields().size());
+		for (FieldSchema fieldSchema : schema.getFields()) {
+			fields.add(new PreparedField(fieldSchema, GraphFieldTypes.valueByFieldSchema(fieldSchema)));
+		}
+		this.fields = Collections.unmodifiableList(fields);
+	}
+
+	/**
+	 * Return the schema model.
+	 *
+	 * @return
+	 */
+	public T getSchema() {
+		return schema;
+	}
+
+	/**
+	 * Return the fields of the schema in the order of the schema.
+	 *
+	 * @return
+	 */
+	public List<PreparedField> getFields() {
+		return fields;
+	}
+
+	/**
+	 * Field of a schema with the resolved field type.
+	 */
+	public static class PreparedField {
+
+		private final FieldSchema fieldSchema;
+
+		private final GraphFieldTypes type;
+
+		private PreparedField(FieldSchema fieldSchema, GraphFieldTypes type) {
+			this.fieldSchema = fieldSchema;
+			this.type = type;
+		}
+
+		public String getName() {
+			return fieldSchema.getName();
+		}
+
+		public FieldSchema getFieldSchema() {
+			return fieldSchema;
+		}
+
+		/**
+		 * Load the field from the container and transform it to rest.
+		 *
+		 * @param container
+		 *            Container from which the field should be loaded
+		 * @param ac
+		 * @param languageTags
+		 *            Language tags used to apply language fallback
+		 * @param level
+		 *            Current level of transformation
+		 * @param parentNode
+		 *            Supplier for the node of the container
+		 * @return Transformed field or null if the field is not set
+		 */
+		public Field transform(GraphFieldContainer container, InternalActionContext ac, List<String> languageTags, int level,
+			Supplier<Node> parentNode) {
+			if (type == null) {
+				throw error(BAD_REQUEST, "type unknown");
+			}
+			return type.getRestFieldFromGraph(container, ac, fieldSchema.getName(), fieldSchema, languageTags, level, parentNode);
+		}
+	}
+
+}
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -15,9 +16,12 @@ import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.rest.microschema.MicroschemaModel;
+import com.gentics.mesh.core.rest.microschema.impl.MicroschemaModelImpl;
 import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.rest.schema.SchemaStorage;
+import com.gentics.mesh.core.rest.schema.impl.SchemaModelImpl;
+import com.gentics.mesh.json.JsonUtil;
 
 import dagger.Lazy;
 import io.vertx.core.logging.Logger;
@@ -41,6 +45,13 @@ public class ServerSchemaStorage implements SchemaStorage {
 
 	private Map<String, Map<String, MicroschemaModel>> microschemas = Collections.synchronizedMap(new HashMap<>());
 
+	/**
+	 * Prepared schemas per schema version uuid. The uuid is used since the graph ids of new versions may only be temporary until the version is committed.
+	 */
+	private Map<String, PreparedFieldSchemaContainer<SchemaModel>> preparedSchemas = new ConcurrentHashMap<>();
+
+	private Map<String, PreparedFieldSchemaContainer<MicroschemaModel>> preparedMicroschemas = new ConcurrentHashMap<>();
+
 	@Inject
 	public ServerSchemaStorage(Lazy<BootstrapInitializer> boot) {
 		this.boot = boot;
@@ -68,6 +79,61 @@ public class ServerSchemaStorage implements SchemaStorage {
 	public void clear() {
 		schemas.clear();
 		microschemas.clear();
+		preparedSchemas.clear();
+		preparedMicroschemas.clear();
+	}
+
+	/**
+	 * Return the prepared schema of the given schema version. The schema JSON of the version will only be parsed if the schema is not yet stored.
+	 *
+	 * @param version
+	 * @return
+	 */
+	public PreparedFieldSchemaContainer<SchemaModel> getPreparedSchema(SchemaContainerVersion version) {
+		String versionUuid = version.getUuid();
+		PreparedFieldSchemaContainer<SchemaModel> prepared = preparedSchemas.get(versionUuid);
+		if (prepared == null) {
+			SchemaModel schema = getSchema(version.getName(), version.getVersion());
+			if (schema == null) {
+				schema = JsonUtil.readValue(version.getJson(), SchemaModelImpl.class);
+				addSchema(schema);
+			}
+			prepared = new PreparedFieldSchemaContainer<>(schema);
+			preparedSchemas.put(versionUuid, prepared);
+		}
+		return prepared;
+	}
+
+	/**
+	 * Return the prepared microschema of the given microschema version. The microschema JSON of the version will only be parsed if the microschema is not
+	 * yet stored.
+	 *
+	 * @param version
+	 * @return
+	 */
+	public PreparedFieldSchemaContainer<MicroschemaModel> getPreparedMicroschema(MicroschemaContainerVersion version) {
+		String versionUuid = version.getUuid();
+		PreparedFieldSchemaContainer<MicroschemaModel> prepared = preparedMicroschemas.get(versionUuid);
+		if (prepared == null) {
+			MicroschemaModel microschema = getMicroschema(version.getName(), version.getVersion());
+			if (microschema == null) {
+				microschema = JsonUtil.readValue(version.getJson(), MicroschemaModelImpl.class);
+				addMicroschema(microschema);
+			}
+			prepared = new PreparedFieldSchemaContainer<>(microschema);
+			preparedMicroschemas.put(versionUuid, prepared);
+		}
+		return prepared;
+	}
+
+	/**
+	 * Remove the prepared schema or microschema of the version with the given uuid.
+	 *
+	 * @param versionUuid
+	 */
+	public void removePrepared(String versionUuid) {
+		preparedSchemas.remove(versionUuid);
+		preparedMicroschemas.remove(versionUuid);
 	}
 
 	@Override
@@ -106,6 +172,7 @@ public class ServerSchemaStorage implements SchemaStorage {
 	@Override
 	public void removeSchema(String name) {
 		schemas.remove(name);
+		preparedSchemas.values().removeIf(prepared -> prepared.getSchema().getName().equals(name));
 	}
 
 	@Override
@@ -114,6 +181,7 @@ public class ServerSchemaStorage implements SchemaStorage {
 		if (schemaMap != null) {
 			schemaMap.remove(version);
 		}
+		preparedSchemas.values().removeIf(prepared -> prepared.getSchema().getName().equals(name) && prepared.getSchema().getVersion().equals(version));
 	}
 
 	@Override
@@ -169,6 +237,7 @@ public class ServerSchemaStorage implements SchemaStorage {
 	@Override
 	public void removeMicroschema(String name) {
 		microschemas.remove(name);
+		preparedMicroschemas.values().removeIf(prepared -> prepared.getSchema().getName().equals(name));
 	}
 
 	@Override
@@ -177,6 +246,8 @@ public class ServerSchemaStorage implements SchemaStorage {
 		if (microschemaMap != null) {
 			microschemaMap.remove(version);
 		}
+		preparedMicroschemas.values()
+			.removeIf(prepared -> prepared.getSchema().getName().equals(name) && prepared.getSchema().getVersion().equals(version));
 	}
 
 	/**
@@ -1,35 +1,42 @@
 package com.gentics.mesh.core.endpoint.migration;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-import javax.annotation.ParametersAreNonnullByDefault;
 import javax.inject.Provider;
 
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
-import com.gentics.mesh.core.data.schema.RemoveFieldChange;
-import com.gentics.mesh.core.data.schema.SchemaChange;
-import com.gentics.mesh.core.data.schema.impl.FieldTypeChangeImpl;
-import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
 import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.rest.common.FieldContainer;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.node.FieldMap;
+import com.gentics.mesh.core.rest.node.FieldMapImpl;
 import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.etc.config.ContentConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.StreamUtil;
+import com.google.common.collect.Lists;
 
+import io.reactivex.Observable;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.WorkerExecutor;
 
 public abstract class AbstractMigrationHandler extends AbstractHandler implements MigrationHandler {
 
@@ -43,38 +50,33 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	protected final Provider<EventQueueBatch> batchProvider;
 
-	public AbstractMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider) {
+	protected final MeshOptions options;
+
+	protected final Vertx vertx;
+
+	private WorkerExecutor workerPool;
+
+	public AbstractMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		MeshOptions options, Vertx vertx) {
 		this.db = db;
 		this.binaryFieldHandler = binaryFieldHandler;
 		this.metrics = metrics;
 		this.batchProvider = batchProvider;
+		this.options = options;
+		this.vertx = vertx;
 	}
 
 	/**
-	 * Collect the migration scripts and set of touched fields when migrating the given container into the next version
+	 * Create the plan for the migration of containers from the given version into the next version.
 	 *
 	 * @param fromVersion
 	 *            Container which contains the expected migration changes
-	 * @param touchedFields
-	 *            Set of touched fields (will be modified)
-	 * @throws IOException
+	 * @return Plan which contains the classified changes and the set of touched fields
 	 */
-	protected void prepareMigration(GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion, Set<String> touchedFields) throws IOException {
-		SchemaChange<?> change = fromVersion.getNextChange();
-		while (change != null) {
-			// if either the type changes or the field is removed, the field is
-			// "touched"
-//			if (change instanceof UpdateFieldChangeImpl) {
-//				touchedFields.add(((UpdateFieldChangeImpl) change).getFieldName());
-//			} else
-			if (change instanceof FieldTypeChangeImpl) {
-				touchedFields.add(((FieldTypeChangeImpl) change).getFieldName());
-			} else if (change instanceof RemoveFieldChange) {
-				touchedFields.add(((RemoveFieldChange) change).getFieldName());
-			}
-
-			change = change.getNextChange();
-		}
+	protected MigrationPlan prepareMigration(GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion) {
+		MigrationPlan plan = MigrationPlan.of(fromVersion);
+		log.info("Prepared migration of version {" + fromVersion.getVersion() + "} - " + plan);
+		return plan;
 	}
 
 	/**
@@ -82,23 +84,29 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	 * 
 	 * @param ac
 	 *            context
+	 * @param newContainer
+	 *            cloned container which will be migrated
+	 * @param newContent
+	 *            rest model of the container. May be null if the plan does not require the rest model.
 	 * @param fromVersion
-	 *            rest model of the container
+	 *            old schema version
 	 * @param newVersion
 	 *            new schema version
-	 * @param touchedFields
-	 *            set of touched fields
+	 * @param plan
+	 *            migration plan
 	 * @throws Exception
 	 */
 	protected void migrate(NodeMigrationActionContextImpl ac, GraphFieldContainer newContainer, FieldContainer newContent,
 		   	GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion,
-		GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> newVersion, Set<String> touchedFields) throws Exception {
+		GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> newVersion, MigrationPlan plan) throws Exception {
 
 		// Remove all touched fields (if necessary, they will be readded later)
+		Set<String> touchedFields = plan.getTouchedFields();
 		newContainer.getFields().stream().filter(f -> touchedFields.contains(f.getFieldKey())).forEach(f -> f.removeField(newContainer));
 		newContainer.setSchemaContainerVersion(newVersion);
 
-		FieldMap fields = newContent.getFields();
+		// Changes which don't transform data will not read the old content. The cloned container already contains all other fields.
+		FieldMap fields = newContent != null ? newContent.getFields() : new FieldMapImpl();
 
 		Map<String, Field> newFields = fromVersion.getChanges()
 			.map(change -> change.createFields(fromVersion.getSchema(), newContent))
@@ -110,53 +118,227 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 		newContainer.updateFieldsFromRest(ac, fields);
 	}
 
-	@ParametersAreNonnullByDefault
-	protected <T> List<Exception> migrateLoop(Iterable<T> containers, EventCauseInfo cause, MigrationStatusHandler status,
-		TriConsumer<EventQueueBatch, T, List<Exception>> migrator) {
-		// Iterate over all containers and invoke a migration for each one
+	/**
+	 * Migrate the elements of the cursor window by window. Only the elements of the current window are loaded at once. The id of the last element of each
+	 * migrated window will be stored as checkpoint in the job so that a restarted migration can resume after it.
+	 *
+	 * @param cursor
+	 *            Cursor which provides the windows
+	 * @param partitionKey
+	 *            Function which returns the partition key of an element or null if the elements should not be migrated in parallel
+	 * @param cause
+	 * @param status
+	 * @param migratorFactory
+	 *            Factory for the migrator. The factory will be invoked once per partition and window.
+	 * @return List of detected errors
+	 */
+	protected <T extends MeshElement> List<Exception> migrateWindows(MigrationCursor<T> cursor, Function<T, Object> partitionKey, EventCauseInfo cause,
+		MigrationStatusHandler status, Supplier<ElementMigrator<T>> migratorFactory) {
+		int workers = partitionKey == null ? 1 : options.getContentOptions().getMigrationWorkers();
+		List<Exception> errorsDetected = new ArrayList<>();
 		long count = 0;
+		List<T> window = cursor.next();
+		while (!window.isEmpty()) {
+			List<T> elements = window;
+			List<List<T>> partitions = db.tx(() -> partition(elements.iterator(), partitionKey, workers));
+			errorsDetected.addAll(migratePartitions(partitions, cause, status, migratorFactory));
+			count += elements.size();
+			log.info("Migrated window of {" + elements.size() + "} elements. Total: {" + count + "}");
+
+			if (status != null) {
+				String checkpoint = cursor.getLastId();
+				db.tx(() -> {
+					status.setCheckpoint(checkpoint);
+					status.commit();
+				});
+			}
+			window = cursor.next();
+		}
+		log.info("Migration of " + count + " elements done..");
+		return errorsDetected;
+	}
+
+	/**
+	 * Return the amount of elements which should be loaded per migration window.
+	 *
+	 * @return
+	 */
+	protected int getWindowSize() {
+		ContentConfig config = options.getContentOptions();
+		return Math.max(1000, config.getMigrationWorkers() * config.getMigrationBatchSize());
+	}
+
+	/**
+	 * Split the elements into the given number of disjoint partitions. Elements which share the same key will always be placed in the same partition. The
+	 * partitions are contiguous ranges of the keys in the order in which they were returned by the iterator.
+	 *
+	 * @param elements
+	 *            Elements to partition
+	 * @param keyMapper
+	 *            Function which returns the partition key of an element
+	 * @param count
+	 *            Maximum number of partitions
+	 * @return List of non-empty partitions
+	 */
+	protected <T> List<List<T>> partition(Iterator<? extends T> elements, Function<T, Object> keyMapper, int count) {
+		if (count <= 1) {
+			List<T> all = Lists.newArrayList(elements);
+			return all.isEmpty() ? Collections.emptyList() : Collections.singletonList(all);
+		}
+
+		// Group the elements by key
+		Map<Object, List<T>> groups = new LinkedHashMap<>();
+		int total = 0;
+		while (elements.hasNext()) {
+			T element = elements.next();
+			groups.computeIfAbsent(keyMapper.apply(element), k -> new ArrayList<>()).add(element);
+			total++;
+		}
+
+		// Now split the groups into ranges of roughly the same size
+		int partitionSize = (int) Math.ceil((double) total / count);
+		List<List<T>> partitions = new ArrayList<>();
+		List<T> current = new ArrayList<>();
+		for (List<T> group : groups.values()) {
+			current.addAll(group);
+			if (current.size() >= partitionSize && partitions.size() < count - 1) {
+				partitions.add(current);
+				current = new ArrayList<>();
+			}
+		}
+		if (!current.isEmpty()) {
+			partitions.add(current);
+		}
+		return partitions;
+	}
+
+	/**
+	 * Migrate the given partitions in parallel using the configured number of migration workers. The elements of each partition are migrated in batches.
+	 * Each batch is migrated within a single transaction which will be retried as a whole if a conflict is detected. If the batch fails the elements of the
+	 * batch will be migrated one by one in order to isolate the failing element.
+	 *
+	 * @param partitions
+	 *            Disjoint partitions of elements
+	 * @param cause
+	 * @param status
+	 * @param migratorFactory
+	 *            Factory for the migrator. The factory will be invoked once per partition.
+	 * @return List of detected errors
+	 */
+	protected <T> List<Exception> migratePartitions(List<List<T>> partitions, EventCauseInfo cause, MigrationStatusHandler status,
+		Supplier<ElementMigrator<T>> migratorFactory) {
+		int batchSize = options.getContentOptions().getMigrationBatchSize();
+		List<Exception> errorsDetected = new ArrayList<>();
+		if (partitions.size() == 1) {
+			errorsDetected.addAll(migratePartition(0, partitions.get(0), cause, status, migratorFactory.get(), batchSize));
+		} else if (partitions.size() > 1) {
+			log.info("Migrating {" + partitions.size() + "} partitions in parallel.");
+			WorkerExecutor pool = getWorkerPool();
+			Observable.range(0, partitions.size())
+				.flatMapSingle(partition -> pool.<List<Exception>>rxExecuteBlocking(bh -> {
+					try {
+						bh.complete(migratePartition(partition, partitions.get(partition), cause, status, migratorFactory.get(), batchSize));
+					} catch (Exception e) {
+						log.error("Migration of partition {" + partition + "} failed.", e);
+						bh.complete(Collections.singletonList(e));
+					}
+				}, false).toSingle())
+				.blockingForEach(errorsDetected::addAll);
+		}
+
+		log.info("Encountered {" + errorsDetected.size() + "} errors during partitioned migration.");
+		return errorsDetected;
+	}
+
+	private <T> List<Exception> migratePartition(int partition, List<T> elements, EventCauseInfo cause, MigrationStatusHandler status,
+		ElementMigrator<T> migrator, int batchSize) {
 		List<Exception> errorsDetected = new ArrayList<>();
 		EventQueueBatch sqb = batchProvider.get();
 		sqb.setCause(cause);
-		for (T container : containers) {
+		long count = 0;
+		long lastSync = 0;
+		for (List<T> batch : Lists.partition(elements, batchSize)) {
 			try {
-				// Each container migration has its own search queue batch which is then combined with other batch entries.
-				// This prevents adding partial entries from failed migrations.
-				EventQueueBatch containerBatch = batchProvider.get();
-				db.tx(() -> {
-					migrator.accept(containerBatch, container, errorsDetected);
-				});
-				sqb.addAll(containerBatch);
-				status.incCompleted();
-				if (count % 50 == 0) {
-					log.info("Migrated containers: " + count);
-				}
-				count++;
+				migrateBatch(batch, migrator, sqb, status);
 			} catch (Exception e) {
-				errorsDetected.add(e);
+				if (batch.size() == 1) {
+					log.error("Migration of element in partition {" + partition + "} failed.", e);
+					errorsDetected.add(e);
+				} else {
+					log.warn("Migration of batch in partition {" + partition + "} failed. Migrating the elements one by one.", e);
+					for (T element : batch) {
+						try {
+							migrateBatch(Collections.singletonList(element), migrator, sqb, status);
+						} catch (Exception e1) {
+							log.error("Migration of element in partition {" + partition + "} failed.", e1);
+							errorsDetected.add(e1);
+						}
+					}
+				}
 			}
+			count += batch.size();
 
-			if (count % 500 == 0) {
+			if (count - lastSync >= 500) {
+				lastSync = count;
 				// Process the batch and reset it
-				log.info("Syncing batch with size: " + sqb.size());
+				log.info("Syncing batch of partition {" + partition + "} with size: " + sqb.size());
 				db.tx(() -> {
 					sqb.dispatch();
 					sqb.clear();
 				});
+				if (status != null) {
+					status.setPartitionProgress(partition, count, elements.size());
+				}
 			}
 		}
 		if (sqb.size() > 0) {
-			log.info("Syncing last batch with size: " + sqb.size());
+			log.info("Syncing last batch of partition {" + partition + "} with size: " + sqb.size());
 			db.tx(() -> {
 				sqb.dispatch();
 			});
 		}
-
-		log.info("Migration of " + count + " containers done..");
-		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
+		if (status != null) {
+			status.setPartitionProgress(partition, count, elements.size());
+		}
 		return errorsDetected;
 	}
 
+	/**
+	 * Migrate the given elements within a single transaction. A failing element fails the whole transaction. The events and the progress will only be
+	 * recorded once the transaction has been committed.
+	 */
+	private <T> void migrateBatch(List<T> batch, ElementMigrator<T> migrator, EventQueueBatch sqb, MigrationStatusHandler status) {
+		EventQueueBatch result = db.tx(() -> {
+			// Create the batch within the transaction. A retry of the transaction would otherwise add the events twice.
+			EventQueueBatch txBatch = batchProvider.get();
+			for (T element : batch) {
+				migrator.migrate(txBatch, element);
+			}
+			return txBatch;
+		});
+		sqb.addAll(result);
+		if (status != null) {
+			batch.forEach(e -> status.incCompleted());
+		}
+		onMigrated(batch.size());
+	}
+
+	/**
+	 * Invoked once the given number of elements has been migrated and the transaction has been committed.
+	 *
+	 * @param count
+	 */
+	protected void onMigrated(int count) {
+	}
+
+	private synchronized WorkerExecutor getWorkerPool() {
+		if (workerPool == null) {
+			// The partitions run until they are done. Thus we don't want the blocked thread checker to warn about the workers.
+			workerPool = vertx.createSharedWorkerExecutor("migrationWorker", options.getContentOptions().getMigrationWorkers(), Long.MAX_VALUE);
+		}
+		return workerPool;
+	}
+
 	/**
 	 * Invoke the post migration purge for the containers.
 	 *
@@ -0,0 +1,25 @@
+package com.gentics.mesh.core.endpoint.migration;
+
+import com.gentics.mesh.event.EventQueueBatch;
+
+/**
+ * Migrator for a single element. The migrator is invoked within the transaction of the migrated batch. Errors must not be caught by the migrator, so
+ * that the transaction can be rolled back and the failing element can be isolated.
+ *
+ * @param <T>
+ *            Type of the migrated element
+ */
+@FunctionalInterface
+public interface ElementMigrator<T> {
+
+	/**
+	 * Migrate the element.
+	 *
+	 * @param batch
+	 *            Batch for the events of the migrated element
+	 * @param element
+	 *            Element to migrate
+	 * @throws Exception
+	 */
+	void migrate(EventQueueBatch batch, T element) throws Exception;
+}
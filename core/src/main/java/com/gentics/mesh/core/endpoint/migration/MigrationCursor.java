@@ -0,0 +1,154 @@
+package com.gentics.mesh.core.endpoint.migration;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.graphdb.model.MeshElement;
+import com.gentics.mesh.graphdb.spi.Database;
+
+/**
+ * Cursor which iterates over elements in windows. Each window is loaded within a new transaction. Thus only the elements of the current window need to be
+ * kept in memory.
+ *
+ * Two kinds of cursors are supported:
+ * <ul>
+ * <li>Consuming cursors use a traversal which no longer returns elements once they have been migrated (e.g. the draft containers of a schema version). The
+ * traversal will be evaluated again for each window. Elements which were already returned but are still part of the traversal (e.g. because their migration
+ * failed) will be skipped.</li>
+ * <li>Stable cursors load the vertices which are connected to a vertex ordered by their id. Each window only loads the vertices with an id which is
+ * greater than the last id of the previous window. The cursor can thus resume after any id, even if the vertex with that id has been deleted in the
+ * meantime.</li>
+ * </ul>
+ *
+ * @param <T>
+ *            Type of the elements
+ */
+public class MigrationCursor<T extends MeshElement> {
+
+	private final Database db;
+
+	private final int windowSize;
+
+	private final Supplier<Iterator<? extends T>> traversal;
+
+	private final BiFunction<String, Integer, List<? extends T>> range;
+
+	private String lastId;
+
+	private Set<String> lastWindow = new HashSet<>();
+
+	private final Set<String> retained = new HashSet<>();
+
+	/**
+	 * Create a new consuming cursor.
+	 *
+	 * @param db
+	 * @param traversal
+	 *            Supplier for the traversal which will be invoked within a transaction. Migrated elements must no longer be returned by the traversal.
+	 * @param windowSize
+	 *            Maximum amount of elements per window
+	 */
+	public MigrationCursor(Database db, Supplier<Iterator<? extends T>> traversal, int windowSize) {
+		this(db, windowSize, traversal, null, null);
+	}
+
+	private MigrationCursor(Database db, int windowSize, Supplier<Iterator<? extends T>> traversal, BiFunction<String, Integer, List<? extends T>> range,
+		String checkpoint) {
+		this.db = db;
+		this.windowSize = windowSize;
+		this.traversal = traversal;
+		this.range = range;
+		this.lastId = checkpoint;
+	}
+
+	/**
+	 * Create a new stable cursor which iterates over the vertices which are connected to the given vertex via outgoing edges of the given label (e.g. the
+	 * nodes of a project which are connected to its node root). Only the connected vertices will be loaded. The vertices are ordered by their id.
+	 *
+	 * @param db
+	 * @param outId
+	 *            Id of the vertex from which the edges start
+	 * @param edgeLabel
+	 *            Label of the edges. The label must have been indexed with an out/in index.
+	 * @param classOfVertex
+	 *            Type of the connected vertices
+	 * @param windowSize
+	 *            Maximum amount of elements per window
+	 * @param checkpoint
+	 *            Id of the last vertex which was handled by a previous run or null to start with the first vertex
+	 * @return
+	 */
+	public static <T extends MeshVertex> MigrationCursor<T> stable(Database db, Object outId, String edgeLabel, Class<? extends T> classOfVertex,
+		int windowSize, String checkpoint) {
+		return new MigrationCursor<>(db, windowSize, null, (lastId, limit) -> db.getVerticesAfter(outId, edgeLabel, classOfVertex, lastId, limit),
+			checkpoint);
+	}
+
+	/**
+	 * Return the next window of elements.
+	 *
+	 * @return Elements of the window. An empty list will be returned once all elements have been returned.
+	 */
+	public List<T> next() {
+		return db.tx(() -> range == null ? nextConsuming() : nextStable());
+	}
+
+	/**
+	 * Return the id of the last element that was handled by the cursor. For stable cursors the id can be stored as checkpoint to resume the iteration later
+	 * on.
+	 *
+	 * @return
+	 */
+	public String getLastId() {
+		return lastId;
+	}
+
+	private List<T> nextConsuming() {
+		List<T> window = new ArrayList<>();
+		Set<String> windowIds = new HashSet<>();
+		Iterator<? extends T> it = traversal.get();
+		while (it.hasNext() && window.size() < windowSize) {
+			T element = it.next();
+			String id = idOf(element);
+			if (retained.contains(id)) {
+				continue;
+			}
+			// The element was returned before but is still part of the traversal. It will not be returned again.
+			if (lastWindow.contains(id)) {
+				retained.add(id);
+				continue;
+			}
+			window.add(element);
+			windowIds.add(id);
+		}
+		lastWindow = windowIds;
+		if (!window.isEmpty()) {
+			lastId = idOf(window.get(window.size() - 1));
+		}
+		return window;
+	}
+
+	/**
+	 * Load the vertices which follow the last id.
+	 *
+	 * @return
+	 */
+	private List<T> nextStable() {
+		List<T> window = new ArrayList<>(range.apply(lastId, windowSize));
+		if (!window.isEmpty()) {
+			lastId = idOf(window.get(window.size() - 1));
+		}
+		return window;
+	}
+
+	private String idOf(T element) {
+		return String.valueOf(element.id());
+	}
+
+}
@@ -0,0 +1,156 @@
+package com.gentics.mesh.core.endpoint.migration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
+import com.gentics.mesh.core.data.schema.RemoveFieldChange;
+import com.gentics.mesh.core.data.schema.SchemaChange;
+import com.gentics.mesh.core.data.schema.impl.AddFieldChangeImpl;
+import com.gentics.mesh.core.data.schema.impl.FieldTypeChangeImpl;
+import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
+import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangeModel;
+
+/**
+ * Plan for the migration of field containers from one schema version to the next one. The plan classifies the changes of the version. Changes which only
+ * affect the structure of the schema can be applied by directly editing the cloned container. Only changes which transform field data require the old
+ * content to be loaded as REST model.
+ */
+public class MigrationPlan {
+
+	/**
+	 * Classification of a schema change.
+	 */
+	public enum ChangeClass {
+
+		/**
+		 * A new field is added. Containers don't contain data for the field.
+		 */
+		ADD_FIELD(false),
+
+		/**
+		 * The field is removed. The field will be removed from the cloned container.
+		 */
+		REMOVE_FIELD(false),
+
+		/**
+		 * Only the field settings (e.g. label, required flag) are updated. The data is not affected.
+		 */
+		UPDATE_FIELD(false),
+
+		/**
+		 * The field is renamed. The data needs to be moved to the new field.
+		 */
+		RENAME_FIELD(true),
+
+		/**
+		 * The field type changes. The data needs to be converted.
+		 */
+		CHANGE_FIELD_TYPE(true),
+
+		/**
+		 * Only the settings of the schema or microschema (e.g. display field, segment field) are updated.
+		 */
+		UPDATE_CONTAINER(false);
+
+		private final boolean transformsData;
+
+		ChangeClass(boolean transformsData) {
+			this.transformsData = transformsData;
+		}
+
+		/**
+		 * Check whether changes of this class transform field data.
+		 *
+		 * @return
+		 */
+		public boolean transformsData() {
+			return transformsData;
+		}
+	}
+
+	private final List<ChangeClass> changes;
+
+	private final Set<String> touchedFields;
+
+	private MigrationPlan(List<ChangeClass> changes, Set<String> touchedFields) {
+		this.changes = Collections.unmodifiableList(changes);
+		this.touchedFields = Collections.unmodifiableSet(touchedFields);
+	}
+
+	/**
+	 * Create the plan for the migration of containers from the given version to the next version. This needs to be invoked within a transaction.
+	 *
+	 * @param fromVersion
+	 *            Version which contains the changes to the next version
+	 * @return
+	 */
+	public static MigrationPlan of(GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion) {
+		List<ChangeClass> changes = new ArrayList<>();
+		Set<String> touchedFields = new HashSet<>();
+		SchemaChange<?> change = fromVersion.getNextChange();
+		while (change != null) {
+			ChangeClass changeClass = classify(change);
+			changes.add(changeClass);
+			// If either the type changes or the field is removed, the field is "touched"
+			if (change instanceof FieldTypeChangeImpl) {
+				touchedFields.add(((FieldTypeChangeImpl) change).getFieldName());
+			} else if (change instanceof RemoveFieldChange) {
+				touchedFields.add(((RemoveFieldChange) change).getFieldName());
+			}
+			change = change.getNextChange();
+		}
+		return new MigrationPlan(changes, touchedFields);
+	}
+
+	private static ChangeClass classify(SchemaChange<?> change) {
+		if (change instanceof AddFieldChangeImpl) {
+			return ChangeClass.ADD_FIELD;
+		} else if (change instanceof RemoveFieldChange) {
+			return ChangeClass.REMOVE_FIELD;
+		} else if (change instanceof FieldTypeChangeImpl) {
+			return ChangeClass.CHANGE_FIELD_TYPE;
+		} else if (change instanceof UpdateFieldChangeImpl) {
+			String newName = change.getRestProperty(SchemaChangeModel.NAME_KEY);
+			return newName == null ? ChangeClass.UPDATE_FIELD : ChangeClass.RENAME_FIELD;
+		} else {
+			return ChangeClass.UPDATE_CONTAINER;
+		}
+	}
+
+	/**
+	 * Return the classified changes in the order in which they will be applied.
+	 *
+	 * @return
+	 */
+	public List<ChangeClass> getChanges() {
+		return changes;
+	}
+
+	/**
+	 * Return the names of the fields which will be removed from the migrated container before the changes are applied.
+	 *
+	 * @return
+	 */
+	public Set<String> getTouchedFields() {
+		return touchedFields;
+	}
+
+	/**
+	 * Check whether the changes need the content of the old container as REST model. This is only the case if at least one change transforms field data.
+	 * Otherwise the changes can be applied directly to the cloned container.
+	 *
+	 * @return
+	 */
+	public boolean requiresRestModel() {
+		return changes.stream().anyMatch(ChangeClass::transformsData);
+	}
+
+	@Override
+	public String toString() {
+		return "changes: " + changes + ", touchedFields: " + touchedFields + ", direct: " + !requiresRestModel();
+	}
+}
@@ -62,6 +62,33 @@ public interface MigrationStatusHandler {
 	 */
 	void incCompleted();
 
+	/**
+	 * Report the progress of a single partition of a partitioned migration. The partitions report their progress concurrently. Thus the progress is only
+	 * aggregated in memory. The overall completion count will be stored in the job when the status gets committed at the next checkpoint.
+	 * 
+	 * @param partition
+	 *            Index of the partition
+	 * @param completed
+	 *            Number of migrated elements of the partition
+	 * @param total
+	 *            Total number of elements of the partition
+	 */
+	void setPartitionProgress(int partition, long completed, long total);
+
+	/**
+	 * Return the checkpoint which was stored by a previous run of the migration.
+	 * 
+	 * @return Id of the last migrated element or null if the migration has not yet stored a checkpoint
+	 */
+	String getCheckpoint();
+
+	/**
+	 * Set the id of the last migrated element. The checkpoint will be stored when the status is committed.
+	 * 
+	 * @param checkpoint
+	 */
+	void setCheckpoint(String checkpoint);
+
 	default Exception fail(HttpResponseStatus status, String message) {
 		GenericRestException ex = Errors.error(status, message);
 		error(ex, message);
@@ -1,12 +1,12 @@
 package com.gentics.mesh.core.endpoint.migration.branch;
 
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD_CONTAINER;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_NODE;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.common.ContainerType.INITIAL;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -16,13 +16,15 @@ import javax.inject.Singleton;
 import com.gentics.mesh.context.BranchMigrationContext;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
-import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.endpoint.migration.AbstractMigrationHandler;
+import com.gentics.mesh.core.endpoint.migration.MigrationCursor;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.rest.event.node.BranchMigrationCause;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.madl.traversal.TraversalResult;
@@ -32,6 +34,7 @@ import io.reactivex.Completable;
 import io.reactivex.exceptions.CompositeException;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
 
 @Singleton
 public class BranchMigrationHandler extends AbstractMigrationHandler {
@@ -39,8 +42,9 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 	private static final Logger log = LoggerFactory.getLogger(BranchMigrationHandler.class);
 
 	@Inject
-	public BranchMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider) {
-		super(db, nodeFieldAPIHandler, metrics, batchProvider);
+	public BranchMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		MeshOptions options, Vertx vertx) {
+		super(db, nodeFieldAPIHandler, metrics, batchProvider, options, vertx);
 	}
 
 	/**
@@ -64,19 +68,18 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 				}
 			});
 
-			List<? extends Node> nodes = db.tx(() -> {
-				Project project = oldBranch.getProject();
-				return project.getNodeRoot().findAll().list();
-			});
+			// The nodes are loaded ordered by their id. A restarted migration will thus resume after the last migrated window.
+			String checkpoint = status != null ? db.tx(() -> status.getCheckpoint()) : null;
+			Object nodeRootId = db.tx(() -> oldBranch.getProject().getNodeRoot().id());
+			MigrationCursor<Node> cursor = MigrationCursor.stable(db, nodeRootId, HAS_NODE, NodeImpl.class, getWindowSize(), checkpoint);
 
-			List<Exception> errorsDetected = new ArrayList<>();
 			// Iterate over all nodes of the project and migrate them to the new branch
-			migrateLoop(nodes, cause, status, (batch, node, errors) -> {
-				migrateNode(node, batch, oldBranch, newBranch, errorsDetected);
+			List<Exception> errorsDetected = migrateWindows(cursor, null, cause, status, () -> (batch, node) -> {
+				migrateNode(node, batch, oldBranch, newBranch);
 			});
 
 			if (!errorsDetected.isEmpty()) {
-				log.info("Encountered {" + errorsDetected.size() + "} errors during micronode migration.");
+				log.info("Encountered {" + errorsDetected.size() + "} errors during branch migration.");
 			}
 
 			// TODO prepare errors. They should be easy to understand and to grasp
@@ -102,74 +105,65 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 	 * @param batch
 	 * @param oldBranch
 	 * @param newBranc
-	 * @param errorsDetected
 	 */
-	private void migrateNode(Node node, EventQueueBatch batch, Branch oldBranch, Branch newBranch, List<Exception> errorsDetected) {
-		try {
-			db.tx((tx) -> {
+	private void migrateNode(Node node, EventQueueBatch batch, Branch oldBranch, Branch newBranch) {
+		// Check whether the node already has an initial container and thus was already migrated
+		if (node.getGraphFieldContainers(newBranch, INITIAL).hasNext()) {
+			return;
+		}
 
-				// Check whether the node already has an initial container and thus was already migrated
-				if (node.getGraphFieldContainers(newBranch, INITIAL).hasNext()) {
-					return;
-				}
+		Node parent = node.getParentNode(oldBranch.getUuid());
+		if (parent != null) {
+			node.setParentNode(newBranch.getUuid(), parent);
+		}
 
-				Node parent = node.getParentNode(oldBranch.getUuid());
-				if (parent != null) {
-					node.setParentNode(newBranch.getUuid(), parent);
-				}
+		TraversalResult<? extends NodeGraphFieldContainer> drafts = node.getGraphFieldContainers(oldBranch, DRAFT);
+		TraversalResult<? extends NodeGraphFieldContainer> published = node.getGraphFieldContainers(oldBranch, PUBLISHED);
 
-				TraversalResult<? extends NodeGraphFieldContainer> drafts = node.getGraphFieldContainers(oldBranch, DRAFT);
-				TraversalResult<? extends NodeGraphFieldContainer> published = node.getGraphFieldContainers(oldBranch, PUBLISHED);
+		// 1. Migrate draft containers first
+		drafts.forEach(container -> {
+			// We only need to set the initial edge if there are no published containers.
+			// Otherwise the initial edge will be set using the published container.
+			if (!published.hasNext()) {
+				setInitial(node, container, newBranch);
+			}
 
-				// 1. Migrate draft containers first
-				drafts.forEach(container -> {
-					// We only need to set the initial edge if there are no published containers.
-					// Otherwise the initial edge will be set using the published container.
-					if (!published.hasNext()) {
-						setInitial(node, container, newBranch);
-					}
+			GraphFieldContainerEdgeImpl draftEdge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
+			draftEdge.setLanguageTag(container.getLanguageTag());
+			draftEdge.setType(DRAFT);
+			draftEdge.setBranchUuid(newBranch.getUuid());
+			String value = container.getSegmentFieldValue();
+			if (value != null) {
+				draftEdge.setSegmentInfo(parent, value);
+			} else {
+				draftEdge.setSegmentInfo(null);
+			}
+			draftEdge.setUrlFieldInfo(container.getUrlFieldValues());
+			batch.add(container.onUpdated(newBranch.getUuid(), DRAFT));
+		});
 
-					GraphFieldContainerEdgeImpl draftEdge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
-					draftEdge.setLanguageTag(container.getLanguageTag());
-					draftEdge.setType(DRAFT);
-					draftEdge.setBranchUuid(newBranch.getUuid());
-					String value = container.getSegmentFieldValue();
-					if (value != null) {
-						draftEdge.setSegmentInfo(parent, value);
-					} else {
-						draftEdge.setSegmentInfo(null);
-					}
-					draftEdge.setUrlFieldInfo(container.getUrlFieldValues());
-					batch.add(container.onUpdated(newBranch.getUuid(), DRAFT));
-				});
-
-				// 2. Migrate published containers
-				published.forEach(container -> {
-					// Set the initial edge for published containers since the published container may be an older version and created before the draft container was created.
-					// The initial edge should always point to the oldest container of either draft or published.
-					setInitial(node, container, newBranch);
-
-					GraphFieldContainerEdgeImpl publishEdge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
-					publishEdge.setLanguageTag(container.getLanguageTag());
-					publishEdge.setType(PUBLISHED);
-					publishEdge.setBranchUuid(newBranch.getUuid());
-					String value = container.getSegmentFieldValue();
-					if (value != null) {
-						publishEdge.setSegmentInfo(parent, value);
-					} else {
-						publishEdge.setSegmentInfo(null);
-					}
-					publishEdge.setUrlFieldInfo(container.getUrlFieldValues());
-					batch.add(container.onUpdated(newBranch.getUuid(), PUBLISHED));
-				});
+		// 2. Migrate published containers
+		published.forEach(container -> {
+			// Set the initial edge for published containers since the published container may be an older version and created before the draft container was created.
+			// The initial edge should always point to the oldest container of either draft or published.
+			setInitial(node, container, newBranch);
+
+			GraphFieldContainerEdgeImpl publishEdge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
+			publishEdge.setLanguageTag(container.getLanguageTag());
+			publishEdge.setType(PUBLISHED);
+			publishEdge.setBranchUuid(newBranch.getUuid());
+			String value = container.getSegmentFieldValue();
+			if (value != null) {
+				publishEdge.setSegmentInfo(parent, value);
+			} else {
+				publishEdge.setSegmentInfo(null);
+			}
+			publishEdge.setUrlFieldInfo(container.getUrlFieldValues());
+			batch.add(container.onUpdated(newBranch.getUuid(), PUBLISHED));
+		});
 
-				// Migrate tags
-				node.getTags(oldBranch).forEach(tag -> node.addTag(tag, newBranch));
-			});
-		} catch (Exception e1) {
-			log.error("Error while handling node {" + node.getUuid() + "} during schema migration.", e1);
-			errorsDetected.add(e1);
-		}
+		// Migrate tags
+		node.getTags(oldBranch).forEach(tag -> node.addTag(tag, newBranch));
 	}
 
 	/**
@@ -4,6 +4,7 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 
 import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.management.MBeanServer;
 import javax.management.MalformedObjectNameException;
@@ -35,10 +36,12 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private Job job;
 
-	private long completionCount = 0;
+	private final AtomicLong completionCount = new AtomicLong();
 
 	private JobStatus status;
 
+	private String checkpoint;
+
 	public MigrationStatusHandlerImpl(Job job, Vertx vertx, JobType type) {
 		this.vertx = vertx;
 		this.job = job;
@@ -53,7 +56,10 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		if (versionEdge != null) {
 			versionEdge.setMigrationStatus(status);
 		}
-		job.setCompletionCount(completionCount);
+		job.setCompletionCount(completionCount.get());
+		if (checkpoint != null) {
+			job.setCheckpoint(checkpoint);
+		}
 		job.setStatus(status);
 
 		Tx.get().getGraph().commit();
@@ -123,7 +129,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	@Override
 	public void setCompletionCount(long completionCount) {
-		this.completionCount = completionCount;
+		this.completionCount.set(completionCount);
 	}
 
 	@Override
@@ -133,7 +139,24 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	@Override
 	public void incCompleted() {
-		completionCount++;
+		completionCount.incrementAndGet();
+	}
+
+	@Override
+	public String getCheckpoint() {
+		return job.getCheckpoint();
+	}
+
+	@Override
+	public void setCheckpoint(String checkpoint) {
+		this.checkpoint = checkpoint;
+	}
+
+	@Override
+	public void setPartitionProgress(int partition, long completed, long total) {
+		// The progress is only aggregated by the completion counter. It will be stored by the coordinating thread when the status gets committed.
+		log.info("Migration partition {" + partition + "}: migrated {" + completed + "} of {" + total + "} elements. Overall {" + completionCount.get()
+			+ "} elements have been migrated.");
 	}
 
 }
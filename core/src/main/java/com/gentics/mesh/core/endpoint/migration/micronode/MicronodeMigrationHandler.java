@@ -6,9 +6,7 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -24,10 +22,13 @@ import com.gentics.mesh.core.data.node.field.list.MicronodeGraphFieldList;
 import com.gentics.mesh.core.data.node.field.nesting.MicronodeGraphField;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.endpoint.migration.AbstractMigrationHandler;
+import com.gentics.mesh.core.endpoint.migration.MigrationCursor;
+import com.gentics.mesh.core.endpoint.migration.MigrationPlan;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.rest.event.node.MicroschemaMigrationCause;
 import com.gentics.mesh.core.rest.micronode.MicronodeResponse;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
@@ -38,6 +39,7 @@ import io.reactivex.Completable;
 import io.reactivex.exceptions.CompositeException;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
 
 @Singleton
 public class MicronodeMigrationHandler extends AbstractMigrationHandler {
@@ -45,8 +47,9 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	private static final Logger log = LoggerFactory.getLogger(MicronodeMigrationHandler.class);
 
 	@Inject
-	public MicronodeMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider) {
-		super(db, binaryFieldHandler, metrics, batchProvider);
+	public MicronodeMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		MeshOptions options, Vertx vertx) {
+		super(db, binaryFieldHandler, metrics, batchProvider, options, vertx);
 	}
 
 	/**
@@ -67,10 +70,10 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 			// Collect the migration scripts
 			NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
 			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts = new ArrayList<>();
-			Set<String> touchedFields = new HashSet<>();
+			MigrationPlan plan;
 			try {
-				db.tx(() -> {
-					prepareMigration(fromVersion, touchedFields);
+				plan = db.tx(() -> {
+					MigrationPlan preparedPlan = prepareMigration(fromVersion);
 
 					ac.setProject(branch.getProject());
 					ac.setBranch(branch);
@@ -79,18 +82,19 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 						status.setStatus(RUNNING);
 						status.commit();
 					}
+					return preparedPlan;
 				});
 			} catch (Exception e) {
 				return Completable.error(e);
 			}
 
-			// Get the containers, that need to be transformed
-			List<? extends NodeGraphFieldContainer> fieldContainersResult = db.tx(() -> {
-				return fromVersion.getDraftFieldContainers(branch.getUuid()).list();
-			});
+			// Get the containers, that need to be transformed. Migrated containers are no longer linked to the old version.
+			MigrationCursor<NodeGraphFieldContainer> cursor = new MigrationCursor<>(db,
+				() -> fromVersion.getDraftFieldContainers(branch.getUuid()).iterator(), getWindowSize());
 
 			// No field containers, migration is done
-			if (fieldContainersResult.isEmpty()) {
+			boolean empty = db.tx(() -> !fromVersion.getDraftFieldContainers(branch.getUuid()).hasNext());
+			if (empty) {
 				if (status != null) {
 					db.tx(() -> {
 						status.setStatus(COMPLETED);
@@ -100,9 +104,10 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 				return Completable.complete();
 			}
 
-			List<Exception> errorsDetected = migrateLoop(fieldContainersResult, cause, status,
-				(batch, container, errors) -> migrateMicronodeContainer(ac,
-					batch, branch, fromVersion, toVersion, container, touchedFields, errors));
+			// The context is shared by all containers. Thus the containers are migrated sequentially.
+			List<Exception> errorsDetected = migrateWindows(cursor, null, cause, status,
+				() -> (batch, container) -> migrateMicronodeContainer(ac,
+					batch, branch, fromVersion, toVersion, container, plan));
 
 			Completable result = Completable.complete();
 			if (!errorsDetected.isEmpty()) {
@@ -127,13 +132,13 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 * @param container
 	 * @param fromVersion
 	 * @param toVersion
-	 * @param touchedFields
+	 * @param plan
 	 * @param nextDraftVersion
 	 * @throws Exception
 	 */
 	private void migrateDraftContainer(NodeMigrationActionContextImpl ac, EventQueueBatch sqb, Branch branch, Node node,
 		NodeGraphFieldContainer container, MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion,
-		Set<String> touchedFields, VersionNumber nextDraftVersion)
+		MigrationPlan plan, VersionNumber nextDraftVersion)
 		throws Exception {
 
 		String branchUuid = branch.getUuid();
@@ -154,7 +159,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 			migrated.setVersion(nextDraftVersion);
 		}
 
-		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, touchedFields);
+		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, plan);
 
 		// Ensure the search index is updated accordingly
 		sqb.add(migrated.onUpdated(branchUuid, DRAFT));
@@ -164,7 +169,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	}
 
 	/**
-	 * Migrate the given micronode container.
+	 * Migrate the given micronode container. The container is migrated within the transaction of the migrated batch.
 	 *
 	 * @param ac
 	 * @param batch
@@ -172,13 +177,13 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 * @param fromVersion
 	 * @param toVersion
 	 * @param container
-	 * @param touchedFields
-	 * @param errorsDetected
+	 * @param plan
+	 * @throws Exception
 	 */
 	private void migrateMicronodeContainer(NodeMigrationActionContextImpl ac, EventQueueBatch batch, Branch branch,
 										   MicroschemaContainerVersion fromVersion,
-										   MicroschemaContainerVersion toVersion, NodeGraphFieldContainer container, Set<String> touchedFields,
-										   List<Exception> errorsDetected) {
+										   MicroschemaContainerVersion toVersion, NodeGraphFieldContainer container, MigrationPlan plan)
+		throws Exception {
 		String containerUuid = container.getUuid();
 
 		if (log.isDebugEnabled()) {
@@ -186,33 +191,23 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 		}
 		String branchUuid = branch.getUuid();
 
-		// Run the actual migration in a dedicated transaction
-		try {
-			db.tx((tx) -> {
-
-				Node node = container.getParentNode();
-				String languageTag = container.getLanguageTag();
-				ac.getNodeParameters().setLanguages(languageTag);
-				ac.getVersioningParameters().setVersion("draft");
-				NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, branchUuid, PUBLISHED);
-
-				VersionNumber nextDraftVersion = null;
-				// 1. Check whether there is any other published container which we need to handle separately
-				if (oldPublished != null && !oldPublished.equals(container)) {
-					nextDraftVersion = migratePublishedContainer(ac, batch, branch, node, container, fromVersion, toVersion, touchedFields);
-					nextDraftVersion = nextDraftVersion.nextDraft();
-				}
-
-				// 2. Migrate the draft container. This will also update the draft edge.
-				migrateDraftContainer(ac, batch, branch, node, container, fromVersion, toVersion, touchedFields, nextDraftVersion);
-
-				postMigrationPurge(container, oldPublished);
-			});
-		} catch (Exception e1) {
-			log.error("Error while handling container {" + containerUuid + "} during schema migration.", e1);
-			errorsDetected.add(e1);
+		Node node = container.getParentNode();
+		String languageTag = container.getLanguageTag();
+		ac.getNodeParameters().setLanguages(languageTag);
+		ac.getVersioningParameters().setVersion("draft");
+		NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, branchUuid, PUBLISHED);
+
+		VersionNumber nextDraftVersion = null;
+		// 1. Check whether there is any other published container which we need to handle separately
+		if (oldPublished != null && !oldPublished.equals(container)) {
+			nextDraftVersion = migratePublishedContainer(ac, batch, branch, node, container, fromVersion, toVersion, plan);
+			nextDraftVersion = nextDraftVersion.nextDraft();
 		}
 
+		// 2. Migrate the draft container. This will also update the draft edge.
+		migrateDraftContainer(ac, batch, branch, node, container, fromVersion, toVersion, plan, nextDraftVersion);
+
+		postMigrationPurge(container, oldPublished);
 	}
 
 	/**
@@ -228,13 +223,13 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 *            Container to be migrated
 	 * @param fromVersion
 	 * @param toVersion
-	 * @param touchedFields
+	 * @param plan
 	 * @return Version of the new published container
 	 * @throws Exception
 	 */
 	private VersionNumber migratePublishedContainer(NodeMigrationActionContextImpl ac, EventQueueBatch sqb, Branch branch, Node node,
 		NodeGraphFieldContainer container, MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion,
-		Set<String> touchedFields) throws Exception {
+		MigrationPlan plan) throws Exception {
 
 		String branchUuid = branch.getUuid();
 		ac.getVersioningParameters().setVersion("published");
@@ -243,7 +238,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 		migrated.setVersion(container.getVersion().nextPublished());
 		node.setPublished(ac, migrated, branchUuid);
 
-		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, touchedFields);
+		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, plan);
 		sqb.add(migrated.onUpdated(branchUuid, PUBLISHED));
 		return migrated.getVersion();
 
@@ -260,20 +255,20 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 *            old schema version
 	 * @param toVersion
 	 *            new schema version
-	 * @param touchedFields
-	 *            touched fields
+	 * @param plan
+	 *            migration plan
 	 * @throws Exception
 	 */
 	protected void migrateMicronodeFields(NodeMigrationActionContextImpl ac, NodeGraphFieldContainer container,
-		MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion, Set<String> touchedFields) throws Exception {
+		MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion, MigrationPlan plan) throws Exception {
 		// iterate over all fields with micronodes to migrate
 		for (MicronodeGraphField field : container.getMicronodeFields(fromVersion)) {
 			// clone the field (this will clone the micronode)
 			field = container.createMicronode(field.getFieldKey(), fromVersion);
 			Micronode micronode = field.getMicronode();
-			// transform to rest and migrate
-			MicronodeResponse restModel = micronode.transformToRestSync(ac, 0);
-			migrate(ac, micronode, restModel, fromVersion, toVersion, touchedFields);
+			// transform to rest (only if data is transformed) and migrate
+			MicronodeResponse restModel = plan.requiresRestModel() ? micronode.transformToRestSync(ac, 0) : null;
+			migrate(ac, micronode, restModel, fromVersion, toVersion, plan);
 		}
 
 		// iterate over all micronode list fields to migrate
@@ -292,9 +287,9 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 
 				// migrate the micronode, if it uses the fromVersion
 				if (newMicronode.getSchemaContainerVersion().equals(fromVersion)) {
-					// transform to rest and migrate
-					MicronodeResponse restModel = newMicronode.transformToRestSync(ac, 0);
-					migrate(ac, newMicronode, restModel, fromVersion, toVersion, touchedFields);
+					// transform to rest (only if data is transformed) and migrate
+					MicronodeResponse restModel = plan.requiresRestModel() ? newMicronode.transformToRestSync(ac, 0) : null;
+					migrate(ac, newMicronode, restModel, fromVersion, toVersion, plan);
 				}
 			}
 		}
@@ -6,10 +6,7 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 import static com.gentics.mesh.metric.SimpleMetric.NODE_MIGRATION_PENDING;
 
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.inject.Inject;
@@ -23,21 +20,25 @@ import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.endpoint.migration.AbstractMigrationHandler;
+import com.gentics.mesh.core.endpoint.migration.MigrationCursor;
+import com.gentics.mesh.core.endpoint.migration.MigrationPlan;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.rest.event.node.SchemaMigrationCause;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.VersionNumber;
-import com.google.common.collect.Lists;
+import com.google.common.collect.Iterators;
 
 import io.reactivex.Completable;
 import io.reactivex.exceptions.CompositeException;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
 
 /**
  * Handler for node migrations after schema updates.
@@ -50,8 +51,9 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	private final AtomicLong migrationGauge;
 
 	@Inject
-	public NodeMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider) {
-		super(db, nodeFieldAPIHandler, metrics, batchProvider);
+	public NodeMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		MeshOptions options, Vertx vertx) {
+		super(db, nodeFieldAPIHandler, metrics, batchProvider, options, vertx);
 		migrationGauge = metrics.longGauge(NODE_MIGRATION_PENDING);
 	}
 
@@ -71,17 +73,18 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 			Branch branch = context.getBranch();
 			MigrationStatusHandler status = context.getStatus();
 
-			// Prepare the migration - Collect the migration scripts
-			Set<String> touchedFields = new HashSet<>();
-		SchemaModel newSchema = db.tx(() -> toVersion.getSchema());
+			// Prepare the migration - Classify the changes
+			SchemaModel newSchema = db.tx(() -> toVersion.getSchema());
 
+			MigrationPlan plan;
 			try {
-				db.tx(() -> {
-					prepareMigration(fromVersion, touchedFields);
+				plan = db.tx(() -> {
+					MigrationPlan preparedPlan = prepareMigration(fromVersion);
 					if (status != null) {
 						status.setStatus(RUNNING);
 						status.commit();
 					}
+					return preparedPlan;
 				});
 			} catch (Exception e) {
 				log.error("Error while preparing migration");
@@ -90,17 +93,17 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 
 			// Get the draft containers that need to be transformed. Containers which need to be transformed are those which are still linked to older schema
 			// versions. We'll work on drafts. The migration code will later on also handle publish versions.
-			List<? extends NodeGraphFieldContainer> containers = db.tx(() -> {
-				Iterator<? extends NodeGraphFieldContainer> it = fromVersion.getDraftFieldContainers(branch.getUuid());
-				return Lists.newArrayList(it);
-			});
+			// Migrated containers are no longer linked to the old version. Thus the cursor will only load the containers of the current window.
+			MigrationCursor<NodeGraphFieldContainer> cursor = new MigrationCursor<>(db, () -> fromVersion.getDraftFieldContainers(branch.getUuid()),
+				getWindowSize());
 
 			if (metrics.isEnabled()) {
-				migrationGauge.set(containers.size());
+				migrationGauge.set(db.tx(() -> Iterators.size(fromVersion.getDraftFieldContainers(branch.getUuid()))));
 			}
 
 			// No field containers, migration is done
-			if (containers.isEmpty()) {
+			boolean empty = db.tx(() -> !fromVersion.getDraftFieldContainers(branch.getUuid()).hasNext());
+			if (empty) {
 				if (status != null) {
 					db.tx(() -> {
 						status.setStatus(COMPLETED);
@@ -110,12 +113,12 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 				return Completable.complete();
 			}
 
-		List<Exception> errorsDetected = migrateLoop(containers, cause, status, (batch, container, errors) -> {
-			migrateContainer(context, batch, container, fromVersion, newSchema, errors, touchedFields);
-			if (metrics.isEnabled()) {
-				migrationGauge.decrementAndGet();
-			}
-		});
+			// The containers of each window are split into disjoint partitions of nodes which can be migrated in parallel.
+			List<Exception> errorsDetected = migrateWindows(cursor, container -> container.getParentNode().id(), cause, status, () -> {
+				// Each partition uses its own context since the context parameters are modified during the migration
+				NodeMigrationActionContextImpl partitionContext = context.copy();
+				return (batch, container) -> migrateContainer(partitionContext, batch, container, fromVersion, newSchema, plan);
+			});
 
 			// TODO prepare errors. They should be easy to understand and to grasp
 			Completable result = Completable.complete();
@@ -132,8 +135,15 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 
 	}
 
+	@Override
+	protected void onMigrated(int count) {
+		if (metrics.isEnabled()) {
+			migrationGauge.addAndGet(-count);
+		}
+	}
+
 	/**
-	 * Migrates the given container.
+	 * Migrates the given container. Errors are passed along so that the transaction of the container is rolled back.
 	 * 
 	 * @param ac
 	 * @param batch
@@ -141,13 +151,12 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 *            Container to be migrated
 	 * @param fromVersion
 	 * @param newSchema
-	 * @param errorsDetected
-	 * @param touchedFields
-	 * @return
+	 * @param plan
+	 * @throws Exception
 	 */
 	private void migrateContainer(NodeMigrationActionContextImpl ac, EventQueueBatch batch, NodeGraphFieldContainer container,
-								  GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion, SchemaModel newSchema, List<Exception> errorsDetected,
-								  Set<String> touchedFields) {
+								  GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion, SchemaModel newSchema, MigrationPlan plan)
+		throws Exception {
 
 		String containerUuid = container.getUuid();
 		String parentNodeUuid = container.getParentNode().getUuid();
@@ -157,36 +166,30 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 
 		Branch branch = ac.getBranch();
 		SchemaContainerVersion toVersion = ac.getToVersion();
-		try {
-			Node node = container.getParentNode();
-			String languageTag = container.getLanguageTag();
-			ac.getNodeParameters().setLanguages(languageTag);
-			ac.getVersioningParameters().setVersion("draft");
-
-			VersionNumber nextDraftVersion = null;
-			NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, branch.getUuid(), PUBLISHED);
-
-			// 1. Check whether there is any other published container which we need to handle separately
-			if (oldPublished != null && !oldPublished.equals(container)) {
-				// We only need to migrate the container if the container's schema version is also "old"
-				boolean hasSameOldSchemaVersion = container != null
-					&& container.getSchemaContainerVersion().id().equals(container.getSchemaContainerVersion().id());
-				if (hasSameOldSchemaVersion) {
-					nextDraftVersion = migratePublishedContainer(ac, batch, branch, node, oldPublished, fromVersion, toVersion, touchedFields,
-						newSchema);
-					nextDraftVersion = nextDraftVersion.nextDraft();
-				}
-
+		Node node = container.getParentNode();
+		String languageTag = container.getLanguageTag();
+		ac.getNodeParameters().setLanguages(languageTag);
+		ac.getVersioningParameters().setVersion("draft");
+
+		VersionNumber nextDraftVersion = null;
+		NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, branch.getUuid(), PUBLISHED);
+
+		// 1. Check whether there is any other published container which we need to handle separately
+		if (oldPublished != null && !oldPublished.equals(container)) {
+			// We only need to migrate the container if the container's schema version is also "old"
+			boolean hasSameOldSchemaVersion = container != null
+				&& container.getSchemaContainerVersion().id().equals(container.getSchemaContainerVersion().id());
+			if (hasSameOldSchemaVersion) {
+				nextDraftVersion = migratePublishedContainer(ac, batch, branch, node, oldPublished, fromVersion, toVersion, plan,
+					newSchema);
+				nextDraftVersion = nextDraftVersion.nextDraft();
 			}
-			// 2. Migrate the draft container. This will also update the draft edge.
-			migrateDraftContainer(ac, batch, branch, node, container, fromVersion, toVersion, touchedFields, newSchema, nextDraftVersion);
 
-			postMigrationPurge(container, oldPublished);
-		} catch (Exception e1) {
-			log.error("Error while handling container {" + containerUuid + "} of node {" + parentNodeUuid + "} during schema migration.", e1);
-			errorsDetected.add(e1);
 		}
+		// 2. Migrate the draft container. This will also update the draft edge.
+		migrateDraftContainer(ac, batch, branch, node, container, fromVersion, toVersion, plan, newSchema, nextDraftVersion);
 
+		postMigrationPurge(container, oldPublished);
 	}
 
 	/**
@@ -203,7 +206,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 *            Container to be migrated
 	 * @param fromVersion
 	 * @param toVersion
-	 * @param touchedFields
+	 * @param plan
 	 * @param newSchema
 	 *            new schema used to serialize the REST model
 	 * @param nextDraftVersion
@@ -211,7 +214,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 * @throws Exception
 	 */
 	private void migrateDraftContainer(NodeMigrationActionContextImpl ac, EventQueueBatch sqb, Branch branch, Node node,
-									   NodeGraphFieldContainer container, GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion, SchemaContainerVersion toVersion, Set<String> touchedFields,
+									   NodeGraphFieldContainer container, GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion, SchemaContainerVersion toVersion, MigrationPlan plan,
 									   SchemaModel newSchema, VersionNumber nextDraftVersion)
 		throws Exception {
 
@@ -225,7 +228,8 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 
 		ac.getVersioningParameters().setVersion(container.getVersion().getFullVersion());
 		ac.getGenericParameters().setFields("fields");
-		NodeResponse restModel = node.transformToRestSync(ac, 0, languageTag);
+		// The rest model is only needed if field data is transformed
+		NodeResponse restModel = plan.requiresRestModel() ? node.transformToRestSync(ac, 0, languageTag) : null;
 
 		// Actual migration - Create the new version
 		NodeGraphFieldContainer migrated = node.createGraphFieldContainer(container.getLanguageTag(), branch, container.getEditor(), container, true);
@@ -242,7 +246,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		}
 
 		// Pass the new version through the migration scripts and update the version
-		migrate(ac, migrated, restModel, fromVersion, toVersion, touchedFields);
+		migrate(ac, migrated, restModel, fromVersion, toVersion, plan);
 
 		// Ensure the search index is updated accordingly
 		sqb.add(migrated.onUpdated(branchUuid, DRAFT));
@@ -264,27 +268,28 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 *            Container to be migrated
 	 * @param fromVersion
 	 * @param toVersion
-	 * @param touchedFields
+	 * @param plan
 	 * @param newSchema
 	 * @return Version of the new published container
 	 * @throws Exception
 	 */
 	private VersionNumber migratePublishedContainer(NodeMigrationActionContextImpl ac, EventQueueBatch sqb, Branch branch, Node node,
-													NodeGraphFieldContainer container, GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion, SchemaContainerVersion toVersion, Set<String> touchedFields, SchemaModel newSchema) throws Exception {
+													NodeGraphFieldContainer container, GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion, SchemaContainerVersion toVersion, MigrationPlan plan, SchemaModel newSchema) throws Exception {
 
 		String languageTag = container.getLanguageTag();
 		String branchUuid = branch.getUuid();
 
 		ac.getVersioningParameters().setVersion("published");
 		ac.getGenericParameters().setFields("fields");
-		NodeResponse restModel = node.transformToRestSync(ac, 0, languageTag);
+		// The rest model is only needed if field data is transformed
+		NodeResponse restModel = plan.requiresRestModel() ? node.transformToRestSync(ac, 0, languageTag) : null;
 
 		NodeGraphFieldContainer migrated = node.createGraphFieldContainer(container.getLanguageTag(), branch, container.getEditor(), container, true);
 
 		migrated.setVersion(container.getVersion().nextPublished());
 		node.setPublished(ac, migrated, branchUuid);
 
-		migrate(ac, migrated, restModel, fromVersion, toVersion, touchedFields);
+		migrate(ac, migrated, restModel, fromVersion, toVersion, plan);
 		sqb.add(migrated.onUpdated(branchUuid, PUBLISHED));
 		return migrated.getVersion();
 	}
@@ -4,6 +4,14 @@ import static com.gentics.mesh.http.HttpConstants.ETAG;
 import static com.gentics.mesh.util.MimeTypeUtils.DEFAULT_BINARY_MIME_TYPE;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_MODIFIED;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -13,6 +21,7 @@ import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.handler.RangeRequestHandler;
 import com.gentics.mesh.http.MeshHeaders;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
@@ -24,6 +33,7 @@ import com.gentics.mesh.util.MimeTypeUtils;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.MIMEHeader;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.reactivex.core.Vertx;
 
@@ -41,12 +51,33 @@ public class BinaryFieldResponseHandler {
 
 	private final RangeRequestHandler rangeRequestHandler;
 
+	private final MeshOptions options;
+
+	/**
+	 * Image formats which may be negotiated via the accept header, in the order of preference. Only formats for which an image writer is available are
+	 * listed.
+	 */
+	private final Map<String, String> negotiableFormats;
+
 	@Inject
-	public BinaryFieldResponseHandler(ImageManipulator imageManipulator, BinaryStorage storage, Vertx rxVertx, RangeRequestHandler rangeRequestHandler) {
+	public BinaryFieldResponseHandler(ImageManipulator imageManipulator, BinaryStorage storage, Vertx rxVertx, RangeRequestHandler rangeRequestHandler,
+		MeshOptions options) {
 		this.imageManipulator = imageManipulator;
 		this.storage = storage;
 		this.rxVertx = rxVertx;
 		this.rangeRequestHandler = rangeRequestHandler;
+		this.options = options;
+		this.negotiableFormats = findNegotiableFormats();
+	}
+
+	private static Map<String, String> findNegotiableFormats() {
+		Map<String, String> formats = new LinkedHashMap<>();
+		for (String format : Arrays.asList("avif", "webp")) {
+			if (ImageIO.getImageWritersByFormatName(format).hasNext()) {
+				formats.put("image/" + format, format);
+			}
+		}
+		return formats;
 	}
 
 	/**
@@ -57,24 +88,60 @@ public class BinaryFieldResponseHandler {
 	 */
 	public void handle(RoutingContext rc, BinaryGraphField binaryField) {
 		rc.response().putHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
-		if (checkETag(rc, binaryField)) {
-			return;
-		}
 		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
 		ImageManipulationParameters imageParams = ac.getImageParameters();
-		if (binaryField.hasProcessableImage() && imageParams.hasResizeParams()) {
+		boolean processableImage = binaryField.hasProcessableImage();
+		if (processableImage && imageParams.hasResizeParams() && imageParams.getFormat() == null && options.getImageOptions().isFormatNegotiation()
+			&& !negotiableFormats.isEmpty()) {
+			negotiateFormat(rc, imageParams, binaryField.getMimeType());
+		}
+		if (checkETag(rc, binaryField, imageParams)) {
+			return;
+		}
+		if (processableImage && imageParams.hasManipulationParams()) {
 			resizeAndRespond(rc, binaryField, imageParams);
 		} else {
 			respond(rc, binaryField);
 		}
 	}
 
-	private boolean checkETag(RoutingContext rc, BinaryGraphField binaryField) {
-		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+	/**
+	 * Select the output format of the resized image using the accept header of the request. The accepted types are evaluated by their quality value and
+	 * types with a quality value of zero are refused. The original format is kept if it is preferred over the negotiable formats. The response will vary
+	 * depending on the accept header.
+	 * 
+	 * @param rc
+	 * @param imageParams
+	 * @param originalMimeType
+	 *            Mime type of the stored image
+	 */
+	private void negotiateFormat(RoutingContext rc, ImageManipulationParameters imageParams, String originalMimeType) {
+		rc.response().putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		List<MIMEHeader> accepted = new ArrayList<>(rc.parsedHeaders().accept());
+		// The sort is stable and thus types with the same quality keep the order of the header
+		accepted.sort(Comparator.comparingDouble(MIMEHeader::weight).reversed());
+		for (MIMEHeader header : accepted) {
+			if (!header.isPermitted()) {
+				continue;
+			}
+			String mimeType = (header.component() + "/" + header.subComponent()).toLowerCase();
+			if (mimeType.equalsIgnoreCase(originalMimeType)) {
+				return;
+			}
+			String format = negotiableFormats.get(mimeType);
+			if (format != null) {
+				imageParams.setFormat(format);
+				return;
+			}
+		}
+	}
+
+	private boolean checkETag(RoutingContext rc, BinaryGraphField binaryField, ImageManipulationParameters imageParams) {
 		String sha512sum = binaryField.getBinary().getSHA512Sum();
 		String etagKey = sha512sum;
 		if (binaryField.hasProcessableImage()) {
-			etagKey += ac.getImageParameters().getQueryParameters();
+			// The query parameters also contain the negotiated format
+			etagKey += imageParams.getQueryParameters();
 		}
 
 		String etagHeaderValue = ETag.prepareHeader(ETag.hash(etagKey), false);
@@ -1,13 +1,18 @@
 package com.gentics.mesh.core.endpoint.node;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.rest.Messages.message;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -28,9 +33,12 @@ import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.BinaryFieldTransformRequest;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+import com.gentics.mesh.core.rest.node.field.image.ImageVariantRequest;
+import com.gentics.mesh.core.rest.node.field.image.ImageVariantsRequest;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
@@ -65,17 +73,19 @@ public class BinaryTransformHandler extends AbstractHandler {
 	private final Lazy<BootstrapInitializer> boot;
 	private final BinaryStorage binaryStorage;
 	private final Database db;
+	private final MeshOptions options;
 
 	@Inject
 	public BinaryTransformHandler(Database db, HandlerUtilities utils, Vertx rxVertx, ImageManipulator imageManipulator,
 		Lazy<BootstrapInitializer> boot,
-		BinaryStorage binaryStorage) {
+		BinaryStorage binaryStorage, MeshOptions options) {
 		this.db = db;
 		this.utils = utils;
 		this.rxVertx = rxVertx;
 		this.imageManipulator = imageManipulator;
 		this.boot = boot;
 		this.binaryStorage = binaryStorage;
+		this.options = options;
 	}
 
 	/**
@@ -162,6 +172,7 @@ public class BinaryTransformHandler extends AbstractHandler {
 		});
 
 		obsTransformation.flatMap(r -> {
+			context.setHash(r.getHash());
 			db.tx(() -> {
 				String hash = r.getHash();
 				BinaryRoot binaryRoot = boot.get().meshRoot().getBinaryRoot();
@@ -173,10 +184,11 @@ public class BinaryTransformHandler extends AbstractHandler {
 					context.setInvokeStore();
 				}
 			});
-			// Store the binary in a temporary location
-			Flowable<Buffer> data = fs.rxOpen(r.getFilePath(), new OpenOptions()).toFlowable()
-				.flatMap(RxUtil::toBufferFlow);
-			return binaryStorage.storeInTemp(data, temporaryId).andThen(Single.just(r));
+			if (!context.isInvokeStore()) {
+				return Single.just(r);
+			}
+			// Store the binary in a temporary location. The resized image is kept in the image cache.
+			return binaryStorage.storeCopyInTemp(r.getFilePath(), temporaryId).andThen(Single.just(r));
 		}).map(r -> {
 			// Update graph with the new image information
 			return updateNodeInGraph(ac, context, r, node, languageTag, fieldName, parameters);
@@ -192,7 +204,12 @@ public class BinaryTransformHandler extends AbstractHandler {
 				return Single.error(e);
 			}
 		}).flatMap(n -> {
-			if (context.isInvokeStore()) {
+			if (context.isInvokeStore() && context.isStoreObsolete()) {
+				if (log.isDebugEnabled()) {
+					log.debug("Data with hash {} has been stored concurrently. Purging upload for tempId {}", context.getHash(), temporaryId);
+				}
+				return binaryStorage.purgeTemporaryUpload(temporaryId).onErrorComplete().andThen(Single.just(n));
+			} else if (context.isInvokeStore()) {
 				String binaryUuid = context.getBinaryUuid();
 				if (log.isDebugEnabled()) {
 					log.debug("Moving upload with uuid {} and tempId {} into place", binaryUuid, temporaryId);
@@ -205,6 +222,75 @@ public class BinaryTransformHandler extends AbstractHandler {
 
 	}
 
+	/**
+	 * Handle the image variants request. All requested variants of the image will be rendered into the image cache. The original image will only be decoded
+	 * once for all variants which are not yet cached.
+	 * 
+	 * @param rc
+	 *            routing context
+	 * @param uuid
+	 * @param fieldName
+	 */
+	public void handleImageVariants(RoutingContext rc, String uuid, String fieldName) {
+		validateParameter(uuid, "uuid");
+		validateParameter(fieldName, "fieldName");
+		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+		ImageVariantsRequest request = JsonUtil.readValue(ac.getBodyAsString(), ImageVariantsRequest.class);
+		if (isEmpty(request.getLanguage())) {
+			throw error(BAD_REQUEST, "image_error_language_not_set");
+		}
+		if (request.getVariants() == null || request.getVariants().isEmpty()) {
+			throw error(BAD_REQUEST, "image_error_variants_not_set");
+		}
+		int maxVariants = options.getImageOptions().getMaxVariants();
+		if (request.getVariants().size() > maxVariants) {
+			throw error(BAD_REQUEST, "image_error_variants_limit_exceeded", String.valueOf(maxVariants), String.valueOf(request.getVariants().size()));
+		}
+
+		db.tx(() -> {
+			Project project = ac.getProject();
+			Node node = project.getNodeRoot().loadObjectByUuid(ac, uuid, READ_PUBLISHED_PERM);
+			Branch branch = ac.getBranch(project);
+			String version = ac.getVersioningParameters().getVersion();
+			NodeGraphFieldContainer container = node.findVersion(request.getLanguage(), branch.getUuid(), version);
+			if (container == null) {
+				throw error(NOT_FOUND, "object_not_found_for_version", version);
+			}
+			BinaryGraphField field = loadBinaryField(container, fieldName);
+			FocalPoint focalPoint = field.getImageFocalPoint();
+			List<ImageManipulationParameters> variants = request.getVariants().stream()
+				.map(variant -> toParameters(variant, focalPoint))
+				.collect(Collectors.toList());
+			return imageManipulator.handleResizeVariants(field.getBinary(), variants);
+		}).subscribe(paths -> ac.send(message(ac, "image_variants_created", String.valueOf(paths.size())), OK), ac::fail);
+	}
+
+	/**
+	 * Convert the variant into image manipulation parameters. The given focal point of the binary field will be used if the variant does not specify one.
+	 * 
+	 * @param variant
+	 * @param focalPoint
+	 * @return
+	 */
+	private ImageManipulationParameters toParameters(ImageVariantRequest variant, FocalPoint focalPoint) {
+		ImageManipulationParameters parameters = new ImageManipulationParametersImpl();
+		parameters.setWidth(variant.getWidth());
+		parameters.setHeight(variant.getHeight());
+		parameters.setRect(variant.getCropRect());
+		parameters.setCropMode(variant.getCropMode());
+		parameters.setResizeMode(variant.getResizeMode());
+		parameters.setFocalPoint(variant.getFocalPoint());
+		parameters.setFocalPointZoom(variant.getFocalPointZoom());
+		parameters.setFormat(variant.getFormat());
+		if (parameters.getRect() != null && parameters.getCropMode() == null) {
+			parameters.setCropMode(CropMode.RECT);
+		}
+		if (!parameters.hasFocalPoint() && focalPoint != null) {
+			parameters.setFocalPoint(focalPoint);
+		}
+		return parameters;
+	}
+
 	private NodeResponse updateNodeInGraph(InternalActionContext ac, UploadContext context, TransformationResult result, Node node,
 		String languageTag, String fieldName, ImageManipulationParameters parameters) {
 		return utils.eventAction(batch -> {
@@ -232,6 +318,7 @@ public class BinaryTransformHandler extends AbstractHandler {
 				if (log.isDebugEnabled()) {
 					log.debug("Data of resized image with hash {" + hash + "} has already been stored. Skipping store.");
 				}
+				context.setStoreObsolete();
 			}
 
 			// Now create the binary field in which we store the information about the file
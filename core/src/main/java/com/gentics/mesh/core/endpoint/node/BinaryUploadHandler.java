@@ -2,12 +2,14 @@ package com.gentics.mesh.core.endpoint.node;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -57,6 +59,7 @@ import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.FileUpload;
+import io.vertx.reactivex.RxHelper;
 import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.core.file.FileSystem;
 
@@ -79,6 +82,8 @@ public class BinaryUploadHandler extends AbstractHandler {
 
 	private FileSystem fs;
 
+	private final Vertx rxVertx;
+
 	private final MeshOptions options;
 
 	@Inject
@@ -96,6 +101,7 @@ public class BinaryUploadHandler extends AbstractHandler {
 		this.binaryStorage = binaryStorage;
 		this.binaryProcessorRegistry = binaryProcessorRegistry;
 		this.utils = utils;
+		this.rxVertx = rxVertx;
 		this.fs = rxVertx.fileSystem();
 		this.options = options;
 	}
@@ -200,7 +206,15 @@ public class BinaryUploadHandler extends AbstractHandler {
 				return Single.error(e);
 			}
 		}).flatMap(n -> {
-			if (ctx.isInvokeStore()) {
+			if (ctx.isInvokeStore() && ctx.isStoreObsolete()) {
+				String tmpId = ctx.getTemporaryId();
+				if (log.isDebugEnabled()) {
+					log.debug("Data with hash {} has been stored concurrently. Purging upload for tempId {}", ctx.getHash(), tmpId);
+				}
+				return binaryStorage.purgeTemporaryUpload(tmpId).doOnError(e1 -> {
+					log.error("Error while purging temporary upload for tempId {}", tmpId, e1);
+				}).onErrorComplete().andThen(Single.just(n));
+			} else if (ctx.isInvokeStore()) {
 				String binaryUuid = ctx.getBinaryUuid();
 				String tmpId = ctx.getTemporaryId();
 				if (log.isDebugEnabled()) {
@@ -210,8 +224,82 @@ public class BinaryUploadHandler extends AbstractHandler {
 			} else {
 				return Single.just(n);
 			}
-		}).subscribe(model -> ac.send(model, CREATED), ac::fail);
+		}).subscribe(model -> {
+			ac.send(model, CREATED);
+			processDeferred(ac, ctx, nodeUuid, languageTag, model.getVersion(), fieldName);
+		}, ac::fail);
+
+	}
+
+	/**
+	 * Invoke the deferred processors for the stored upload. The result will be written to the binary field of the created node version and the content
+	 * will be updated in the search index.
+	 * 
+	 * @param ac
+	 * @param ctx
+	 * @param nodeUuid
+	 * @param languageTag
+	 * @param version
+	 *            Version of the content which was created by the upload
+	 * @param fieldName
+	 */
+	private void processDeferred(InternalActionContext ac, UploadContext ctx, String nodeUuid, String languageTag, String version, String fieldName) {
+		String contentType = ctx.getUpload().contentType();
+		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(contentType).stream()
+			.filter(p -> p.isDeferred(contentType))
+			.collect(Collectors.toList());
+		if (processors.isEmpty()) {
+			return;
+		}
 
+		db.singleTx(() -> {
+			Node node = ac.getProject().getNodeRoot().findByUuid(nodeUuid);
+			NodeGraphFieldContainer container = node.findVersion(languageTag, ac.getBranch().getUuid(), version);
+			return container.getBinary(fieldName).getBinary().getUuid();
+		}).flatMapObservable(binaryUuid -> {
+			return Observable.fromIterable(processors)
+				.flatMapMaybe(p -> p.process(() -> binaryStorage.openBlockingStream(binaryUuid), ctx.getUpload().size(), contentType));
+		}).toList()
+			.observeOn(RxHelper.blockingScheduler(rxVertx.getDelegate(), false))
+			.subscribe(modifiers -> {
+				if (modifiers.isEmpty()) {
+					return;
+				}
+				utils.eventAction(batch -> {
+					Node node = ac.getProject().getNodeRoot().findByUuid(nodeUuid);
+					String branchUuid = ac.getBranch().getUuid();
+					NodeGraphFieldContainer container = node.findVersion(languageTag, branchUuid, version);
+					BinaryGraphField field = container.getBinary(fieldName);
+					if (field == null || !ctx.getHash().equals(field.getBinary().getSHA512Sum())) {
+						return;
+					}
+					List<NodeGraphFieldContainer> containers = new ArrayList<>();
+					containers.add(container);
+
+					// The field may have been copied to a newer draft in the meantime
+					NodeGraphFieldContainer latestDraft = node.getGraphFieldContainer(languageTag, branchUuid, DRAFT);
+					if (latestDraft != null && !latestDraft.equals(container)) {
+						BinaryGraphField latestField = latestDraft.getBinary(fieldName);
+						if (latestField != null && ctx.getHash().equals(latestField.getBinary().getSHA512Sum()) && latestField.getPlainText() == null) {
+							containers.add(latestDraft);
+						}
+					}
+
+					for (NodeGraphFieldContainer c : containers) {
+						BinaryGraphField f = c.getBinary(fieldName);
+						for (Consumer<BinaryGraphField> modifier : modifiers) {
+							modifier.accept(f);
+						}
+						for (ContainerType type : Arrays.asList(DRAFT, PUBLISHED)) {
+							if (c.isType(type, branchUuid)) {
+								batch.add(c.onUpdated(branchUuid, type));
+							}
+						}
+					}
+				});
+			}, e -> {
+				log.error("Deferred processing of upload for node {} failed", nodeUuid, e);
+			});
 	}
 
 	private Completable storeUploadInTemp(UploadContext ctx, FileUpload ul, String hash) {
@@ -261,6 +349,9 @@ public class BinaryUploadHandler extends AbstractHandler {
 				Binary binary = binaryRoot.findByHash(hash);
 				if (binary == null) {
 					binary = binaryRoot.create(binaryUuid, hash, upload.size());
+				} else {
+					// The data is already stored. The upload can be purged since it would only duplicate the data.
+					context.setStoreObsolete();
 				}
 				Language language = boot.get().languageRoot().findByLanguageTag(languageTag);
 				if (language == null) {
@@ -376,7 +467,9 @@ public class BinaryUploadHandler extends AbstractHandler {
 	 */
 	private Observable<Consumer<BinaryGraphField>> postProcessUpload(FileUpload upload, String hash) {
 		String contentType = upload.contentType();
-		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(contentType);
+		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(contentType).stream()
+			.filter(p -> !p.isDeferred(contentType))
+			.collect(Collectors.toList());
 
 		return Observable.fromIterable(processors).flatMapMaybe(p -> p.process(upload, hash)
 			.doOnSuccess(s -> {
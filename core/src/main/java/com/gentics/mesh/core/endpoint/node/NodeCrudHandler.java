@@ -14,11 +14,15 @@ import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import java.util.Collections;
+
 import javax.inject.Inject;
 
 import org.apache.commons.lang3.math.NumberUtils;
 
 import com.gentics.madl.tx.TxAction1;
+import com.gentics.mesh.cache.AnonymousResponseCache;
+import com.gentics.mesh.cache.CachedResponse;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -26,6 +30,7 @@ import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.impl.NodeTransformBatch;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.NodeRoot;
@@ -56,13 +61,16 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 
 	private final MeshOptions options;
 
+	private final AnonymousResponseCache responseCache;
+
 	private static final Logger log = LoggerFactory.getLogger(NodeCrudHandler.class);
 
 	@Inject
-	public NodeCrudHandler(Database db, HandlerUtilities utils, MeshOptions options, BootstrapInitializer boot) {
+	public NodeCrudHandler(Database db, HandlerUtilities utils, MeshOptions options, BootstrapInitializer boot, AnonymousResponseCache responseCache) {
 		super(db, utils);
 		this.options = options;
 		this.boot = boot;
+		this.responseCache = responseCache;
 	}
 
 	@Override
@@ -70,6 +78,12 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		return ac.getProject().getNodeRoot();
 	}
 
+	@Override
+	public void handleReadList(InternalActionContext ac) {
+		NodeTransformBatch.enable(ac);
+		super.handleReadList(ac);
+	}
+
 	@Override
 	public void handleDelete(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
@@ -187,33 +201,70 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	 */
 	public void handleReadChildren(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
+		NodeTransformBatch.enable(ac);
+
+		try {
+			db.readTx(tx -> {
+				NodeParameters nodeParams = ac.getNodeParameters();
+				PagingParameters pagingParams = ac.getPagingParameters();
+				VersioningParameters versionParams = ac.getVersioningParameters();
+				GraphPermission requiredPermission = "published".equals(ac.getVersioningParameters().getVersion()) ? READ_PUBLISHED_PERM : READ_PERM;
+				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, requiredPermission);
+				TransformablePage<? extends Node> page = node.getChildren(ac, nodeParams.getLanguageList(options),
+					ac.getBranch(node.getProject()).getUuid(), ContainerType.forVersion(versionParams.getVersion()), pagingParams);
 
-		utils.rxSyncTx(ac, (tx) -> {
-			NodeParameters nodeParams = ac.getNodeParameters();
-			PagingParameters pagingParams = ac.getPagingParameters();
-			VersioningParameters versionParams = ac.getVersioningParameters();
-			GraphPermission requiredPermission = "published".equals(ac.getVersioningParameters().getVersion()) ? READ_PUBLISHED_PERM : READ_PERM;
-			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, requiredPermission);
-			TransformablePage<? extends Node> page = node.getChildren(ac, nodeParams.getLanguageList(options),
-				ac.getBranch(node.getProject()).getUuid(), ContainerType.forVersion(versionParams.getVersion()), pagingParams);
-
-			// Handle etag
-			if (ac.getGenericParameters().getETag()) {
-				String etag = page.getETag(ac);
-				ac.setEtag(etag, true);
-				if (ac.matches(etag, true)) {
-					throw new NotModifiedException();
+				// Handle etag
+				if (ac.getGenericParameters().getETag()) {
+					String etag = page.getETag(ac);
+					ac.setEtag(etag, true);
+					if (ac.matches(etag, true)) {
+						throw new NotModifiedException();
+					}
 				}
-			}
-			return page.transformToRest(ac, 0);
-		}, model -> ac.send(model, OK));
+				ac.sendPage(page, 0);
+				return null;
+			});
+		} catch (Throwable t) {
+			ac.fail(t);
+		}
 
 	}
 
 	public void handleRead(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 		GraphPermission requiredPermission = "published".equals(ac.getVersioningParameters().getVersion()) ? READ_PUBLISHED_PERM : READ_PERM;
-		utils.readElement(ac, uuid, () -> getRootVertex(ac), requiredPermission);
+		String cacheKey = ac.isAnonymous() ? responseCache.createKey(ac, "node", String.valueOf(ac.getProject().id()), uuid) : null;
+		if (cacheKey == null) {
+			utils.readElement(ac, uuid, () -> getRootVertex(ac), requiredPermission);
+			return;
+		}
+
+		// Responses for the anonymous user are the same for all anonymous requests
+		try {
+			CachedResponse cachedResponse = responseCache.getResponse(cacheKey);
+			if (cachedResponse == null) {
+				long generation = responseCache.generation();
+				cachedResponse = db.readTx(() -> {
+					Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, requiredPermission);
+					String etag = null;
+					if (ac.getGenericParameters().getETag()) {
+						etag = node.getETag(ac);
+					}
+					return new CachedResponse(etag, node.transformToRestSync(ac, 0).toJson(), Collections.emptyMap());
+				});
+				responseCache.storeResponse(generation, cacheKey, cachedResponse);
+			}
+			String etag = cachedResponse.getEtag();
+			if (etag != null) {
+				ac.setEtag(etag, true);
+				if (ac.matches(etag, true)) {
+					throw new NotModifiedException();
+				}
+			}
+			ac.send(cachedResponse.getBody(), OK);
+		} catch (Throwable t) {
+			ac.fail(t);
+		}
 	}
 
 	/**
@@ -35,6 +35,7 @@ import static com.gentics.mesh.example.ExampleUuids.NODE_DELOREAN_UUID;
 import static com.gentics.mesh.example.ExampleUuids.TAG_RED_UUID;
 import static com.gentics.mesh.example.ExampleUuids.UUID_1;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
 import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
@@ -59,18 +60,21 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 
 	private BinaryDownloadHandler binaryDownloadHandler;
 
+	private NodeImportHandler importHandler;
+
 	public NodeEndpoint() {
 		super("nodes", null, null);
 	}
 
 	@Inject
 	public NodeEndpoint(MeshAuthChain chain, BootstrapInitializer boot, NodeCrudHandler crudHandler, BinaryUploadHandler binaryUploadHandler,
-		BinaryTransformHandler binaryTransformHandler, BinaryDownloadHandler binaryDownloadHandler) {
+		BinaryTransformHandler binaryTransformHandler, BinaryDownloadHandler binaryDownloadHandler, NodeImportHandler importHandler) {
 		super("nodes", chain, boot);
 		this.crudHandler = crudHandler;
 		this.binaryUploadHandler = binaryUploadHandler;
 		this.binaryTransformHandler = binaryTransformHandler;
 		this.binaryDownloadHandler = binaryDownloadHandler;
+		this.importHandler = importHandler;
 	}
 
 	@Override
@@ -81,6 +85,8 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 	@Override
 	public void registerEndPoints() {
 		secureAll();
+		// The import handler needs to be registered before the uuid handler since the path would otherwise be treated as node uuid
+		addImportHandler();
 		if (getCrudHandler() != null) {
 			route("/:nodeUuid").handler(getCrudHandler().getUuidHandler("node_not_found_for_uuid"));
 		}
@@ -201,6 +207,25 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 			binaryTransformHandler.handleTransformImage(rc, uuid, fieldName);
 		});
 
+		InternalEndpointRoute imageVariants = createRoute();
+		imageVariants.path("/:nodeUuid/binary/:fieldName/variants");
+		imageVariants.addUriParameter("nodeUuid", "Uuid of the node.", NODE_DELOREAN_UUID);
+		imageVariants.addUriParameter("fieldName", "Name of the binary field", "image");
+		imageVariants.addQueryParameters(VersioningParametersImpl.class);
+		imageVariants.method(POST);
+		imageVariants.produces(APPLICATION_JSON);
+		imageVariants.consumes(APPLICATION_JSON);
+		imageVariants.description(
+			"Render the given variants of the image into the image cache. The original image will only be decoded once for all variants.");
+		imageVariants.exampleRequest(nodeExamples.getImageVariantsRequest());
+		imageVariants.exampleResponse(OK, miscExamples.createMessageResponse(), "The variants have been rendered.");
+		imageVariants.exampleResponse(NOT_FOUND, miscExamples.createMessageResponse(), "The node or the field could not be found.");
+		imageVariants.blockingHandler(rc -> {
+			String uuid = rc.request().getParam("nodeUuid");
+			String fieldName = rc.request().getParam("fieldName");
+			binaryTransformHandler.handleImageVariants(rc, uuid, fieldName);
+		});
+
 		InternalEndpointRoute fieldGet = createRoute();
 		fieldGet.path("/:nodeUuid/binary/:fieldName");
 		fieldGet.addUriParameter("nodeUuid", "Uuid of the node.", NODE_DELOREAN_UUID);
@@ -329,6 +354,23 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 
 	}
 
+	private void addImportHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/import");
+		endpoint.method(POST);
+		endpoint.consumes(APPLICATION_NDJSON);
+		endpoint.produces(APPLICATION_NDJSON);
+		endpoint.description("Create or update multiple nodes. The request body must contain one node import request (a node create request with an optional uuid) per line. "
+			+ "Existing nodes will be updated. The entries are applied in chunks of " + NodeImportHandler.CHUNK_SIZE
+			+ " entries per transaction and the result of each entry is returned as one line of the response.");
+		endpoint.displayName("Import");
+		endpoint.events(NODE_CREATED, NODE_UPDATED);
+		// The request body is streamed. The chunks will be imported on worker threads.
+		endpoint.handler(rc -> {
+			importHandler.handleImport(rc);
+		});
+	}
+
 	// TODO handle schema by name / by uuid - move that code in a separate
 	// handler
 	private void addCreateHandler() {
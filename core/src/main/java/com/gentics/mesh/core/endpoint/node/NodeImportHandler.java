@@ -0,0 +1,386 @@
+package com.gentics.mesh.core.endpoint.node;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.context.impl.LocalActionContextImpl;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.root.NodeRoot;
+import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
+import com.gentics.mesh.core.rest.node.NodeImportRequest;
+import com.gentics.mesh.core.rest.node.NodeImportResult;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.i18n.I18NUtil;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.util.Tuple;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.parsetools.RecordParser;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler for node imports. The import request is a newline delimited stream of {@link NodeImportRequest} entries. The request body is read as stream and
+ * the entries are applied in chunks. Each chunk is handled in a single transaction and the events of the chunk are dispatched as one batch. The request is
+ * paused while a chunk is imported. Thus only a single chunk needs to be kept in memory. The result of each entry is streamed back as newline delimited
+ * {@link NodeImportResult}.
+ */
+@Singleton
+public class NodeImportHandler extends AbstractHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeImportHandler.class);
+
+	/**
+	 * Amount of entries per transaction. The chunks are kept small since the write lock is held while a chunk is imported if writes are synchronized.
+	 */
+	public static final int CHUNK_SIZE = 50;
+
+	private final Database db;
+
+	private final HandlerUtilities utils;
+
+	private final Provider<EventQueueBatch> queueProvider;
+
+	private final MeshOptions options;
+
+	@Inject
+	public NodeImportHandler(Database db, HandlerUtilities utils, Provider<EventQueueBatch> queueProvider, MeshOptions options) {
+		this.db = db;
+		this.utils = utils;
+		this.queueProvider = queueProvider;
+		this.options = options;
+	}
+
+	/**
+	 * Handle the node import request. The request body must not have been read by the body handler.
+	 *
+	 * @param rc
+	 */
+	public void handleImport(RoutingContext rc) {
+		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+		RecordParser parser = RecordParser.newDelimited("\n", rc.request());
+		// A single entry must not exceed the limit of regular requests since the entry is kept in memory until its delimiter has been read
+		int maxEntrySize = (int) Math.min(options.getUploadOptions().getByteLimit(), Integer.MAX_VALUE);
+		parser.maxRecordSize(maxEntrySize);
+		new ImportStream(ac, rc.response(), parser, maxEntrySize).start();
+	}
+
+	private void writeResults(HttpServerResponse response, List<NodeImportResult> results) {
+		if (!response.headWritten()) {
+			response.setChunked(true);
+			response.putHeader("Content-Type", APPLICATION_NDJSON);
+			response.setStatusCode(OK.code());
+		}
+		StringBuilder builder = new StringBuilder();
+		for (NodeImportResult result : results) {
+			builder.append(JsonUtil.toJsonLine(result)).append("\n");
+		}
+		response.write(builder.toString());
+	}
+
+	/**
+	 * Import the entries of the chunk in a single transaction. If any entry fails, the transaction is rolled back and the entries are imported one by one
+	 * in order to isolate the failing entries. The mass insert intent is only declared for the transaction of the chunk.
+	 *
+	 * @param ac
+	 * @param chunk
+	 *            Index and JSON of the entries
+	 * @return Results of the entries
+	 */
+	private List<NodeImportResult> importChunk(InternalActionContext ac, List<Tuple<Long, String>> chunk) {
+		utils.lock();
+		try {
+			Tuple<List<NodeImportResult>, EventQueueBatch> chunkResult = db.tx(tx -> {
+				db.setTxMassInsertIntent();
+				try {
+					// The results and the batch are created within the transaction since the transaction may be retried
+					EventQueueBatch batch = queueProvider.get();
+					List<NodeImportResult> results = new ArrayList<>(chunk.size());
+					for (Tuple<Long, String> entry : chunk) {
+						NodeImportResult result = importEntry(ac, batch, entry.v1(), entry.v2());
+						if (result.getMessage() != null) {
+							// Abort the transaction so that the changes of the chunk will be rolled back
+							throw new FailedEntryException(result);
+						}
+						results.add(result);
+					}
+					return Tuple.tuple(results, batch);
+				} finally {
+					db.resetTxIntent();
+				}
+			});
+			chunkResult.v2().dispatch();
+			return chunkResult.v1();
+		} catch (RuntimeException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Import of chunk failed. Importing the entries separately.", e);
+			}
+		} finally {
+			utils.unlock();
+		}
+
+		List<NodeImportResult> results = new ArrayList<>(chunk.size());
+		for (Tuple<Long, String> entry : chunk) {
+			results.add(importSeparately(ac, entry.v1(), entry.v2()));
+		}
+		return results;
+	}
+
+	/**
+	 * Import the entry in its own transaction. The write lock is only held while the entry is imported.
+	 *
+	 * @param ac
+	 * @param index
+	 * @param json
+	 * @return
+	 */
+	private NodeImportResult importSeparately(InternalActionContext ac, long index, String json) {
+		utils.lock();
+		try {
+			Tuple<NodeImportResult, EventQueueBatch> entryResult = db.tx(tx -> {
+				EventQueueBatch batch = queueProvider.get();
+				NodeImportResult result = importEntry(ac, batch, index, json);
+				if (result.getMessage() != null) {
+					throw new FailedEntryException(result);
+				}
+				return Tuple.tuple(result, batch);
+			});
+			entryResult.v2().dispatch();
+			return entryResult.v1();
+		} catch (FailedEntryException e) {
+			return e.getResult();
+		} catch (Exception e) {
+			log.error("Error while importing entry {" + index + "}", e);
+			return new NodeImportResult()
+				.setIndex(index)
+				.setStatus(INTERNAL_SERVER_ERROR.code())
+				.setMessage(I18NUtil.get(ac, "error_internal"));
+		} finally {
+			utils.unlock();
+		}
+	}
+
+	/**
+	 * Create or update the node of the entry. Request errors will not be thrown but returned as result.
+	 *
+	 * @param ac
+	 * @param batch
+	 * @param index
+	 * @param json
+	 * @return
+	 */
+	private NodeImportResult importEntry(InternalActionContext ac, EventQueueBatch batch, long index, String json) {
+		NodeImportResult result = new NodeImportResult().setIndex(index);
+		try {
+			NodeImportRequest request = JsonUtil.readValue(json, NodeImportRequest.class);
+			String uuid = request.getUuid();
+			if (uuid != null && !UUIDUtil.isUUID(uuid)) {
+				throw error(BAD_REQUEST, "error_illegal_uuid", uuid);
+			}
+			LocalActionContextImpl<NodeResponse> entryAc = createEntryContext(ac, request);
+			NodeRoot root = entryAc.getProject().getNodeRoot();
+
+			Node node = null;
+			if (uuid != null) {
+				node = root.loadObjectByUuid(entryAc, uuid, UPDATE_PERM, false);
+			}
+			if (node != null) {
+				node.update(entryAc, batch);
+				result.setStatus(OK.code());
+			} else {
+				node = root.create(entryAc, batch, uuid);
+				result.setStatus(CREATED.code());
+			}
+			result.setUuid(node.getUuid());
+		} catch (AbstractRestException e) {
+			result.setUuid(null);
+			result.setStatus(e.getStatus().code());
+			result.setMessage(I18NUtil.get(ac, e.getI18nKey(), e.getI18nParameters()));
+		}
+		return result;
+	}
+
+	/**
+	 * Create the action context for a single entry. The context uses the user, project and parameters of the import request.
+	 *
+	 * @param ac
+	 * @param request
+	 * @return
+	 */
+	private LocalActionContextImpl<NodeResponse> createEntryContext(InternalActionContext ac, NodeImportRequest request) {
+		LocalActionContextImpl<NodeResponse> entryAc = new LocalActionContextImpl<>(ac.getUser(), NodeResponse.class);
+		entryAc.setProject(ac.getProject());
+		for (Entry<String, String> param : ac.getParameters()) {
+			entryAc.setParameter(param.getKey(), param.getValue());
+		}
+		entryAc.setPayloadObject(request);
+		// Imports are always scoped to drafts
+		entryAc.getVersioningParameters().setVersion("draft");
+		return entryAc;
+	}
+
+	/**
+	 * State of a streamed import request. The lines of the request are collected into chunks. The request is paused while a chunk is imported and resumed
+	 * once the results of the chunk have been written.
+	 */
+	private class ImportStream {
+
+		private final InternalActionContext ac;
+
+		private final HttpServerResponse response;
+
+		private final RecordParser parser;
+
+		private final int maxEntrySize;
+
+		private List<Tuple<Long, String>> chunk = new ArrayList<>(CHUNK_SIZE);
+
+		private long index = 0;
+
+		private boolean importing = false;
+
+		private boolean ended = false;
+
+		private boolean failed = false;
+
+		ImportStream(InternalActionContext ac, HttpServerResponse response, RecordParser parser, int maxEntrySize) {
+			this.ac = ac;
+			this.response = response;
+			this.parser = parser;
+			this.maxEntrySize = maxEntrySize;
+		}
+
+		/**
+		 * Register the handlers and resume the request which has been paused by the router.
+		 */
+		void start() {
+			parser.handler(this::handleLine);
+			parser.exceptionHandler(e -> {
+				// The parser rejects entries which exceed the maximum size with an illegal state
+				if (e instanceof IllegalStateException) {
+					// The parser would continue to buffer the entry. Thus the rest of the request is not read and the connection will be closed once the
+					// error has been sent.
+					parser.pause();
+					response.endHandler(v -> response.close());
+					fail(error(REQUEST_ENTITY_TOO_LARGE, "node_import_entry_too_large", String.valueOf(index), String.valueOf(maxEntrySize)));
+				} else {
+					fail(e);
+				}
+			});
+			parser.endHandler(v -> {
+				ended = true;
+				if (!importing) {
+					finish();
+				}
+			});
+			parser.resume();
+		}
+
+		private void handleLine(Buffer buffer) {
+			String line = buffer.toString();
+			if (failed || StringUtils.isBlank(line)) {
+				return;
+			}
+			chunk.add(Tuple.tuple(index++, line));
+			if (chunk.size() >= CHUNK_SIZE) {
+				importNext();
+			}
+		}
+
+		private void importNext() {
+			List<Tuple<Long, String>> entries = chunk;
+			chunk = new ArrayList<>(CHUNK_SIZE);
+			importing = true;
+			parser.pause();
+			db.<List<NodeImportResult>>executeBlocking(bh -> {
+				bh.complete(importChunk(ac, entries));
+			}, rh -> {
+				importing = false;
+				if (rh.failed()) {
+					fail(rh.cause());
+					return;
+				}
+				writeResults(response, rh.result());
+				if (ended) {
+					finish();
+				} else {
+					parser.resume();
+				}
+			});
+		}
+
+		private void finish() {
+			if (failed) {
+				return;
+			}
+			if (!chunk.isEmpty()) {
+				importNext();
+			} else if (index == 0) {
+				ac.fail(error(BAD_REQUEST, "node_import_empty_request"));
+			} else {
+				response.end();
+			}
+		}
+
+		private void fail(Throwable error) {
+			if (failed) {
+				return;
+			}
+			failed = true;
+			log.error("Error while importing nodes", error);
+			if (response.headWritten()) {
+				// The status has already been sent. Closing the connection is the only way to tell the client that the results are incomplete.
+				response.close();
+			} else {
+				ac.fail(error);
+			}
+		}
+	}
+
+	/**
+	 * Exception which is used to abort the transaction of a failed entry.
+	 */
+	private static class FailedEntryException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final NodeImportResult result;
+
+		FailedEntryException(NodeImportResult result) {
+			super("Import of entry {" + result.getIndex() + "} failed", null, false, false);
+			this.result = result;
+		}
+
+		public NodeImportResult getResult() {
+			return result;
+		}
+	}
+
+}
@@ -16,6 +16,8 @@ public class UploadContext {
 
 	private boolean invokeStore = false;
 
+	private boolean storeObsolete = false;
+
 	public UploadContext() {
 		this.temporaryId = UUIDUtil.randomUUID();
 	}
@@ -56,4 +58,15 @@ public class UploadContext {
 		return this.invokeStore;
 	}
 
+	/**
+	 * Mark the stored data as obsolete. This is the case when another request stored a binary with the same hash in the meantime.
+	 */
+	public void setStoreObsolete() {
+		this.storeObsolete = true;
+	}
+
+	public boolean isStoreObsolete() {
+		return this.storeObsolete;
+	}
+
 }
@@ -90,7 +90,8 @@ public class TagCrudHandler extends AbstractHandler {
 	public void handleCreate(InternalActionContext ac, String tagFamilyUuid) {
 		validateParameter(tagFamilyUuid, "tagFamilyUuid");
 
-		utils.syncTx(ac, tx -> {
+		// Tags of the same family are created one after another since they would otherwise conflict on the tag family
+		utils.serializedSyncTx(ac, tagFamilyUuid, tx -> {
 			ResultInfo info = utils.eventAction(batch -> {
 				Tag tag = getTagFamily(ac, tagFamilyUuid).create(ac, batch);
 				TagResponse model = tag.transformToRestSync(ac, 0);
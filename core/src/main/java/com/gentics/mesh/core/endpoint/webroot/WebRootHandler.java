@@ -7,9 +7,12 @@ import static com.gentics.mesh.util.URIUtils.decodeSegment;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpHeaders.CACHE_CONTROL;
+import static io.vertx.core.http.HttpHeaders.ETAG;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.inject.Inject;
@@ -17,6 +20,8 @@ import javax.inject.Singleton;
 
 import org.apache.commons.lang3.math.NumberUtils;
 
+import com.gentics.mesh.cache.AnonymousResponseCache;
+import com.gentics.mesh.cache.CachedResponse;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
@@ -45,6 +50,7 @@ import com.gentics.mesh.util.ETag;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.reactivex.Single;
+import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -57,6 +63,11 @@ public class WebRootHandler {
 
 	private static final String WEBROOT_LAST_SEGMENT = "WEBROOT_SEGMENT_NAME";
 
+	/**
+	 * Headers of node responses which need to be restored when a cached response is sent.
+	 */
+	private static final String[] CACHED_HEADERS = { CACHE_CONTROL.toString(), MeshHeaders.WEBROOT_NODE_UUID, MeshHeaders.WEBROOT_RESPONSE_TYPE };
+
 	private WebRootServiceImpl webrootService;
 
 	private BinaryFieldResponseHandler binaryFieldResponseHandler;
@@ -71,9 +82,11 @@ public class WebRootHandler {
 
 	private MeshOptions options;
 
+	private final AnonymousResponseCache responseCache;
+
 	@Inject
 	public WebRootHandler(Database database, WebRootServiceImpl webrootService, BinaryFieldResponseHandler binaryFieldResponseHandler,
-		NodeCrudHandler nodeCrudHandler, HandlerUtilities util, BootstrapInitializer boot, MeshOptions options) {
+		NodeCrudHandler nodeCrudHandler, HandlerUtilities util, BootstrapInitializer boot, MeshOptions options, AnonymousResponseCache responseCache) {
 		this.db = database;
 		this.webrootService = webrootService;
 		this.binaryFieldResponseHandler = binaryFieldResponseHandler;
@@ -81,6 +94,7 @@ public class WebRootHandler {
 		this.utils = utils;
 		this.boot = boot;
 		this.options = options;
+		this.responseCache = responseCache;
 	}
 
 	/**
@@ -92,6 +106,18 @@ public class WebRootHandler {
 		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
 		String path = rc.request().path().substring(
 			rc.mountPoint().length());
+
+		// The path of the request contains the project and the API version
+		String cacheKey = responseCache.createKey(ac, "webroot", rc.request().path());
+		if (cacheKey != null) {
+			CachedResponse cachedResponse = responseCache.getResponse(cacheKey);
+			if (cachedResponse != null) {
+				sendCachedResponse(rc, ac, cachedResponse);
+				return;
+			}
+		}
+		long cacheGeneration = responseCache.generation();
+
 		MeshAuthUser requestUser = ac.getUser();
 		db.asyncTx(() -> {
 
@@ -155,13 +181,56 @@ public class WebRootHandler {
 
 		}).subscribe(result -> {
 			if (result.isPresent()) {
-				ac.send(JsonUtil.toJson(result.get()),
-					HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())));
+				String json = JsonUtil.toJson(result.get());
+				HttpResponseStatus status = HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code()));
+				if (cacheKey != null && status == OK) {
+					responseCache.storeResponse(cacheGeneration, cacheKey, createCachedResponse(rc, json));
+				}
+				ac.send(json, status);
 			}
 		}, ac::fail);
 
 	}
 
+	/**
+	 * Create the cache entry for the rendered node response.
+	 *
+	 * @param rc
+	 * @param json
+	 * @return
+	 */
+	private CachedResponse createCachedResponse(RoutingContext rc, String json) {
+		MultiMap responseHeaders = rc.response().headers();
+		Map<String, String> headers = new HashMap<>();
+		for (String name : CACHED_HEADERS) {
+			String value = responseHeaders.get(name);
+			if (value != null) {
+				headers.put(name, value);
+			}
+		}
+		return new CachedResponse(ETag.extract(responseHeaders.get(ETAG)), json, headers);
+	}
+
+	/**
+	 * Send the cached node response without loading the node.
+	 *
+	 * @param rc
+	 * @param ac
+	 * @param cachedResponse
+	 */
+	private void sendCachedResponse(RoutingContext rc, InternalActionContext ac, CachedResponse cachedResponse) {
+		cachedResponse.getHeaders().forEach(rc.response()::putHeader);
+		String etag = cachedResponse.getEtag();
+		if (etag != null) {
+			ac.setEtag(etag, true);
+			if (ac.matches(etag, true)) {
+				ac.fail(new NotModifiedException());
+				return;
+			}
+		}
+		ac.send(cachedResponse.getBody(), OK);
+	}
+
 	/**
 	 * Add the cache control headers.
 	 * 
@@ -1,8 +1,12 @@
 package com.gentics.mesh.core.project.maintenance;
 
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_NODE;
+
 import java.time.ZonedDateTime;
-import java.util.Iterator;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -13,29 +17,47 @@ import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.node.Node;
-import com.gentics.mesh.core.data.root.NodeRoot;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.core.endpoint.migration.MigrationCursor;
 import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.util.DateUtils;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.tinkerpop.blueprints.Direction;
 
 import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.WorkerExecutor;
 
 @Singleton
 public class ProjectVersionPurgeHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(ProjectVersionPurgeHandler.class);
 
+	private static final int WINDOW_SIZE = 1000;
+
 	private final Database db;
 
 	private final Provider<BulkActionContext> bulkProvider;
 
+	private final MeshOptions options;
+
+	private final Vertx vertx;
+
+	private WorkerExecutor workerPool;
+
 	@Inject
-	public ProjectVersionPurgeHandler(Database db, Provider<BulkActionContext> bulkProvider) {
+	public ProjectVersionPurgeHandler(Database db, Provider<BulkActionContext> bulkProvider, MeshOptions options, Vertx vertx) {
 		this.db = db;
 		this.bulkProvider = bulkProvider;
+		this.options = options;
+		this.vertx = vertx;
 	}
 
 	public long getBatchSize() {
@@ -44,89 +66,150 @@ public class ProjectVersionPurgeHandler {
 
 	/**
 	 * Purge the versions of all nodes in the project.
-	 * 
+	 *
 	 * @param project
 	 * @param maxAge
 	 *            Limit the purge operation to versions which exceed the max age.
 	 * @return
 	 */
 	public Completable purgeVersions(Project project, ZonedDateTime maxAge) {
-		return Completable.fromAction(() -> {
-			db.tx(tx -> {
-				NodeRoot nodeRoot = project.getNodeRoot();
-				Iterator<? extends Node> it = nodeRoot.findAll().iterator();
-				while (it.hasNext()) {
-					Node node = it.next();
-					purgeNode(tx, node, maxAge);
+		return purgeVersions(project, maxAge, null, null).ignoreElement();
+	}
+
+	/**
+	 * Purge the versions of all nodes in the project. The nodes are processed in windows ordered by their id. Each node is purged in its own transaction
+	 * and the nodes of a window are purged in parallel by the configured number of migration workers.
+	 *
+	 * @param project
+	 * @param maxAge
+	 *            Limit the purge operation to versions which exceed the max age.
+	 * @param checkpoint
+	 *            Id of the last node which was processed by a previous run or null. The purge resumes with the nodes which have a greater id, even if the
+	 *            node of the checkpoint has been deleted in the meantime.
+	 * @param progress
+	 *            Optional consumer which will be invoked with the checkpoint and the current result after each window
+	 * @return Result of the purge
+	 */
+	public Single<VersionPurgeResult> purgeVersions(Project project, ZonedDateTime maxAge, String checkpoint,
+		BiConsumer<String, VersionPurgeResult> progress) {
+		return Single.fromCallable(() -> {
+			VersionPurgeResult result = new VersionPurgeResult();
+			// The cursor only loads the nodes which are connected to the node root of the project
+			Object nodeRootId = db.tx(() -> project.getNodeRoot().id());
+			MigrationCursor<Node> cursor = MigrationCursor.stable(db, nodeRootId, HAS_NODE, NodeImpl.class, WINDOW_SIZE, checkpoint);
+			List<Node> window = cursor.next();
+			while (!window.isEmpty()) {
+				purgeWindow(window, maxAge, result);
+				log.info("Purged versions of {" + window.size() + "} nodes - " + result);
+				if (progress != null) {
+					progress.accept(cursor.getLastId(), result);
 				}
-				return null;
-			});
+				window = cursor.next();
+			}
+			log.info("Version purge of project done - " + result);
+			return result;
 		});
 	}
 
-	private void purgeNode(Tx tx, Node node, ZonedDateTime maxAge) {
+	private void purgeWindow(List<Node> window, ZonedDateTime maxAge, VersionPurgeResult result) {
+		int workers = options.getContentOptions().getMigrationWorkers();
+		if (workers <= 1) {
+			purgeNodes(window, maxAge, result);
+			return;
+		}
+		// Nodes don't share versions. Thus each worker can purge its own range of nodes.
+		List<List<Node>> partitions = Lists.partition(window, (int) Math.ceil((double) window.size() / workers));
+		WorkerExecutor pool = getWorkerPool();
+		Observable.fromIterable(partitions)
+			.flatMapSingle(partition -> pool.<Boolean>rxExecuteBlocking(bh -> {
+				purgeNodes(partition, maxAge, result);
+				bh.complete(true);
+			}, false).toSingle())
+			.ignoreElements()
+			.blockingAwait();
+	}
+
+	private void purgeNodes(List<Node> nodes, ZonedDateTime maxAge, VersionPurgeResult result) {
+		for (Node node : nodes) {
+			VersionPurgeResult nodeResult = db.tx(tx -> {
+				return purgeNode(tx, node, maxAge);
+			});
+			result.add(nodeResult.getPurgedVersions(), nodeResult.getFreedRecords());
+		}
+	}
+
+	private VersionPurgeResult purgeNode(Tx tx, Node node, ZonedDateTime maxAge) {
+		// The result is created within the transaction. A retry of the transaction will thus not count elements twice.
+		VersionPurgeResult result = new VersionPurgeResult();
 		Iterable<? extends NodeGraphFieldContainer> initials = node.getGraphFieldContainers(ContainerType.INITIAL);
 		for (NodeGraphFieldContainer initial : initials) {
-			Long counter = 0L;
-			purgeVersion(tx, counter, bulkProvider.get(), initial, initial, false, maxAge);
+			purgeVersions(tx, bulkProvider.get(), initial, maxAge, result);
 		}
+		return result;
 	}
 
 	/**
-	 * Invoke the purge action on the given container.
-	 * 
+	 * Invoke the purge action on the version chain which starts with the given initial container. The chain is traversed iteratively.
+	 *
 	 * @param tx
-	 * @param txCounter
 	 * @param bac
 	 *            Action context for the removal operation
-	 * @param lastRemaining
-	 *            Previous version which remained
-	 * @param version
-	 *            Current version to be checked for removal
-	 * @param previousRemoved
-	 *            Flag which indicated whether the previous version has been removed
+	 * @param initial
+	 *            First version of the chain. The initial version itself will never be removed.
 	 * @param maxAge
+	 * @param result
+	 *            Result which will be updated with the purged versions
 	 */
-	private void purgeVersion(Tx tx, Long txCounter, BulkActionContext bac, NodeGraphFieldContainer lastRemaining, NodeGraphFieldContainer version,
-		boolean previousRemoved, ZonedDateTime maxAge) {
-
-		// We need to load some information first since we may remove the version in this step
-		List<? extends NodeGraphFieldContainer> nextVersions = Lists.newArrayList(version.getNextVersions());
-		boolean isNewerThanMaxAge = maxAge != null && !isOlderThanMaxAge(version, maxAge);
-		boolean isInTimeFrame = maxAge == null || isOlderThanMaxAge(version, maxAge);
-
-		if (isInTimeFrame && version.isPurgeable()) {
-			log.info("Purging container " + version.getUuid() + "@" + version.getVersion());
-			// Delete this version - This will also take care of removing the version references
-			version.delete(bac, false);
-			previousRemoved = true;
-			txCounter++;
-		} else {
-			// We found a version which is not removable. So link it to the last remaining.
-			if (previousRemoved) {
-				log.info("Linking {" + lastRemaining.getUuid() + "@" + lastRemaining.getVersion() + " to " + version.getUuid() + "@"
-					+ version.getVersion());
-				// We only need to link to the previous version if it has been removed in an earlier step
-				lastRemaining.setNextVersion(version);
+	private void purgeVersions(Tx tx, BulkActionContext bac, NodeGraphFieldContainer initial, ZonedDateTime maxAge, VersionPurgeResult result) {
+		long txCounter = 0;
+		Deque<PurgeStep> steps = new ArrayDeque<>();
+		steps.push(new PurgeStep(initial, initial, false));
+		while (!steps.isEmpty()) {
+			PurgeStep step = steps.pop();
+			NodeGraphFieldContainer version = step.version;
+			NodeGraphFieldContainer lastRemaining = step.lastRemaining;
+			boolean previousRemoved = step.previousRemoved;
+
+			// We need to load some information first since we may remove the version in this step
+			List<? extends NodeGraphFieldContainer> nextVersions = Lists.newArrayList(version.getNextVersions());
+			boolean isNewerThanMaxAge = maxAge != null && !isOlderThanMaxAge(version, maxAge);
+			boolean isInTimeFrame = maxAge == null || isOlderThanMaxAge(version, maxAge);
+
+			if (isInTimeFrame && version.isPurgeable()) {
+				log.info("Purging container " + version.getUuid() + "@" + version.getVersion());
+				// The vertex and all of its edges will be removed
+				long records = 1 + Iterables.size(version.getElement().getEdges(Direction.BOTH));
+				// Delete this version - This will also take care of removing the version references
+				version.delete(bac, false);
+				result.add(1, records);
+				previousRemoved = true;
 				txCounter++;
+			} else {
+				// We found a version which is not removable. So link it to the last remaining.
+				if (previousRemoved) {
+					log.info("Linking {" + lastRemaining.getUuid() + "@" + lastRemaining.getVersion() + " to " + version.getUuid() + "@"
+						+ version.getVersion());
+					// We only need to link to the previous version if it has been removed in an earlier step
+					lastRemaining.setNextVersion(version);
+					txCounter++;
+				}
+				// Update the reference since this version is now the last remaining because it was not removed
+				lastRemaining = version;
+				previousRemoved = false;
 			}
-			if (txCounter % getBatchSize() == 0 && txCounter != 0) {
+
+			if (txCounter >= getBatchSize()) {
 				log.info("Committing batch - Elements handled {" + txCounter + "}");
 				tx.getGraph().commit();
+				txCounter = 0;
 			}
-			// Update the reference since this version is now the last remaining because it was not removed
-			lastRemaining = version;
-			previousRemoved = false;
-		}
 
-		// Check if a maxage is set and whether the version is newer than the maxage
-		if (isNewerThanMaxAge) {
-			// We can stop traversing the tree at this point.
-			return;
-		} else {
-			// Continue with next versions
-			for (NodeGraphFieldContainer next : nextVersions) {
-				purgeVersion(tx, txCounter, bac, lastRemaining, next, previousRemoved, maxAge);
+			// Check if a maxage is set and whether the version is newer than the maxage. We can stop traversing the chain at this point.
+			if (!isNewerThanMaxAge) {
+				// Continue with next versions. They are pushed in reverse order to retain the order of the recursive traversal.
+				for (NodeGraphFieldContainer next : Lists.reverse(nextVersions)) {
+					steps.push(new PurgeStep(lastRemaining, next, previousRemoved));
+				}
 			}
 		}
 	}
@@ -143,4 +226,30 @@ public class ProjectVersionPurgeHandler {
 		return true;
 	}
 
+	private synchronized WorkerExecutor getWorkerPool() {
+		if (workerPool == null) {
+			// The purge runs until it is done. Thus we don't want the blocked thread checker to warn about the workers.
+			workerPool = vertx.createSharedWorkerExecutor("versionPurgeWorker", options.getContentOptions().getMigrationWorkers(), Long.MAX_VALUE);
+		}
+		return workerPool;
+	}
+
+	/**
+	 * Step of the version chain traversal.
+	 */
+	private static class PurgeStep {
+
+		private final NodeGraphFieldContainer lastRemaining;
+
+		private final NodeGraphFieldContainer version;
+
+		private final boolean previousRemoved;
+
+		PurgeStep(NodeGraphFieldContainer lastRemaining, NodeGraphFieldContainer version, boolean previousRemoved) {
+			this.lastRemaining = lastRemaining;
+			this.version = version;
+			this.previousRemoved = previousRemoved;
+		}
+	}
+
 }
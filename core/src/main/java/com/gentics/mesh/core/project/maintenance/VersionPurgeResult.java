@@ -0,0 +1,49 @@
+package com.gentics.mesh.core.project.maintenance;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of a project version purge.
+ */
+public class VersionPurgeResult {
+
+	private final AtomicLong purgedVersions = new AtomicLong();
+
+	private final AtomicLong freedRecords = new AtomicLong();
+
+	/**
+	 * Return the amount of versions which have been purged.
+	 *
+	 * @return
+	 */
+	public long getPurgedVersions() {
+		return purgedVersions.get();
+	}
+
+	/**
+	 * Return the amount of graph records (vertices and edges) which have been removed together with the purged versions.
+	 *
+	 * @return
+	 */
+	public long getFreedRecords() {
+		return freedRecords.get();
+	}
+
+	/**
+	 * Add the given counts.
+	 *
+	 * @param versions
+	 * @param records
+	 * @return Fluent API
+	 */
+	public VersionPurgeResult add(long versions, long records) {
+		purgedVersions.addAndGet(versions);
+		freedRecords.addAndGet(records);
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return "purged versions: " + getPurgedVersions() + ", freed records: " + getFreedRecords();
+	}
+}
@@ -0,0 +1,220 @@
+package com.gentics.mesh.core.verticle.job;
+
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.core.rest.job.JobStatus.UNKNOWN;
+import static com.gentics.mesh.metric.SimpleMetric.JOB_QUEUE_WAIT;
+import static com.gentics.mesh.metric.SimpleMetric.JOB_TIME;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.core.rest.job.JobStatus;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.util.Tuple;
+
+import dagger.Lazy;
+import io.micrometer.core.instrument.Tags;
+import io.reactivex.Completable;
+import io.reactivex.subjects.CompletableSubject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.WorkerExecutor;
+
+/**
+ * Scheduler which executes the queued jobs. Jobs will be executed concurrently up to the configured limit. Jobs with overlapping lock scopes (see
+ * {@link Job#getLockScope()}) will never be executed concurrently and a job will never be started before an earlier queued job with an overlapping scope.
+ */
+@Singleton
+public class JobScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(JobScheduler.class);
+
+	private final Database db;
+
+	private final Lazy<BootstrapInitializer> boot;
+
+	private final MeshOptions options;
+
+	private final MetricsService metrics;
+
+	private final Vertx vertx;
+
+	/**
+	 * Lock scopes of the running jobs by job uuid.
+	 */
+	private final Map<String, List<String>> running = new HashMap<>();
+
+	/**
+	 * Time at which the queued jobs have been seen first by the scheduler.
+	 */
+	private final Map<String, Long> queuedSince = new HashMap<>();
+
+	private volatile CompletableSubject idle;
+
+	private WorkerExecutor workerPool;
+
+	@Inject
+	public JobScheduler(Database db, Lazy<BootstrapInitializer> boot, MeshOptions options, MetricsService metrics, Vertx vertx) {
+		this.db = db;
+		this.boot = boot;
+		this.options = options;
+		this.metrics = metrics;
+		this.vertx = vertx;
+	}
+
+	/**
+	 * Start processing the queued jobs. This will select the jobs within a transaction and thus must not be invoked on the event loop.
+	 *
+	 * @return Completable which will be completed once no job is running and no further job can be started
+	 */
+	public synchronized Completable process() {
+		if (idle == null) {
+			idle = CompletableSubject.create();
+		}
+		Completable result = idle;
+		schedule();
+		return result;
+	}
+
+	/**
+	 * Check whether the scheduler is currently processing jobs. This will not block while the scheduler selects jobs.
+	 *
+	 * @return
+	 */
+	public boolean isActive() {
+		return idle != null;
+	}
+
+	/**
+	 * Check the queue and start all jobs which can be executed. This is a no-op if the scheduler is not active. This will select the jobs within a
+	 * transaction and thus must not be invoked on the event loop.
+	 */
+	public synchronized void schedule() {
+		if (idle == null) {
+			return;
+		}
+		try {
+			List<Tuple<Job, List<String>>> startable = db.tx(() -> selectJobs());
+			for (Tuple<Job, List<String>> entry : startable) {
+				start(entry.v1(), entry.v2());
+			}
+		} catch (Exception e) {
+			log.error("Error while scheduling jobs", e);
+		}
+
+		if (running.isEmpty()) {
+			log.info("No more jobs to be processed.");
+			CompletableSubject done = idle;
+			idle = null;
+			queuedSince.clear();
+			done.onComplete();
+		}
+	}
+
+	/**
+	 * Select the queued jobs which can be started now. This needs to be invoked within a transaction.
+	 *
+	 * @return Jobs and their lock scopes
+	 */
+	private List<Tuple<Job, List<String>>> selectJobs() {
+		int limit = options.getContentOptions().getMaxConcurrentJobs();
+		List<Tuple<Job, List<String>>> selected = new ArrayList<>();
+		// Scopes of the running jobs and of the jobs which are queued before the current job
+		List<List<String>> blocked = new ArrayList<>(running.values());
+		for (Job job : boot.get().jobRoot().findAll()) {
+			if (running.size() + selected.size() >= limit) {
+				break;
+			}
+			try {
+				// Don't execute failed or completed jobs again
+				JobStatus jobStatus = job.getStatus();
+				if (job.hasFailed() || (jobStatus == COMPLETED || jobStatus == FAILED || jobStatus == UNKNOWN)) {
+					continue;
+				}
+				String uuid = job.getUuid();
+				if (running.containsKey(uuid)) {
+					continue;
+				}
+				queuedSince.putIfAbsent(uuid, System.currentTimeMillis());
+				List<String> scope = job.getLockScope();
+				boolean conflict = blocked.stream().anyMatch(other -> overlaps(scope, other));
+				// The job blocks all later jobs with an overlapping scope, regardless whether it can be started now.
+				blocked.add(scope);
+				if (!conflict) {
+					selected.add(Tuple.tuple(job, scope));
+				}
+			} catch (Exception e) {
+				job.markAsFailed(e);
+				log.error("Error while processing job {" + job.getUuid() + "}");
+			}
+		}
+		return selected;
+	}
+
+	private void start(Job job, List<String> scope) {
+		String uuid = db.tx(() -> job.getUuid());
+		String type = db.tx(() -> String.valueOf(job.getType()));
+		running.put(uuid, scope);
+		Tags tags = Tags.of("type", type);
+		Long since = queuedSince.remove(uuid);
+		if (metrics.isEnabled() && since != null) {
+			metrics.timer(JOB_QUEUE_WAIT, tags).record(System.currentTimeMillis() - since, TimeUnit.MILLISECONDS);
+		}
+
+		log.info("Starting job {" + uuid + "} of type {" + type + "}. Running jobs: {" + running.size() + "}");
+		long start = System.nanoTime();
+		getWorkerPool().<Void>rxExecuteBlocking(bh -> {
+			try {
+				job.process().blockingAwait();
+				bh.complete();
+			} finally {
+				if (metrics.isEnabled()) {
+					metrics.timer(JOB_TIME, tags).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				}
+				synchronized (this) {
+					running.remove(uuid);
+				}
+				// Select the next jobs while still on the worker thread
+				schedule();
+			}
+		}, false).ignoreElement()
+			.subscribe(() -> {
+				log.info("Job {" + uuid + "} completed.");
+			}, error -> {
+				log.error("Error while processing job {" + uuid + "}", error);
+			});
+	}
+
+	/**
+	 * Check whether the given scopes overlap. This is the case if one scope is a prefix of the other scope.
+	 *
+	 * @param scope
+	 * @param other
+	 * @return
+	 */
+	public static boolean overlaps(List<String> scope, List<String> other) {
+		int length = Math.min(scope.size(), other.size());
+		return scope.subList(0, length).equals(other.subList(0, length));
+	}
+
+	private synchronized WorkerExecutor getWorkerPool() {
+		if (workerPool == null) {
+			// Jobs run until they are done. Thus we don't want the blocked thread checker to warn about the workers.
+			workerPool = vertx.createSharedWorkerExecutor("jobWorker", options.getContentOptions().getMaxConcurrentJobs(), Long.MAX_VALUE);
+		}
+		return workerPool;
+	}
+
+}
@@ -6,13 +6,12 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
-import com.gentics.mesh.core.data.job.JobRoot;
-import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.verticle.AbstractJobVerticle;
 
 import dagger.Lazy;
 import io.reactivex.Completable;
 import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
 
 /**
  * Dedicated verticle which will process jobs.
@@ -34,12 +33,12 @@ public class JobWorkerVerticle extends AbstractJobVerticle {
 
 	private Lazy<BootstrapInitializer> boot;
 
-	private Database db;
+	private JobScheduler scheduler;
 
 	@Inject
-	public JobWorkerVerticle(Database db, Lazy<BootstrapInitializer> boot) {
-		this.db = db;
+	public JobWorkerVerticle(Lazy<BootstrapInitializer> boot, JobScheduler scheduler) {
 		this.boot = boot;
+		this.scheduler = scheduler;
 	}
 
 	@Override
@@ -52,12 +51,39 @@ public class JobWorkerVerticle extends AbstractJobVerticle {
 		return GLOBAL_JOB_LOCK_NAME;
 	}
 
+	@Override
+	public void invokeJobAction(Message<Object> message) {
+		// The scheduler already holds the lock. Newly queued jobs can be started right away if their scope does not overlap with the running jobs.
+		if (!stopped && scheduler.isActive()) {
+			log.info("Job processing is already active. Checking the queue for new jobs.");
+			message.reply(new JsonObject().put("status", STATUS_ACCEPTED));
+			// Selecting the jobs requires a transaction which must not block the event loop
+			vertx.<Void>executeBlocking(bh -> {
+				scheduler.schedule();
+				bh.complete();
+			}, false, rh -> {
+				if (rh.failed()) {
+					log.error("Error while scheduling jobs", rh.cause());
+				}
+			});
+			return;
+		}
+		super.invokeJobAction(message);
+	}
+
 	@Override
 	public Completable executeJob(Message<Object> message) {
-		return Completable.defer(() -> db.tx(() -> {
-			JobRoot jobRoot = boot.get().jobRoot();
-			return jobRoot.process();
-		}));
+		return Completable.create(sub -> {
+			vertx.<Completable>executeBlocking(bh -> {
+				bh.complete(scheduler.process());
+			}, false, rh -> {
+				if (rh.failed()) {
+					sub.onError(rh.cause());
+				} else {
+					rh.result().subscribe(sub::onComplete, sub::onError);
+				}
+			});
+		});
 	}
 
 }
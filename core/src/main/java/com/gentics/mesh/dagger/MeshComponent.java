@@ -8,11 +8,15 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.AnonymousResponseCache;
+import com.gentics.mesh.cache.NavigationCache;
+import com.gentics.mesh.cache.NodePathCache;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.core.binary.BinaryParseHandler;
 import com.gentics.mesh.core.data.schema.handler.SchemaComparator;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
 import com.gentics.mesh.core.endpoint.migration.branch.BranchMigrationHandler;
@@ -99,6 +103,8 @@ public interface MeshComponent {
 
 	ProjectVersionPurgeHandler projectVersionPurgeHandler();
 
+	BinaryParseHandler binaryParseHandler();
+
 	MeshLocalClientImpl meshLocalClientImpl();
 
 	WebRootLinkReplacer webRootLinkReplacer();
@@ -141,6 +147,12 @@ public interface MeshComponent {
 
 	PermissionCache permissionCache();
 
+	NodePathCache nodePathCache();
+
+	NavigationCache navigationCache();
+
+	AnonymousResponseCache anonymousResponseCache();
+
 	Vertx vertx();
 
 	Provider<EventQueueBatch> batchProvider();
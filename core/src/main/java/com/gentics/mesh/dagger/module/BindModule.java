@@ -2,8 +2,14 @@ package com.gentics.mesh.dagger.module;
 
 import com.gentics.mesh.auth.MeshOAuth2ServiceImpl;
 import com.gentics.mesh.auth.MeshOAuthService;
+import com.gentics.mesh.cache.AnonymousResponseCache;
+import com.gentics.mesh.cache.AnonymousResponseCacheImpl;
 import com.gentics.mesh.cache.CacheRegistry;
 import com.gentics.mesh.cache.CacheRegistryImpl;
+import com.gentics.mesh.cache.NavigationCache;
+import com.gentics.mesh.cache.NavigationCacheImpl;
+import com.gentics.mesh.cache.NodePathCache;
+import com.gentics.mesh.cache.NodePathCacheImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
@@ -71,6 +77,15 @@ public abstract class BindModule {
 	@Binds
 	abstract WebrootPathCache bindWebrootPathCache(WebrootPathCacheImpl e);
 
+	@Binds
+	abstract NodePathCache bindNodePathCache(NodePathCacheImpl e);
+
+	@Binds
+	abstract NavigationCache bindNavigationCache(NavigationCacheImpl e);
+
+	@Binds
+	abstract AnonymousResponseCache bindAnonymousResponseCache(AnonymousResponseCacheImpl e);
+
 	@Binds
 	abstract PermissionCache bindPermissionCache(PermissionCacheImpl e);
 
@@ -0,0 +1,53 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class AnonymousResponseCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testInvalidationOnUpdate() {
+		AnonymousResponseCache cache = meshDagger().anonymousResponseCache();
+		String uuid = contentUuid();
+		try (Tx tx = tx()) {
+			anonymousRole().grantPermissions(content(), READ_PERM);
+			tx.success();
+		}
+
+		client().logout().ignoreElement().blockingAwait();
+		NodeResponse before = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		assertTrue("The anonymous response should have been cached", cache.size() > 0);
+		assertEquals(before.getVersion(), call(() -> client().findNodeByUuid(PROJECT_NAME, uuid)).getVersion());
+
+		// Update the node as a regular user
+		client().setLogin(tx(() -> user().getUsername()), data().getUserInfo().getPassword());
+		client().login().blockingGet();
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion(before.getVersion());
+		request.getFields().put("teaser", FieldUtil.createStringField("updated teaser"));
+		waitForEvent(NODE_UPDATED.address, () -> call(() -> client().updateNode(PROJECT_NAME, uuid, request)));
+
+		client().logout().ignoreElement().blockingAwait();
+		NodeResponse after = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		assertNotEquals("The cached response should have been invalidated", before.getVersion(), after.getVersion());
+		assertEquals("updated teaser", after.getFields().getStringField("teaser").getString());
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.gentics.mesh.cache;
 
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestSize.FULL;
@@ -18,6 +19,8 @@ import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.util.UUIDUtil;
 
+import io.vertx.core.json.JsonObject;
+
 @MeshTestSetting(testSize = FULL, startServer = true)
 public class EventAwareCacheTest extends AbstractMeshTest {
 
@@ -28,8 +31,8 @@ public class EventAwareCacheTest extends AbstractMeshTest {
 		EventAwareCache<String, Boolean> USER_STATE_CACHE = new EventAwareCacheImpl.Builder<String, Boolean>()
 			.maxSize(15_000)
 			.events(USER_UPDATED)
-			.action((event, cache) -> {
-				String uuid = event.body().getString("uuid");
+			.action((address, body, cache) -> {
+				String uuid = body.getString("uuid");
 				if (uuid != null) {
 					cache.invalidate(uuid);
 				} else {
@@ -58,4 +61,29 @@ public class EventAwareCacheTest extends AbstractMeshTest {
 		assertNull("The cache entry should have been invalidated.", USER_STATE_CACHE.get(userUuid()));
 		assertTrue("The other cache entry should be still in the cache.", USER_STATE_CACHE.get(uuid2));
 	}
+
+	@Test
+	public void testDispatchedEvent() {
+		MeshOptions options = new MeshOptions();
+		options.getMonitoringOptions().setEnabled(false);
+		EventAwareCache<String, Boolean> cache = new EventAwareCacheImpl.Builder<String, Boolean>()
+			.events(USER_UPDATED)
+			.action((address, body, c) -> c.invalidate(body.getString("uuid")))
+			.setMetricsService(mock(MetricsService.class))
+			.meshOptions(options)
+			.name("testcache")
+			.vertx(vertx())
+			.build();
+
+		String uuid = UUIDUtil.randomUUID();
+		cache.put(uuid, true);
+
+		// Events which the cache is not registered for must be ignored
+		cache.onDispatch(USER_DELETED.address, new JsonObject().put("uuid", uuid));
+		assertTrue("The entry should still be cached.", cache.get(uuid));
+
+		// The entry must be invalidated directly and not only once the event has been received
+		cache.onDispatch(USER_UPDATED.address, new JsonObject().put("uuid", uuid));
+		assertNull("The entry should have been invalidated.", cache.get(uuid));
+	}
 }
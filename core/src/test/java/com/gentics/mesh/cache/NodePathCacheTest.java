@@ -0,0 +1,52 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class NodePathCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testSubtreeInvalidation() {
+		NodePathCache cache = meshDagger().nodePathCache();
+		String folderUuid = tx(() -> folder("2015").getUuid());
+		String contentUuid = tx(() -> content("news_2015").getUuid());
+		String targetUuid = tx(() -> folder("deals").getUuid());
+
+		NodeResponse before = call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid, new NodeParametersImpl().setResolveLinks(LinkType.SHORT)));
+		assertTrue("The path of the node should have been cached", cache.size() > 0);
+
+		// Moving the parent folder affects the path of the content
+		waitForEvent(NODE_MOVED.address, () -> call(() -> client().moveNode(PROJECT_NAME, folderUuid, targetUuid)));
+
+		NodeResponse after = call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid, new NodeParametersImpl().setResolveLinks(LinkType.SHORT)));
+		String targetPath = call(() -> client().findNodeByUuid(PROJECT_NAME, targetUuid, new NodeParametersImpl().setResolveLinks(LinkType.SHORT)))
+			.getPath();
+		assertEquals(before.getPath().replace("/News", targetPath), after.getPath());
+	}
+
+	@Test
+	public void testWebrootUsesCache() {
+		NodePathCache cache = meshDagger().nodePathCache();
+		cache.clear();
+
+		// Webroot requests use a write transaction which does not contain any changes
+		NodeResponse node = call(() -> client().webroot(PROJECT_NAME, "/News/2015", new NodeParametersImpl().setResolveLinks(LinkType.SHORT)))
+			.getNodeResponse();
+		assertEquals("/News/2015", node.getPath());
+		assertTrue("The path of the node should have been cached", cache.size() > 0);
+	}
+
+}
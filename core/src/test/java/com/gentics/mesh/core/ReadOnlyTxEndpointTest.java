@@ -0,0 +1,103 @@
+package com.gentics.mesh.core;
+
+import static com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl.ETAG_PROPERTY_KEY;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ClientHelper.callETag;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+/**
+ * The generic read handlers and the read children handler use read-only transactions which reject any write operation. These tests assert that the
+ * read requests of the endpoints don't modify the graph.
+ */
+@MeshTestSetting(elasticsearch = NONE, testSize = TestSize.FULL, startServer = true)
+public class ReadOnlyTxEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testReadElement() {
+		String tagFamilyUuid = tx(() -> tagFamily("colors").getUuid());
+		String tagUuid = tx(() -> tag("red").getUuid());
+		String schemaUuid = tx(() -> schemaContainer("folder").getUuid());
+		String microschemaUuid = tx(() -> microschemaContainer("vcard").getUuid());
+
+		call(() -> client().findUserByUuid(userUuid()));
+		call(() -> client().findGroupByUuid(groupUuid()));
+		call(() -> client().findRoleByUuid(roleUuid()));
+		call(() -> client().findProjectByUuid(projectUuid()));
+		call(() -> client().findBranchByUuid(PROJECT_NAME, initialBranchUuid()));
+		call(() -> client().findSchemaByUuid(schemaUuid));
+		call(() -> client().findMicroschemaByUuid(microschemaUuid));
+		call(() -> client().findTagFamilyByUuid(PROJECT_NAME, tagFamilyUuid));
+		call(() -> client().findTagByUuid(PROJECT_NAME, tagFamilyUuid, tagUuid));
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid(), new NodeParametersImpl().setResolveLinks(LinkType.FULL)));
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid(), new VersioningParametersImpl().published()));
+	}
+
+	@Test
+	public void testReadElementList() {
+		String tagFamilyUuid = tx(() -> tagFamily("colors").getUuid());
+		PagingParameters paging = new PagingParametersImpl().setPerPage(2L);
+
+		call(() -> client().findUsers(paging));
+		call(() -> client().findGroups(paging));
+		call(() -> client().findRoles(paging));
+		call(() -> client().findProjects(paging));
+		call(() -> client().findBranches(PROJECT_NAME, paging));
+		call(() -> client().findSchemas(paging));
+		call(() -> client().findMicroschemas(paging));
+		call(() -> client().findTagFamilies(PROJECT_NAME, paging));
+		call(() -> client().findTags(PROJECT_NAME, tagFamilyUuid, paging));
+		call(() -> client().findNodes(PROJECT_NAME, paging));
+	}
+
+	@Test
+	public void testReadChildren() {
+		String parentUuid = tx(() -> folder("2015").getParentNode(initialBranchUuid()).getUuid());
+		call(() -> client().findNodeChildren(PROJECT_NAME, parentUuid));
+		call(() -> client().findNodeChildren(PROJECT_NAME, parentUuid, new VersioningParametersImpl().published()));
+	}
+
+	@Test
+	public void testReadWithETag() {
+		String etag = callETag(() -> client().findUsers());
+		callETag(() -> client().findUsers(), etag, true, 304);
+		etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()), etag, true, 304);
+		String parentUuid = tx(() -> folder("2015").getParentNode(initialBranchUuid()).getUuid());
+		etag = callETag(() -> client().findNodeChildren(PROJECT_NAME, parentUuid));
+		callETag(() -> client().findNodeChildren(PROJECT_NAME, parentUuid), etag, true, 304);
+	}
+
+	/**
+	 * The etag of a content is computed without being stored if it has been reset.
+	 */
+	@Test
+	public void testReadNodeWithResetETag() {
+		tx(() -> {
+			NodeGraphFieldContainer container = content().getGraphFieldContainer("en");
+			container.resetETag();
+		});
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+		assertEquals(contentUuid(), response.getUuid());
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+		tx(() -> {
+			assertNull("The read request must not store the etag", content().getGraphFieldContainer("en").property(ETAG_PROPERTY_KEY));
+		});
+	}
+
+}
@@ -1,19 +1,30 @@
 package com.gentics.mesh.core.binary.impl;
 
 import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.binary.BinaryParserState;
+import com.gentics.mesh.core.data.job.JobRoot;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.test.TestSize;
@@ -32,7 +43,7 @@ public class TikaBinaryProcessorTest extends AbstractMeshTest {
 	public void tikaCachingTest() throws FileNotFoundException, IOException {
 		Lazy<Vertx> lazy = Mockito.mock(Lazy.class);
 		when(lazy.get()).thenReturn(Vertx.vertx());
-		TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, new MeshOptions());
+		TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, mockBoot(), new MeshOptions(), mesh().metrics());
 		FileUpload ul = mockUpload("test.pdf", "application/pdf");
 
 		Maybe<Consumer<BinaryGraphField>> result = processor.process(ul, "HASHSUM");
@@ -42,6 +53,97 @@ public class TikaBinaryProcessorTest extends AbstractMeshTest {
 		consumer.accept(field);
 	}
 
+	@Test
+	public void testParserTimeout() {
+		Lazy<Vertx> lazy = Mockito.mock(Lazy.class);
+		when(lazy.get()).thenReturn(Vertx.vertx());
+		MeshOptions options = new MeshOptions();
+		options.getUploadOptions().setParserTimeout(100);
+		TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, mockBoot(), options, mesh().metrics());
+
+		// The stream never returns any data and thus the parser needs to be interrupted
+		Callable<InputStream> blockingData = () -> new InputStream() {
+			@Override
+			public int read() throws IOException {
+				try {
+					Thread.sleep(Long.MAX_VALUE);
+				} catch (InterruptedException e) {
+					throw new InterruptedIOException();
+				}
+				return -1;
+			}
+		};
+		Consumer<BinaryGraphField> consumer = processor.process(blockingData, 10, "application/pdf").blockingGet();
+		assertNotNull("The parser should have been interrupted and the binary should be marked", consumer);
+		Binary binary = applyTo(consumer);
+		verify(binary).setParserState(BinaryParserState.SKIPPED);
+	}
+
+	@Test
+	public void testParserFileSizeLimit() throws FileNotFoundException, IOException {
+		Lazy<Vertx> lazy = Mockito.mock(Lazy.class);
+		when(lazy.get()).thenReturn(Vertx.vertx());
+		MeshOptions options = new MeshOptions();
+		options.getUploadOptions().setParserFileSizeLimit(10);
+		TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, mockBoot(), options, mesh().metrics());
+		FileUpload ul = mockUpload("test.pdf", "application/pdf");
+		when(ul.size()).thenReturn(11L);
+
+		Consumer<BinaryGraphField> consumer = processor.process(ul, "HASHSUM").blockingGet();
+		assertNotNull("The upload should be marked as skipped", consumer);
+		Binary binary = applyTo(consumer);
+		verify(binary).setParserState(BinaryParserState.SKIPPED);
+	}
+
+	@Test
+	public void testParserQueueFull() throws FileNotFoundException, IOException {
+		Vertx vertx = Vertx.vertx();
+		try {
+			Lazy<Vertx> lazy = Mockito.mock(Lazy.class);
+			when(lazy.get()).thenReturn(vertx);
+			Lazy<BootstrapInitializer> boot = mockBoot();
+			MeshOptions options = new MeshOptions();
+			options.getUploadOptions().setParserQueueSize(0);
+			TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, boot, options, mesh().metrics());
+			FileUpload ul = mockUpload("test.pdf", "application/pdf");
+
+			Consumer<BinaryGraphField> consumer = processor.process(ul, "HASHSUM").blockingGet();
+			assertNotNull("The upload should be marked as pending", consumer);
+			Binary binary = applyTo(consumer);
+			verify(binary).setParserState(BinaryParserState.PENDING);
+			verify(boot.get().jobRoot()).enqueueBinaryParse();
+		} finally {
+			vertx.close();
+		}
+	}
+
+	@Test
+	public void testDeferredContentTypes() {
+		Lazy<Vertx> lazy = Mockito.mock(Lazy.class);
+		MeshOptions options = new MeshOptions();
+		options.getUploadOptions().setParserAsync(true);
+		TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, mockBoot(), options, mesh().metrics());
+		assertTrue("The text extraction of documents should be deferred", processor.isDeferred("application/pdf"));
+		assertFalse("The metadata of images should not be deferred", processor.isDeferred("image/jpeg"));
+	}
+
+	private Lazy<BootstrapInitializer> mockBoot() {
+		Lazy<BootstrapInitializer> lazy = Mockito.mock(Lazy.class);
+		BootstrapInitializer boot = Mockito.mock(BootstrapInitializer.class);
+		JobRoot jobRoot = Mockito.mock(JobRoot.class);
+		when(boot.jobRoot()).thenReturn(jobRoot);
+		when(lazy.get()).thenReturn(boot);
+		return lazy;
+	}
+
+	private Binary applyTo(Consumer<BinaryGraphField> consumer) {
+		BinaryGraphField field = Mockito.mock(BinaryGraphField.class);
+		Binary binary = Mockito.mock(Binary.class);
+		when(field.getBinary()).thenReturn(binary);
+		consumer.accept(field);
+		return binary;
+	}
+
 	private FileUpload mockUpload(String name, String contentType) throws FileNotFoundException, IOException {
 		FileUpload ul = mock(FileUpload.class);
 		File target = new File("target", "testupload.pdf");
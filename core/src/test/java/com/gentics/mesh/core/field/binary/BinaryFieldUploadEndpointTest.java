@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.field.binary;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
@@ -35,6 +36,8 @@ import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
@@ -381,6 +384,35 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 		assertEquals("The plain text of file {" + fileName + "} did not match", plainText, binaryField.getPlainText());
 	}
 
+	/**
+	 * Uploads which are rejected by the full parser queue must be parsed by the binary parse job.
+	 */
+	@Test
+	public void testParseRejectedUpload() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		Buffer buffer = getBuffer("/testfiles/test.pdf");
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+
+		int queueSize = options().getUploadOptions().getParserQueueSize();
+		options().getUploadOptions().setParserQueueSize(0);
+		try {
+			NodeResponse node2 = call(
+				() -> client().updateNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary", new ByteArrayInputStream(buffer.getBytes()),
+					buffer.length(), "test.pdf", "application/pdf"));
+			assertNull("The upload should not have been parsed", node2.getFields().getBinaryField("binary").getPlainText());
+		} finally {
+			options().getUploadOptions().setParserQueueSize(queueSize);
+		}
+
+		JobListResponse jobs = call(() -> client().findJobs());
+		assertEquals("Only one parse job should have been enqueued", 1,
+			jobs.getData().stream().filter(job -> job.getType() == JobType.binaryparse).count());
+
+		triggerAndWaitForAllJobs(COMPLETED);
+		NodeResponse node3 = call(() -> client().findNodeByUuid(PROJECT_NAME, node.getUuid()));
+		assertEquals("The plain text should have been extracted by the job", "Enemenemu", node3.getFields().getBinaryField("binary").getPlainText());
+	}
+
 	@Test
 	public void testUploadToNodeWithoutBinaryField() throws IOException {
 		String contentType = "application/octet-stream";
@@ -2,18 +2,21 @@ package com.gentics.mesh.core.field.node;
 
 import static com.gentics.mesh.FieldUtil.createNodeField;
 import static com.gentics.mesh.FieldUtil.createStringField;
+import static com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl.ETAG_PROPERTY_KEY;
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ClientHelper.callETag;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.context.ElasticsearchTestMode.TRACKING;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
@@ -212,6 +215,34 @@ public class NodeFieldEndpointTest extends AbstractFieldEndpointTest {
 
 	}
 
+	/**
+	 * Assert that the etag of the source node gets reset after the target has been deleted.
+	 */
+	@Test
+	public void testReferenceETagResetOnDelete() {
+		String sourceUuid = tx(() -> folder("2015").getUuid());
+		String targetUuid = contentUuid();
+		// Updating the node will store the etag of the container
+		updateNode(FIELD_NAME, new NodeFieldImpl().setUuid(targetUuid));
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, sourceUuid));
+		tx(() -> {
+			assertNotNull(folder("2015").getGraphFieldContainer("en").property(ETAG_PROPERTY_KEY));
+		});
+
+		// The reference updates are handled after the delete has been committed
+		expect(NODE_REFERENCE_UPDATED).match(1, NodeMeshEventModel.class, event -> {
+			assertThat(event).hasUuid(sourceUuid).hasType(DRAFT);
+		}).one();
+		call(() -> client().deleteNode(PROJECT_NAME, targetUuid));
+		awaitEvents();
+
+		tx(() -> {
+			assertNull("The etag should have been reset", folder("2015").getGraphFieldContainer("en").property(ETAG_PROPERTY_KEY));
+		});
+		String updatedEtag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, sourceUuid));
+		assertNotEquals("The etag should have been changed", etag, updatedEtag);
+	}
+
 	@Test
 	public void testUpdateNodeFieldWithNodeResponseJson() {
 		Node node = folder("news");
@@ -3,12 +3,16 @@ package com.gentics.mesh.core.job;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.cxf.jaxrs.utils.ExceptionUtils;
 import org.junit.Test;
@@ -19,8 +23,12 @@ import com.gentics.mesh.core.data.job.JobRoot;
 import com.gentics.mesh.core.data.job.impl.BranchMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.NodeMigrationJobImpl;
+import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
+import com.gentics.mesh.core.endpoint.migration.impl.MigrationStatusHandlerImpl;
 import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.job.JobType;
+import com.gentics.mesh.core.verticle.job.JobScheduler;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.util.TestUtils;
@@ -106,6 +114,28 @@ public class JobTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testPartitionProgress() {
+		Job job = tx(() -> boot().jobRoot().enqueueBranchMigration(user(), initialBranch()));
+		MigrationStatusHandler status = new MigrationStatusHandlerImpl(job, vertx(), JobType.branch);
+
+		// The partitions report their progress concurrently and without a transaction
+		IntStream.range(0, 4).parallel().forEach(partition -> {
+			status.incCompleted();
+			status.setPartitionProgress(partition, 1, 1);
+		});
+		assertEquals("The progress should only be stored at the checkpoint", 0, (long) tx(() -> job.getCompletionCount()));
+
+		tx(() -> {
+			status.setCheckpoint("checkpoint");
+			status.commit();
+		});
+		tx(() -> {
+			assertEquals(4, job.getCompletionCount());
+			assertEquals("checkpoint", job.getCheckpoint());
+		});
+	}
+
 	@Test
 	public void testJobRootTypeHandling() {
 		try (Tx tx = tx()) {
@@ -119,4 +149,30 @@ public class JobTest extends AbstractMeshTest {
 					BranchMigrationJobImpl.class.getName());
 		}
 	}
+
+	@Test
+	public void testLockScope() {
+		try (Tx tx = tx()) {
+			JobRoot root = boot().jobRoot();
+			SchemaContainerVersion version = schemaContainer("folder").getLatestVersion();
+			Job schemaJob = root.enqueueSchemaMigration(user(), initialBranch(), version, version);
+			Job microschemaJob = root.enqueueMicroschemaMigration(user(), initialBranch(), microschemaContainer("vcard").getLatestVersion(),
+				microschemaContainer("vcard").getLatestVersion());
+			Job purgeJob = root.enqueueVersionPurge(user(), project());
+
+			String projectScope = "project:" + projectUuid();
+			String branchScope = "branch:" + initialBranchUuid();
+			assertThat(schemaJob.getLockScope()).containsExactly(projectScope, branchScope, "schema:" + version.getSchemaContainer().getUuid());
+			assertThat(microschemaJob.getLockScope()).containsExactly(projectScope, branchScope);
+			assertThat(purgeJob.getLockScope()).containsExactly(projectScope);
+
+			assertTrue("The purge locks the whole project", JobScheduler.overlaps(purgeJob.getLockScope(), schemaJob.getLockScope()));
+			assertTrue("The microschema migration locks the whole branch",
+				JobScheduler.overlaps(microschemaJob.getLockScope(), schemaJob.getLockScope()));
+			assertFalse("Migrations of different schemas don't overlap",
+				JobScheduler.overlaps(schemaJob.getLockScope(), Arrays.asList(projectScope, branchScope, "schema:other")));
+			assertFalse("Jobs of different projects don't overlap",
+				JobScheduler.overlaps(purgeJob.getLockScope(), Arrays.asList("project:other")));
+		}
+	}
 }
@@ -28,6 +28,7 @@ import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
@@ -260,6 +261,29 @@ public class NodeChildrenEndpointTest extends AbstractMeshTest {
 		assertThat(langList).doesNotContain(null, "de");
 	}
 
+	@Test
+	public void testChildrenReferencesMatchSingleRead() {
+		String uuid = tx(() -> folder("news").getUuid());
+		NodeParametersImpl params = new NodeParametersImpl().setResolveLinks(LinkType.SHORT);
+		NodeListResponse children = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, params, new VersioningParametersImpl().draft()));
+		assertFalse(children.getData().isEmpty());
+
+		// The references are shared within the page but must match the references of the single node
+		for (NodeResponse child : children.getData()) {
+			NodeResponse single = call(() -> client().findNodeByUuid(PROJECT_NAME, child.getUuid(), params, new VersioningParametersImpl().draft()));
+			assertEquals(uuid, child.getParentNode().getUuid());
+			assertEquals(single.getParentNode().getPath(), child.getParentNode().getPath());
+			assertEquals(single.getParentNode().getDisplayName(), child.getParentNode().getDisplayName());
+			assertEquals(uuids(single.getBreadcrumb()), uuids(child.getBreadcrumb()));
+			assertEquals(single.getTags().stream().map(tag -> tag.getUuid() + tag.getTagFamily()).collect(Collectors.toList()),
+				child.getTags().stream().map(tag -> tag.getUuid() + tag.getTagFamily()).collect(Collectors.toList()));
+		}
+	}
+
+	private List<String> uuids(List<NodeReference> references) {
+		return references.stream().map(NodeReference::getUuid).collect(Collectors.toList());
+	}
+
 	@Test
 	public void testReadPublishedChildren() {
 		// TODO
@@ -8,12 +8,15 @@ import static com.gentics.mesh.test.TestSize.FULL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -112,6 +115,27 @@ public class NodeEndpointETagTest extends AbstractMeshTest {
 		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
 	}
 
+	@Test
+	public void testStoredContainerETag() {
+		String uuid = contentUuid();
+
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.getFields().put("teaser", FieldUtil.createStringField("updated teaser"));
+		request.setVersion("1.0");
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = content().getLatestDraftFieldContainer("en");
+			String storedETag = container.getElement().getProperty(NodeGraphFieldContainerImpl.ETAG_PROPERTY_KEY);
+			assertNotNull("The etag should have been stored on update", storedETag);
+
+			// The computed etag must match the stored one
+			container.resetETag();
+			assertEquals(storedETag, container.getETag(mockActionContext()));
+		}
+	}
+
 	@Test
 	public void testReadChildren() {
 		String uuid = tx(() -> project().getBaseNode().getUuid());
@@ -0,0 +1,221 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.spi.IIORegistry;
+import javax.imageio.spi.ImageWriterSpi;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.http.HttpHeaders;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Test the selection of the output format of resized images via the accept header. No WebP writer is bundled, thus a writer which stores the images as
+ * PNG is registered for the webp format.
+ */
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class NodeImageFormatNegotiationEndpointTest extends AbstractMeshTest {
+
+	private static final ImageWriterSpi WEBP_WRITER_SPI = new TestWebPImageWriterSpi();
+
+	static {
+		// The formats are determined once the handler gets created and the writer must thus be registered before mesh is started
+		IIORegistry.getDefaultInstance().registerServiceProvider(WEBP_WRITER_SPI);
+	}
+
+	@AfterClass
+	public static void removeWriter() {
+		IIORegistry.getDefaultInstance().deregisterServiceProvider(WEBP_WRITER_SPI);
+	}
+
+	@Test
+	public void testNegotiateFormat() throws IOException {
+		String uuid = uploadImage();
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(100);
+
+		String webpETag;
+		try (Response response = download(uuid, "image/webp,image/*;q=0.8", params)) {
+			assertEquals(200, response.code());
+			assertEquals("image/webp", response.header(HttpHeaders.CONTENT_TYPE.toString()));
+			assertEquals("Accept", response.header(HttpHeaders.VARY.toString()));
+			webpETag = response.header(HttpHeaders.ETAG.toString());
+		}
+
+		// The original format is kept if it is preferred
+		try (Response response = download(uuid, "image/jpeg,image/webp;q=0.5", params)) {
+			assertEquals(200, response.code());
+			assertEquals("image/jpeg", response.header(HttpHeaders.CONTENT_TYPE.toString()));
+			assertEquals("Accept", response.header(HttpHeaders.VARY.toString()));
+			assertNotEquals("The etag must depend on the negotiated format", webpETag, response.header(HttpHeaders.ETAG.toString()));
+		}
+
+		// Refused formats are not used
+		try (Response response = download(uuid, "image/webp;q=0,*/*", params)) {
+			assertEquals(200, response.code());
+			assertEquals("image/jpeg", response.header(HttpHeaders.CONTENT_TYPE.toString()));
+		}
+	}
+
+	@Test
+	public void testExplicitFormat() throws IOException {
+		String uuid = uploadImage();
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(100).setFormat("png");
+
+		try (Response response = download(uuid, "image/webp", params)) {
+			assertEquals(200, response.code());
+			assertEquals("image/png", response.header(HttpHeaders.CONTENT_TYPE.toString()));
+			assertNull("The response does not depend on the accept header", response.header(HttpHeaders.VARY.toString()));
+		}
+	}
+
+	@Test
+	public void testNoNegotiationWithoutResize() throws IOException {
+		String uuid = uploadImage();
+
+		try (Response response = download(uuid, "image/webp", new ImageManipulationParametersImpl())) {
+			assertEquals(200, response.code());
+			assertEquals("image/jpeg", response.header(HttpHeaders.CONTENT_TYPE.toString()));
+			assertNull("The original image does not depend on the accept header", response.header(HttpHeaders.VARY.toString()));
+		}
+	}
+
+	@Test
+	public void testDisabledNegotiation() throws IOException {
+		String uuid = uploadImage();
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(100);
+
+		options().getImageOptions().setFormatNegotiation(false);
+		try (Response response = download(uuid, "image/webp", params)) {
+			assertEquals(200, response.code());
+			assertEquals("image/jpeg", response.header(HttpHeaders.CONTENT_TYPE.toString()));
+			assertNull(response.header(HttpHeaders.VARY.toString()));
+		} finally {
+			options().getImageOptions().setFormatNegotiation(true);
+		}
+	}
+
+	private String uploadImage() throws IOException {
+		Node node = folder("news");
+		uploadImage(node, "en", "image");
+		return tx(() -> node.getUuid());
+	}
+
+	/**
+	 * Download the image of the node using the given accept header.
+	 *
+	 * @param uuid
+	 * @param accept
+	 * @param params
+	 * @return
+	 * @throws IOException
+	 */
+	private Response download(String uuid, String accept, ImageManipulationParameters params) throws IOException {
+		Request.Builder b = new Request.Builder();
+		b.url(prepareUrl(CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/nodes/" + uuid + "/binary/image", params));
+		b.method("GET", null);
+		b.addHeader(HttpHeaders.AUTHORIZATION.toString(), "Bearer " + client().getAuthentication().getToken());
+		b.addHeader(HttpHeaders.ACCEPT.toString(), accept);
+		return httpClient().newCall(b.build()).execute();
+	}
+
+	/**
+	 * Provider of a writer for the webp format which stores the images using the PNG writer.
+	 */
+	private static class TestWebPImageWriterSpi extends ImageWriterSpi {
+
+		TestWebPImageWriterSpi() {
+			super("Gentics", "1.0", new String[] { "webp" }, new String[] { "webp" }, new String[] { "image/webp" },
+				DelegatingImageWriter.class.getName(), new Class<?>[] { ImageOutputStream.class }, null, false, null, null, null, null, false, null, null,
+				null, null);
+		}
+
+		@Override
+		public boolean canEncodeImage(ImageTypeSpecifier type) {
+			return true;
+		}
+
+		@Override
+		public ImageWriter createWriterInstance(Object extension) throws IOException {
+			return new DelegatingImageWriter(this, ImageIO.getImageWritersByFormatName("png").next());
+		}
+
+		@Override
+		public String getDescription(Locale locale) {
+			return "WebP test writer";
+		}
+	}
+
+	/**
+	 * Image writer which delegates to another writer but reports the given provider.
+	 */
+	private static class DelegatingImageWriter extends ImageWriter {
+
+		private final ImageWriter delegate;
+
+		DelegatingImageWriter(ImageWriterSpi provider, ImageWriter delegate) {
+			super(provider);
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void setOutput(Object output) {
+			super.setOutput(output);
+			delegate.setOutput(output);
+		}
+
+		@Override
+		public IIOMetadata getDefaultStreamMetadata(ImageWriteParam param) {
+			return delegate.getDefaultStreamMetadata(param);
+		}
+
+		@Override
+		public IIOMetadata getDefaultImageMetadata(ImageTypeSpecifier imageType, ImageWriteParam param) {
+			return delegate.getDefaultImageMetadata(imageType, param);
+		}
+
+		@Override
+		public IIOMetadata convertStreamMetadata(IIOMetadata inData, ImageWriteParam param) {
+			return delegate.convertStreamMetadata(inData, param);
+		}
+
+		@Override
+		public IIOMetadata convertImageMetadata(IIOMetadata inData, ImageTypeSpecifier imageType, ImageWriteParam param) {
+			return delegate.convertImageMetadata(inData, imageType, param);
+		}
+
+		@Override
+		public void write(IIOMetadata streamMetadata, IIOImage image, ImageWriteParam param) throws IOException {
+			delegate.write(streamMetadata, image, param);
+		}
+
+		@Override
+		public void dispose() {
+			delegate.dispose();
+		}
+	}
+
+}
@@ -16,6 +16,7 @@ import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 
@@ -31,6 +32,8 @@ import com.gentics.mesh.core.image.spi.CacheFileInfo;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.node.field.BinaryField;
+import com.gentics.mesh.core.rest.node.field.image.ImageVariantRequest;
+import com.gentics.mesh.core.rest.node.field.image.ImageVariantsRequest;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
@@ -407,6 +410,61 @@ public class NodeImageResizeEndpointTest extends AbstractMeshTest {
 		client().webroot(PROJECT_NAME, path).blockingAwait();
 	}
 
+	@Test
+	public void testImageVariants() throws Exception {
+		Node node = folder("news");
+		String nodeUuid = tx(() -> node.getUuid());
+		uploadImage(node, "en", "image");
+
+		ImageVariantsRequest request = new ImageVariantsRequest().setLanguage("en");
+		request.addVariant(new ImageVariantRequest().setWidth(200));
+		request.addVariant(new ImageVariantRequest().setWidth(100));
+		request.addVariant(new ImageVariantRequest().setWidth(50).setHeight(50).setFormat("png"));
+		call(() -> client().createImageVariants(PROJECT_NAME, nodeUuid, "image", request));
+
+		// All variants must have been rendered into the image cache
+		try (Tx tx = tx()) {
+			String sha512sum = node.getLatestDraftFieldContainer(english()).getBinary("image").getBinary().getSHA512Sum();
+			for (ImageManipulationParameters params : Arrays.asList(
+				new ImageManipulationParametersImpl().setWidth(200),
+				new ImageManipulationParametersImpl().setWidth(100),
+				new ImageManipulationParametersImpl().setWidth(50).setHeight(50).setFormat("png"))) {
+				CacheFileInfo cacheFile = meshDagger().imageManipulator().getCacheFilePath(sha512sum, params).blockingGet();
+				assertTrue("The cache file for {" + params.getCacheKey() + "} could not be found.", cacheFile.exists);
+			}
+		}
+
+		// The download must use the cached variant
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(100);
+		MeshBinaryResponse download = call(() -> client().downloadBinaryField(PROJECT_NAME, nodeUuid, "en", "image", params));
+		validateResizeImage(download, null, params, 100, 118);
+	}
+
+	@Test
+	public void testImageVariantsWithoutVariants() throws Exception {
+		Node node = folder("news");
+		String nodeUuid = tx(() -> node.getUuid());
+		uploadImage(node, "en", "image");
+
+		ImageVariantsRequest request = new ImageVariantsRequest().setLanguage("en");
+		call(() -> client().createImageVariants(PROJECT_NAME, nodeUuid, "image", request), BAD_REQUEST, "image_error_variants_not_set");
+	}
+
+	@Test
+	public void testImageVariantsOverLimit() throws Exception {
+		Node node = folder("news");
+		String nodeUuid = tx(() -> node.getUuid());
+		uploadImage(node, "en", "image");
+		ImageManipulatorOptions options = options().getImageOptions();
+
+		ImageVariantsRequest request = new ImageVariantsRequest().setLanguage("en");
+		for (int i = 1; i <= options.getMaxVariants() + 1; i++) {
+			request.addVariant(new ImageVariantRequest().setWidth(i));
+		}
+		call(() -> client().createImageVariants(PROJECT_NAME, nodeUuid, "image", request), BAD_REQUEST, "image_error_variants_limit_exceeded",
+			String.valueOf(options.getMaxVariants()), String.valueOf(options.getMaxVariants() + 1));
+	}
+
 	private void validateResizeImage(MeshBinaryResponse download, BinaryGraphField binaryField, ImageManipulationParameters params,
 		int expectedWidth, int expectedHeight) throws Exception {
 		File targetFile = new File("target", UUID.randomUUID() + "_resized.jpg");
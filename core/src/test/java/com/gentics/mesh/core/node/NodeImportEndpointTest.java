@@ -0,0 +1,160 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+import com.gentics.mesh.core.endpoint.node.NodeImportHandler;
+import com.gentics.mesh.core.rest.node.NodeImportRequest;
+import com.gentics.mesh.core.rest.node.NodeImportResult;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.vertx.core.json.JsonObject;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class NodeImportEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testImport() {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		String existingUuid = tx(() -> content("concorde").getUuid());
+		String newUuid = UUIDUtil.randomUUID();
+
+		List<NodeImportRequest> requests = new ArrayList<>();
+		requests.add(createRequest(newUuid, folderUuid, "New content"));
+		requests.add(createRequest(existingUuid, folderUuid, "Updated concorde"));
+		// The schema of the entry does not exist. The other entries must still be imported.
+		NodeImportRequest invalid = createRequest(null, folderUuid, "Invalid");
+		invalid.setSchemaName("bogus");
+		requests.add(invalid);
+
+		List<NodeImportResult> results = parseResults(call(() -> client().importNodes(PROJECT_NAME, requests)));
+		assertThat(results).hasSize(3);
+
+		assertThat(results.get(0).getIndex()).isEqualTo(0);
+		assertThat(results.get(0).getStatus()).isEqualTo(CREATED.code());
+		assertThat(results.get(0).getUuid()).isEqualTo(newUuid);
+
+		assertThat(results.get(1).getStatus()).isEqualTo(OK.code());
+		assertThat(results.get(1).getUuid()).isEqualTo(existingUuid);
+
+		assertThat(results.get(2).getStatus()).isEqualTo(NOT_FOUND.code());
+		assertThat(results.get(2).getUuid()).isNull();
+		assertThat(results.get(2).getMessage()).isNotEmpty();
+
+		NodeResponse created = call(() -> client().findNodeByUuid(PROJECT_NAME, newUuid, new VersioningParametersImpl().draft()));
+		assertThat(created.getFields().getStringField("slug").getString()).isEqualTo("New content");
+		NodeResponse updated = call(() -> client().findNodeByUuid(PROJECT_NAME, existingUuid, new VersioningParametersImpl().draft()));
+		assertThat(updated.getFields().getStringField("slug").getString()).isEqualTo("Updated concorde");
+	}
+
+	@Test
+	public void testImportInvalidUuid() {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		List<NodeImportRequest> requests = new ArrayList<>();
+		requests.add(createRequest("bogus", folderUuid, "Invalid uuid"));
+
+		List<NodeImportResult> results = parseResults(call(() -> client().importNodes(PROJECT_NAME, requests)));
+		assertThat(results).hasSize(1);
+		assertThat(results.get(0).getStatus()).isEqualTo(BAD_REQUEST.code());
+	}
+
+	@Test
+	public void testImportMultipleChunks() {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		int count = NodeImportHandler.CHUNK_SIZE * 2 + 1;
+		List<NodeImportRequest> requests = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			requests.add(createRequest(null, folderUuid, "chunked" + i));
+		}
+
+		List<NodeImportResult> results = parseResults(call(() -> client().importNodes(PROJECT_NAME, requests)));
+		assertThat(results).hasSize(count);
+		for (int i = 0; i < count; i++) {
+			assertThat(results.get(i).getIndex()).as("Index of result " + i).isEqualTo(i);
+			assertThat(results.get(i).getStatus()).as("Status of result " + i).isEqualTo(CREATED.code());
+		}
+	}
+
+	@Test
+	public void testEmptyImport() {
+		call(() -> client().importNodes(PROJECT_NAME, new ArrayList<>()), BAD_REQUEST, "node_import_empty_request");
+	}
+
+	@Test
+	public void testImportEntryTooLarge() {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		List<NodeImportRequest> requests = new ArrayList<>();
+		requests.add(createRequest(null, folderUuid, StringUtils.repeat("a", 1000)));
+
+		long byteLimit = options().getUploadOptions().getByteLimit();
+		options().getUploadOptions().setByteLimit(500);
+		try {
+			call(() -> client().importNodes(PROJECT_NAME, requests), REQUEST_ENTITY_TOO_LARGE, "node_import_entry_too_large", "0", "500");
+		} finally {
+			options().getUploadOptions().setByteLimit(byteLimit);
+		}
+	}
+
+	/**
+	 * Only the body of import requests is read as stream. The body of other requests must still be read by the body handler even if they use the content
+	 * type of the import.
+	 */
+	@Test
+	public void testNdjsonRequestToOtherRoute() throws IOException {
+		String username = tx(() -> user().getUsername());
+		JsonObject login = new JsonObject()
+			.put("username", username)
+			.put("password", data().getUserInfo().getPassword());
+		RequestBody body = RequestBody.create(MediaType.parse(APPLICATION_NDJSON), login.encode());
+		try (Response response = httpPost(CURRENT_API_BASE_PATH + "/auth/login", body).execute()) {
+			assertThat(response.code()).isEqualTo(OK.code());
+		}
+	}
+
+	private NodeImportRequest createRequest(String uuid, String parentUuid, String slug) {
+		NodeImportRequest request = new NodeImportRequest();
+		request.setUuid(uuid);
+		request.setSchemaName("content");
+		request.setLanguage("en");
+		request.setParentNodeUuid(parentUuid);
+		request.getFields().put("slug", new StringFieldImpl().setString(slug));
+		request.getFields().put("teaser", new StringFieldImpl().setString(slug));
+		return request;
+	}
+
+	private List<NodeImportResult> parseResults(String response) {
+		List<NodeImportResult> results = new ArrayList<>();
+		for (String line : response.split("\n")) {
+			if (!line.isEmpty()) {
+				results.add(JsonUtil.readValue(line, NodeImportResult.class));
+			}
+		}
+		return results;
+	}
+
+}
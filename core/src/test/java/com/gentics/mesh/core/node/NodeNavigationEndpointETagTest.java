@@ -1,12 +1,17 @@
 package com.gentics.mesh.core.node;
 
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ClientHelper.callETag;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
-import static com.gentics.mesh.test.ClientHelper.callETag;
+import static org.junit.Assert.assertNotEquals;
 
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
@@ -21,4 +26,39 @@ public class NodeNavigationEndpointETagTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testReadAfterSubtreeUpdate() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		String folderUuid = tx(() -> folder("2015").getUuid());
+		String etag = callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid));
+		callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid), etag, true, 304);
+
+		// Update a node deep within the navigation
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.getFields().put("name", FieldUtil.createStringField("2015 updated"));
+		waitForEvent(NODE_UPDATED.address, () -> call(() -> client().updateNode(PROJECT_NAME, folderUuid, request)));
+
+		String updatedEtag = callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid), etag, true, 200);
+		assertNotEquals("The etag must change once a node of the navigation was updated", etag, updatedEtag);
+		callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid), updatedEtag, true, 304);
+	}
+
+	@Test
+	public void testReadDirectlyAfterUpdate() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		String folderUuid = tx(() -> folder("2015").getUuid());
+		String etag = callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid));
+		callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid), etag, true, 304);
+
+		// The local entry must be invalidated with the commit and not only when the event has been received
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.getFields().put("name", FieldUtil.createStringField("2015 updated"));
+		call(() -> client().updateNode(PROJECT_NAME, folderUuid, request));
+
+		String updatedEtag = callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid), etag, true, 200);
+		assertNotEquals("The etag must change once a node of the navigation was updated", etag, updatedEtag);
+	}
+
 }
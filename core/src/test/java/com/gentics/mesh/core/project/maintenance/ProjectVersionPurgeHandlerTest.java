@@ -2,6 +2,11 @@ package com.gentics.mesh.core.project.maintenance;
 
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -19,6 +24,78 @@ public class ProjectVersionPurgeHandlerTest extends AbstractMeshTest {
 	public void testHandler() {
 		Project project = project();
 
+		createVersions();
+
+		ProjectVersionPurgeHandler handler = mesh().projectVersionPurgeHandler();
+		handler.purgeVersions(project, null).blockingAwait();
+	}
+
+	@Test
+	public void testHandlerResult() {
+		disableAutoPurge();
+		Project project = project();
+
+		createVersions();
+
+		ProjectVersionPurgeHandler handler = mesh().projectVersionPurgeHandler();
+		List<String> checkpoints = new ArrayList<>();
+		VersionPurgeResult result = handler.purgeVersions(project, null, null, (checkpoint, progress) -> checkpoints.add(checkpoint)).blockingGet();
+		assertThat(result.getPurgedVersions()).as("Purged versions").isGreaterThan(0);
+		assertThat(result.getFreedRecords()).as("Freed records").isGreaterThan(result.getPurgedVersions());
+		assertThat(checkpoints).as("The progress should be reported for each window").isNotEmpty();
+
+		// A second purge should not find any further versions
+		VersionPurgeResult secondResult = handler.purgeVersions(project, null, null, null).blockingGet();
+		assertThat(secondResult.getPurgedVersions()).isEqualTo(0);
+	}
+
+	@Test
+	public void testHandlerResume() {
+		disableAutoPurge();
+		Project project = project();
+
+		createVersions();
+
+		// The versions are newer than the max age. Thus the purge will only report the checkpoints.
+		ProjectVersionPurgeHandler handler = mesh().projectVersionPurgeHandler();
+		List<String> checkpoints = new ArrayList<>();
+		ZonedDateTime maxAge = ZonedDateTime.now().minusDays(1);
+		VersionPurgeResult result = handler.purgeVersions(project, maxAge, null, (checkpoint, progress) -> checkpoints.add(checkpoint)).blockingGet();
+		assertThat(result.getPurgedVersions()).isEqualTo(0);
+		assertThat(checkpoints).as("The progress should be reported for each window").isNotEmpty();
+
+		// Resuming after the last checkpoint must not process any node again
+		String lastCheckpoint = checkpoints.get(checkpoints.size() - 1);
+		VersionPurgeResult resumedResult = handler.purgeVersions(project, null, lastCheckpoint, null).blockingGet();
+		assertThat(resumedResult.getPurgedVersions()).as("Purged versions after the last checkpoint").isEqualTo(0);
+
+		VersionPurgeResult fullResult = handler.purgeVersions(project, null, null, null).blockingGet();
+		assertThat(fullResult.getPurgedVersions()).as("Purged versions").isGreaterThan(0);
+	}
+
+	@Test
+	public void testHandlerProjectScope() {
+		disableAutoPurge();
+		createVersions();
+		createProject("otherProject");
+		Project otherProject = tx(() -> boot().projectRoot().findByName("otherProject"));
+
+		// Only the nodes of the other project must be handled
+		ProjectVersionPurgeHandler handler = mesh().projectVersionPurgeHandler();
+		List<String> checkpoints = new ArrayList<>();
+		VersionPurgeResult otherResult = handler.purgeVersions(otherProject, null, null, (checkpoint, progress) -> checkpoints.add(checkpoint))
+			.blockingGet();
+		assertThat(otherResult.getPurgedVersions()).as("Purged versions of the other project").isEqualTo(0);
+		assertThat(checkpoints).as("The base node of the other project should be handled").hasSize(1);
+
+		VersionPurgeResult result = handler.purgeVersions(project(), null, null, null).blockingGet();
+		assertThat(result.getPurgedVersions()).as("Purged versions").isGreaterThan(0);
+	}
+
+	/**
+	 * Create multiple draft versions of the content.
+	 */
+	private void createVersions() {
 		for (int i = 0; i < 10; i++) {
 			NodeUpdateRequest request = new NodeUpdateRequest();
 			request.setVersion("draft");
@@ -26,8 +103,5 @@ public class ProjectVersionPurgeHandlerTest extends AbstractMeshTest {
 			request.getFields().put("slug", FieldUtil.createStringField("blub" + i));
 			call(() -> client().updateNode(projectName(), contentUuid(), request));
 		}
-
-		ProjectVersionPurgeHandler handler = mesh().projectVersionPurgeHandler();
-		handler.purgeVersions(project, null).blockingAwait();
 	}
 }
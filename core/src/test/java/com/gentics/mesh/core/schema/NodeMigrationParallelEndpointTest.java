@@ -0,0 +1,68 @@
+package com.gentics.mesh.core.schema;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.PARALLEL_MIGRATION;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.job.JobStatus;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = PARALLEL_MIGRATION)
+public class NodeMigrationParallelEndpointTest extends AbstractMeshTest {
+
+	private static final String SCHEMA_NAME = "parallelSchema";
+
+	@Test
+	public void testParallelMigration() {
+		String rootFolderUuid = tx(() -> project().getBaseNode().getUuid());
+
+		SchemaCreateRequest schemaCreateRequest = new SchemaCreateRequest();
+		schemaCreateRequest.setName(SCHEMA_NAME);
+		schemaCreateRequest.getFields().add(FieldUtil.createStringFieldSchema("name"));
+		SchemaResponse schemaResponse = call(() -> client().createSchema(schemaCreateRequest));
+		call(() -> client().assignSchemaToProject(PROJECT_NAME, schemaResponse.getUuid()));
+
+		// Create enough nodes to fill multiple batches in each partition
+		List<String> uuids = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			NodeCreateRequest nodeCreateRequest = new NodeCreateRequest();
+			nodeCreateRequest.setParentNodeUuid(rootFolderUuid);
+			nodeCreateRequest.setSchemaName(SCHEMA_NAME);
+			nodeCreateRequest.setLanguage("en");
+			nodeCreateRequest.getFields().put("name", FieldUtil.createStringField("value" + i));
+			uuids.add(call(() -> client().createNode(PROJECT_NAME, nodeCreateRequest)).getUuid());
+		}
+
+		SchemaUpdateRequest schemaUpdateRequest = new SchemaUpdateRequest();
+		schemaUpdateRequest.setName(SCHEMA_NAME);
+		schemaUpdateRequest.getFields().add(FieldUtil.createStringFieldSchema("name"));
+		schemaUpdateRequest.getFields().add(FieldUtil.createStringFieldSchema("extra"));
+		grantAdminRole();
+
+		waitForJobs(() -> {
+			call(() -> client().updateSchema(schemaResponse.getUuid(), schemaUpdateRequest));
+		}, JobStatus.COMPLETED, 1);
+
+		// All nodes must have been migrated to the new schema version
+		for (int i = 0; i < uuids.size(); i++) {
+			String uuid = uuids.get(i);
+			NodeResponse node = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+			assertEquals("The node {" + uuid + "} was not migrated.", "2.0", node.getSchema().getVersion());
+			assertEquals("value" + i, node.getFields().getStringField("name").getString());
+		}
+	}
+}
@@ -4,7 +4,9 @@ import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -22,6 +24,7 @@ import com.gentics.mesh.core.data.root.SchemaContainerRoot;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.service.BasicObjectTestcases;
+import com.gentics.mesh.core.data.service.PreparedFieldSchemaContainer;
 import com.gentics.mesh.core.rest.schema.Schema;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.rest.schema.SchemaReference;
@@ -102,6 +105,21 @@ public class SchemaContainerTest extends AbstractMeshTest implements BasicObject
 		}
 	}
 
+	@Test
+	public void testPreparedSchema() {
+		try (Tx tx = tx()) {
+			SchemaContainerVersion version = schemaContainer("folder").getLatestVersion();
+			PreparedFieldSchemaContainer<SchemaModel> prepared = meshDagger().serverSchemaStorage().getPreparedSchema(version);
+			assertSame("The prepared schema should be reused", prepared, meshDagger().serverSchemaStorage().getPreparedSchema(version));
+			assertSame(prepared.getSchema(), version.getSchema());
+			assertEquals(version.getSchema().getFields().size(), prepared.getFields().size());
+
+			// Storing the schema again must drop the prepared schema of the version
+			version.setSchema(version.getSchema());
+			assertNotSame(prepared, meshDagger().serverSchemaStorage().getPreparedSchema(version));
+		}
+	}
+
 	@Test
 	@Override
 	public void testFindAllVisible() throws InvalidArgumentException {
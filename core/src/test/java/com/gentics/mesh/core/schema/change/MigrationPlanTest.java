@@ -0,0 +1,96 @@
+package com.gentics.mesh.core.schema.change;
+
+import static com.gentics.mesh.core.endpoint.migration.MigrationPlan.ChangeClass.ADD_FIELD;
+import static com.gentics.mesh.core.endpoint.migration.MigrationPlan.ChangeClass.CHANGE_FIELD_TYPE;
+import static com.gentics.mesh.core.endpoint.migration.MigrationPlan.ChangeClass.REMOVE_FIELD;
+import static com.gentics.mesh.core.endpoint.migration.MigrationPlan.ChangeClass.RENAME_FIELD;
+import static com.gentics.mesh.core.endpoint.migration.MigrationPlan.ChangeClass.UPDATE_CONTAINER;
+import static com.gentics.mesh.core.endpoint.migration.MigrationPlan.ChangeClass.UPDATE_FIELD;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.schema.AddFieldChange;
+import com.gentics.mesh.core.data.schema.FieldTypeChange;
+import com.gentics.mesh.core.data.schema.RemoveFieldChange;
+import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.data.schema.UpdateFieldChange;
+import com.gentics.mesh.core.data.schema.UpdateSchemaChange;
+import com.gentics.mesh.core.data.schema.impl.AddFieldChangeImpl;
+import com.gentics.mesh.core.data.schema.impl.FieldTypeChangeImpl;
+import com.gentics.mesh.core.data.schema.impl.RemoveFieldChangeImpl;
+import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
+import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
+import com.gentics.mesh.core.data.schema.impl.UpdateSchemaChangeImpl;
+import com.gentics.mesh.core.endpoint.migration.MigrationPlan;
+import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangeModel;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class MigrationPlanTest extends AbstractMeshTest {
+
+	@Test
+	public void testDirectPlan() {
+		try (Tx tx = tx()) {
+			SchemaContainerVersion version = tx.getGraph().addFramedVertex(SchemaContainerVersionImpl.class);
+
+			AddFieldChange add = tx.getGraph().addFramedVertex(AddFieldChangeImpl.class);
+			add.setFieldName("newField");
+			add.setType("string");
+			UpdateFieldChange update = tx.getGraph().addFramedVertex(UpdateFieldChangeImpl.class);
+			update.setFieldName("title");
+			update.setLabel("Title");
+			RemoveFieldChange remove = tx.getGraph().addFramedVertex(RemoveFieldChangeImpl.class);
+			remove.setFieldName("oldField");
+			UpdateSchemaChange updateSchema = tx.getGraph().addFramedVertex(UpdateSchemaChangeImpl.class);
+			updateSchema.setDisplayField("title");
+
+			version.setNextChange(add);
+			add.setNextChange(update);
+			update.setNextChange(remove);
+			remove.setNextChange(updateSchema);
+
+			MigrationPlan plan = MigrationPlan.of(version);
+			assertThat(plan.getChanges()).containsExactly(ADD_FIELD, UPDATE_FIELD, REMOVE_FIELD, UPDATE_CONTAINER);
+			assertThat(plan.getTouchedFields()).containsOnly("oldField");
+			assertThat(plan.requiresRestModel()).as("Structural changes should not require the rest model").isFalse();
+		}
+	}
+
+	@Test
+	public void testRenameRequiresRestModel() {
+		try (Tx tx = tx()) {
+			SchemaContainerVersion version = tx.getGraph().addFramedVertex(SchemaContainerVersionImpl.class);
+
+			UpdateFieldChange rename = tx.getGraph().addFramedVertex(UpdateFieldChangeImpl.class);
+			rename.setFieldName("title");
+			rename.setRestProperty(SchemaChangeModel.NAME_KEY, "headline");
+			version.setNextChange(rename);
+
+			MigrationPlan plan = MigrationPlan.of(version);
+			assertThat(plan.getChanges()).containsExactly(RENAME_FIELD);
+			assertThat(plan.requiresRestModel()).isTrue();
+		}
+	}
+
+	@Test
+	public void testTypeChangeRequiresRestModel() {
+		try (Tx tx = tx()) {
+			SchemaContainerVersion version = tx.getGraph().addFramedVertex(SchemaContainerVersionImpl.class);
+
+			FieldTypeChange change = tx.getGraph().addFramedVertex(FieldTypeChangeImpl.class);
+			change.setFieldName("count");
+			change.setType("string");
+			version.setNextChange(change);
+
+			MigrationPlan plan = MigrationPlan.of(version);
+			assertThat(plan.getChanges()).containsExactly(CHANGE_FIELD_TYPE);
+			assertThat(plan.getTouchedFields()).containsOnly("count");
+			assertThat(plan.requiresRestModel()).isTrue();
+		}
+	}
+
+}
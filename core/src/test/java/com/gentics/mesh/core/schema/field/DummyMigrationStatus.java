@@ -49,4 +49,19 @@ public class DummyMigrationStatus implements MigrationStatusHandler {
 	public void incCompleted() {
 
 	}
+
+	@Override
+	public void setPartitionProgress(int partition, long completed, long total) {
+
+	}
+
+	@Override
+	public String getCheckpoint() {
+		return null;
+	}
+
+	@Override
+	public void setCheckpoint(String checkpoint) {
+
+	}
 }
@@ -296,6 +296,76 @@ public class WebRootEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testReadMultiLanguageSegments() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		String parentUuid = createLanguageFolder(baseNodeUuid, "parent");
+		String childUuid = createLanguageFolder(parentUuid, "child");
+
+		for (String parentLanguage : Arrays.asList("en", "de", "fr")) {
+			for (String childLanguage : Arrays.asList("en", "de", "fr")) {
+				String[] path = new String[] { "parent-" + parentLanguage, "child-" + childLanguage };
+				MeshWebrootResponse response = call(() -> client().webroot(PROJECT_NAME, path, new VersioningParametersImpl().draft()));
+				assertEquals(childUuid, response.getNodeResponse().getUuid());
+				assertEquals("Check response language", childLanguage, response.getNodeResponse().getLanguage());
+			}
+		}
+
+		String[] bogusPath = new String[] { "parent-de", "child-it" };
+		call(() -> client().webroot(PROJECT_NAME, bogusPath, new VersioningParametersImpl().draft()), NOT_FOUND, "node_not_found_for_path",
+			"/parent-de/child-it");
+	}
+
+	/**
+	 * The language containers of the node have to be checked if the container which is referenced by the webroot index entry does not provide the
+	 * segment.
+	 */
+	@Test
+	public void testReadSegmentFromOtherLanguageContainer() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		String parentUuid = createLanguageFolder(baseNodeUuid, "parent");
+		String childUuid = createLanguageFolder(parentUuid, "child");
+
+		// Swap the segments of the english and french container without updating the webroot index
+		tx(() -> {
+			Node child = meshRoot().getNodeRoot().findByUuid(childUuid);
+			child.getGraphFieldContainer("en").getString("slug").setString("child-fr");
+			child.getGraphFieldContainer("fr").getString("slug").setString("child-en");
+		});
+
+		MeshWebrootResponse response = call(() -> client().webroot(PROJECT_NAME, new String[] { "parent-en", "child-en" },
+			new VersioningParametersImpl().draft()));
+		assertEquals(childUuid, response.getNodeResponse().getUuid());
+		assertEquals("The segment should have been provided by the french container", "fr", response.getNodeResponse().getLanguage());
+	}
+
+	/**
+	 * Create a folder with an english, german and french version whose segments are suffixed with the language.
+	 *
+	 * @param parentUuid
+	 * @param prefix
+	 *            Prefix of the segments
+	 * @return Uuid of the folder
+	 */
+	private String createLanguageFolder(String parentUuid, String prefix) {
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.setParentNodeUuid(parentUuid);
+		request.setLanguage("en");
+		request.getFields().put("slug", FieldUtil.createStringField(prefix + "-en"));
+		request.getFields().put("name", FieldUtil.createStringField(prefix));
+		String uuid = call(() -> client().createNode(PROJECT_NAME, request)).getUuid();
+
+		for (String language : Arrays.asList("de", "fr")) {
+			NodeUpdateRequest update = new NodeUpdateRequest();
+			update.setLanguage(language);
+			update.getFields().put("slug", FieldUtil.createStringField(prefix + "-" + language));
+			update.getFields().put("name", FieldUtil.createStringField(prefix));
+			call(() -> client().updateNode(PROJECT_NAME, uuid, update));
+		}
+		return uuid;
+	}
+
 	@Test
 	public void testReadFolderByPathWithoutPerm() throws Exception {
 		String englishPath = "/News/2015";
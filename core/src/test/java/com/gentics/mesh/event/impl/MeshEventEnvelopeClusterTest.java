@@ -0,0 +1,124 @@
+package com.gentics.mesh.event.impl;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.util.UUIDUtil;
+import com.hazelcast.config.Config;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.spi.cluster.hazelcast.HazelcastClusterManager;
+
+/**
+ * Test which checks how often the events of an envelope are delivered within a cluster of two Vert.x instances.
+ */
+public class MeshEventEnvelopeClusterTest {
+
+	private final List<Vertx> instances = new ArrayList<>();
+
+	@Before
+	public void setup() throws Exception {
+		String clusterName = UUIDUtil.randomUUID();
+		for (int i = 0; i < 2; i++) {
+			Vertx vertx = startClusteredVertx(clusterName);
+			awaitRegistration(MeshEventEnvelope.register(vertx));
+			instances.add(vertx);
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		for (Vertx vertx : instances) {
+			CompletableFuture<Void> fut = new CompletableFuture<>();
+			vertx.close(rh -> fut.complete(null));
+			fut.get(30, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	public void testDeliveryCount() throws Exception {
+		int eventCount = 5;
+		AtomicInteger[] consumerCounts = { new AtomicInteger(), new AtomicInteger() };
+		AtomicInteger[] localConsumerCounts = { new AtomicInteger(), new AtomicInteger() };
+		CountDownLatch received = new CountDownLatch(eventCount * instances.size());
+		for (int i = 0; i < instances.size(); i++) {
+			Vertx vertx = instances.get(i);
+			AtomicInteger consumerCount = consumerCounts[i];
+			AtomicInteger localConsumerCount = localConsumerCounts[i];
+			MessageConsumer<Object> consumer = vertx.eventBus().consumer(NODE_UPDATED.address, message -> {
+				consumerCount.incrementAndGet();
+				received.countDown();
+			});
+			awaitRegistration(consumer);
+			// Local consumers behave like the search index handlers
+			vertx.eventBus().localConsumer(NODE_UPDATED.address, message -> {
+				if (!MeshEventEnvelope.isRemote(message)) {
+					localConsumerCount.incrementAndGet();
+				}
+			});
+		}
+
+		// The registrations of the other instance need to be propagated within the cluster
+		Thread.sleep(2000);
+
+		EventQueueBatchImpl batch = new EventQueueBatchImpl(instances.get(0), mock(CacheRegistry.class));
+		for (int i = 0; i < eventCount; i++) {
+			NodeMeshEventModel event = new NodeMeshEventModel();
+			event.setEvent(NODE_UPDATED);
+			event.setUuid(UUIDUtil.randomUUID());
+			batch.add(event);
+		}
+		batch.dispatch();
+
+		assertTrue("Not all events have been received", received.await(30, TimeUnit.SECONDS));
+		// Wait for deliveries which should not happen
+		Thread.sleep(1000);
+
+		assertEquals("Every instance should deliver each event once to the cluster wide consumers", eventCount, consumerCounts[0].get());
+		assertEquals("Every instance should deliver each event once to the cluster wide consumers", eventCount, consumerCounts[1].get());
+		assertEquals("The origin should deliver each event once to its local consumers", eventCount, localConsumerCounts[0].get());
+		assertEquals("Other instances must not process the events in their local consumers", 0, localConsumerCounts[1].get());
+	}
+
+	private Vertx startClusteredVertx(String clusterName) throws Exception {
+		Config config = new Config();
+		config.getGroupConfig().setName(clusterName);
+		config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+		config.getNetworkConfig().getJoin().getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+		VertxOptions options = new VertxOptions().setClusterManager(new HazelcastClusterManager(config));
+		options.getEventBusOptions().setHost("127.0.0.1");
+		CompletableFuture<Vertx> fut = new CompletableFuture<>();
+		Vertx.clusteredVertx(options, rh -> {
+			if (rh.failed()) {
+				fut.completeExceptionally(rh.cause());
+			} else {
+				fut.complete(rh.result());
+			}
+		});
+		return fut.get(60, TimeUnit.SECONDS);
+	}
+
+	private void awaitRegistration(MessageConsumer<?> consumer) throws Exception {
+		CompletableFuture<Void> fut = new CompletableFuture<>();
+		consumer.completionHandler(rh -> fut.complete(null));
+		fut.get(30, TimeUnit.SECONDS);
+	}
+
+}
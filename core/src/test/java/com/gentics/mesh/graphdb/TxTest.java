@@ -1,14 +1,21 @@
 package com.gentics.mesh.graphdb;
 
+import static com.gentics.mesh.metric.SimpleMetric.TX_QUEUE_DEPTH;
+import static com.gentics.mesh.metric.SimpleMetric.TX_QUEUE_WAIT;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -29,11 +36,15 @@ import com.gentics.mesh.core.data.impl.UserImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.root.UserRoot;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.util.TestUtils;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
 import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
 
 @MeshTestSetting(testSize = FULL, startServer = true)
 public class TxTest extends AbstractMeshTest {
@@ -144,6 +155,77 @@ public class TxTest extends AbstractMeshTest {
 		assertEquals("OK", result);
 	}
 
+	@Test
+	public void testAsyncTxExecutor() throws Exception {
+		MetricsService metrics = meshDagger().metrics();
+		Timer waitTimer = metrics.timer(TX_QUEUE_WAIT);
+		long waitCount = waitTimer.count();
+		Gauge queueDepth = metrics.getMetricRegistry().get(TX_QUEUE_DEPTH.key()).gauge();
+		int poolSize = options().getStorageOptions().getTxWorkerPoolSize();
+		int queued = 5;
+
+		// Block all workers so that the remaining transactions have to wait for a worker
+		CountDownLatch started = new CountDownLatch(poolSize);
+		CountDownLatch release = new CountDownLatch(1);
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		List<TestObserver<Void>> observers = new ArrayList<>();
+		for (int i = 0; i < poolSize + queued; i++) {
+			observers.add(db().asyncTx(() -> {
+				threadNames.add(Thread.currentThread().getName());
+				started.countDown();
+				release.await(10, TimeUnit.SECONDS);
+			}).test());
+		}
+		assertTrue("Not all workers have been started", started.await(10, TimeUnit.SECONDS));
+		assertEquals("The remaining transactions should wait for a worker", queued, (long) queueDepth.value());
+
+		release.countDown();
+		for (TestObserver<Void> observer : observers) {
+			observer.awaitTerminalEvent(10, TimeUnit.SECONDS);
+			observer.assertComplete();
+		}
+		assertEquals(0, (long) queueDepth.value());
+		assertEquals("The transactions should have been executed by all workers of the pool", poolSize, threadNames.size());
+		for (String name : threadNames) {
+			assertTrue("The transaction was executed by thread {" + name + "}", name.startsWith("txWorker"));
+		}
+		assertEquals("The queue wait time should have been recorded for each transaction", waitCount + poolSize + queued, waitTimer.count());
+	}
+
+	@Test
+	public void testReadTx() {
+		String username = db().readTx(() -> user().getUsername());
+		assertEquals(db().tx(() -> user().getUsername()), username);
+	}
+
+	@Test
+	public void testReadTxRejectsWrites() {
+		String username = db().tx(() -> user().getUsername());
+		try {
+			db().readTx(() -> {
+				user().setUsername("changed");
+				return null;
+			});
+			fail("The write within the read-only transaction should have been rejected.");
+		} catch (Exception e) {
+			// Expected
+		}
+		assertEquals(username, db().tx(() -> user().getUsername()));
+	}
+
+	@Test
+	public void testReadTxRawTraversal() {
+		db().readTx(tx -> {
+			try {
+				tx.rawTraverse();
+				fail("Raw traversals should not be supported within the read-only transaction.");
+			} catch (UnsupportedOperationException e) {
+				// Expected
+			}
+			return null;
+		});
+	}
+
 	@Test
 	@Ignore
 	public void testUpdateMultithreaded() throws InterruptedException, BrokenBarrierException, TimeoutException {
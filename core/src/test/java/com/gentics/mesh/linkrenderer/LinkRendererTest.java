@@ -254,6 +254,21 @@ public class LinkRendererTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testMixedLanguageLinks() {
+		try (Tx tx = tx()) {
+			Node newsNode = content("news overview");
+			String uuid = newsNode.getUuid();
+			final String content = "{{mesh.link(\"" + uuid + "\", \"de\")}} {{mesh.link(\"" + uuid + "\")}} {{mesh.link(\"" + uuid + "\", \"de\")}}";
+			InternalActionContext ac = mockActionContext();
+			String replacedContent = replacer.replace(ac, project().getLatestBranch().getUuid(), ContainerType.DRAFT, content, LinkType.SHORT, null,
+					null);
+
+			assertEquals("Check rendered content", "/Neuigkeiten/News%20Overview.de.html /News/News%20Overview.en.html /Neuigkeiten/News%20Overview.de.html",
+				replacedContent);
+		}
+	}
+
 	@Test
 	public void testEnglish() {
 		try (Tx tx = tx()) {
@@ -18,6 +18,9 @@ public enum MeshOptionChanger {
 		options.getSearchOptions().setIncludeBinaryFields(false);
 	}), ES_STRICT_MODE(options -> {
 		options.getSearchOptions().setMappingMode(MappingMode.STRICT);
+	}), PARALLEL_MIGRATION(options -> {
+		options.getContentOptions().setMigrationWorkers(4);
+		options.getContentOptions().setMigrationBatchSize(3);
 	}), RANDOM_ES_PORT(options -> {
 		try {
 			try (ServerSocket s = new ServerSocket(0)) {
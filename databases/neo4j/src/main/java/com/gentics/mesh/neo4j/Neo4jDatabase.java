@@ -34,7 +34,6 @@ import scala.NotImplementedError;
 @Singleton
 public class Neo4jDatabase extends AbstractDatabase {
 
-	private MetricsService metrics;
 	private Neo4jTypeHandler typeHandler;
 	private Neo4jIndexHandler indexHandler;
 	private Neo4jStorage txProvider;
@@ -43,8 +42,7 @@ public class Neo4jDatabase extends AbstractDatabase {
 
 	@Inject
 	public Neo4jDatabase(Lazy<Vertx> vertx, MetricsService metrics, Neo4jTypeHandler typeHandler, Neo4jIndexHandler indexHandler, Neo4jClusterManager clusterManager) {
-		super(vertx);
-		this.metrics = metrics;
+		super(vertx, metrics);
 		this.typeHandler = typeHandler;
 		this.indexHandler = indexHandler;
 		this.clusterManager = clusterManager;
@@ -135,6 +133,16 @@ public class Neo4jDatabase extends AbstractDatabase {
 		// NOOP
 	}
 
+	@Override
+	public void setTxMassInsertIntent() {
+		// NOOP
+	}
+
+	@Override
+	public void resetTxIntent() {
+		// NOOP
+	}
+
 	@Override
 	public void reload(MeshElement element) {
 		// NOOP
@@ -171,6 +179,12 @@ public class Neo4jDatabase extends AbstractDatabase {
 		return null;
 	}
 
+	@Override
+	public <T extends MeshVertex> List<? extends T> getVerticesAfter(Object outId, String edgeLabel, Class<T> classOfVertex, Object lastId, int limit) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
 	@Override
 	public <T extends EdgeFrame> T findEdge(String propertyKey, Object propertyValue, Class<T> clazz) {
 		// TODO Auto-generated method stub
@@ -1,13 +1,19 @@
 package com.gentics.mesh.graphdb;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.READ_TX_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.TX_CONFLICT;
+import static com.gentics.mesh.metric.SimpleMetric.TX_RETRIES;
 import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY;
 import static com.gentics.mesh.metric.SimpleMetric.TX_TIME;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -16,6 +22,8 @@ import javax.inject.Singleton;
 import com.gentics.madl.tx.Tx;
 import com.gentics.madl.tx.TxAction;
 import com.gentics.madl.tx.TxAction0;
+import com.gentics.madl.tx.TxAction1;
+import com.gentics.madl.tx.TxAction2;
 import com.gentics.mesh.changelog.changes.ChangesList;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -27,6 +35,7 @@ import com.gentics.mesh.graphdb.index.OrientDBIndexHandler;
 import com.gentics.mesh.graphdb.index.OrientDBTypeHandler;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.graphdb.spi.AbstractDatabase;
+import com.gentics.mesh.graphdb.spi.RetryBudget;
 import com.gentics.mesh.graphdb.tx.OrientStorage;
 import com.gentics.mesh.graphdb.tx.impl.OrientLocalStorageImpl;
 import com.gentics.mesh.graphdb.tx.impl.OrientServerStorageImpl;
@@ -38,11 +47,17 @@ import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OSchemaException;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexCursor;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
+import com.syncleus.ferma.ext.orientdb3.OrientDBReadTx;
 import com.syncleus.ferma.ext.orientdb3.OrientDBTx;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.tinkerpop.blueprints.Edge;
@@ -50,6 +65,7 @@ import com.tinkerpop.blueprints.Element;
 import com.tinkerpop.blueprints.Graph;
 import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientEdgeType;
 import com.tinkerpop.blueprints.impls.orient.OrientElement;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
@@ -58,6 +74,7 @@ import com.tinkerpop.pipes.util.FastNoSuchElementException;
 
 import dagger.Lazy;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
@@ -73,16 +90,23 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private static final String RIDBAG_PARAM_KEY = "ridBag.embeddedToSbtreeBonsaiThreshold";
 
+	private static final int RETRY_BUDGET_CAPACITY = 100;
+
 	private TypeResolver resolver;
 
 	private OrientStorage txProvider;
 
-	private MetricsService metrics;
-
 	private Timer txTimer;
 
+	private Timer readTxTimer;
+
 	private Counter txRetryCounter;
 
+	/**
+	 * Budget for transaction retries. The budget is created once the database is initialized and is accessed by every transaction without locking.
+	 */
+	private volatile RetryBudget retryBudget;
+
 	private OrientDBIndexHandler indexHandler;
 
 	private OrientDBTypeHandler typeHandler;
@@ -95,11 +119,11 @@ public class OrientDBDatabase extends AbstractDatabase {
 	public OrientDBDatabase(Lazy<Vertx> vertx, Lazy<BootstrapInitializer> boot, MetricsService metrics, OrientDBTypeHandler typeHandler,
 		OrientDBIndexHandler indexHandler,
 		OrientDBClusterManager clusterManager) {
-		super(vertx);
+		super(vertx, metrics);
 		this.boot = boot;
-		this.metrics = metrics;
 		if (metrics != null) {
 			txTimer = metrics.timer(TX_TIME);
+			readTxTimer = metrics.timer(READ_TX_TIME);
 			txRetryCounter = metrics.counter(TX_RETRY);
 		}
 		this.typeHandler = typeHandler;
@@ -136,6 +160,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 		super.init(options, meshVersion);
 
 		GraphStorageOptions storageOptions = options.getStorageOptions();
+		retryBudget = new RetryBudget(storageOptions.getTxRetryBudget(), RETRY_BUDGET_CAPACITY);
 		boolean startOrientServer = storageOptions != null && storageOptions.getStartServer();
 		boolean isInMemory = storageOptions.getDirectory() == null;
 
@@ -194,6 +219,17 @@ public class OrientDBDatabase extends AbstractDatabase {
 		txProvider.resetIntent();
 	}
 
+	@Override
+	public void setTxMassInsertIntent() {
+		// The intent is declared for the session of the transaction and not for the whole factory
+		unwrapCurrentGraph().getRawGraph().declareIntent(new OIntentMassiveInsert());
+	}
+
+	@Override
+	public void resetTxIntent() {
+		unwrapCurrentGraph().getRawGraph().declareIntent(null);
+	}
+
 	@Override
 	public OrientGraph rawTx() {
 		return txProvider.rawTx();
@@ -249,6 +285,35 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return fermaGraph.frameExplicit(rawIt, classOfVertex);
 	}
 
+	@Override
+	public <T extends MeshVertex> List<? extends T> getVerticesAfter(Object outId, String edgeLabel, Class<T> classOfVertex, Object lastId, int limit) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		FramedGraph fermaGraph = Tx.getActive().getGraph();
+		OrientEdgeType edgeType = orientBaseGraph.getEdgeType(edgeLabel);
+		OIndex<?> index = edgeType == null ? null : edgeType.getClassIndex("e." + edgeLabel.toLowerCase() + "_outin");
+		if (index == null) {
+			throw new RuntimeException("Could not find the out/in index for edges {" + edgeLabel + "}");
+		}
+		ORecordId out = new ORecordId(outId.toString());
+		// The index is ordered by the out and in ids. Thus the cursor starts directly after the last in-bound vertex of the out-bound vertex.
+		OCompositeKey from = lastId == null ? new OCompositeKey(out) : new OCompositeKey(out, new ORecordId(lastId.toString()));
+		OIndexCursor cursor = index.iterateEntriesMajor(from, lastId == null, true);
+		List<T> result = new ArrayList<>();
+		Entry<Object, OIdentifiable> entry;
+		while (result.size() < limit && (entry = cursor.nextEntry()) != null) {
+			List<Object> keys = ((OCompositeKey) entry.getKey()).getKeys();
+			// The entries of the following out-bound vertices are not of interest
+			if (!out.equals(keys.get(0))) {
+				break;
+			}
+			T vertex = fermaGraph.getFramedVertexExplicit(classOfVertex, keys.get(1));
+			if (vertex != null) {
+				result.add(vertex);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Unwrap the current thread local graph.
 	 *
@@ -316,6 +381,41 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	@Override
 	public <T> T tx(TxAction<T> txHandler) {
+		return tx(txHandler, txHandler);
+	}
+
+	@Override
+	public void tx(TxAction0 txHandler) {
+		tx(txHandler, tx -> {
+			txHandler.handle();
+			return null;
+		});
+	}
+
+	@Override
+	public <T> T tx(TxAction1<T> txHandler) {
+		return tx(txHandler, tx -> {
+			return txHandler.handle();
+		});
+	}
+
+	@Override
+	public void tx(TxAction2 txHandler) {
+		tx(txHandler, tx -> {
+			txHandler.handle(tx);
+			return null;
+		});
+	}
+
+	/**
+	 * Execute the handler within a transaction and retry it in case of conflicts.
+	 * 
+	 * @param site
+	 *            Handler which was passed by the caller. The class of the handler is used to identify the call site in the metrics.
+	 * @param txHandler
+	 * @return
+	 */
+	private <T> T tx(Object site, TxAction<T> txHandler) {
 		/**
 		 * OrientDB uses the MVCC pattern which requires a retry of the code that manipulates the graph in cases where for example an
 		 * {@link OConcurrentModificationException} is thrown.
@@ -323,6 +423,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 		T handlerResult = null;
 		boolean handlerFinished = false;
 		int maxRetry = options.getStorageOptions().getTxRetryLimit();
+		retryBudget.deposit();
 		for (int retry = 0; retry < maxRetry; retry++) {
 			Timer.Sample sample = Timer.start();
 			try (Tx tx = tx()) {
@@ -338,17 +439,19 @@ public class OrientDBDatabase extends AbstractDatabase {
 				if (log.isTraceEnabled()) {
 					log.trace("Error while handling transaction. Retrying " + retry, e);
 				}
-				int delay = options.getStorageOptions().getTxRetryDelay();
-				if (retry > 0 && delay > 0) {
-					try {
-						Thread.sleep(delay);
-					} catch (InterruptedException e1) {
-						e1.printStackTrace();
-					}
+				if (metrics.isEnabled()) {
+					metrics.counter(TX_CONFLICT, siteTags(site)).increment();
 				}
 				// Reset previous result
 				handlerFinished = false;
 				handlerResult = null;
+				if (retry + 1 < maxRetry) {
+					if (!retryBudget.tryWithdraw()) {
+						log.warn("Retry budget for transactions exhausted. Not retrying transaction of {" + callSite(site) + "}");
+						throw new RuntimeException("Retry budget for trx exhausted", e);
+					}
+					backoff(retry);
+				}
 			} catch (ORecordDuplicatedException e) {
 				log.error(e);
 				throw error(INTERNAL_SERVER_ERROR, "error_internal");
@@ -368,19 +471,98 @@ public class OrientDBDatabase extends AbstractDatabase {
 			} finally {
 				sample.stop(txTimer);
 			}
-			if (!handlerFinished && log.isDebugEnabled()) {
-				log.debug("Retrying .. {" + retry + "}");
+			if (!handlerFinished) {
+				if (log.isDebugEnabled()) {
+					log.debug("Retrying .. {" + retry + "}");
+				}
 				if (metrics.isEnabled()) {
 					txRetryCounter.increment();
 				}
 			}
 			if (handlerFinished) {
+				if (retry > 0 && metrics.isEnabled()) {
+					metrics.meter(TX_RETRIES, siteTags(site)).record(retry);
+				}
 				return handlerResult;
 			}
 		}
+		if (metrics.isEnabled()) {
+			metrics.meter(TX_RETRIES, siteTags(site)).record(maxRetry);
+		}
 		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
 	}
 
+	/**
+	 * Wait before the transaction is retried. The delay grows exponentially with the amount of retries and is randomized (full jitter). This way
+	 * conflicting writers will not retry in lockstep.
+	 * 
+	 * @param retry
+	 *            Number of the failed attempt (starting with 0)
+	 */
+	private void backoff(int retry) {
+		GraphStorageOptions storageOptions = options.getStorageOptions();
+		long delay = storageOptions.getTxRetryDelay();
+		if (delay <= 0) {
+			return;
+		}
+		long maxDelay = Math.min(storageOptions.getTxRetryMaxDelay(), delay << Math.min(retry, 16));
+		long sleep = ThreadLocalRandom.current().nextLong(maxDelay + 1);
+		try {
+			Thread.sleep(sleep);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Return the tags which identify the call site of the given handler.
+	 * 
+	 * @param site
+	 * @return
+	 */
+	private static Tags siteTags(Object site) {
+		return Tags.of("site", callSite(site));
+	}
+
+	/**
+	 * Determine the call site of the given handler. For lambdas this is the class in which the lambda has been declared.
+	 * 
+	 * @param site
+	 * @return
+	 */
+	static String callSite(Object site) {
+		String name = site.getClass().getName();
+		int idx = name.indexOf("$$Lambda");
+		if (idx > 0) {
+			return name.substring(0, idx);
+		}
+		return name;
+	}
+
+	@Override
+	public <T> T readTx(TxAction<T> txHandler) {
+		// Reads are executed outside of a graph transaction. Thus no conflicts can occur and there is no need for a retry.
+		Timer.Sample sample = Timer.start();
+		try (Tx tx = new OrientDBReadTx(boot.get(), txProvider, resolver)) {
+			return txHandler.handle(tx);
+		} catch (GenericRestException e) {
+			// Don't log. Just throw it along so that others can handle it
+			throw e;
+		} catch (RuntimeException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling read-only transaction", e);
+			}
+			throw e;
+		} catch (Exception e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling read-only transaction", e);
+			}
+			throw new RuntimeException("Transaction error", e);
+		} finally {
+			sample.stop(readTxTimer);
+		}
+	}
+
 	@Override
 	public String backupGraph(String backupDirectory) throws IOException {
 		return txProvider.backup(backupDirectory);
@@ -256,6 +256,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		boolean includeIn = def.isIncludeIn();
 		boolean includeOut = def.isIncludeOut();
 		boolean includeInOut = def.isIncludeInOut();
+		boolean includeOutIn = def.isIncludeOutIn();
 		String[] extraFields = {};
 
 		OrientGraphNoTx noTx = db.get().getTxProvider().rawNoTx();
@@ -282,10 +283,10 @@ public class OrientDBIndexHandler implements IndexHandler {
 				}
 			}
 
-			if ((includeIn || includeInOut) && e.getProperty("in") == null) {
+			if ((includeIn || includeInOut || includeOutIn) && e.getProperty("in") == null) {
 				e.createProperty("in", OType.LINK);
 			}
-			if ((includeOut || includeInOut) && e.getProperty("out") == null) {
+			if ((includeOut || includeInOut || includeOutIn) && e.getProperty("out") == null) {
 				e.createProperty("out", OType.LINK);
 			}
 			for (String key : extraFields) {
@@ -300,6 +301,10 @@ public class OrientDBIndexHandler implements IndexHandler {
 			if (includeInOut && e.getClassIndex(name) == null) {
 				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE, new String[] { "in", "out" });
 			}
+			name = indexName + "_outin";
+			if (includeOutIn && e.getClassIndex(name) == null) {
+				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE, new String[] { "out", "in" });
+			}
 			name = indexName + "_out";
 			if (includeOut && e.getClassIndex(name) == null) {
 				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX, new String[] { "out" });
@@ -2,6 +2,7 @@ package com.gentics.mesh.graphdb.tx;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.metric.SimpleMetric.NO_TX;
+import static com.gentics.mesh.metric.SimpleMetric.READ_TX;
 import static com.gentics.mesh.metric.SimpleMetric.TX;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
@@ -41,11 +42,14 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 
 	protected final Counter noTxCounter;
 
+	protected final Counter readTxCounter;
+
 	public AbstractOrientStorage(MeshOptions options, MetricsService metrics) {
 		this.options = options;
 		this.metrics = metrics;
 		this.txCounter = metrics.counter(TX);
 		this.noTxCounter = metrics.counter(NO_TX);
+		this.readTxCounter = metrics.counter(READ_TX);
 	}
 
 	public MeshOptions getOptions() {
@@ -123,6 +127,20 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 		}
 	}
 
+	/**
+	 * Prepare the given graph for read-only access. Reads will be executed outside of a transaction and thus don't need to be committed or rolled back.
+	 * 
+	 * @param graph
+	 * @return Prepared graph
+	 */
+	protected OrientGraph nonTransactional(OrientGraph graph) {
+		graph.setAutoStartTx(false);
+		if (graph.getRawGraph().getTransaction().isActive()) {
+			graph.rollback();
+		}
+		return graph;
+	}
+
 	/**
 	 * Create a new session to access the database. Remember to close the session after usage.
 	 * 
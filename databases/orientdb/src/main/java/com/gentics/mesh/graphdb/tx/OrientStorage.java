@@ -19,6 +19,13 @@ public interface OrientStorage extends GraphStorage {
 	 */
 	OrientGraph rawTx();
 
+	/**
+	 * Get a raw tinkerpop graph for read-only access. The graph will not automatically start a transaction and will reject any write operation.
+	 * 
+	 * @return
+	 */
+	OrientGraph rawReadTx();
+
 	/**
 	 * Get a raw noTx tinkerpop transaction.
 	 * 
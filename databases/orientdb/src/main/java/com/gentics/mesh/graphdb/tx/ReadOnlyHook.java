@@ -0,0 +1,35 @@
+package com.gentics.mesh.graphdb.tx;
+
+import com.orientechnologies.orient.core.hook.ORecordHook;
+import com.orientechnologies.orient.core.record.ORecord;
+
+/**
+ * Record hook which rejects all write operations. The hook is registered on the sessions of read-only transactions in order to fail fast when a write is
+ * attempted instead of silently persisting the change outside of a transaction.
+ */
+public class ReadOnlyHook implements ORecordHook {
+
+	@Override
+	public void onUnregister() {
+		// NOOP
+	}
+
+	@Override
+	public RESULT onTrigger(TYPE type, ORecord record) {
+		switch (type) {
+		case BEFORE_CREATE:
+		case BEFORE_UPDATE:
+		case BEFORE_DELETE:
+			throw new IllegalStateException("The record {" + record.getIdentity() + "} can't be modified within a read-only transaction. Operation: "
+				+ type);
+		default:
+			return RESULT.RECORD_NOT_CHANGED;
+		}
+	}
+
+	@Override
+	public DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+		return DISTRIBUTED_EXECUTION_MODE.SOURCE_NODE;
+	}
+
+}
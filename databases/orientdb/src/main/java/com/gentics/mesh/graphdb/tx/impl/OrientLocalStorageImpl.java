@@ -27,6 +27,11 @@ public class OrientLocalStorageImpl extends AbstractOrientStorage {
 
 	private OrientGraphFactory factory;
 
+	/**
+	 * Separate factory for read-only transactions. Using a dedicated pool ensures that reads don't compete with writes for pooled connections.
+	 */
+	private OrientGraphFactory readFactory;
+
 	public OrientLocalStorageImpl(MeshOptions options, MetricsService metrics) {
 		super(options, metrics);
 	}
@@ -34,16 +39,27 @@ public class OrientLocalStorageImpl extends AbstractOrientStorage {
 	@Override
 	public void open(String name) {
 		GraphStorageOptions storageOptions = options.getStorageOptions();
+		String url;
+		int txPoolSize = GraphStorageOptions.DEFAULT_TX_POOL_SIZE;
+		int readTxPoolSize = GraphStorageOptions.DEFAULT_READ_TX_POOL_SIZE;
 		if (storageOptions == null || storageOptions.getDirectory() == null) {
 			log.info("No graph database settings found. Fallback to in memory mode.");
-			factory = new OrientGraphFactory("memory:tinkerpop" +  System.currentTimeMillis()).setupPool(16, 100);
+			url = "memory:tinkerpop" + System.currentTimeMillis();
 		} else {
-			factory = new OrientGraphFactory("plocal:" + new File(storageOptions.getDirectory(), DB_NAME).getAbsolutePath()).setupPool(16, 100);
+			url = "plocal:" + new File(storageOptions.getDirectory(), DB_NAME).getAbsolutePath();
+		}
+		if (storageOptions != null) {
+			txPoolSize = storageOptions.getTxPoolSize();
+			readTxPoolSize = storageOptions.getReadTxPoolSize();
 		}
+		factory = new OrientGraphFactory(url).setupPool(Math.min(16, txPoolSize), txPoolSize);
+		readFactory = new OrientGraphFactory(url).setupPool(Math.min(16, readTxPoolSize), readTxPoolSize);
+		readFactory.setAutoStartTx(false);
 	}
 
 	@Override
 	public void close() {
+		readFactory.close();
 		factory.close();
 	}
 
@@ -55,6 +71,14 @@ public class OrientLocalStorageImpl extends AbstractOrientStorage {
 		return factory.getTx();
 	}
 
+	@Override
+	public OrientGraph rawReadTx() {
+		if (metrics.isEnabled()) {
+			readTxCounter.increment();
+		}
+		return nonTransactional(readFactory.getTx());
+	}
+
 	@Override
 	public OrientGraphNoTx rawNoTx() {
 		if (metrics.isEnabled()) {
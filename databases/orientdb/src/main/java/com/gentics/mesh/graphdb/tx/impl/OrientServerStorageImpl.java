@@ -4,13 +4,17 @@ import java.io.IOException;
 
 import org.apache.commons.lang3.NotImplementedException;
 
+import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.tx.AbstractOrientStorage;
 import com.gentics.mesh.metric.MetricsService;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabasePool;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
@@ -22,6 +26,11 @@ public class OrientServerStorageImpl extends AbstractOrientStorage {
 
 	private OrientDB context;
 
+	/**
+	 * Separate pool for read-only transactions. Using a dedicated pool ensures that reads don't compete with writes for sessions.
+	 */
+	private ODatabasePool readPool;
+
 	public OrientServerStorageImpl(MeshOptions options, OrientDB context, MetricsService metrics) {
 		super(options, metrics);
 		this.context = context;
@@ -38,6 +47,12 @@ public class OrientServerStorageImpl extends AbstractOrientStorage {
 
 	@Override
 	public void close() {
+		synchronized (this) {
+			if (readPool != null) {
+				readPool.close();
+				readPool = null;
+			}
+		}
 		if (context.isOpen()) {
 			context.close();
 		}
@@ -53,6 +68,15 @@ public class OrientServerStorageImpl extends AbstractOrientStorage {
 		return (OrientGraph) OrientGraphFactory.getTxGraphImplFactory().getGraph((ODatabaseDocumentInternal) db);
 	}
 
+	@Override
+	public OrientGraph rawReadTx() {
+		if (metrics.isEnabled()) {
+			readTxCounter.increment();
+		}
+		ODatabaseSession db = getReadPool().acquire();
+		return nonTransactional((OrientGraph) OrientGraphFactory.getTxGraphImplFactory().getGraph((ODatabaseDocumentInternal) db));
+	}
+
 	@Override
 	public OrientGraphNoTx rawNoTx() {
 		if (metrics.isEnabled()) {
@@ -87,6 +111,22 @@ public class OrientServerStorageImpl extends AbstractOrientStorage {
 		throw new NotImplementedException("Not supported in server mode");
 	}
 
+	/**
+	 * Return the pool for read-only transactions. The pool is created once the first read-only transaction is needed since the database may not yet exist
+	 * when the storage gets opened.
+	 *
+	 * @return
+	 */
+	private synchronized ODatabasePool getReadPool() {
+		if (readPool == null) {
+			GraphStorageOptions storageOptions = options.getStorageOptions();
+			int readTxPoolSize = storageOptions != null ? storageOptions.getReadTxPoolSize() : GraphStorageOptions.DEFAULT_READ_TX_POOL_SIZE;
+			OrientDBConfig config = OrientDBConfig.builder().addConfig(OGlobalConfiguration.DB_POOL_MAX, readTxPoolSize).build();
+			readPool = new ODatabasePool(context, DB_NAME, "admin", "admin", config);
+		}
+		return readPool;
+	}
+
 	public ODatabaseSession createSession() {
 		return context.open(DB_NAME, "admin", "admin");
 	}
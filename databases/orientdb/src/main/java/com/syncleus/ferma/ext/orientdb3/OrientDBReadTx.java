@@ -0,0 +1,138 @@
+package com.syncleus.ferma.ext.orientdb3;
+
+import java.util.function.Function;
+
+import com.gentics.madl.traversal.RawTraversalResult;
+import com.gentics.madl.traversal.RawTraversalResultImpl;
+import com.gentics.madl.tx.AbstractTx;
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.graphdb.tx.OrientStorage;
+import com.gentics.mesh.graphdb.tx.ReadOnlyHook;
+import com.gentics.mesh.madl.tp3.mock.Element;
+import com.gentics.mesh.madl.tp3.mock.GraphTraversal;
+import com.gentics.mesh.madl.tp3.mock.GraphTraversalSource;
+import com.syncleus.ferma.FramedTransactionalGraph;
+import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
+import com.syncleus.ferma.typeresolvers.TypeResolver;
+import com.tinkerpop.blueprints.impls.orient.OrientGraph;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Read-only transaction. The underlying graph does not start a transaction. Thus the transaction will neither be committed nor rolled back and any write
+ * operation will be rejected. An already active transaction of the current thread will be reused.
+ */
+public class OrientDBReadTx extends AbstractTx<FramedTransactionalGraph> {
+
+	private static final Logger log = LoggerFactory.getLogger(OrientDBReadTx.class);
+
+	private final TypeResolver typeResolver;
+	private final BootstrapInitializer boot;
+	private boolean isWrapped = false;
+	private Tx wrappedTx;
+	private OrientGraph graph;
+	private ReadOnlyHook hook;
+
+	public OrientDBReadTx(BootstrapInitializer boot, OrientStorage provider, TypeResolver typeResolver) {
+		this.typeResolver = typeResolver;
+		this.boot = boot;
+		// Check if an active transaction already exists.
+		Tx activeTx = Tx.get();
+		if (activeTx != null) {
+			isWrapped = true;
+			wrappedTx = activeTx;
+			init(activeTx.getGraph());
+		} else {
+			graph = provider.rawReadTx();
+			hook = new ReadOnlyHook();
+			graph.getRawGraph().registerHook(hook);
+			init(new DelegatingFramedOrientGraph(graph, typeResolver));
+		}
+	}
+
+	@Override
+	public void close() {
+		if (isWrapped) {
+			// The wrapped transaction needs to be active again so that it can be committed by its owner
+			Tx.setActive(wrappedTx);
+			return;
+		}
+		try {
+			// The session will be returned to the pool. Thus the hook needs to be removed.
+			graph.getRawGraph().unregisterHook(hook);
+			graph.shutdown();
+		} finally {
+			Tx.setActive(null);
+		}
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		// A wrapped transaction may contain uncommitted changes
+		return !isWrapped;
+	}
+
+	@Override
+	public boolean hasChanges() {
+		return isWrapped && wrappedTx.hasChanges();
+	}
+
+	@Override
+	public void commit() {
+		// Nothing to commit
+	}
+
+	@Override
+	public void rollback() {
+		// Nothing to rollback
+	}
+
+	@Override
+	public <T extends RawTraversalResult<?>> T traversal(Function<GraphTraversalSource, GraphTraversal<?, ?>> traverser) {
+		if (isWrapped) {
+			return wrappedTx.traversal(traverser);
+		}
+		return (T) new RawTraversalResultImpl(traverser.apply(rawTraverse()), typeResolver);
+	}
+
+	@Override
+	public GraphTraversalSource rawTraverse() {
+		if (isWrapped) {
+			return wrappedTx.rawTraverse();
+		}
+		throw new UnsupportedOperationException("Raw traversals are not supported by read-only transactions");
+	}
+
+	@Override
+	public <T> T createVertex(Class<T> clazzOfR) {
+		throw new IllegalStateException("Vertices can't be created within a read-only transaction");
+	}
+
+	@Override
+	public <E extends Element> E getElement(Object id) {
+		if (isWrapped) {
+			return wrappedTx.getElement(id);
+		}
+		throw new UnsupportedOperationException("Raw elements are not supported by read-only transactions");
+	}
+
+	@Override
+	public int txId() {
+		return 0;
+	}
+
+	@Override
+	protected void init(FramedTransactionalGraph transactionalGraph) {
+		Mesh mesh = boot.mesh();
+		if (mesh != null) {
+			transactionalGraph.setAttribute("meshComponent", mesh.internal());
+		} else {
+			log.error("Could not set mesh component attribute. Followup errors may happen.");
+		}
+		super.init(transactionalGraph);
+	}
+
+}
@@ -13,9 +13,11 @@ import com.gentics.mesh.madl.tp3.mock.Element;
 import com.gentics.mesh.madl.tp3.mock.GraphTraversal;
 import com.gentics.mesh.madl.tp3.mock.GraphTraversalSource;
 import com.orientechnologies.common.concur.ONeedRetryException;
+import com.orientechnologies.orient.core.tx.OTransaction;
 import com.syncleus.ferma.FramedTransactionalGraph;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
 
@@ -94,6 +96,13 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		return null;
 	}
 
+	@Override
+	public boolean hasChanges() {
+		OrientBaseGraph graph = (OrientBaseGraph) ((DelegatingFramedOrientGraph) getGraph()).getBaseGraph();
+		OTransaction tx = graph.getRawGraph().getTransaction();
+		return tx.isActive() && tx.getEntryCount() > 0;
+	}
+
 	@Override
 	public <T> T createVertex(Class<T> clazzOfR) {
 		// TODO Auto-generated method stub
@@ -22,6 +22,7 @@ import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.event.impl.MeshEventEnvelope;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.impl.ElasticsearchResponseErrorStreamable;
 import com.gentics.mesh.search.verticle.bulk.BulkOperator;
@@ -97,7 +98,8 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		vertxHandlers = mainEventhandler.handledEvents()
 			.stream()
 			.map(event -> vertx.eventBus().<JsonObject>localConsumer(event.address, message -> {
-				if (!stopped.get() && !isDroppedEvent(message)) {
+				// Only the instance on which the event was created processes it
+				if (!stopped.get() && !isDroppedEvent(message) && !MeshEventEnvelope.isRemote(message)) {
 					idleChecker.incrementAndGetTransformations();
 					// Only continue processing the event if elasticsearch is available.
 					elasticsearchAvailable.filter(available -> available)
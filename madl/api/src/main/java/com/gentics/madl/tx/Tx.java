@@ -77,4 +77,22 @@ public interface Tx extends BaseTransaction {
 		return getGraph().addFramedVertex(kind);
 	}
 
+	/**
+	 * Check whether the transaction is read-only. A read-only transaction only sees committed data.
+	 * 
+	 * @return
+	 */
+	default boolean isReadOnly() {
+		return false;
+	}
+
+	/**
+	 * Check whether the transaction contains uncommitted changes. A transaction without uncommitted changes only sees committed data.
+	 * 
+	 * @return
+	 */
+	default boolean hasChanges() {
+		return !isReadOnly();
+	}
+
 }
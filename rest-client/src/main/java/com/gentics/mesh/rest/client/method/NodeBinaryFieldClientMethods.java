@@ -1,6 +1,8 @@
 package com.gentics.mesh.rest.client.method;
 
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.image.ImageVariantsRequest;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.ParameterProvider;
 import com.gentics.mesh.rest.client.MeshBinaryResponse;
@@ -84,4 +86,21 @@ public interface NodeBinaryFieldClientMethods {
 	 */
 	MeshRequest<NodeResponse> transformNodeBinaryField(String projectName, String nodeUuid, String languageTag, String version,
 			String fieldKey, ImageManipulationParameters imageManipulationParameter);
+
+	/**
+	 * Render the given variants of the image in the binary field into the image cache. The original image will only be decoded once for all variants.
+	 * 
+	 * @param projectName
+	 *            project name
+	 * @param nodeUuid
+	 *            UUID of the node
+	 * @param fieldKey
+	 *            field key
+	 * @param request
+	 *            request which lists the variants
+	 * @param parameters
+	 * @return Mesh request
+	 */
+	MeshRequest<GenericMessageResponse> createImageVariants(String projectName, String nodeUuid, String fieldKey, ImageVariantsRequest request,
+			ParameterProvider... parameters);
 }
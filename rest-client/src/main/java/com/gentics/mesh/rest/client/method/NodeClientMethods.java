@@ -1,6 +1,9 @@
 package com.gentics.mesh.rest.client.method;
 
+import java.util.List;
+
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeImportRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
@@ -69,6 +72,19 @@ public interface NodeClientMethods {
 	 */
 	MeshRequest<NodeResponse> upsertNode(String projectName, String uuid, NodeUpsertRequest nodeUpsertRequest, ParameterProvider... parameters);
 
+	/**
+	 * Create or update multiple nodes within the given project. The entries are sent as newline delimited JSON and the response contains the result
+	 * ({@link com.gentics.mesh.core.rest.node.NodeImportResult}) of each entry as one line of JSON.
+	 * 
+	 * @param projectName
+	 *            Name of the project
+	 * @param requests
+	 *            Entries to be imported. Entries with a uuid of an existing node will update that node.
+	 * @param parameters
+	 * @return Mesh request which can be invoked
+	 */
+	MeshRequest<String> importNodes(String projectName, List<NodeImportRequest> requests, ParameterProvider... parameters);
+
 	/**
 	 * Update the node with the given UUID.
 	 * 
@@ -0,0 +1,38 @@
+package com.gentics.mesh.core.rest.node;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+
+/**
+ * POJO for a single entry of a node import. The node with the given uuid will be updated if it exists. Otherwise a new node will be created.
+ */
+public class NodeImportRequest extends NodeUpsertRequest {
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Uuid of the node. A node with this uuid will be updated if it exists. Otherwise the node will be created using the uuid. A random uuid will be used for new nodes if the uuid is omitted.")
+	private String uuid;
+
+	public NodeImportRequest() {
+	}
+
+	/**
+	 * Return the uuid of the node.
+	 * 
+	 * @return
+	 */
+	public String getUuid() {
+		return uuid;
+	}
+
+	/**
+	 * Set the uuid of the node.
+	 * 
+	 * @param uuid
+	 * @return Fluent API
+	 */
+	public NodeImportRequest setUuid(String uuid) {
+		this.uuid = uuid;
+		return this;
+	}
+
+}
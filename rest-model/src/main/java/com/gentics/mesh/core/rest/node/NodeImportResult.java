@@ -0,0 +1,67 @@
+package com.gentics.mesh.core.rest.node;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for the result of a single entry of a node import.
+ */
+public class NodeImportResult implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Index of the entry within the import request.")
+	private long index;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Uuid of the created or updated node.")
+	private String uuid;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("HTTP status code of the entry. The code is 201 for created nodes, 200 for updated nodes or an error code.")
+	private int status;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Error message if the entry could not be imported.")
+	private String message;
+
+	public NodeImportResult() {
+	}
+
+	public long getIndex() {
+		return index;
+	}
+
+	public NodeImportResult setIndex(long index) {
+		this.index = index;
+		return this;
+	}
+
+	public String getUuid() {
+		return uuid;
+	}
+
+	public NodeImportResult setUuid(String uuid) {
+		this.uuid = uuid;
+		return this;
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	public NodeImportResult setStatus(int status) {
+		this.status = status;
+		return this;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public NodeImportResult setMessage(String message) {
+		this.message = message;
+		return this;
+	}
+
+}
@@ -0,0 +1,203 @@
+package com.gentics.mesh.core.rest.node.field.image;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.parameter.image.CropMode;
+import com.gentics.mesh.parameter.image.ImageRect;
+import com.gentics.mesh.parameter.image.ResizeMode;
+
+/**
+ * POJO for a single image variant which should be rendered.
+ */
+public class ImageVariantRequest implements RestModel {
+
+	@JsonPropertyDescription("Width of the variant.")
+	private Integer width;
+
+	@JsonPropertyDescription("Height of the variant.")
+	private Integer height;
+
+	@JsonPropertyDescription("Crop area.")
+	private ImageRect cropRect;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Crop mode. To be used in conjunction with cropRect")
+	private CropMode cropMode;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Resize mode.")
+	private ResizeMode resizeMode;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Optional focal point which overrides the focal point of the binary field.")
+	private FocalPoint focalPoint;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Optional focal point zoom factor.")
+	private Float focalPointZoom;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Optional output format of the variant (e.g. png, jpg). The format of the original image will be used by default.")
+	private String format;
+
+	/**
+	 * Return the variant width.
+	 * 
+	 * @return
+	 */
+	public Integer getWidth() {
+		return width;
+	}
+
+	/**
+	 * Set the variant width.
+	 * 
+	 * @param width
+	 * @return Fluent API
+	 */
+	public ImageVariantRequest setWidth(Integer width) {
+		this.width = width;
+		return this;
+	}
+
+	/**
+	 * Return the variant height.
+	 * 
+	 * @return
+	 */
+	public Integer getHeight() {
+		return height;
+	}
+
+	/**
+	 * Set the variant height.
+	 * 
+	 * @param height
+	 * @return Fluent API
+	 */
+	public ImageVariantRequest setHeight(Integer height) {
+		this.height = height;
+		return this;
+	}
+
+	/**
+	 * Return the crop area.
+	 * 
+	 * @return
+	 */
+	public ImageRect getCropRect() {
+		return cropRect;
+	}
+
+	/**
+	 * Set the crop area.
+	 * 
+	 * @param cropRect
+	 * @return Fluent API
+	 */
+	public ImageVariantRequest setCropRect(ImageRect cropRect) {
+		this.cropRect = cropRect;
+		return this;
+	}
+
+	/**
+	 * Return the crop mode.
+	 * 
+	 * @return
+	 */
+	public CropMode getCropMode() {
+		return cropMode;
+	}
+
+	/**
+	 * Set the crop mode.
+	 * 
+	 * @param cropMode
+	 * @return Fluent API
+	 */
+	public ImageVariantRequest setCropMode(CropMode cropMode) {
+		this.cropMode = cropMode;
+		return this;
+	}
+
+	/**
+	 * Return the resize mode.
+	 * 
+	 * @return
+	 */
+	public ResizeMode getResizeMode() {
+		return resizeMode;
+	}
+
+	/**
+	 * Set the resize mode.
+	 * 
+	 * @param resizeMode
+	 * @return Fluent API
+	 */
+	public ImageVariantRequest setResizeMode(ResizeMode resizeMode) {
+		this.resizeMode = resizeMode;
+		return this;
+	}
+
+	/**
+	 * Return the focal point.
+	 * 
+	 * @return
+	 */
+	public FocalPoint getFocalPoint() {
+		return focalPoint;
+	}
+
+	/**
+	 * Set the focal point.
+	 * 
+	 * @param focalPoint
+	 * @return Fluent API
+	 */
+	public ImageVariantRequest setFocalPoint(FocalPoint focalPoint) {
+		this.focalPoint = focalPoint;
+		return this;
+	}
+
+	/**
+	 * Return the focal point zoom factor.
+	 * 
+	 * @return
+	 */
+	public Float getFocalPointZoom() {
+		return focalPointZoom;
+	}
+
+	/**
+	 * Set the focal point zoom factor.
+	 * 
+	 * @param focalPointZoom
+	 * @return Fluent API
+	 */
+	public ImageVariantRequest setFocalPointZoom(Float focalPointZoom) {
+		this.focalPointZoom = focalPointZoom;
+		return this;
+	}
+
+	/**
+	 * Return the output format.
+	 * 
+	 * @return
+	 */
+	public String getFormat() {
+		return format;
+	}
+
+	/**
+	 * Set the output format.
+	 * 
+	 * @param format
+	 * @return Fluent API
+	 */
+	public ImageVariantRequest setFormat(String format) {
+		this.format = format;
+		return this;
+	}
+}
@@ -0,0 +1,73 @@
+package com.gentics.mesh.core.rest.node.field.image;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for a request which renders multiple variants of an image into the image cache.
+ */
+public class ImageVariantsRequest implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("ISO 639-1 language tag of the node which provides the image.")
+	private String language;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("List of variants which should be rendered. The original image will only be decoded once for all variants.")
+	private List<ImageVariantRequest> variants = new ArrayList<>();
+
+	/**
+	 * Return the node language.
+	 * 
+	 * @return
+	 */
+	public String getLanguage() {
+		return language;
+	}
+
+	/**
+	 * Set the language of the node content which contains the image.
+	 * 
+	 * @param language
+	 * @return Fluent API
+	 */
+	public ImageVariantsRequest setLanguage(String language) {
+		this.language = language;
+		return this;
+	}
+
+	/**
+	 * Return the variants which should be rendered.
+	 * 
+	 * @return
+	 */
+	public List<ImageVariantRequest> getVariants() {
+		return variants;
+	}
+
+	/**
+	 * Set the variants which should be rendered.
+	 * 
+	 * @param variants
+	 * @return Fluent API
+	 */
+	public ImageVariantsRequest setVariants(List<ImageVariantRequest> variants) {
+		this.variants = variants;
+		return this;
+	}
+
+	/**
+	 * Add a variant which should be rendered.
+	 * 
+	 * @param variant
+	 * @return Fluent API
+	 */
+	public ImageVariantsRequest addVariant(ImageVariantRequest variant) {
+		this.variants.add(variant);
+		return this;
+	}
+}
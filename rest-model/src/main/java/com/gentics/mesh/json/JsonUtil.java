@@ -173,6 +173,22 @@ public final class JsonUtil {
 		}
 	}
 
+	/**
+	 * Transform the given object into a single line JSON string. This format is used for newline delimited JSON streams.
+	 * 
+	 * @param obj
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> String toJsonLine(T obj) throws GenericRestException {
+		try {
+			return defaultMapper.writeValueAsString(obj);
+		} catch (IOException e) {
+			String message = "Could not generate json from object";
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, message, e);
+		}
+	}
+
 	/**
 	 * Transform the given JSON content back into a POJO.
 	 * 
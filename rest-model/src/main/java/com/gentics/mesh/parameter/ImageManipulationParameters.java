@@ -31,6 +31,8 @@ public interface ImageManipulationParameters extends ParameterProvider {
 
 	public static final String FOCAL_POINT_DEBUG_PARAM_KEY = "fpdebug";
 
+	public static final String FORMAT_QUERY_PARAM_KEY = "format";
+
 	/**
 	 * Return the image width.
 	 * 
@@ -329,6 +331,27 @@ public interface ImageManipulationParameters extends ParameterProvider {
 		return Boolean.valueOf(flag);
 	}
 
+	/**
+	 * Return the output format of the image (e.g. png, jpg, webp).
+	 * 
+	 * @return Format name or null if the format of the original image should be used
+	 */
+	default String getFormat() {
+		return getParameter(FORMAT_QUERY_PARAM_KEY);
+	}
+
+	/**
+	 * Set the output format of the image.
+	 * 
+	 * @param format
+	 *            Format name or null to use the format of the original image
+	 * @return Fluent API
+	 */
+	default ImageManipulationParameters setFormat(String format) {
+		setParameter(FORMAT_QUERY_PARAM_KEY, format == null ? null : format.toLowerCase());
+		return this;
+	}
+
 	/**
 	 * Validates whether the focal point was fully specified.
 	 * 
@@ -394,7 +417,11 @@ public interface ImageManipulationParameters extends ParameterProvider {
 		if (getFocalPointZoom() != null) {
 			builder.append("fpz" + getFocalPointZoom());
 		}
-		
+
+		if (getFormat() != null) {
+			builder.append("format" + getFormat());
+		}
+
 		return builder.toString();
 	}
 
@@ -407,4 +434,13 @@ public interface ImageManipulationParameters extends ParameterProvider {
 		return getHeight() != null || getWidth() != null || getCropMode() != null;
 	}
 
+	/**
+	 * Check whether the image needs to be processed. This is the case if any resize or crop param or a different output format has been set.
+	 * 
+	 * @return
+	 */
+	default boolean hasManipulationParams() {
+		return hasResizeParams() || getFormat() != null;
+	}
+
 }
@@ -4,8 +4,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -16,6 +20,7 @@ import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
+import io.reactivex.Single;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
@@ -25,23 +30,38 @@ import io.vertx.reactivex.core.file.FileSystem;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 @Singleton
 public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	private static final Logger log = LoggerFactory.getLogger(S3BinaryStorage.class);
 
+	/**
+	 * Maximum size of an object (or part) which can be copied within a single request.
+	 */
+	private static final long MAX_COPY_SIZE = 5L * 1024 * 1024 * 1024;
+
 	private S3AsyncClient client;
 
 	private S3StorageOptions options;
@@ -58,6 +78,20 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 		init();
 	}
 
+	/**
+	 * Create the storage which uses the given client. The bucket will not be created.
+	 * 
+	 * @param options
+	 * @param rxVertx
+	 * @param client
+	 */
+	S3BinaryStorage(S3StorageOptions options, Vertx rxVertx, S3AsyncClient client) {
+		this.options = options;
+		this.rxVertx = rxVertx;
+		this.fs = rxVertx.fileSystem();
+		this.client = client;
+	}
+
 	private void init() {
 		AwsCredentials credentials = AwsBasicCredentials.create(options.getAccessId(), options.getAccessKey());
 		// ClientConfiguration clientConfiguration = new ClientConfiguration();
@@ -109,6 +143,15 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	}
 
+	/**
+	 * Return the used client.
+	 * 
+	 * @return
+	 */
+	S3AsyncClient getClient() {
+		return client;
+	}
+
 	@Override
 	public boolean exists(BinaryGraphField field) {
 		String id = field.getBinary().getSHA512Sum();
@@ -182,53 +225,82 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 		});
 	}
 
+	@Override
+	public Completable storeCopyInTemp(String sourceFilePath, String temporaryId) {
+		// The upload will only read the source file
+		return storeInTemp(sourceFilePath, temporaryId);
+	}
+
+	/**
+	 * Store the stream using a multipart upload. The stream will be split into parts of the configured size which will be transferred concurrently. Only a
+	 * bounded amount of parts will be buffered since backpressure is passed on to the stream.
+	 * 
+	 * @param stream
+	 * @param temporaryId
+	 * @return
+	 */
 	@Override
 	public Completable storeInTemp(Flowable<Buffer> stream, String temporaryId) {
-		return Completable.create(sub -> {
-			PutObjectRequest request = PutObjectRequest.builder()
-				.bucket(options.getBucketName())
-				.key(temporaryId)
-				.build();
-
-			/*
-			 * client.putObject(request, new AsyncRequestBody() {
-			 * 
-			 * @Override public void subscribe(Subscriber<? super ByteBuffer> s) { stream.map(Buffer::getByteBuf).map(ByteBuf::nioBuffer).subscribe(s); }
-			 * 
-			 * @Override public Optional<Long> contentLength() { // return Optional.from(10L); return null; } });
-			 */
-		});
+		String key = getTemporaryKey(temporaryId);
+		CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.build();
 
-		// try {
-		// if (log.isDebugEnabled()) {
-		// log.debug("Uploading {" + hashsum + "} to S3.");
-		// }
-		// try (InputStream ins = RxUtil.toInputStream(stream, new io.vertx.reactivex.core.Vertx(vertx))) {
-		// ObjectMetadata metaData = new ObjectMetadata();
-		// metaData.setContentLength(90);
-		// s3Client.putObject(new PutObjectRequest(options.getBucketName(), hashsum, ins, metaData));
-		// sub.onComplete();
-		// }
-		// } catch (AmazonServiceException ase) {
-		// log.debug(
-		// "Caught an AmazonServiceException, which means your request made it to Amazon S3, but was rejected with an error response for some reason.");
-		// log.debug("Error Message: " + ase.getMessage());
-		// log.debug("HTTP Status Code: " + ase.getStatusCode());
-		// log.debug("AWS Error Code: " + ase.getErrorCode());
-		// log.debug("Error Type: " + ase.getErrorType());
-		// log.debug("Request ID: " + ase.getRequestId());
-		// sub.onError(ase);
-		// } catch (AmazonClientException ace) {
-		// log.debug("Caught an AmazonClientException, which " + "means the client encountered " + "an internal error while trying to "
-		// + "communicate with S3, " + "such as not being able to access the network.");
-		// log.debug("Error Message: " + ace.getMessage());
-		// sub.onError(ace);
-		// }
+		return toSingle(() -> client.createMultipartUpload(request))
+			.map(CreateMultipartUploadResponse::uploadId)
+			.flatMapCompletable(uploadId -> {
+				AtomicInteger partCounter = new AtomicInteger();
+				return RxUtil.toChunks(stream, options.getPartSize())
+					.flatMapSingle(part -> uploadPart(key, uploadId, partCounter.incrementAndGet(), part), false, options.getUploadParallelism())
+					.toSortedList(Comparator.comparing(CompletedPart::partNumber))
+					.flatMapCompletable(parts -> completeUpload(key, uploadId, parts))
+					.onErrorResumeNext(e -> abortUpload(key, uploadId).onErrorComplete().andThen(Completable.error(e)));
+			}).doOnError(e -> {
+				log.error("Error while storing data in temp with id {}", temporaryId, e);
+			});
+	}
+
+	private Single<CompletedPart> uploadPart(String key, String uploadId, int partNumber, Buffer part) {
+		if (log.isDebugEnabled()) {
+			log.debug("Uploading part {} with {} bytes for {}", partNumber, part.length(), key);
+		}
+		UploadPartRequest request = UploadPartRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.uploadId(uploadId)
+			.partNumber(partNumber)
+			.contentLength((long) part.length())
+			.build();
+		return toSingle(() -> client.uploadPart(request, AsyncRequestBody.fromBytes(part.getBytes())))
+			.map(response -> CompletedPart.builder()
+				.partNumber(partNumber)
+				.eTag(response.eTag())
+				.build());
+	}
+
+	private Completable completeUpload(String key, String uploadId, List<CompletedPart> parts) {
+		CompleteMultipartUploadRequest request = CompleteMultipartUploadRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.uploadId(uploadId)
+			.multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+			.build();
+		return toSingle(() -> client.completeMultipartUpload(request)).ignoreElement();
+	}
+
+	private Completable abortUpload(String key, String uploadId) {
+		AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.uploadId(uploadId)
+			.build();
+		return toSingle(() -> client.abortMultipartUpload(request)).ignoreElement();
 	}
 
 	@Override
 	public Completable delete(String uuid) {
-		return Completable.complete();
+		return deleteObject(uuid);
 	}
 
 	@Override
@@ -237,14 +309,116 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 		return null;
 	}
 
+	/**
+	 * Move the temporary object to the final key. S3 does not support renaming objects. A server side copy will be used instead so that the data does not
+	 * need to be transferred again. Objects which exceed the copy limit will be copied using a multipart copy.
+	 * 
+	 * @param uuid
+	 * @param temporaryId
+	 * @return
+	 */
 	@Override
 	public Completable moveInPlace(String uuid, String temporaryId) {
-		return Completable.complete();
+		String source = getTemporaryKey(temporaryId);
+		HeadObjectRequest request = HeadObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(source)
+			.build();
+		return toSingle(() -> client.headObject(request))
+			.flatMapCompletable(head -> {
+				if (head.contentLength() <= MAX_COPY_SIZE) {
+					return copyObject(source, uuid);
+				} else {
+					return copyObjectInParts(source, uuid, head.contentLength());
+				}
+			})
+			.andThen(deleteObject(source))
+			.doOnError(e -> {
+				log.error("Error while moving temporary upload {} to {}", source, uuid, e);
+			});
+	}
+
+	private Completable copyObject(String sourceKey, String targetKey) {
+		CopyObjectRequest request = CopyObjectRequest.builder()
+			.copySource(options.getBucketName() + "/" + sourceKey)
+			.bucket(options.getBucketName())
+			.key(targetKey)
+			.build();
+		return toSingle(() -> client.copyObject(request)).ignoreElement();
+	}
+
+	private Completable copyObjectInParts(String sourceKey, String targetKey, long size) {
+		CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder()
+			.bucket(options.getBucketName())
+			.key(targetKey)
+			.build();
+		return toSingle(() -> client.createMultipartUpload(request))
+			.map(CreateMultipartUploadResponse::uploadId)
+			.flatMapCompletable(uploadId -> {
+				int partCount = (int) ((size + MAX_COPY_SIZE - 1) / MAX_COPY_SIZE);
+				return Flowable.range(1, partCount)
+					.flatMapSingle(partNumber -> {
+						long start = (partNumber - 1) * MAX_COPY_SIZE;
+						long end = Math.min(start + MAX_COPY_SIZE, size) - 1;
+						UploadPartCopyRequest partRequest = UploadPartCopyRequest.builder()
+							.copySource(options.getBucketName() + "/" + sourceKey)
+							.copySourceRange("bytes=" + start + "-" + end)
+							.bucket(options.getBucketName())
+							.key(targetKey)
+							.uploadId(uploadId)
+							.partNumber(partNumber)
+							.build();
+						return toSingle(() -> client.uploadPartCopy(partRequest))
+							.map(response -> CompletedPart.builder()
+								.partNumber(partNumber)
+								.eTag(response.copyPartResult().eTag())
+								.build());
+					}, false, options.getUploadParallelism())
+					.toSortedList(Comparator.comparing(CompletedPart::partNumber))
+					.flatMapCompletable(parts -> completeUpload(targetKey, uploadId, parts))
+					.onErrorResumeNext(e -> abortUpload(targetKey, uploadId).onErrorComplete().andThen(Completable.error(e)));
+			});
 	}
 
 	@Override
 	public Completable purgeTemporaryUpload(String temporaryId) {
-		return Completable.complete();
+		return deleteObject(getTemporaryKey(temporaryId));
+	}
+
+	private Completable deleteObject(String key) {
+		DeleteObjectRequest request = DeleteObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.build();
+		return toSingle(() -> client.deleteObject(request)).ignoreElement();
+	}
+
+	/**
+	 * Return the key of the object which is used to store temporary uploads.
+	 * 
+	 * @param temporaryId
+	 * @return
+	 */
+	public String getTemporaryKey(String temporaryId) {
+		return "temp/" + temporaryId;
+	}
+
+	/**
+	 * Wrap the future of the async client into a single without blocking a thread.
+	 * 
+	 * @param futureSupplier
+	 * @return
+	 */
+	private static <T> Single<T> toSingle(Supplier<CompletableFuture<T>> futureSupplier) {
+		return Single.create(sub -> {
+			futureSupplier.get().whenComplete((result, error) -> {
+				if (error != null) {
+					sub.onError(error);
+				} else {
+					sub.onSuccess(result);
+				}
+			});
+		});
 	}
 
 	@Override
@@ -6,6 +6,15 @@ public class S3StorageOptions {
 
 	public static final String DEFAULT_BUCKET_NAME = "mesh";
 
+	/**
+	 * S3 does not accept parts smaller than 5 MiB (except for the last part of an upload).
+	 */
+	public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+	public static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024;
+
+	public static final int DEFAULT_UPLOAD_PARALLELISM = 4;
+
 	private String url;
 
 	private String accessId;
@@ -16,6 +25,10 @@ public class S3StorageOptions {
 
 	private String region;
 
+	private int partSize = DEFAULT_PART_SIZE;
+
+	private int uploadParallelism = DEFAULT_UPLOAD_PARALLELISM;
+
 	public String getUrl() {
 		return url;
 	}
@@ -61,11 +74,58 @@ public class S3StorageOptions {
 		return this;
 	}
 
+	/**
+	 * Return the size of the parts which are used for multipart uploads.
+	 * 
+	 * @return Part size in bytes
+	 */
+	public int getPartSize() {
+		return partSize;
+	}
+
+	/**
+	 * Set the size of the parts which are used for multipart uploads. The upload will buffer up to (parallelism + 1) parts in memory.
+	 * 
+	 * @param partSize
+	 *            Part size in bytes
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setPartSize(int partSize) {
+		this.partSize = partSize;
+		return this;
+	}
+
+	/**
+	 * Return the amount of parts which will be transferred concurrently.
+	 * 
+	 * @return
+	 */
+	public int getUploadParallelism() {
+		return uploadParallelism;
+	}
+
+	/**
+	 * Set the amount of parts which will be transferred concurrently.
+	 * 
+	 * @param uploadParallelism
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setUploadParallelism(int uploadParallelism) {
+		this.uploadParallelism = uploadParallelism;
+		return this;
+	}
+
 	public void validate() {
 		Objects.requireNonNull(url, "No S3 URL has been specified");
 		Objects.requireNonNull(accessId, "No accessId has been specified");
 		Objects.requireNonNull(accessKey, "No accessKey has been specified");
 		Objects.requireNonNull(region, "No region has been specified");
+		if (partSize < MIN_PART_SIZE) {
+			throw new IllegalArgumentException("The part size must be at least " + MIN_PART_SIZE + " bytes");
+		}
+		if (uploadParallelism < 1) {
+			throw new IllegalArgumentException("The upload parallelism must be at least 1");
+		}
 	}
 
 }
@@ -0,0 +1,181 @@
+package com.gentics.mesh.storage.s3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.reactivex.core.Vertx;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * Test the multipart upload of the S3 storage using a mocked client.
+ */
+public class S3BinaryStorageMultipartTest {
+
+	public static final String BUCKET_NAME = "mesh-test";
+
+	private static final int PART_SIZE = S3StorageOptions.MIN_PART_SIZE;
+
+	private static final int PARALLELISM = 2;
+
+	private static Vertx vertx = Vertx.vertx();
+
+	private ScheduledExecutorService executor;
+
+	private S3AsyncClient client;
+
+	private S3BinaryStorage storage;
+
+	/**
+	 * Length of the uploaded parts by part number
+	 */
+	private Map<Integer, Long> partLengths = new ConcurrentHashMap<>();
+
+	private AtomicInteger inFlight = new AtomicInteger();
+
+	private AtomicInteger maxInFlight = new AtomicInteger();
+
+	@Before
+	public void setup() {
+		executor = Executors.newSingleThreadScheduledExecutor();
+		client = mock(S3AsyncClient.class);
+		when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("upload-id").build()));
+		when(client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+			.thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+		when(client.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+			.thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+
+		S3StorageOptions options = new S3StorageOptions();
+		options.setBucketName(BUCKET_NAME);
+		options.setPartSize(PART_SIZE);
+		options.setUploadParallelism(PARALLELISM);
+		storage = new S3BinaryStorage(options, vertx, client);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testPartSplitting() {
+		mockUploadPart(-1);
+		// 23 chunks of a quarter part size result in five full parts and a smaller last part
+		storage.storeInTemp(createStream(23), "temp-id").blockingAwait();
+
+		assertEquals("The upload should have been split into six parts", 6, partLengths.size());
+		for (int i = 1; i <= 5; i++) {
+			assertEquals("The part {" + i + "} did not have the part size", PART_SIZE, partLengths.get(i).longValue());
+		}
+		assertEquals("The last part should contain the remaining data", 3 * (PART_SIZE / 4), partLengths.get(6).longValue());
+
+		ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+		verify(client).completeMultipartUpload(captor.capture());
+		CompleteMultipartUploadRequest request = captor.getValue();
+		assertEquals(storage.getTemporaryKey("temp-id"), request.key());
+		assertEquals("upload-id", request.uploadId());
+		List<CompletedPart> parts = request.multipartUpload().parts();
+		assertEquals("The parts must be completed in order", Arrays.asList(1, 2, 3, 4, 5, 6),
+			parts.stream().map(CompletedPart::partNumber).collect(Collectors.toList()));
+		for (CompletedPart part : parts) {
+			assertEquals("etag-" + part.partNumber(), part.eTag());
+		}
+		verify(client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+	}
+
+	@Test
+	public void testParallelUpload() {
+		mockUploadPart(-1);
+		storage.storeInTemp(createStream(23), "temp-id").blockingAwait();
+		assertEquals("The parts should have been uploaded with the configured parallelism", PARALLELISM, maxInFlight.get());
+	}
+
+	@Test
+	public void testAbortFailedUpload() {
+		mockUploadPart(2);
+		try {
+			storage.storeInTemp(createStream(23), "temp-id").blockingAwait();
+			throw new AssertionError("The upload should have failed");
+		} catch (RuntimeException e) {
+			assertTrue("The upload failed with an unexpected error " + e, e.getMessage().contains("Upload of part 2 failed"));
+		}
+		verify(client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+		verify(client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+	}
+
+	/**
+	 * Mock the part upload. The uploads complete delayed and in a different thread so that concurrent uploads can be detected.
+	 *
+	 * @param failingPart
+	 *            Number of the part whose upload should fail
+	 */
+	private void mockUploadPart(int failingPart) {
+		when(client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+			UploadPartRequest request = invocation.getArgument(0);
+			AsyncRequestBody body = invocation.getArgument(1);
+			assertEquals("The request did not match the length of the body", request.contentLength(), body.contentLength().get());
+			partLengths.put(request.partNumber(), request.contentLength());
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+			CompletableFuture<UploadPartResponse> future = new CompletableFuture<>();
+			executor.schedule(() -> {
+				inFlight.decrementAndGet();
+				if (request.partNumber() == failingPart) {
+					future.completeExceptionally(new RuntimeException("Upload of part " + failingPart + " failed"));
+				} else {
+					future.complete(UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build());
+				}
+			}, 50, TimeUnit.MILLISECONDS);
+			return future;
+		});
+	}
+
+	/**
+	 * Create a stream of chunks with a quarter of the part size each.
+	 *
+	 * @param chunkCount
+	 * @return
+	 */
+	private Flowable<Buffer> createStream(int chunkCount) {
+		int chunkSize = PART_SIZE / 4;
+		return Flowable.range(0, chunkCount).map(i -> {
+			byte[] chunk = new byte[chunkSize];
+			Arrays.fill(chunk, (byte) i.intValue());
+			return Buffer.buffer(chunk);
+		});
+	}
+
+}
@@ -1,7 +1,12 @@
 package com.gentics.mesh.storage.s3;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Ignore;
@@ -16,6 +21,9 @@ import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import io.reactivex.Flowable;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.reactivex.core.Vertx;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 @Ignore
 public class S3BinaryStorageTest {
@@ -45,6 +53,7 @@ public class S3BinaryStorageTest {
 		options.setRegion("US_EAST_1");
 		options.setBucketName(BUCKET_NAME);
 		options.setUrl("http://localhost:" + minio.getMappedPort(9000));
+		options.setPartSize(S3StorageOptions.MIN_PART_SIZE);
 		storage = new S3BinaryStorage(options, vertx);
 	}
 
@@ -60,4 +69,41 @@ public class S3BinaryStorageTest {
 		storage.read("test").ignoreElements().blockingAwait();
 	}
 
+	@Test
+	public void testMultipartUpload() throws Exception {
+		// Three parts of which the last one is smaller than the part size
+		int partSize = S3StorageOptions.MIN_PART_SIZE;
+		int chunkSize = partSize / 4;
+		int chunkCount = 11;
+		Flowable<Buffer> stream = Flowable.range(0, chunkCount).map(i -> {
+			byte[] chunk = new byte[chunkSize];
+			Arrays.fill(chunk, (byte) i.intValue());
+			return Buffer.buffer(chunk);
+		});
+		storage.storeInTemp(stream, "temp-id").blockingAwait();
+
+		// The etag of objects which were uploaded in parts ends with the number of parts
+		HeadObjectResponse tempHead = storage.getClient().headObject(HeadObjectRequest.builder()
+			.bucket(BUCKET_NAME)
+			.key(storage.getTemporaryKey("temp-id"))
+			.build()).get();
+		assertTrue("The upload should have used three parts but the etag was " + tempHead.eTag(), tempHead.eTag().replace("\"", "").endsWith("-3"));
+
+		storage.moveInPlace("binary-uuid", "temp-id").blockingAwait();
+
+		File download = File.createTempFile("s3-download", ".bin");
+		download.delete();
+		try {
+			storage.getClient().getObject(GetObjectRequest.builder().bucket(BUCKET_NAME).key("binary-uuid").build(), download.toPath()).get();
+			byte[] data = Files.readAllBytes(download.toPath());
+			assertEquals("The stored object did not have the expected size", (long) chunkSize * chunkCount, data.length);
+			for (int i = 0; i < chunkCount; i++) {
+				assertEquals("The chunk {" + i + "} was not stored at the expected position", (byte) i, data[i * chunkSize]);
+				assertEquals("The chunk {" + i + "} was not stored at the expected position", (byte) i, data[(i + 1) * chunkSize - 1]);
+			}
+		} finally {
+			download.delete();
+		}
+	}
+
 }
@@ -3,13 +3,21 @@ package com.gentics.mesh.image;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.WritableRaster;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import javax.imageio.IIOImage;
@@ -33,6 +41,7 @@ import org.imgscalr.Scalr.Mode;
 
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.image.spi.AbstractImageManipulator;
+import com.gentics.mesh.core.image.spi.CacheFileInfo;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Supplier;
@@ -41,8 +50,10 @@ import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ImageRect;
 import com.gentics.mesh.parameter.image.ResizeMode;
+import com.gentics.mesh.util.UUIDUtil;
 import com.twelvemonkeys.image.ResampleOp;
 
+import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -205,18 +216,31 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 	}
 
 	/**
-	 * Create an image writer from the same image format as the specified image reader writing to the given output stream.
+	 * Create an image writer for the requested format. The format of the specified image reader will be used if no format was requested.
 	 *
 	 * When no respective writer to the given reader is available, a PNG writer will be created.
 	 *
 	 * @param reader
 	 *            The reader used to read the original image
-	 * @param out
-	 *            The output stream the writer should use
-	 * @return An image writer for the same type as the specified reader, or a PNG writer if that is not available
+	 * @param format
+	 *            The requested output format or null to use the format of the original image
+	 * @return An image writer for the requested format, the same type as the specified reader, or a PNG writer if that is not available
 	 */
-	private ImageWriter getImageWriter(ImageReader reader, ImageOutputStream out) {
-		ImageWriter writer = ImageIO.getImageWriter(reader);
+	private ImageWriter getImageWriter(ImageReader reader, String format) {
+		ImageWriter writer = null;
+
+		if (format != null) {
+			Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+			if (writers.hasNext()) {
+				writer = writers.next();
+			} else {
+				log.debug("No writer found for requested format {" + format + "}");
+			}
+		}
+
+		if (writer == null) {
+			writer = ImageIO.getImageWriter(reader);
+		}
 
 		if (writer == null) {
 			// This would mean we have a reader but no writer plugin available for the image type, which is highly unlikely, but just to be sure.
@@ -235,8 +259,6 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 			throw error(BAD_REQUEST, "image_error_writing_failed");
 		}
 
-		writer.setOutput(out);
-
 		if (log.isDebugEnabled()) {
 			log.debug("Using writer " + writer.getClass().getName() + " for output");
 		}
@@ -254,6 +276,27 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		return writer;
 	}
 
+	/**
+	 * Remove the alpha channel of the image. Formats like JPEG can't store transparency.
+	 *
+	 * @param image
+	 * @return Image without alpha channel
+	 */
+	private BufferedImage removeAlpha(BufferedImage image) {
+		if (!image.getColorModel().hasAlpha()) {
+			return image;
+		}
+		BufferedImage rgbImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = rgbImage.createGraphics();
+		try {
+			g.drawImage(image, 0, 0, Color.WHITE, null);
+		} finally {
+			g.dispose();
+		}
+		image.flush();
+		return rgbImage;
+	}
+
 	/**
 	 * Resize the given image with the specified manipulation parameters.
 	 *
@@ -307,40 +350,11 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 						try (
 							InputStream is = stream.get();
 							ImageInputStream ins = ImageIO.createImageInputStream(is)) {
-							BufferedImage image;
 							ImageReader reader = getImageReader(ins);
-
-							try {
-								image = reader.read(0);
-							} catch (IOException e) {
-								log.error("Could not read input image", e);
-
-								throw error(BAD_REQUEST, "image_error_reading_failed");
-							}
-
-							if (log.isDebugEnabled()) {
-								log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
-							}
-
+							BufferedImage image = readImage(reader);
 							image = cropAndResize(image, parameters);
-
-							String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
-							String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
-							String cacheFilePath = cacheFileInfo.path + "." + extension;
-							File outCacheFile = new File(cacheFilePath);
-
-							// Write image
-							try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
-								ImageWriteParam params = getImageWriteparams(extension);
-
-								// same as write(image), but with image parameters
-								getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
-							} catch (Exception e) {
-								throw error(BAD_REQUEST, "image_error_writing_failed");
-							}
-
 							// Return buffer to written cache file
-							bh.complete(cacheFilePath);
+							bh.complete(writeImage(image, reader, parameters.getFormat(), cacheFileInfo.path));
 						} catch (Exception e) {
 							bh.fail(e);
 						}
@@ -349,6 +363,132 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 			});
 	}
 
+	@Override
+	public Single<List<String>> handleResizeVariants(Binary binary, List<ImageManipulationParameters> variants) {
+		for (ImageManipulationParameters parameters : variants) {
+			parameters.validate();
+			parameters.validateLimits(options);
+		}
+
+		Supplier<InputStream> stream = binary.openBlockingStream();
+		String sha512sum = binary.getSHA512Sum();
+
+		return Observable.fromIterable(variants)
+			.concatMapSingle(parameters -> getCacheFilePath(sha512sum, parameters))
+			.toList()
+			.flatMap(cacheFileInfos -> {
+				List<Integer> missing = new ArrayList<>();
+				for (int i = 0; i < cacheFileInfos.size(); i++) {
+					if (!cacheFileInfos.get(i).exists) {
+						missing.add(i);
+					}
+				}
+				List<String> paths = new ArrayList<>();
+				for (CacheFileInfo info : cacheFileInfos) {
+					paths.add(info.path);
+				}
+				if (missing.isEmpty()) {
+					return Single.just(paths);
+				}
+				// Decode the original image only once and render all missing variants from it
+				return workerPool.<List<String>>rxExecuteBlocking(bh -> {
+					try (
+						InputStream is = stream.get();
+						ImageInputStream ins = ImageIO.createImageInputStream(is)) {
+						ImageReader reader = getImageReader(ins);
+						BufferedImage source = readImage(reader);
+						for (int index : missing) {
+							ImageManipulationParameters parameters = variants.get(index);
+							// The focal point debug mode draws into the image. Work on a copy so that the other variants are not affected.
+							BufferedImage image = parameters.getFocalPointDebug() ? copy(source) : source;
+							image = cropAndResize(image, parameters);
+							paths.set(index, writeImage(image, reader, parameters.getFormat(), cacheFileInfos.get(index).path));
+						}
+						source.flush();
+						bh.complete(paths);
+					} catch (Exception e) {
+						bh.fail(e);
+					}
+				}, false).toSingle();
+			});
+	}
+
+	/**
+	 * Read the first image from the given reader.
+	 *
+	 * @param reader
+	 * @return Decoded image
+	 */
+	private BufferedImage readImage(ImageReader reader) {
+		try {
+			BufferedImage image = reader.read(0);
+			if (log.isDebugEnabled()) {
+				log.debug("Read image with reader " + reader.getClass().getName());
+			}
+			return image;
+		} catch (IOException e) {
+			log.error("Could not read input image", e);
+			throw error(BAD_REQUEST, "image_error_reading_failed");
+		}
+	}
+
+	/**
+	 * Write the image to the cache file with the given base path. The file extension is determined by the used writer.
+	 *
+	 * @param image
+	 *            Image to write
+	 * @param reader
+	 *            Reader which was used to read the original image
+	 * @param format
+	 *            Requested output format or null to use the format of the original image
+	 * @param basePath
+	 *            Path of the cache file without extension
+	 * @return Path to the written cache file
+	 */
+	private String writeImage(BufferedImage image, ImageReader reader, String format, String basePath) {
+		ImageWriter writer = getImageWriter(reader, format);
+		String[] extensions = writer.getOriginatingProvider().getFileSuffixes();
+		String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
+		String cacheFilePath = basePath + "." + extension;
+		File outCacheFile = new File(cacheFilePath);
+		if (isJpeg(extension)) {
+			image = removeAlpha(image);
+		}
+
+		// Write the image to a temporary file first and move it into place afterwards. Cache files may be hardlinked into the binary storage and must thus
+		// never be modified in place. The move replaces the directory entry and leaves the data of linked files untouched. The name of the temporary file
+		// must not match the cache file lookup.
+		File tempFile = new File(outCacheFile.getParentFile(), "tmp-" + UUIDUtil.randomUUID() + "-" + outCacheFile.getName());
+		try {
+			try (ImageOutputStream out = new FileImageOutputStream(tempFile)) {
+				ImageWriteParam params = getImageWriteparams(extension);
+				writer.setOutput(out);
+
+				// same as write(image), but with image parameters
+				writer.write(null, new IIOImage(image, null, null), params);
+			}
+			Files.move(tempFile.toPath(), outCacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (Exception e) {
+			tempFile.delete();
+			throw error(BAD_REQUEST, "image_error_writing_failed");
+		} finally {
+			writer.dispose();
+		}
+		return cacheFilePath;
+	}
+
+	/**
+	 * Create a copy of the given image.
+	 *
+	 * @param image
+	 * @return Copy of the image
+	 */
+	private BufferedImage copy(BufferedImage image) {
+		ColorModel colorModel = image.getColorModel();
+		WritableRaster raster = image.copyData(image.getRaster().createCompatibleWritableRaster());
+		return new BufferedImage(colorModel, raster, colorModel.isAlphaPremultiplied(), null);
+	}
+
 	private ImageWriteParam getImageWriteparams(String extension) {
 		if (isJpeg(extension)) {
 			JPEGImageWriteParam params = new JPEGImageWriteParam(null);
@@ -6,9 +6,13 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Objects;
 
 import javax.inject.Inject;
@@ -57,7 +61,7 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 			}
 			File uploadFolder = new File(options.getDirectory(), getSegmentedPath(uuid));
 			return createParentPath(uploadFolder.getAbsolutePath())
-				.andThen(fileSystem.rxMove(source, target).doOnError(e -> {
+				.andThen(moveFile(source, target).doOnError(e -> {
 					log.error("Error while moving binary from temp upload dir {} to final dir {}", source, target);
 				}));
 		});
@@ -75,7 +79,8 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 	}
 
 	/**
-	 * Store the upload in the local binary storage. This method will in fact only move the upload file to the tempdir location.
+	 * Store the upload in the local binary storage. This method will in fact only move the upload file to the tempdir location. The file will be renamed
+	 * atomically if the upload and the binary storage directory share the same filesystem.
 	 * 
 	 * @param sourceFilePath
 	 * @param temporaryId
@@ -93,12 +98,35 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 			// First ensure that the temp folder can be created and finally store the data in the folder.
 			File tempFolder = new File(options.getDirectory(), "temp");
 			return createParentPath(tempFolder.getAbsolutePath())
-				.andThen(fileSystem.rxMove(sourceFilePath, path).doOnError(e -> {
+				.andThen(moveFile(sourceFilePath, path).doOnError(e -> {
 					log.error("Failed to move upload file {} to temp dir {}", sourceFilePath, path, e);
 				}));
 		});
 	}
 
+	/**
+	 * Store a copy of the file in the temporary location. A hardlink will be created if possible so that no data needs to be copied.
+	 * 
+	 * @param sourceFilePath
+	 * @param temporaryId
+	 * @return
+	 */
+	@Override
+	public Completable storeCopyInTemp(String sourceFilePath, String temporaryId) {
+		Objects.requireNonNull(temporaryId, "The temporary id was not specified.");
+		return Completable.defer(() -> {
+			String path = getTemporaryFilePath(temporaryId);
+			if (log.isDebugEnabled()) {
+				log.debug("Linking file '{}' for field to path '{}'.", sourceFilePath, path);
+			}
+			File tempFolder = new File(options.getDirectory(), "temp");
+			return createParentPath(tempFolder.getAbsolutePath())
+				.andThen(linkFile(sourceFilePath, path).doOnError(e -> {
+					log.error("Failed to link file {} to temp dir {}", sourceFilePath, path, e);
+				}));
+		});
+	}
+
 	@Override
 	public Completable storeInTemp(Flowable<Buffer> stream, String temporaryId) {
 		Objects.requireNonNull(temporaryId, "The temporary id was not specified.");
@@ -120,6 +148,76 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 		});
 	}
 
+	/**
+	 * Move the source file to the target location. The file will be renamed atomically when both locations share the same filesystem. Otherwise the data
+	 * will be copied and the source file will be deleted afterwards.
+	 * 
+	 * @param source
+	 * @param target
+	 * @return
+	 */
+	private Completable moveFile(String source, String target) {
+		return rxVertx.<Void>rxExecuteBlocking(bh -> {
+			Path sourcePath = Paths.get(source);
+			Path targetPath = Paths.get(target);
+			try {
+				try {
+					Files.move(sourcePath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					if (log.isDebugEnabled()) {
+						log.debug("Atomic move from {} to {} is not supported. Copying data instead.", source, target);
+					}
+					copyFile(sourcePath, targetPath);
+					Files.delete(sourcePath);
+				}
+				bh.complete();
+			} catch (IOException e) {
+				bh.fail(e);
+			}
+		}, false).ignoreElement();
+	}
+
+	/**
+	 * Create a hardlink for the source file at the target location. The data will be copied if the filesystem does not support links or if both locations
+	 * reside on different filesystems.
+	 * 
+	 * @param source
+	 * @param target
+	 * @return
+	 */
+	private Completable linkFile(String source, String target) {
+		return rxVertx.<Void>rxExecuteBlocking(bh -> {
+			Path sourcePath = Paths.get(source);
+			Path targetPath = Paths.get(target);
+			try {
+				try {
+					Files.createLink(targetPath, sourcePath);
+				} catch (UnsupportedOperationException | FileSystemException e) {
+					if (log.isDebugEnabled()) {
+						log.debug("Could not link {} to {}. Copying data instead.", source, target, e);
+					}
+					copyFile(sourcePath, targetPath);
+				}
+				bh.complete();
+			} catch (IOException e) {
+				bh.fail(e);
+			}
+		}, false).ignoreElement();
+	}
+
+	/**
+	 * Copy the data next to the target and rename it into place afterwards. This way the target never contains partially written data.
+	 * 
+	 * @param sourcePath
+	 * @param targetPath
+	 * @throws IOException
+	 */
+	private void copyFile(Path sourcePath, Path targetPath) throws IOException {
+		Path partPath = targetPath.resolveSibling(targetPath.getFileName() + ".part");
+		Files.copy(sourcePath, partPath, StandardCopyOption.REPLACE_EXISTING);
+		Files.move(partPath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
 	private Completable createParentPath(String folderPath) {
 		return fileSystem.rxExists(folderPath)
 			.flatMapCompletable(exists -> {
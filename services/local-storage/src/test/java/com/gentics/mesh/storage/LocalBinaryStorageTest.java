@@ -1,7 +1,75 @@
 package com.gentics.mesh.storage;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.reactivex.core.Vertx;
+
 public class LocalBinaryStorageTest {
 
+	private static final byte[] DATA = "some binary data".getBytes(StandardCharsets.UTF_8);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Vertx vertx;
+
+	private LocalBinaryStorage storage;
+
+	@Before
+	public void setup() throws IOException {
+		vertx = Vertx.vertx();
+		MeshOptions options = new MeshOptions();
+		options.getUploadOptions().setDirectory(folder.newFolder("binaryFiles").getAbsolutePath());
+		storage = new LocalBinaryStorage(options, vertx);
+	}
+
+	@After
+	public void tearDown() {
+		vertx.close();
+	}
+
+	@Test
+	public void testStoreAndMoveInPlace() throws IOException {
+		File upload = folder.newFile("upload.dat");
+		Files.write(upload.toPath(), DATA);
+
+		String binaryUuid = "b677504736ed47a1b7504736ed07a14a";
+		storage.storeInTemp(upload.getAbsolutePath(), "tempId")
+			.andThen(storage.moveInPlace(binaryUuid, "tempId"))
+			.blockingAwait();
+
+		assertFalse("The upload should have been moved.", upload.exists());
+		assertFalse("The temporary file should have been moved.", new File(storage.getTemporaryFilePath("tempId")).exists());
+		assertArrayEquals(DATA, Files.readAllBytes(new File(storage.getFilePath(binaryUuid)).toPath()));
+	}
+
+	@Test
+	public void testStoreCopyInTemp() throws IOException {
+		File source = folder.newFile("source.dat");
+		Files.write(source.toPath(), DATA);
+
+		storage.storeCopyInTemp(source.getAbsolutePath(), "tempId").blockingAwait();
+
+		assertTrue("The source file should not be altered.", source.exists());
+		assertArrayEquals(DATA, Files.readAllBytes(source.toPath()));
+		assertArrayEquals(DATA, Files.readAllBytes(new File(storage.getTemporaryFilePath("tempId")).toPath()));
+	}
+
 //	@Test
 //	public void testPathSegmentation() throws IOException {
 //		Node node = folder("news");